@@ -0,0 +1,160 @@
+import greenfoot.Actor;
+import greenfoot.World;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * ActorScheduler - Per-world sleep/wake service.
+ * Greenfoot calls act() on every actor, so an actor that has nothing to do puts itself
+ * to sleep here and returns from act() on a single flag check until woken. Wake-ups
+ * come from a timer, a named event signalled by other code, or the player entering a
+ * radius (through the world's ProximityService). The world calls tick() once per act;
+ * it only looks at the timer due next, so its cost grows with wake-ups, not with the
+ * number of sleeping actors.
+ *
+ * Wake callbacks run on the game thread, at most once each. Each world keeps its own
+ * scheduler, and pending wake-ups are dropped along with it.
+ */
+public class ActorScheduler
+{
+    /**
+     * A world that runs a scheduler, holding it in a field and ticking it from act().
+     */
+    public interface Host
+    {
+        ActorScheduler getScheduler();
+    }
+
+    private final World world;
+    private int tick = 0;
+    private long nextSequence = 0;
+
+    private final PriorityQueue<Timer> timers = new PriorityQueue<Timer>();
+    private final Map<String, List<Runnable>> waiting = new HashMap<String, List<Runnable>>();
+
+    ActorScheduler(World world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * The scheduler of a world.
+     */
+    public static ActorScheduler of(World world)
+    {
+        if (!(world instanceof Host))
+        {
+            throw new IllegalArgumentException(world.getClass().getSimpleName() + " has no ActorScheduler");
+        }
+        return ((Host) world).getScheduler();
+    }
+
+    /**
+     * Advance the clock and run the timers that are due. Call once per world act().
+     */
+    public void tick()
+    {
+        tick++;
+        while (!timers.isEmpty() && timers.peek().dueTick <= tick)
+        {
+            timers.poll().wake.run();
+        }
+    }
+
+    public int getTick()
+    {
+        return tick;
+    }
+
+    /**
+     * Run wake after the given number of ticks.
+     */
+    public void sleepFor(int ticks, Runnable wake)
+    {
+        timers.add(new Timer(tick + Math.max(1, ticks), nextSequence++, wake));
+    }
+
+    /**
+     * Run wake the next time the named event is signalled.
+     */
+    public void sleepUntil(String event, Runnable wake)
+    {
+        List<Runnable> list = waiting.get(event);
+        if (list == null)
+        {
+            list = new ArrayList<Runnable>();
+            waiting.put(event, list);
+        }
+        list.add(wake);
+    }
+
+    /**
+     * Run wake when the player comes within radius of owner; right away if already there.
+     */
+    public void sleepUntilNear(Actor owner, int radius, final Runnable wake)
+    {
+        final ProximityService proximity = ProximityService.of(world);
+        final ProximityService.Trigger[] trigger = new ProximityService.Trigger[1];
+        trigger[0] = proximity.register(owner, radius, new ProximityService.Listener()
+        {
+            private boolean fired = false;
+
+            public void onEnter(Actor player)
+            {
+                if (fired) return;
+                fired = true;
+                if (trigger[0] != null)
+                {
+                    trigger[0].unregister();
+                }
+                wake.run();
+            }
+
+            public void onExit(Actor player)
+            {
+            }
+        });
+        // An immediate onEnter ran before the trigger was assigned
+        if (trigger[0].isPlayerInside())
+        {
+            trigger[0].unregister();
+        }
+    }
+
+    /**
+     * Wake everything sleeping until the named event.
+     */
+    public void signal(String event)
+    {
+        List<Runnable> list = waiting.remove(event);
+        if (list == null) return;
+        for (Runnable wake : list)
+        {
+            wake.run();
+        }
+    }
+
+    private static class Timer implements Comparable<Timer>
+    {
+        final int dueTick;
+        final long sequence;
+        final Runnable wake;
+
+        Timer(int dueTick, long sequence, Runnable wake)
+        {
+            this.dueTick = dueTick;
+            this.sequence = sequence;
+            this.wake = wake;
+        }
+
+        // Earliest first; timers due on the same tick run in the order they were set
+        public int compareTo(Timer other)
+        {
+            if (dueTick != other.dueTick) return dueTick < other.dueTick ? -1 : 1;
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
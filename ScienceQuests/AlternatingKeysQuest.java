@@ -17,41 +17,27 @@ public class AlternatingKeysQuest extends BaseQuest
     private int timeSinceLastPress = 0;
     private int feedbackDuration = 15;
     private int resultScreenTick = 0;
-    private boolean leftDown = false;
-    private boolean rightDown = false;
+    
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Text scoreText;
+    private QuestOverlay.Text comboText;
+    private QuestOverlay.Text maxText;
+    private QuestOverlay.Widget progressBar;
+    private QuestOverlay.Widget indicators;
+    
+    private static final Color SCORE_COLOR = UIStyle.color(100, 255, 150);
+    private static final Color COMBO_COLOR = UIStyle.color(255, 200, 100);
+    private static final Color MAX_COLOR = UIStyle.color(150, 150, 255);
+    
+    // Tabled sin(tick * rate) curves for pulses and glows
+    private static final UIStyle.Curve WAVE_08 = UIStyle.wave(0.08);
+    private static final UIStyle.Curve WAVE_15 = UIStyle.wave(0.15);
     
     public AlternatingKeysQuest(int mapX, int mapY)
     {
         super(mapX, mapY);
-        createImage();
-    }
-    
-    private void createImage()
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        marker.setColor(new Color(255, 255, 255));
-        marker.setFont(new greenfoot.Font("Arial", true, false, 10));
-        marker.drawString("SPATIU", 4, 46);
-        setImage(marker);
+        setImage(getMarkerImage(true));
     }
     
     public void act()
@@ -71,12 +57,12 @@ public class AlternatingKeysQuest extends BaseQuest
         Actor player = getPlayer();
         if (player != null && !questActive)
         {
-            boolean startPressed = Greenfoot.isKeyDown("space");
+            boolean startPressed = input.justPressed(InputState.SPACE);
             if (canStartQuest(player, 100))
             {
                 if (!tutorialActive)
                 {
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = true;
                         showTutorial();
@@ -86,7 +72,7 @@ public class AlternatingKeysQuest extends BaseQuest
                 else
                 {
                     showTutorial();
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = false;
                         questActive = true;
@@ -106,7 +92,6 @@ public class AlternatingKeysQuest extends BaseQuest
                 tutorialActive = false;
                 clearOverlay();
             }
-            startKeyDown = startPressed;
         }
         
         if (interactionCooldown > 0) interactionCooldown--;
@@ -143,10 +128,8 @@ public class AlternatingKeysQuest extends BaseQuest
 
     private void checkInput()
     {
-        boolean leftPressed = Greenfoot.isKeyDown("left");
-        boolean rightPressed = Greenfoot.isKeyDown("right");
-        boolean leftJustPressed = leftPressed && !leftDown;
-        boolean rightJustPressed = rightPressed && !rightDown;
+        boolean leftJustPressed = input.justPressed(InputState.LEFT);
+        boolean rightJustPressed = input.justPressed(InputState.RIGHT);
         boolean anyJustPressed = leftJustPressed || rightJustPressed;
         
         if (anyJustPressed && timeSinceLastPress > 8)
@@ -169,9 +152,6 @@ public class AlternatingKeysQuest extends BaseQuest
                 timeSinceLastPress = 0;
             }
         }
-        
-        leftDown = leftPressed;
-        rightDown = rightPressed;
     }
     
     private void updateDisplay()
@@ -183,136 +163,153 @@ public class AlternatingKeysQuest extends BaseQuest
         
         int panelW = 460;
         int panelH = 280;
-        GreenfootImage img = new GreenfootImage(panelW, panelH);
-        
-        int pulse = 80 + (int)(50 * Math.sin(animTick * 0.08));
-        img.setColor(new Color(0, 0, 0, pulse));
-        img.fillRect(0, 0, panelW, panelH);
         
         if (completed)
         {
+            // Result screen is drawn once, so it stays immediate-mode
+            GreenfootImage img = new GreenfootImage(panelW, panelH);
+            int pulse = WAVE_08.at(animTick, 80, 50);
+            img.setColor(UIStyle.color(0, 0, 0, pulse));
+            img.fillRect(0, 0, panelW, panelH);
             drawResultScreen(img, panelW, panelH);
+            if (overlay != null)
+            {
+                overlay.setImage(img);
+            }
+            return;
         }
-        else
-        {
-            drawQuestScreen(img, panelW, panelH);
-        }
-        if (overlay != null)
-        {
-            overlay.setImage(img);
-        }
+        
+        if (scene == null) buildScene(panelW, panelH);
+        
+        scoreText.set("Scor: " + score + "/" + targetScore, SCORE_COLOR);
+        comboText.set("Combo: " + combo, COMBO_COLOR);
+        maxText.set("Max: " + maxCombo, MAX_COLOR);
+        progressBar.update(score);
+        
+        int pulse = WAVE_15.at(animTick, 0, 20);
+        int flash = correctFeedbackTick > 0 ? lastCorrectKey.hashCode() : 0;
+        indicators.update(expectedKey.hashCode(), pulse, flash);
+        
+        showScene(scene);
     }
     
-    private void drawQuestScreen(GreenfootImage img, int w, int h)
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene(int w, int h)
     {
         int panelW = w;
         int panelH = h;
         int px = 0;
         int py = 0;
         
-        // Glow effect
-        int glowAlpha = 50 + (int)(30 * Math.sin(animTick * 0.1));
-        img.setColor(new Color(255, 120, 100, glowAlpha));
-        img.fillRect(px - 10, py - 10, panelW + 20, panelH + 20);
-        
-        // Panel background
-        img.setColor(new Color(15, 15, 30, 250));
-        img.fillRect(px, py, panelW, panelH);
-        
-        // Border with glow
-        img.setColor(new Color(255, 120, 100, 200));
-        img.drawRect(px, py, panelW, panelH);
-        img.setColor(new Color(255, 140, 120, 100));
-        img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
-        img.drawRect(px + 2, py + 2, panelW - 4, panelH - 4);
-        
-        // Title
-        img.setColor(new Color(255, 200, 100));
-        img.setFont(new greenfoot.Font("Arial", true, false, 30));
-        img.drawString("ALTERNARE SĂGEȚI", px + 65, py + 45);
-        
-        // Score and combo display
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
-        img.setColor(new Color(100, 255, 150));
-        img.drawString("Scor: " + score + "/" + targetScore, px + 30, py + 100);
-        
-        img.setColor(new Color(255, 200, 100));
-        img.drawString("Combo: " + combo, px + 30, py + 130);
-        
-        img.setColor(new Color(150, 150, 255));
-        img.drawString("Max: " + maxCombo, px + 330, py + 130);
-        
-        // Progress bar with gradient
+        // Progress bar geometry
         int barW = 400;
         int barH = 30;
         int barX = px + 50;
         int barY = py + 170;
         
-        img.setColor(new Color(40, 40, 60));
-        img.fillRect(barX - 3, barY - 3, barW + 6, barH + 6);
-        img.setColor(new Color(255, 120, 100, 150));
-        img.drawRect(barX - 3, barY - 3, barW + 6, barH + 6);
+        scene = new QuestOverlay(panelW, panelH, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 80));
+            img.fillRect(0, 0, panelW, panelH);
+            
+            // Glow effect
+            img.setColor(UIStyle.color(255, 120, 100, 50));
+            img.fillRect(px - 10, py - 10, panelW + 20, panelH + 20);
+            
+            // Panel background
+            img.setColor(UIStyle.color(15, 15, 30, 250));
+            img.fillRect(px, py, panelW, panelH);
+            
+            // Border with glow
+            img.setColor(UIStyle.color(255, 120, 100, 200));
+            img.drawRect(px, py, panelW, panelH);
+            img.setColor(UIStyle.color(255, 140, 120, 100));
+            img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
+            img.drawRect(px + 2, py + 2, panelW - 4, panelH - 4);
+            
+            // Title
+            img.setColor(UIStyle.color(255, 200, 100));
+            img.setFont(UIStyle.font("Arial", true, false, 30));
+            img.drawString("ALTERNARE SĂGEȚI", px + 65, py + 45);
+            
+            // Progress bar frame
+            img.setColor(UIStyle.color(40, 40, 60));
+            img.fillRect(barX - 3, barY - 3, barW + 6, barH + 6);
+            img.setColor(UIStyle.color(255, 120, 100, 150));
+            img.drawRect(barX - 3, barY - 3, barW + 6, barH + 6);
+            
+            // Instructions
+            img.setColor(UIStyle.color(200, 200, 200, 180));
+            img.setFont(UIStyle.font("Arial", false, false, 14));
+            img.drawString("INSTRUCȚIUNI: apasă stânga/dreapta alternativ", px + 60, py + 300);
+        });
         
-        int progress = (int)((score * 1.0 / targetScore) * barW);
-        for (int i = 0; i < progress; i++)
-        {
-            int shade = 100 + (i * 155) / barW;
-            img.setColor(new Color(255, shade, 80, 220));
-            img.drawLine(barX + i, barY, barX + i, barY + barH);
-        }
+        // Score and combo display
+        greenfoot.Font statsFont = UIStyle.font("Arial", true, false, 20);
+        scoreText = scene.add(new QuestOverlay.Text(px + 30, py + 100, 250, statsFont));
+        comboText = scene.add(new QuestOverlay.Text(px + 30, py + 130, 250, statsFont));
+        maxText = scene.add(new QuestOverlay.Text(px + 330, py + 130, 120, statsFont));
+        
+        // Progress bar with gradient
+        progressBar = scene.add(barX, barY, barW, barH + 1, img -> {
+            int progress = (int)((score * 1.0 / targetScore) * barW);
+            for (int i = 0; i < progress; i++)
+            {
+                int shade = 100 + (i * 155) / barW;
+                img.setColor(UIStyle.color(255, shade, 80, 220));
+                img.drawLine(barX + i, barY, barX + i, barY + barH);
+            }
+        });
         
         // Direction indicators with pulse
         int indicatorY = py + 240;
         int leftX = px + 80;
         int rightX = px + 380;
-        
-        // Left indicator
-        int leftAlpha = 100;
-        int leftPulse = 0;
-        if (expectedKey.equals("left"))
-        {
-            leftPulse = (int)(20 * Math.sin(animTick * 0.15));
-            leftAlpha = Math.min(255, 200 + leftPulse);
-        }
-        if (correctFeedbackTick > 0 && lastCorrectKey.equals("left"))
-        {
-            leftAlpha = 255;
-        }
-        
-        img.setColor(new Color(100, 255, 150, leftAlpha));
-        img.setFont(new greenfoot.Font("Arial", true, false, 40));
-        img.drawString("←", leftX - 20, indicatorY);
-        if (expectedKey.equals("left"))
-        {
-            img.setColor(new Color(100, 255, 150, 100 + leftPulse));
-            img.fillOval(leftX - 35, indicatorY - 35, 30, 30);
-        }
-        
-        // Right indicator
-        int rightAlpha = 100;
-        int rightPulse = 0;
-        if (expectedKey.equals("right"))
-        {
-            rightPulse = (int)(20 * Math.sin(animTick * 0.15));
-            rightAlpha = Math.min(255, 200 + rightPulse);
-        }
-        if (correctFeedbackTick > 0 && lastCorrectKey.equals("right"))
-        {
-            rightAlpha = 255;
-        }
-        
-        img.setColor(new Color(150, 200, 255, rightAlpha));
-        img.drawString("→", rightX, indicatorY);
-        if (expectedKey.equals("right"))
-        {
-            img.setColor(new Color(150, 200, 255, 100 + rightPulse));
-            img.fillOval(rightX + 10, indicatorY - 35, 30, 30);
-        }
-        
-        // Instructions
-        img.setColor(new Color(200, 200, 200, 180));
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.drawString("INSTRUCȚIUNI: apasă stânga/dreapta alternativ", px + 60, py + 300);
+        indicators = scene.add(px + 40, indicatorY - 38, 400, 50, img -> {
+            // Left indicator
+            int leftAlpha = 100;
+            int leftPulse = 0;
+            if (expectedKey.equals("left"))
+            {
+                leftPulse = WAVE_15.at(animTick, 0, 20);
+                leftAlpha = Math.min(255, 200 + leftPulse);
+            }
+            if (correctFeedbackTick > 0 && lastCorrectKey.equals("left"))
+            {
+                leftAlpha = 255;
+            }
+            
+            img.setColor(UIStyle.color(100, 255, 150, leftAlpha));
+            img.setFont(UIStyle.font("Arial", true, false, 40));
+            img.drawString("←", leftX - 20, indicatorY);
+            if (expectedKey.equals("left"))
+            {
+                img.setColor(UIStyle.color(100, 255, 150, 100 + leftPulse));
+                img.fillOval(leftX - 35, indicatorY - 35, 30, 30);
+            }
+            
+            // Right indicator
+            int rightAlpha = 100;
+            int rightPulse = 0;
+            if (expectedKey.equals("right"))
+            {
+                rightPulse = WAVE_15.at(animTick, 0, 20);
+                rightAlpha = Math.min(255, 200 + rightPulse);
+            }
+            if (correctFeedbackTick > 0 && lastCorrectKey.equals("right"))
+            {
+                rightAlpha = 255;
+            }
+            
+            img.setColor(UIStyle.color(150, 200, 255, rightAlpha));
+            img.drawString("→", rightX, indicatorY);
+            if (expectedKey.equals("right"))
+            {
+                img.setColor(UIStyle.color(150, 200, 255, 100 + rightPulse));
+                img.fillOval(rightX + 10, indicatorY - 35, 30, 30);
+            }
+        });
     }
     
     private void drawResultScreen(GreenfootImage img, int w, int h)
@@ -326,64 +323,57 @@ public class AlternatingKeysQuest extends BaseQuest
         int glowColor = success ? 100 : 200;
         int glowColorG = success ? 255 : 100;
         int glowColorB = success ? 100 : 100;
-        img.setColor(new Color(glowColor, glowColorG, glowColorB, 70));
+        img.setColor(UIStyle.color(glowColor, glowColorG, glowColorB, 70));
         img.fillRect(px - 10, py - 10, panelW + 20, panelH + 20);
         
-        img.setColor(new Color(20, 20, 40, 250));
+        img.setColor(UIStyle.color(20, 20, 40, 250));
         img.fillRect(px, py, panelW, panelH);
         
-        img.setColor(new Color(glowColor, glowColorG, glowColorB, 200));
+        img.setColor(UIStyle.color(glowColor, glowColorG, glowColorB, 200));
         img.drawRect(px, py, panelW, panelH);
         
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 32));
+        img.setColor(UIStyle.color(255, 255, 255));
+        img.setFont(UIStyle.font("Arial", true, false, 32));
         String resultText = success ? "SUCCES!" : "COMPLET!";
         img.drawString(resultText, px + 80, py + 60);
         
-        img.setColor(new Color(255, 200, 100));
-        img.setFont(new greenfoot.Font("Arial", true, false, 24));
+        img.setColor(UIStyle.color(255, 200, 100));
+        img.setFont(UIStyle.font("Arial", true, false, 24));
         img.drawString("Scor final: " + score, px + 50, py + 120);
         img.drawString("Combo maxim: " + maxCombo, px + 50, py + 160);
         
-        img.setColor(new Color(150, 200, 255));
-        img.setFont(new greenfoot.Font("Arial", false, false, 16));
+        img.setColor(UIStyle.color(150, 200, 255));
+        img.setFont(UIStyle.font("Arial", false, false, 16));
         img.drawString("Misiune completă!", px + 90, py + 240);
     }
 
-    private void showTutorial()
+    protected GreenfootImage createTutorialImage()
     {
-        World world = getWorld();
-        if (world == null) return;
-        ensureOverlay();
-
         int w = 440;
         int h = 180;
         GreenfootImage img = new GreenfootImage(w, h);
-        img.setColor(new Color(0, 0, 0, 200));
+        img.setColor(UIStyle.color(0, 0, 0, 200));
         img.fillRect(0, 0, w, h);
-        img.setColor(new Color(255, 140, 120, 200));
+        img.setColor(UIStyle.color(255, 140, 120, 200));
         img.drawRect(0, 0, w - 1, h - 1);
 
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.setColor(Color.WHITE);
         img.drawString("TUTORIAL: ALTERNARE", 120, 30);
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(220, 220, 220));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(220, 220, 220));
         img.drawString("Apasă STÂNGA și DREAPTA alternativ.", 80, 70);
         img.drawString("Scop: atinge " + targetScore + " puncte.", 115, 95);
-        img.setColor(new Color(200, 255, 200));
+        img.setColor(UIStyle.color(200, 255, 200));
         img.drawString("Apasă SPATIU pentru a începe", 130, 140);
 
-        if (overlay != null)
-        {
-            overlay.setImage(img);
-        }
+        return img;
     }
     
     private void finishQuest(boolean success)
     {
         this.success = success;
-        completed = true;
+        markCompleted();
         questActive = false;
         resultScreenTick = 0;
         resultDisplayTicks = 120;
@@ -400,34 +390,31 @@ public class AlternatingKeysQuest extends BaseQuest
         int glowColor = success ? 100 : 200;
         int glowColorG = success ? 255 : 100;
         int glowColorB = success ? 100 : 100;
-        img.setColor(new Color(glowColor, glowColorG, glowColorB, 70));
+        img.setColor(UIStyle.color(glowColor, glowColorG, glowColorB, 70));
         img.fillRect(-10, -10, panelW + 20, panelH + 20);
         
-        img.setColor(new Color(20, 20, 40, 250));
+        img.setColor(UIStyle.color(20, 20, 40, 250));
         img.fillRect(0, 0, panelW, panelH);
         
-        img.setColor(new Color(glowColor, glowColorG, glowColorB, 200));
+        img.setColor(UIStyle.color(glowColor, glowColorG, glowColorB, 200));
         img.drawRect(0, 0, panelW, panelH);
         
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 32));
+        img.setColor(UIStyle.color(255, 255, 255));
+        img.setFont(UIStyle.font("Arial", true, false, 32));
         String resultText = success ? "SUCCES!" : "COMPLET!";
         img.drawString(resultText, panelW / 2 - 70, panelH / 2 - 30);
         
-        img.setColor(new Color(255, 200, 100));
-        img.setFont(new greenfoot.Font("Arial", true, false, 22));
+        img.setColor(UIStyle.color(255, 200, 100));
+        img.setFont(UIStyle.font("Arial", true, false, 22));
         img.drawString("Scor final: " + score, panelW / 2 - 90, panelH / 2 + 30);
         img.drawString("Combo maxim: " + maxCombo, panelW / 2 - 90, panelH / 2 + 65);
         
-        img.setColor(new Color(150, 200, 255));
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(150, 200, 255));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
         img.drawString("Misiune completă!", panelW / 2 - 75, panelH / 2 + 105);
         
         // Set transparent actor image
-        GreenfootImage transparent = new GreenfootImage(48, 48);
-        transparent.setColor(new Color(0, 0, 0, 0));
-        transparent.fillRect(0, 0, 48, 48);
-        setImage(transparent);
+        setImage(getHiddenMarkerImage());
         
         overlay.setImage(img);
     }
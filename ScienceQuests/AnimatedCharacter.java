@@ -4,11 +4,11 @@ import java.util.*;
 /**
  * AnimatedCharacter - Displays an animated character using spritesheet frames
  * Used for menu display with idle animation (frames 0-3)
+ * All frames are cut, cropped and scaled once at construction
  */
 public class AnimatedCharacter extends Actor
 {
-    private GreenfootImage spritesheet;
-    private List<FrameInfo> idleFrames;
+    private GreenfootImage[] idleFrames;
     private int currentFrameIndex;
     private int animationCounter;
     private int frameWidth;
@@ -47,22 +47,23 @@ public class AnimatedCharacter extends Actor
         this.currentFrameIndex = 0;
         this.animationCounter = 0;
         this.frameDuration = (fps > 0) ? (1000 / fps) : 167;
-        this.idleFrames = new ArrayList<>();
+        this.idleFrames = new GreenfootImage[0];
         
         try
         {
             // Load the spritesheet image
-            spritesheet = new GreenfootImage(spritesheetPath);
+            GreenfootImage spritesheet = new GreenfootImage(spritesheetPath);
             
-            // Initialize idle frame positions (frame 0-3, each 96x64, horizontally arranged)
+            // Bake idle frames (frame 0-3 by default, horizontally arranged)
             int[] frames = (idleFrameIndices != null) ? idleFrameIndices : new int[]{0, 1, 2, 3};
+            GreenfootImage[] baked = new GreenfootImage[frames.length];
+            int[] sheetPixels = PixelScaler.readPixels(spritesheet);
             
-            for (int frameIdx : frames)
+            for (int i = 0; i < frames.length; i++)
             {
-                int xPos = frameIdx * frameW; // 0, 96, 192, 288
-                int yPos = 0;
-                idleFrames.add(new FrameInfo(xPos, yPos));
+                baked[i] = bakeFrame(spritesheet, sheetPixels, frames[i] * frameW, 0);
             }
+            idleFrames = baked;
             
             // Set initial image
             updateImage();
@@ -96,23 +97,30 @@ public class AnimatedCharacter extends Actor
         if (animationCounter >= frameDuration / 16)
         {
             animationCounter = 0;
-            currentFrameIndex = (currentFrameIndex + 1) % idleFrames.size();
+            currentFrameIndex = (currentFrameIndex + 1) % idleFrames.length;
             updateImage();
         }
     }
 
     /**
-     * Get the current frame image without updating animation
+     * Extract, crop and scale a single frame from the spritesheet
      */
-    public GreenfootImage getCurrentFrame()
+    private GreenfootImage bakeFrame(GreenfootImage spritesheet, int[] sheetPixels, int x, int y)
     {
-        if (idleFrames.isEmpty() || spritesheet == null) return null;
+        int boxWidth = useCrop ? cropWidth : frameWidth;
+        int boxHeight = useCrop ? cropHeight : frameHeight;
         
-        FrameInfo frame = idleFrames.get(currentFrameIndex);
+        // Whole-factor upscale: crisp nearest-neighbour straight from the sheet raster
+        int factor = PixelScaler.integerFactor(boxWidth, boxHeight, displayWidth, displayHeight);
+        if (factor > 0)
+        {
+            return PixelScaler.upscaleCrop(sheetPixels, spritesheet.getWidth(),
+                                           x + (frameWidth - boxWidth) / 2, y + (frameHeight - boxHeight) / 2,
+                                           boxWidth, boxHeight, factor, displayWidth, displayHeight);
+        }
         
-        // Extract frame from spritesheet
         GreenfootImage frameImage = new GreenfootImage(frameWidth, frameHeight);
-        frameImage.drawImage(spritesheet, -frame.x, -frame.y);
+        frameImage.drawImage(spritesheet, -x, -y);
         
         // Crop centered portion if specified
         if (useCrop)
@@ -130,33 +138,23 @@ public class AnimatedCharacter extends Actor
         return frameImage;
     }
 
+    /**
+     * Get the current frame image without updating animation
+     * The returned image is shared - draw it, don't modify it
+     */
+    public GreenfootImage getCurrentFrame()
+    {
+        if (idleFrames.length == 0) return null;
+        return idleFrames[currentFrameIndex];
+    }
+
     /**
      * Update the displayed image with the current frame
      */
     private void updateImage()
     {
-        if (idleFrames.isEmpty() || spritesheet == null) return;
-        
-        FrameInfo frame = idleFrames.get(currentFrameIndex);
-        
-        // Extract frame from spritesheet
-        GreenfootImage frameImage = new GreenfootImage(frameWidth, frameHeight);
-        frameImage.drawImage(spritesheet, -frame.x, -frame.y);
-        
-        // Crop centered portion if specified
-        if (useCrop)
-        {
-            int cropX = (frameWidth - cropWidth) / 2;
-            int cropY = (frameHeight - cropHeight) / 2;
-            GreenfootImage croppedImage = new GreenfootImage(cropWidth, cropHeight);
-            croppedImage.drawImage(frameImage, -cropX, -cropY);
-            frameImage = croppedImage;
-        }
-        
-        // Scale to display size
-        frameImage.scale(displayWidth, displayHeight);
-        
-        setImage(frameImage);
+        if (idleFrames.length == 0) return;
+        setImage(idleFrames[currentFrameIndex]);
     }
 
     /**
@@ -176,18 +174,4 @@ public class AnimatedCharacter extends Actor
     {
         animationCounter = 0;
     }
-
-    /**
-     * Inner class to store frame position data
-     */
-    private static class FrameInfo
-    {
-        int x, y;
-        
-        FrameInfo(int x, int y)
-        {
-            this.x = x;
-            this.y = y;
-        }
-    }
 }
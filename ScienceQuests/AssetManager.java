@@ -0,0 +1,274 @@
+import greenfoot.GreenfootImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * AssetManager - Process-wide cache of decoded and derived images.
+ * Every image file is decoded at most once while it is cached, and derived variants
+ * (scaled, trimmed, cropped) are keyed by source path plus a variant name so they are
+ * built once as well.
+ *
+ * acquire*() takes a reference that pins the entry until release() is called;
+ * get*() hands out the cached image without taking one. Entries nobody references
+ * stay cached, least recently used first out, until they exceed IDLE_BUDGET_BYTES.
+ * Eviction only drops the cache's own reference, so an image already handed out
+ * stays valid. Returned images are shared: callers must not draw on or scale them.
+ *
+ * Lookups are safe from any thread; decoding happens outside the lock, so the
+ * AssetManifest workers can fill the cache while the title screen keeps running.
+ * Text assets (map files) are cached too, without eviction.
+ */
+public final class AssetManager
+{
+    // Pixel bytes kept for unreferenced entries before the oldest are evicted
+    private static final long IDLE_BUDGET_BYTES = 32L * 1024 * 1024;
+
+    private static final Map<String, Entry> entries = new HashMap<String, Entry>();
+    private static final Map<GreenfootImage, Entry> byImage = new IdentityHashMap<GreenfootImage, Entry>();
+
+    // Unreferenced entries, least recently used first
+    private static final LinkedHashMap<String, Entry> idle = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private static long idleBytes = 0;
+
+    private static int decodes = 0;
+
+    private static final Map<String, String> texts = new HashMap<String, String>();
+
+    private AssetManager()
+    {
+    }
+
+    // ---------------------------------------------------------------
+    // Unreferenced lookups
+    // ---------------------------------------------------------------
+
+    /**
+     * The decoded image file at path.
+     */
+    public static GreenfootImage get(String path)
+    {
+        return lookup(path, null, null, false);
+    }
+
+    /**
+     * The image at path scaled to width x height.
+     */
+    public static GreenfootImage getScaled(String path, int width, int height)
+    {
+        return lookup(path, scaledVariant(width, height), scaler(width, height), false);
+    }
+
+    /**
+     * The image at path passed through derive, cached under (path, variant).
+     * derive must not modify its argument; it may return a new image or the argument itself.
+     */
+    public static GreenfootImage getDerived(String path, String variant, UnaryOperator<GreenfootImage> derive)
+    {
+        return lookup(path, variant, derive, false);
+    }
+
+    // ---------------------------------------------------------------
+    // Referenced lookups
+    // ---------------------------------------------------------------
+
+    /**
+     * Like get(path), but pins the entry until the image is passed to release().
+     */
+    public static GreenfootImage acquire(String path)
+    {
+        return lookup(path, null, null, true);
+    }
+
+    /**
+     * Like getScaled, but pins the entry until the image is passed to release().
+     */
+    public static GreenfootImage acquireScaled(String path, int width, int height)
+    {
+        return lookup(path, scaledVariant(width, height), scaler(width, height), true);
+    }
+
+    /**
+     * Like getDerived, but pins the entry until the image is passed to release().
+     */
+    public static GreenfootImage acquireDerived(String path, String variant, UnaryOperator<GreenfootImage> derive)
+    {
+        return lookup(path, variant, derive, true);
+    }
+
+    /**
+     * Drop one reference taken by an acquire call. Images the manager does not know
+     * (fallbacks, already evicted entries) are ignored.
+     */
+    public static synchronized void release(GreenfootImage image)
+    {
+        Entry entry = image == null ? null : byImage.get(image);
+        if (entry == null || entry.refs == 0) return;
+
+        entry.refs--;
+        if (entry.refs == 0)
+        {
+            idle.put(entry.key, entry);
+            idleBytes += entry.bytes;
+            evictIdle(IDLE_BUDGET_BYTES);
+        }
+    }
+
+    /**
+     * Evict every unreferenced entry. Referenced entries stay.
+     */
+    public static synchronized void trim()
+    {
+        evictIdle(0);
+    }
+
+    /**
+     * Number of image files decoded so far; for debugging cache behaviour.
+     */
+    public static synchronized int getDecodeCount()
+    {
+        return decodes;
+    }
+
+    /**
+     * The contents of a text file (UTF-8), read once per process.
+     */
+    public static String getText(String path) throws IOException
+    {
+        synchronized (AssetManager.class)
+        {
+            String text = texts.get(path);
+            if (text != null) return text;
+        }
+
+        String text = new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+        synchronized (AssetManager.class)
+        {
+            String cached = texts.get(path);
+            if (cached != null) return cached;
+            texts.put(path, text);
+        }
+        return text;
+    }
+
+    // ---------------------------------------------------------------
+    // Internals
+    // ---------------------------------------------------------------
+
+    private static GreenfootImage lookup(String path, String variant, UnaryOperator<GreenfootImage> derive, boolean pin)
+    {
+        String key = variant == null ? path : path + "#" + variant;
+        synchronized (AssetManager.class)
+        {
+            Entry entry = entries.get(key);
+            if (entry != null) return use(entry, pin);
+        }
+
+        // Decode or derive without holding the lock; if another thread got there
+        // first, its image wins and this one is dropped
+        GreenfootImage image = variant == null ? decode(path) : derive(path, derive);
+        synchronized (AssetManager.class)
+        {
+            Entry entry = entries.get(key);
+            if (entry == null)
+            {
+                entry = new Entry(key, image);
+                entries.put(key, entry);
+                byImage.put(image, entry);
+                idle.put(key, entry);
+                idleBytes += entry.bytes;
+            }
+            return use(entry, pin);
+        }
+    }
+
+    // Caller holds the lock
+    private static GreenfootImage use(Entry entry, boolean pin)
+    {
+        if (entry.refs == 0)
+        {
+            // Touch the entry so it counts as recently used
+            idle.get(entry.key);
+        }
+        if (pin)
+        {
+            if (entry.refs == 0)
+            {
+                idle.remove(entry.key);
+                idleBytes -= entry.bytes;
+            }
+            entry.refs++;
+        }
+        evictIdle(IDLE_BUDGET_BYTES);
+        return entry.image;
+    }
+
+    private static GreenfootImage decode(String path)
+    {
+        GreenfootImage image = new GreenfootImage(path);
+        synchronized (AssetManager.class)
+        {
+            decodes++;
+        }
+        DebugLog.log("AssetManager: decoded " + path);
+        return image;
+    }
+
+    private static GreenfootImage derive(String path, UnaryOperator<GreenfootImage> derive)
+    {
+        GreenfootImage source = get(path);
+        GreenfootImage derived = derive.apply(source);
+        // Each entry owns its image, so a pass-through result gets a copy
+        return derived == source ? new GreenfootImage(source) : derived;
+    }
+
+    private static void evictIdle(long budget)
+    {
+        Iterator<Entry> it = idle.values().iterator();
+        while (idleBytes > budget && it.hasNext())
+        {
+            Entry entry = it.next();
+            it.remove();
+            idleBytes -= entry.bytes;
+            entries.remove(entry.key);
+            byImage.remove(entry.image);
+            DebugLog.log("AssetManager: evicted " + entry.key);
+        }
+    }
+
+    private static String scaledVariant(int width, int height)
+    {
+        return width + "x" + height;
+    }
+
+    private static UnaryOperator<GreenfootImage> scaler(final int width, final int height)
+    {
+        return source -> {
+            GreenfootImage scaled = new GreenfootImage(source);
+            scaled.scale(width, height);
+            return scaled;
+        };
+    }
+
+    private static class Entry
+    {
+        final String key;
+        final GreenfootImage image;
+        final long bytes;
+        int refs = 0;
+
+        Entry(String key, GreenfootImage image)
+        {
+            this.key = key;
+            this.image = image;
+            this.bytes = 4L * image.getWidth() * image.getHeight();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AssetManifest - Every asset the game worlds need, warmed up before the first one.
+ * startPreload() hands the list to a small pool of daemon workers that decode the
+ * images into the AssetManager (pinned for the rest of the process), read the map
+ * files into its text cache and bake the pixel font's glyph atlases, while the title
+ * and name-entry screens are showing.
+ * Progress is reported as completed bytes over total bytes on disk.
+ */
+public final class AssetManifest
+{
+    private static final String[] MAPS = {
+        "images/classroom-new.json",
+        "images/lab_noapte_2.json",
+        "images/labfizica-normal.json",
+        "images/labfizica-broken.json",
+        "images/LabBiologyWorld-Normal.json",
+        "images/LabBiologyWorld-destroyed.json"
+    };
+
+    private static final String[] TILESETS = {
+        "images/CoolSchool_tileset.png",
+        "images/48px/tilesFloor.png",
+        "images/48px/tilesWalls.png",
+        "images/48px/tilesStuff.png",
+        "images/48px/spriteSheet_tiledLiquids_48x48.png",
+        "images/48px/spriteSheet_lightBulbSmallAnimation_48x48.png",
+        "images/48px/spriteSheet_lightingBulb02_204x219.png",
+        "images/48px/spriteSheet_fireEffect03_63x78.png"
+    };
+
+    private static final String[] SPRITESHEETS = {
+        "spritesheet/boy/UP.png",
+        "spritesheet/boy/DOWN.png",
+        "spritesheet/boy/LEFT.png",
+        "spritesheet/boy/RIGHT.png",
+        "spritesheet/boy/UP_LEFT.png",
+        "spritesheet/boy/UP_RIGHT.png",
+        "spritesheet/boy/idle_simple.png",
+        "spritesheet/girl/LEFT.png",
+        "spritesheet/girl/RIGHT.png",
+        "spritesheet/girl/idle.png"
+    };
+
+    // Spelled exactly as the call sites do, since the path is the cache key
+    private static final String[] ICONS = {
+        "images/man_teacher.png",
+        "images/man_teacher_icon.png",
+        "exclamation-mark.png",
+        "settings.png",
+        "images/collision-desk.png",
+        "images/collision-wall.png"
+    };
+
+    // Loaded and baked into glyph atlases by FontManager.preload()
+    private static final String[] FONTS = {
+        "fonts/Pixeled.ttf"
+    };
+
+    private static final int MAX_WORKERS = 4;
+
+    private static ExecutorService workers;
+    private static CountDownLatch remaining;
+    private static long totalBytes = 0;
+    private static final AtomicLong completedBytes = new AtomicLong();
+
+    private AssetManifest()
+    {
+    }
+
+    /**
+     * Start decoding the manifest in the background. Only the first call does anything.
+     */
+    public static synchronized void startPreload()
+    {
+        if (workers != null) return;
+
+        List<String> images = new ArrayList<String>();
+        addAll(images, TILESETS);
+        addAll(images, SPRITESHEETS);
+        addAll(images, ICONS);
+
+        List<Runnable> tasks = new ArrayList<Runnable>();
+        for (final String path : MAPS)
+        {
+            final long bytes = sizeOf(path);
+            tasks.add(() -> load(path, bytes, () -> AssetManager.getText(path)));
+            totalBytes += bytes;
+        }
+        for (final String path : images)
+        {
+            final long bytes = sizeOf(path);
+            tasks.add(() -> load(path, bytes, () -> AssetManager.acquire(path)));
+            totalBytes += bytes;
+        }
+        for (final String path : FONTS)
+        {
+            final long bytes = sizeOf(path);
+            tasks.add(() -> load(path, bytes, () -> {
+                FontManager.preload();
+                return null;
+            }));
+            totalBytes += bytes;
+        }
+
+        int poolSize = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+        workers = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "asset-preload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        remaining = new CountDownLatch(tasks.size());
+        for (Runnable task : tasks)
+        {
+            workers.execute(task);
+        }
+        workers.shutdown();
+        DebugLog.log("AssetManifest: preloading " + tasks.size() + " assets, " + totalBytes + " bytes on "
+                     + poolSize + " workers");
+    }
+
+    private static void load(String path, long bytes, Callable<?> work)
+    {
+        try
+        {
+            work.call();
+        }
+        catch (Exception e)
+        {
+            // A missing asset is reported where it is used; the preload just moves on
+            DebugLog.log("AssetManifest: could not preload " + path + ": " + e.getMessage());
+        }
+        finally
+        {
+            completedBytes.addAndGet(bytes);
+            remaining.countDown();
+        }
+    }
+
+    /**
+     * Fraction of manifest bytes loaded so far, 0 before startPreload().
+     */
+    public static synchronized double getProgress()
+    {
+        if (workers == null) return 0;
+        if (totalBytes == 0) return isComplete() ? 1 : 0;
+        return Math.min(1.0, (double) completedBytes.get() / totalBytes);
+    }
+
+    public static synchronized boolean isComplete()
+    {
+        return remaining != null && remaining.getCount() == 0;
+    }
+
+    // Greenfoot also finds bare image names in images/, so look there too
+    private static long sizeOf(String path)
+    {
+        String[] candidates = { path, "images/" + path };
+        for (String candidate : candidates)
+        {
+            try
+            {
+                return Files.size(Paths.get(candidate));
+            }
+            catch (IOException e)
+            {
+                // Try the next location
+            }
+        }
+        return 0;
+    }
+
+    private static void addAll(List<String> list, String[] paths)
+    {
+        for (String path : paths)
+        {
+            list.add(path);
+        }
+    }
+}
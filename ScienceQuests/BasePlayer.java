@@ -27,6 +27,13 @@ public abstract class BasePlayer extends Actor
             handleMovement();
         }
         updateAnimation();
+
+        // Let quests and NPCs know where the player is this tick
+        World world = getWorld();
+        if (world != null)
+        {
+            ProximityService.of(world).update(this);
+        }
     }
 
     protected abstract int getHitboxWidth();
@@ -43,10 +50,11 @@ public abstract class BasePlayer extends Actor
     {
         isMoving = false;
 
-        boolean up = Greenfoot.isKeyDown("up");
-        boolean down = Greenfoot.isKeyDown("down");
-        boolean left = Greenfoot.isKeyDown("left");
-        boolean right = Greenfoot.isKeyDown("right");
+        InputState input = InputState.getInstance();
+        boolean up = input.isDown(InputState.UP);
+        boolean down = input.isDown(InputState.DOWN);
+        boolean left = input.isDown(InputState.LEFT);
+        boolean right = input.isDown(InputState.RIGHT);
 
         if (up && down) { up = false; down = false; }
         if (left && right) { left = false; right = false; }
@@ -14,13 +14,28 @@ public abstract class BaseQuest extends Actor
 
     protected OverlayLayer overlay = null;
     protected int resultDisplayTicks = 0;
+    private boolean asleep = false;
 
     protected int baseY = 0;
     protected boolean baseYSet = false;
     protected int floatTick = 0;
 
-    protected boolean startKeyDown = false;
     protected boolean tutorialActive = false;
+    private GreenfootImage tutorialImage = null;
+
+    protected final InputState input = InputState.getInstance();
+
+    // Start radius watched by the world's ProximityService
+    protected static final int TRIGGER_RADIUS = 100;
+    private ProximityService.Trigger trigger;
+
+    // Tabled sin(tick * rate) curves for pulses and glows
+    private static final UIStyle.Curve WAVE_12 = UIStyle.wave(0.12);
+
+    // Map markers are identical for every quest, so they are built once and shared
+    private static GreenfootImage labeledMarker;
+    private static GreenfootImage plainMarker;
+    private static GreenfootImage hiddenMarker;
 
     protected BaseQuest(int mapX, int mapY)
     {
@@ -28,25 +43,84 @@ public abstract class BaseQuest extends Actor
         this.mapY = mapY;
     }
 
+    /**
+     * The shared "!" map marker, optionally captioned with the start key.
+     */
+    protected static GreenfootImage getMarkerImage(boolean showLabel)
+    {
+        if (labeledMarker == null)
+        {
+            plainMarker = buildMarker(false);
+            labeledMarker = buildMarker(true);
+        }
+        return showLabel ? labeledMarker : plainMarker;
+    }
+
+    /**
+     * Shared fully transparent marker-sized image for finished quests.
+     */
+    protected static GreenfootImage getHiddenMarkerImage()
+    {
+        if (hiddenMarker == null)
+        {
+            hiddenMarker = new GreenfootImage(48, 48);
+        }
+        return hiddenMarker;
+    }
+
+    private static GreenfootImage buildMarker(boolean showLabel)
+    {
+        GreenfootImage img = new GreenfootImage(AssetManager.get("exclamation-mark.png"));
+        int maxSize = 32;
+        int imgW = img.getWidth();
+        int imgH = img.getHeight();
+        if (imgW >= imgH)
+        {
+            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
+            img.scale(maxSize, Math.max(1, scaledH));
+        }
+        else
+        {
+            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
+            img.scale(Math.max(1, scaledW), maxSize);
+        }
+        GreenfootImage marker = new GreenfootImage(48, 48);
+        int drawX = (48 - img.getWidth()) / 2;
+        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
+        marker.drawImage(img, drawX, drawY);
+        if (showLabel)
+        {
+            marker.setColor(UIStyle.color(255, 255, 255));
+            marker.setFont(UIStyle.font("Arial", true, false, 10));
+            marker.drawString("SPATIU", 4, 46);
+        }
+        return marker;
+    }
+
+    /**
+     * The player in this quest's world, as last reported to the ProximityService.
+     * Registers the quest's trigger on first use in a world.
+     */
     protected Actor getPlayer()
     {
         World world = getWorld();
         if (world == null) return null;
 
-        java.util.List<Boy> boys = world.getObjects(Boy.class);
-        if (!boys.isEmpty()) return boys.get(0);
-
-        java.util.List<Girl> girls = world.getObjects(Girl.class);
-        if (!girls.isEmpty()) return girls.get(0);
-
-        return null;
+        ProximityService proximity = ProximityService.of(world);
+        if (trigger == null || !trigger.isFor(world))
+        {
+            trigger = proximity.register(this, TRIGGER_RADIUS, null);
+        }
+        return proximity.getPlayer();
     }
 
     protected boolean isPlayerInRange(Actor player, int range)
     {
+        // Outside the trigger means outside any smaller range too
+        if (trigger != null && range <= trigger.getRadius() && !trigger.isPlayerInside()) return false;
         int dx = player.getX() - getX();
         int dy = player.getY() - getY();
-        return Math.sqrt(dx * dx + dy * dy) < range;
+        return dx * dx + dy * dy < range * range;
     }
 
     protected boolean canStartQuest(Actor player, int range)
@@ -70,6 +144,16 @@ public abstract class BaseQuest extends Actor
         GameState.getInstance().setMiniQuestActive(false);
     }
 
+    /**
+     * Mark the quest as finished for good and announce it on the GameEvents bus.
+     */
+    protected void markCompleted()
+    {
+        if (completed) return;
+        completed = true;
+        GameEvents.publish(new GameEvents.QuestCompleted(this));
+    }
+
     protected void initBasePosition()
     {
         if (!baseYSet && getWorld() != null)
@@ -83,7 +167,7 @@ public abstract class BaseQuest extends Actor
     {
         if (!baseYSet) return;
         floatTick++;
-        int offset = (int) (Math.sin(floatTick * 0.12) * 4);
+        int offset = WAVE_12.at(floatTick, 0, 4);
         setLocation(getX(), baseY + offset);
     }
 
@@ -102,23 +186,63 @@ public abstract class BaseQuest extends Actor
     {
         if (overlay != null && overlay.getWorld() != null)
         {
-            getWorld().removeObject(overlay);
+            overlay.getWorld().removeObject(overlay);
             overlay = null;
         }
     }
 
-    protected void updateResultOverlayTicks()
+    /**
+     * Show the tutorial panel; it is static, so it is built once and reused.
+     */
+    protected void showTutorial()
     {
-        if (completed && resultDisplayTicks > 0)
+        ensureOverlay();
+        if (overlay == null) return;
+        if (tutorialImage == null)
+        {
+            tutorialImage = createTutorialImage();
+        }
+        if (overlay.getImage() != tutorialImage)
         {
-            resultDisplayTicks--;
-            if (resultDisplayTicks == 0)
-            {
-                clearOverlay();
-            }
+            overlay.setImage(tutorialImage);
         }
     }
 
+    protected abstract GreenfootImage createTutorialImage();
+
+    /**
+     * Show a retained quest scene, re-compositing only the widgets that changed.
+     */
+    protected void showScene(QuestOverlay scene)
+    {
+        ensureOverlay();
+        if (overlay == null) return;
+        scene.render();
+        if (overlay.getImage() != scene.getImage())
+        {
+            overlay.setImage(scene.getImage());
+        }
+    }
+
+    /**
+     * Called from act() once the quest is completed. The first call puts the quest to
+     * sleep in the world's ActorScheduler until the result screen has been shown for
+     * resultDisplayTicks; the overlay is then cleared and the quest never wakes again,
+     * so every later call is a single flag check.
+     */
+    protected void updateResultOverlayTicks()
+    {
+        if (!completed || asleep) return;
+        World world = getWorld();
+        if (world == null) return;
+
+        asleep = true;
+        ActorScheduler.of(world).sleepFor(resultDisplayTicks, () -> {
+            resultDisplayTicks = 0;
+            clearOverlay();
+        });
+    }
+
     public int getMapX()
     {
         return mapX;
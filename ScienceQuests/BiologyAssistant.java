@@ -10,16 +10,15 @@ public class BiologyAssistant extends Actor implements NPC
     private boolean fKeyPressed = false;
     private LabBiologyWorld labWorld;
     private int dialogueCooldown = 0;
+    private ProximityService.Trigger trigger;
     
     public BiologyAssistant()
     {
         try
         {
-            // Load man_teacher.png image
-            GreenfootImage image = new GreenfootImage("images/man_teacher.png");
-            // Scale it slightly smaller to differentiate
-            image.scale((int)(image.getWidth() * 0.9), (int)(image.getHeight() * 0.9));
-            setImage(image);
+            // Shared man_teacher.png, scaled slightly smaller to differentiate
+            setImage(AssetManager.getDerived("images/man_teacher.png", "trimmed90",
+                image -> PixelScaler.scaleTrimmed(image, (int)(image.getWidth() * 0.9), (int)(image.getHeight() * 0.9))));
         }
         catch (Exception e)
         {
@@ -61,11 +60,7 @@ public class BiologyAssistant extends Actor implements NPC
         Actor player = getPlayer();
         if (player != null)
         {
-            int dx = player.getX() - getX();
-            int dy = player.getY() - getY();
-            double distance = Math.sqrt(dx * dx + dy * dy);
-            
-            if (distance < INTERACTION_DISTANCE)
+            if (trigger.isPlayerInside())
             {
                 // Stop showing dialogue after 5/5 quizzes complete
                 GameState state = GameState.getInstance();
@@ -103,7 +98,7 @@ public class BiologyAssistant extends Actor implements NPC
     }
     
     /**
-     * Show lab quiz dialogue (no repair on single question)
+     * Show lab quiz dialogue
      */
     private void initiateRepairDialogue()
     {
@@ -111,65 +106,9 @@ public class BiologyAssistant extends Actor implements NPC
         if (world == null) return;
         
         DialogueManager manager = DialogueManager.getInstance();
-        
         if (manager.isDialogueActive()) return;
         
-        GameState state = GameState.getInstance();
-        int total = state.getLabBioQuizTotal();
-        int correct = state.getLabBioQuizCorrect();
-
-        if (total >= 5)
-        {
-            String doneText = "Ai terminat toate cele 5 întrebări.\n---\n" +
-                "Corecte: " + correct + "/5.\n---\n" +
-                "Continuă cu mini‑quest‑urile.";
-            DialogueBox done = new DialogueBox(doneText, getIconPath(), true);
-            done.setTypewriterSpeed(2);
-            manager.showDialogue(done, world, this);
-            return;
-        }
-        
-        // Show introduction only on first question
-        if (total == 0)
-        {
-            String repairText = "Bine ai venit la Laboratorul de Biologie!\n---\n" +
-                "Întrebarea 1 din 5.\n---\n" +
-                "Corecte: 0/5.";
-            DialogueBox instruction = new DialogueBox(repairText, getIconPath(), true);
-            instruction.setTypewriterSpeed(2);
-            
-            // Biology question
-            DialogueQuestion question = buildBiologyQuestion();
-            DialogueBox questionBox = new DialogueBox(question, getIconPath(), true);
-            questionBox.setTypewriterSpeed(2);
-            
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                GameState gs = GameState.getInstance();
-                gs.recordLabBioNPCQuizResult(isCorrect);
-            });
-            
-            manager.queueDialogue(questionBox);
-            manager.showDialogue(instruction, world, this);
-        }
-        else
-        {
-            // Show question directly for subsequent questions
-            DialogueQuestion question = buildBiologyQuestion();
-            DialogueBox questionBox = new DialogueBox(question, getIconPath(), true);
-            questionBox.setTypewriterSpeed(2);
-            
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                GameState gs = GameState.getInstance();
-                gs.recordLabBioNPCQuizResult(isCorrect);
-            });
-            
-            manager.showDialogue(questionBox, world, this);
-        }
-    }
-    
-    private DialogueQuestion buildBiologyQuestion()
-    {
-        return GameState.getInstance().getRandomQuestion("biology", QuestionPools.getBiologyQuestions());
+        manager.startDialogue(DialogueGraphs.get("biologyAssistant"), world, this);
     }
     
     /**
@@ -193,11 +132,7 @@ public class BiologyAssistant extends Actor implements NPC
         Actor player = getPlayer();
         if (player != null)
         {
-            int dx = player.getX() - getX();
-            int dy = player.getY() - getY();
-            double distance = Math.sqrt(dx * dx + dy * dy);
-            
-            if (distance < INTERACTION_DISTANCE)
+            if (trigger.isPlayerInside())
             {
                 // Show interaction prompt
                 if (interactionDisplay.getWorld() == null)
@@ -220,18 +155,21 @@ public class BiologyAssistant extends Actor implements NPC
         }
     }
     
+    /**
+     * The player as last reported to the world's ProximityService; registers the
+     * interaction trigger on first use in a world.
+     */
     private Actor getPlayer()
     {
         World world = getWorld();
         if (world == null) return null;
         
-        java.util.List<Boy> boys = world.getObjects(Boy.class);
-        if (!boys.isEmpty()) return boys.get(0);
-        
-        java.util.List<Girl> girls = world.getObjects(Girl.class);
-        if (!girls.isEmpty()) return girls.get(0);
-        
-        return null;
+        ProximityService proximity = ProximityService.of(world);
+        if (trigger == null || !trigger.isFor(world))
+        {
+            trigger = proximity.register(this, INTERACTION_DISTANCE, null);
+        }
+        return proximity.getPlayer();
     }
     
     // NPC interface methods
@@ -13,9 +13,8 @@ public class BiologyTeacher extends QuizNPCBase
     {
         try
         {
-            // Load man_teacher.png image
-            GreenfootImage image = new GreenfootImage("images/man_teacher.png");
-            setImage(image);
+            // Shared trimmed man_teacher.png
+            setImage(AssetManager.getDerived("images/man_teacher.png", "trimmed", PixelScaler::trimTransparent));
         }
         catch (Exception e)
         {
@@ -65,12 +64,7 @@ public class BiologyTeacher extends QuizNPCBase
         
         DialogueManager manager = DialogueManager.getInstance();
         
-        // Panic dialogue
-        String panicText = "O NU! Incendiul a distrus laboratorul de biologie!\n---\nTrebuie să-l restaurăm urgent!";
-        DialogueBox panicDialogue = new DialogueBox(panicText, getIconPath(), true);
-        panicDialogue.setTypewriterSpeed(2);
-        
-        manager.showDialogue(panicDialogue, world, this);
+        manager.startDialogue(DialogueGraphs.get("biologyPanic"), world, this);
     }
     
     
@@ -83,80 +77,9 @@ public class BiologyTeacher extends QuizNPCBase
         if (world == null) return;
         
         DialogueManager manager = DialogueManager.getInstance();
-        
         if (manager.isDialogueActive()) return;
         
-        GameState gameState = GameState.getInstance();
-        int total = gameState.getLabBioQuizTotal();
-        int correct = gameState.getLabBioQuizCorrect();
-
-        if (gameState.isLabBioQuizGateComplete())
-        {
-            String doneText = "Ai răspuns la toate cele 5 întrebări!\n---\n" +
-                "Ai " + correct + "/5 corecte.\n---\n" +
-                "Continuă cu mini‑quest‑urile din laborator.";
-            DialogueBox done = new DialogueBox(doneText, getIconPath(), true);
-            done.setTypewriterSpeed(2);
-            manager.showDialogue(done, world, this);
-            return;
-        }
-
-        if (total >= 5 && correct < 3)
-        {
-            String retryText = "Nu ai suficiente răspunsuri corecte.\n---\n" +
-                "Mai ai nevoie de " + (3 - correct) + " corecte.";
-            DialogueBox retry = new DialogueBox(retryText, getIconPath(), true);
-            retry.setTypewriterSpeed(2);
-
-            DialogueQuestion question = buildBiologyQuestion();
-            DialogueBox questionBox = new DialogueBox(question, getIconPath(), true);
-            questionBox.setTypewriterSpeed(2);
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                gameState.recordLabBioNPCQuizResult(isCorrect);
-            });
-
-            manager.queueDialogue(questionBox);
-            manager.showDialogue(retry, world, this);
-            return;
-        }
-
-        // Show introduction only on first question
-        if (total == 0)
-        {
-            String playerName = PlayerData.getPlayerName();
-            String greetText = "Salut " + playerName + "! Sunt profesorul de biologie.\n---\n" +
-                "Întrebarea 1 din 5.\n" +
-                "Corecte: 0/5";
-            
-            DialogueBox greeting = new DialogueBox(greetText, getIconPath(), true);
-            greeting.setTypewriterSpeed(2);
-            
-            // Biology question
-            DialogueQuestion question = buildBiologyQuestion();
-            DialogueBox questionBox = new DialogueBox(question, getIconPath(), true);
-            questionBox.setTypewriterSpeed(2);
-            
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                gameState.recordLabBioNPCQuizResult(isCorrect);
-            });
-            
-            manager.queueDialogue(questionBox);
-            manager.showDialogue(greeting, world, this);
-        }
-        else
-        {
-            // Show question directly for subsequent questions
-            DialogueQuestion question = buildBiologyQuestion();
-            DialogueBox questionBox = new DialogueBox(question, getIconPath(), true);
-            questionBox.setTypewriterSpeed(2);
-            
-            // Set callback to track quiz result (for lab-specific tracking, not MainMap)
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                gameState.recordLabBioNPCQuizResult(isCorrect);
-            });
-            
-            manager.showDialogue(questionBox, world, this);
-        }
+        manager.startDialogue(DialogueGraphs.get("biologyTeacher"), world, this);
     }
     
     private DialogueQuestion buildBiologyQuestion()
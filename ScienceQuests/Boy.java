@@ -55,31 +55,25 @@ public class Boy extends BasePlayer
     }
     
     /**
-     * Load frames from a horizontal spritesheet
+     * Bake every directional spritesheet into SpriteCache ahead of the first Boy.
+     * WorldPreloader calls this in the background once the boy is picked.
      */
-    private GreenfootImage[] loadDirectionalFrames(String spritesheetPath)
+    public static void preloadFrames()
     {
-        GreenfootImage spritesheet = new GreenfootImage(spritesheetPath);
-        GreenfootImage[] frames = new GreenfootImage[FRAMES_PER_DIRECTION];
-        
-        for (int i = 0; i < FRAMES_PER_DIRECTION; i++)
+        for (String direction : new String[] {"UP", "DOWN", "LEFT", "RIGHT", "UP_LEFT", "UP_RIGHT"})
         {
-            // Extract each frame
-            GreenfootImage frame = new GreenfootImage(FRAME_WIDTH, FRAME_HEIGHT);
-            frame.drawImage(spritesheet, -i * FRAME_WIDTH, 0);
-            
-            // Scale to 3x size
-            frame.scale(DISPLAY_WIDTH, DISPLAY_HEIGHT);
-            
-            // Crop to tight hitbox centered on character
-            int startX = (DISPLAY_WIDTH - CROP_WIDTH) / 2;
-            int startY = (DISPLAY_HEIGHT - CROP_HEIGHT) / 2;
-            GreenfootImage croppedFrame = new GreenfootImage(CROP_WIDTH, CROP_HEIGHT);
-            croppedFrame.drawImage(frame, -startX, -startY);
-            frames[i] = croppedFrame;
+            loadDirectionalFrames("spritesheet/boy/" + direction + ".png");
         }
-        
-        return frames;
+    }
+    
+    /**
+     * Load frames from a horizontal spritesheet
+     * Baked frames are shared between instances through SpriteCache
+     */
+    private static GreenfootImage[] loadDirectionalFrames(String spritesheetPath)
+    {
+        return SpriteCache.getFrames(spritesheetPath, FRAME_WIDTH, FRAME_HEIGHT, FRAMES_PER_DIRECTION,
+                                     DISPLAY_WIDTH, DISPLAY_HEIGHT, CROP_WIDTH, CROP_HEIGHT);
     }
     
     /**
@@ -14,38 +14,19 @@ public class ChemicalBondQuest extends BaseQuest
     private int bondHoldTime = 0;
     private int bondFormTick = 0;
     
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Widget atoms;
+    private QuestOverlay.Widget holdBar;
+    private QuestOverlay.Text bondsText;
+    private QuestOverlay.Text timeText;
+    
+    private static final Color TIME_COLOR = UIStyle.color(150, 255, 200);
+    
     public ChemicalBondQuest(int mapX, int mapY)
     {
         super(mapX, mapY);
-        createImage();
-    }
-    
-    private void createImage()
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        marker.setColor(new Color(255, 255, 255));
-        marker.setFont(new greenfoot.Font("Arial", true, false, 10));
-        marker.drawString("SPATIU", 4, 46);
-        setImage(marker);
+        setImage(getMarkerImage(true));
     }
     
     public void act()
@@ -65,12 +46,12 @@ public class ChemicalBondQuest extends BaseQuest
         Actor player = getPlayer();
         if (player != null && !questActive)
         {
-            boolean startPressed = Greenfoot.isKeyDown("space");
+            boolean startPressed = input.justPressed(InputState.SPACE);
             if (canStartQuest(player, 100))
             {
                 if (!tutorialActive)
                 {
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = true;
                         showTutorial();
@@ -80,7 +61,7 @@ public class ChemicalBondQuest extends BaseQuest
                 else
                 {
                     showTutorial();
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = false;
                         beginQuest();
@@ -98,7 +79,6 @@ public class ChemicalBondQuest extends BaseQuest
                 tutorialActive = false;
                 clearOverlay();
             }
-            startKeyDown = startPressed;
         }
         
         if (interactionCooldown > 0) interactionCooldown--;
@@ -130,7 +110,7 @@ public class ChemicalBondQuest extends BaseQuest
         boolean allPressed = true;
         for (String key : keys)
         {
-            if (!Greenfoot.isKeyDown(key.trim()))
+            if (!input.isDown(key.trim()))
             {
                 allPressed = false;
                 break;
@@ -163,120 +143,130 @@ public class ChemicalBondQuest extends BaseQuest
     {
         World world = getWorld();
         if (world == null) return;
+        if (scene == null) buildScene();
         
-        ensureOverlay();
-        if (overlay == null) return;
+        String required = requiredBonds[currentBondIndex];
+        String[] keys = required.split("\\+");
+        boolean key1Pressed = input.isDown(keys[0].trim());
+        boolean key2Pressed = input.isDown(keys[1].trim());
+        atoms.update(currentBondIndex, (key1Pressed ? 1 : 0) + (key2Pressed ? 2 : 0), bondHoldTime);
+        holdBar.update(bondHoldTime);
+        
+        bondsText.set("Legături formate: " + bondsFormed + " / " + targetBonds, Color.WHITE);
+        timeText.set("Timp: " + (timeRemaining / 60 + 1) + "s", TIME_COLOR);
         
+        showScene(scene);
+    }
+    
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene()
+    {
         int panelW = 460;
         int panelH = 300;
-        GreenfootImage img = new GreenfootImage(panelW, panelH);
-
-        int pulse = 90 + (int)(70 * Math.sin(animTick * 0.12));
-        img.setColor(new Color(0, 0, 0, pulse));
-        img.fillRect(0, 0, panelW, panelH);
-
-        // Green chemistry theme glow
-        img.setColor(new Color(100, 255, 150, 60));
-        img.fillRect(-8, -8, panelW + 16, panelH + 16);
+        
+        scene = new QuestOverlay(panelW, panelH, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 90));
+            img.fillRect(0, 0, panelW, panelH);
 
-        img.setColor(new Color(10, 30, 10, 245));
-        img.fillRect(0, 0, panelW, panelH);
+            // Green chemistry theme glow
+            img.setColor(UIStyle.color(100, 255, 150, 60));
+            img.fillRect(-8, -8, panelW + 16, panelH + 16);
 
-        img.setColor(new Color(100, 255, 150, 220));
-        img.drawRect(0, 0, panelW, panelH);
-        img.setColor(new Color(120, 255, 170, 120));
-        img.drawRect(1, 1, panelW - 2, panelH - 2);
+            img.setColor(UIStyle.color(10, 30, 10, 245));
+            img.fillRect(0, 0, panelW, panelH);
 
-        // Title
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 26));
-        img.drawString("LEGĂTURI CHIMICE", 110, 40);
-        
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(150, 255, 200));
-        img.drawString("INSTRUCȚIUNI: ține două săgeți simultan", 70, 65);
+            img.setColor(UIStyle.color(100, 255, 150, 220));
+            img.drawRect(0, 0, panelW, panelH);
+            img.setColor(UIStyle.color(120, 255, 170, 120));
+            img.drawRect(1, 1, panelW - 2, panelH - 2);
 
-        // Current required bond
-        String required = requiredBonds[currentBondIndex];
-        String[] keys = required.split("\\+");
-        
-        img.setFont(new greenfoot.Font("Arial", true, false, 24));
-        img.setColor(new Color(255, 255, 255));
-        img.drawString("Formează legătura:", 130, 110);
+            // Title
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 26));
+            img.drawString("LEGĂTURI CHIMICE", 110, 40);
+            
+            img.setFont(UIStyle.font("Arial", false, false, 14));
+            img.setColor(UIStyle.color(150, 255, 200));
+            img.drawString("INSTRUCȚIUNI: ține două săgeți simultan", 70, 65);
+            
+            img.setFont(UIStyle.font("Arial", true, false, 24));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.drawString("Formează legătura:", 130, 110);
+        });
         
         // Draw atom representations with bond
         int atomY = 150;
         int atom1X = panelW / 2 - 60;
         int atom2X = panelW / 2 + 60;
-        
-        // Check if keys are pressed
-        boolean key1Pressed = Greenfoot.isKeyDown(keys[0].trim());
-        boolean key2Pressed = Greenfoot.isKeyDown(keys[1].trim());
-        boolean bothPressed = key1Pressed && key2Pressed;
-        
-        // Atom 1
-        Color atom1Color = key1Pressed ? new Color(100, 255, 100) : new Color(150, 150, 150);
-        img.setColor(atom1Color);
-        img.fillOval(atom1X - 25, atomY - 25, 50, 50);
-        img.setColor(Color.WHITE);
-        img.setFont(new greenfoot.Font("Arial", true, false, 16));
-        img.drawString(keys[0].trim().toUpperCase(), atom1X - 12, atomY + 5);
-        
-        // Bond line
-        if (bothPressed)
-        {
-            float progress = bondHoldTime / 30.0f;
-            img.setColor(new Color(100, 255, 100, (int)(200 * progress)));
-            for (int i = 0; i < 3; i++)
+        atoms = scene.add(atom1X - 26, atomY - 26, atom2X - atom1X + 53, 53, img -> {
+            // Current required bond
+            String required = requiredBonds[currentBondIndex];
+            String[] keys = required.split("\\+");
+            
+            // Check if keys are pressed
+            boolean key1Pressed = input.isDown(keys[0].trim());
+            boolean key2Pressed = input.isDown(keys[1].trim());
+            boolean bothPressed = key1Pressed && key2Pressed;
+            
+            // Atom 1
+            Color atom1Color = key1Pressed ? UIStyle.color(100, 255, 100) : UIStyle.color(150, 150, 150);
+            img.setColor(atom1Color);
+            img.fillOval(atom1X - 25, atomY - 25, 50, 50);
+            img.setColor(Color.WHITE);
+            img.setFont(UIStyle.font("Arial", true, false, 16));
+            img.drawString(keys[0].trim().toUpperCase(), atom1X - 12, atomY + 5);
+            
+            // Bond line
+            if (bothPressed)
             {
-                img.drawLine(atom1X + 25, atomY + i - 1, atom2X - 25, atomY + i - 1);
+                float progress = bondHoldTime / 30.0f;
+                img.setColor(UIStyle.color(100, 255, 100, (int)(200 * progress)));
+                for (int i = 0; i < 3; i++)
+                {
+                    img.drawLine(atom1X + 25, atomY + i - 1, atom2X - 25, atomY + i - 1);
+                }
+            }
+            else
+            {
+                img.setColor(UIStyle.color(100, 100, 100, 100));
+                img.drawLine(atom1X + 25, atomY, atom2X - 25, atomY);
             }
-        }
-        else
-        {
-            img.setColor(new Color(100, 100, 100, 100));
-            img.drawLine(atom1X + 25, atomY, atom2X - 25, atomY);
-        }
-        
-        // Atom 2
-        Color atom2Color = key2Pressed ? new Color(100, 255, 100) : new Color(150, 150, 150);
-        img.setColor(atom2Color);
-        img.fillOval(atom2X - 25, atomY - 25, 50, 50);
-        img.setColor(Color.WHITE);
-        img.setFont(new greenfoot.Font("Arial", true, false, 16));
-        img.drawString(keys[1].trim().toUpperCase(), atom2X - 12, atomY + 5);
-
-        // Progress bar for hold time
-        if (bondHoldTime > 0)
-        {
-            float progress = bondHoldTime / 30.0f;
-            int barW = (int)(panelW - 80) * (int)progress / 100;
-            img.setColor(new Color(100, 255, 100, 100));
-            img.fillRect(40, 210, (int)((panelW - 80) * progress), 15);
-            img.setColor(new Color(100, 255, 100));
-            img.drawRect(40, 210, panelW - 80, 15);
             
-            img.setFont(new greenfoot.Font("Arial", false, false, 12));
+            // Atom 2
+            Color atom2Color = key2Pressed ? UIStyle.color(100, 255, 100) : UIStyle.color(150, 150, 150);
+            img.setColor(atom2Color);
+            img.fillOval(atom2X - 25, atomY - 25, 50, 50);
             img.setColor(Color.WHITE);
-            img.drawString("Ține apăsat pentru legătură...", 115, 223);
-        }
+            img.setFont(UIStyle.font("Arial", true, false, 16));
+            img.drawString(keys[1].trim().toUpperCase(), atom2X - 12, atomY + 5);
+        });
 
-        // Stats
-        img.setFont(new greenfoot.Font("Arial", true, false, 18));
-        img.setColor(new Color(255, 255, 255));
-        img.drawString("Legături formate: " + bondsFormed + " / " + targetBonds, 105, 250);
-        
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(150, 255, 200));
-        img.drawString("Timp: " + (timeRemaining / 60 + 1) + "s", 190, 275);
+        // Progress bar for hold time
+        holdBar = scene.add(40, 200, panelW - 79, 30, img -> {
+            if (bondHoldTime > 0)
+            {
+                float progress = bondHoldTime / 30.0f;
+                img.setColor(UIStyle.color(100, 255, 100, 100));
+                img.fillRect(40, 210, (int)((panelW - 80) * progress), 15);
+                img.setColor(UIStyle.color(100, 255, 100));
+                img.drawRect(40, 210, panelW - 80, 15);
+                
+                img.setFont(UIStyle.font("Arial", false, false, 12));
+                img.drawString("Ține apăsat pentru legătură...", 115, 223);
+            }
+        });
 
-        overlay.setImage(img);
+        // Stats
+        bondsText = scene.add(new QuestOverlay.Text(105, 250, 300, UIStyle.font("Arial", true, false, 18)));
+        timeText = scene.add(new QuestOverlay.Text(190, 275, 120, UIStyle.font("Arial", false, false, 14)));
     }
     
     private void finishQuest(boolean success)
     {
         endQuest();
-        completed = true;
+        markCompleted();
         resultDisplayTicks = 120;
 
         World world = getWorld();
@@ -290,31 +280,31 @@ public class ChemicalBondQuest extends BaseQuest
         
         if (success)
         {
-            img.setColor(new Color(0, 200, 50, 190));
+            img.setColor(UIStyle.color(0, 200, 50, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(100, 255, 150, 100));
+            img.setColor(UIStyle.color(100, 255, 150, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
 
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 40));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 40));
             img.drawString("SUCCES!", panelW / 2 - 100, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", false, false, 16));
+            img.setFont(UIStyle.font("Arial", false, false, 16));
             img.drawString("Molecule stabile formate!", panelW / 2 - 120, panelH / 2 + 30);
             img.drawString("Legătura covalentă e înțeleasă.", panelW / 2 - 150, panelH / 2 + 55);
         }
         else
         {
-            img.setColor(new Color(200, 0, 50, 190));
+            img.setColor(UIStyle.color(200, 0, 50, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(255, 100, 100, 100));
+            img.setColor(UIStyle.color(255, 100, 100, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
 
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 40));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 40));
             img.drawString("EȘUAT!", panelW / 2 - 90, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", false, false, 16));
+            img.setFont(UIStyle.font("Arial", false, false, 16));
             img.drawString("Legături instabile. Recitește", panelW / 2 - 140, panelH / 2 + 30);
             img.drawString("partajarea electronilor. " + bondsFormed + "/" + targetBonds + " finalizat.", panelW / 2 - 165, panelH / 2 + 55);
         }
@@ -322,32 +312,27 @@ public class ChemicalBondQuest extends BaseQuest
         overlay.setImage(img);
     }
 
-    private void showTutorial()
+    protected GreenfootImage createTutorialImage()
     {
-        World world = getWorld();
-        if (world == null) return;
-        ensureOverlay();
-        if (overlay == null) return;
-
         int w = 460;
         int h = 190;
         GreenfootImage img = new GreenfootImage(w, h);
-        img.setColor(new Color(0, 0, 0, 200));
+        img.setColor(UIStyle.color(0, 0, 0, 200));
         img.fillRect(0, 0, w, h);
-        img.setColor(new Color(120, 255, 170, 200));
+        img.setColor(UIStyle.color(120, 255, 170, 200));
         img.drawRect(0, 0, w - 1, h - 1);
 
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.setColor(Color.WHITE);
         img.drawString("TUTORIAL: LEGĂTURI", 135, 30);
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(220, 220, 220));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(220, 220, 220));
         img.drawString("Ține simultan cele două săgeți afișate.", 85, 70);
         img.drawString("Scop: " + targetBonds + " legături formate.", 125, 95);
-        img.setColor(new Color(200, 255, 200));
+        img.setColor(UIStyle.color(200, 255, 200));
         img.drawString("Apasă SPATIU pentru a începe", 140, 145);
 
-        overlay.setImage(img);
+        return img;
     }
     
     public java.util.List<TiledMap.CollisionRect> getCollisionRects()
@@ -0,0 +1,97 @@
+import greenfoot.*;
+
+/**
+ * ComboMechanic - Enter the key tokens in order; "a+b" tokens need both keys held.
+ * A wrong key restarts the sequence, a full sequence scores one.
+ */
+public class ComboMechanic implements QuestMechanic
+{
+    private int[] chords;
+    private int allKeys;
+    private int progress;
+    private int step;
+    private int hitFlash;
+    private int missFlash;
+
+    public void start(QuestDefinition definition)
+    {
+        chords = QuestMechanics.chordMasks(definition);
+        allKeys = 0;
+        for (int chord : chords) allKeys |= chord;
+        progress = 0;
+        step = 0;
+        hitFlash = 0;
+        missFlash = 0;
+    }
+
+    public void update(InputState input, int tick)
+    {
+        if (hitFlash > 0) hitFlash--;
+        if (missFlash > 0) missFlash--;
+
+        if (!input.anyJustPressed(allKeys)) return;
+
+        int expected = chords[step];
+        if (input.anyJustPressed(allKeys & ~expected))
+        {
+            step = 0;
+            missFlash = 12;
+        }
+        else if (input.allDown(expected))
+        {
+            step++;
+            if (step == chords.length)
+            {
+                step = 0;
+                progress++;
+                hitFlash = 15;
+            }
+        }
+        // Otherwise part of a chord is down; wait for the rest
+    }
+
+    public int getProgress()
+    {
+        return progress;
+    }
+
+    public String getStatus()
+    {
+        if (hitFlash > 0) return "Secvență completă!";
+        if (missFlash > 0) return "Greșit! Ia-o de la capăt";
+        return "Apasă: " + QuestMechanics.chordLabel(chords[step]);
+    }
+
+    public long getVisualState()
+    {
+        return ((long)step * 100 + hitFlash) * 100 + missFlash;
+    }
+
+    public void paint(QuestOverlay.Canvas canvas, int x, int y, int w, int h)
+    {
+        int gap = 10;
+        int boxW = Math.min(80, (w - gap * (chords.length - 1)) / chords.length);
+        int boxH = Math.min(h, 50);
+        int startX = x + (w - (boxW * chords.length + gap * (chords.length - 1))) / 2;
+        int boxY = y + (h - boxH) / 2;
+
+        canvas.setFont(UIStyle.font("Arial", true, false, 16));
+        for (int i = 0; i < chords.length; i++)
+        {
+            int bx = startX + i * (boxW + gap);
+            Color fill = hitFlash > 0 || i < step ? UIStyle.color(80, 180, 120, 220)
+                       : i == step ? UIStyle.color(70, 90, 130, 230)
+                       : UIStyle.color(50, 50, 70, 200);
+            canvas.setColor(fill);
+            canvas.fillRect(bx, boxY, boxW, boxH);
+            canvas.setColor(missFlash > 0 ? UIStyle.color(255, 100, 100, 200)
+                            : i == step ? UIStyle.color(150, 220, 255, 230)
+                            : UIStyle.color(120, 140, 180, 150));
+            canvas.drawRect(bx, boxY, boxW, boxH);
+
+            String label = QuestMechanics.chordLabel(chords[i]);
+            canvas.setColor(UIStyle.color(230, 230, 240));
+            canvas.drawCenteredString(label, bx + boxW / 2, boxY + boxH / 2 + 6);
+        }
+    }
+}
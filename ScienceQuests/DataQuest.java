@@ -0,0 +1,354 @@
+import greenfoot.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataQuest - A mini-quest described entirely by a QuestDefinition.
+ * Runs the start prompt, tutorial, timed play and result screen on one state machine
+ * and delegates the gameplay itself to a pluggable QuestMechanic, so adding a quest
+ * means adding a JSON entry instead of a class.
+ */
+public class DataQuest extends BaseQuest
+{
+    private enum Phase { IDLE, PROMPT, TUTORIAL, ACTIVE, RESULT }
+
+    private static final int PANEL_W = 460;
+    private static final int PANEL_H = 280;
+    private static final int START_RANGE = 100;
+
+    private final QuestDefinition definition;
+    private final QuestMechanic mechanic;
+    private final Color themeColor;
+
+    private Phase phase = Phase.IDLE;
+    private int tick = 0;
+    private int timeRemaining = 0;
+    private boolean success = false;
+
+    private GreenfootImage promptImage;
+
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Widget playArea;
+    private QuestOverlay.Widget timeBar;
+    private QuestOverlay.Text statusText;
+    private QuestOverlay.Text progressText;
+
+    private static final Color STATUS_COLOR = UIStyle.color(255, 220, 120);
+
+    public DataQuest(String questName, int mapX, int mapY)
+    {
+        this(QuestDefinitions.get(questName), mapX, mapY);
+    }
+
+    public DataQuest(QuestDefinition definition, int mapX, int mapY)
+    {
+        super(mapX, mapY);
+        if (definition == null)
+        {
+            throw new IllegalArgumentException("Unknown quest definition");
+        }
+        this.definition = definition;
+        this.mechanic = QuestMechanics.create(definition.getMechanicType());
+        this.themeColor = themeFor(definition.getScienceType());
+        setImage(getMarkerImage(true));
+    }
+
+    public void act()
+    {
+        switch (phase)
+        {
+            case RESULT:
+                updateResultOverlayTicks();
+                return;
+            case ACTIVE:
+                updateActive();
+                return;
+            default:
+                updateIdle();
+        }
+    }
+
+    // IDLE -> PROMPT -> TUTORIAL -> ACTIVE, driven by range and the start key
+    private void updateIdle()
+    {
+        initBasePosition();
+        updateFloating();
+
+        if (interactionCooldown > 0) interactionCooldown--;
+
+        boolean startPressed = interactionCooldown == 0 && input.justPressed(InputState.SPACE);
+        if (!canStartQuest(getPlayer(), START_RANGE))
+        {
+            if (phase != Phase.IDLE)
+            {
+                phase = Phase.IDLE;
+                tutorialActive = false;
+                clearOverlay();
+            }
+            return;
+        }
+
+        if (phase == Phase.IDLE)
+        {
+            phase = Phase.PROMPT;
+        }
+
+        if (phase == Phase.PROMPT)
+        {
+            showPrompt();
+            if (startPressed)
+            {
+                phase = Phase.TUTORIAL;
+                tutorialActive = true;
+                showTutorial();
+                interactionCooldown = 10;
+            }
+        }
+        else if (phase == Phase.TUTORIAL)
+        {
+            showTutorial();
+            if (startPressed)
+            {
+                tutorialActive = false;
+                startRun();
+            }
+        }
+    }
+
+    private void startRun()
+    {
+        phase = Phase.ACTIVE;
+        beginQuest();
+        tick = 0;
+        timeRemaining = definition.getTimeLimitSeconds() * 60;
+        mechanic.start(definition);
+        if (scene != null) scene.invalidate();
+        interactionCooldown = 10;
+    }
+
+    private void updateActive()
+    {
+        tick++;
+        mechanic.update(input, tick);
+
+        if (mechanic.getProgress() >= definition.getTarget())
+        {
+            finish(true);
+            return;
+        }
+
+        timeRemaining--;
+        updateDisplay();
+
+        if (timeRemaining <= 0)
+        {
+            finish(false);
+        }
+    }
+
+    private void finish(boolean success)
+    {
+        this.success = success;
+        phase = Phase.RESULT;
+        markCompleted();
+        resultDisplayTicks = 150;
+        endQuest();
+        setImage(getHiddenMarkerImage());
+
+        ensureOverlay();
+        if (overlay != null)
+        {
+            overlay.setImage(createResultImage());
+        }
+        DebugLog.log("DataQuest '" + definition.getName() + "' finished, success=" + success);
+    }
+
+    private void updateDisplay()
+    {
+        if (scene == null) buildScene();
+
+        playArea.update(mechanic.getVisualState());
+        statusText.set(mechanic.getStatus(), STATUS_COLOR);
+        progressText.set("Progres: " + Math.min(mechanic.getProgress(), definition.getTarget())
+                         + " / " + definition.getTarget(), Color.WHITE);
+        timeBar.update(timeRemaining * 420 / Math.max(1, definition.getTimeLimitSeconds() * 60),
+                       timeRemaining / 60);
+
+        showScene(scene);
+    }
+
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene()
+    {
+        List<String> descriptionLines = wrap(definition.getInputDescription(), UIStyle.font("Arial", false, false, 13), PANEL_W - 40);
+
+        scene = new QuestOverlay(PANEL_W, PANEL_H, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 90));
+            img.fillRect(0, 0, PANEL_W, PANEL_H);
+
+            img.setColor(UIStyle.withAlpha(themeColor, 60));
+            img.fillRect(-8, -8, PANEL_W + 16, PANEL_H + 16);
+
+            img.setColor(UIStyle.color(12, 12, 24, 245));
+            img.fillRect(0, 0, PANEL_W, PANEL_H);
+
+            img.setColor(UIStyle.withAlpha(themeColor, 220));
+            img.drawRect(0, 0, PANEL_W, PANEL_H);
+            img.setColor(UIStyle.withAlpha(themeColor, 120));
+            img.drawRect(1, 1, PANEL_W - 2, PANEL_H - 2);
+
+            // Title
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 24));
+            img.drawString(definition.getName().toUpperCase(), 20, 36);
+
+            // Instructions, at most two lines
+            img.setFont(UIStyle.font("Arial", false, false, 13));
+            img.setColor(UIStyle.withAlpha(themeColor, 255));
+            for (int i = 0; i < descriptionLines.size() && i < 2; i++)
+            {
+                img.drawString(descriptionLines.get(i), 20, 58 + i * 16);
+            }
+        });
+
+        playArea = scene.add(40, 96, PANEL_W - 80, 84, img -> mechanic.paint(img, 40, 96, PANEL_W - 80, 84));
+
+        greenfoot.Font statusFont = UIStyle.font("Arial", true, false, 16);
+        statusText = scene.add(new QuestOverlay.Text(40, 205, PANEL_W - 80, statusFont));
+        progressText = scene.add(new QuestOverlay.Text(40, 230, 250, statusFont));
+
+        timeBar = scene.add(20, 245, PANEL_W - 20, 28, img -> {
+            int limit = Math.max(1, definition.getTimeLimitSeconds() * 60);
+            int barW = timeRemaining * 420 / limit;
+            img.setColor(UIStyle.color(80, 150, 255, 80));
+            img.fillRect(20, 250, barW, 10);
+            img.setColor(UIStyle.color(100, 170, 255, 180));
+            img.drawRect(20, 250, 420, 10);
+            img.setFont(UIStyle.font("Arial", true, false, 12));
+            img.drawString((timeRemaining / 60 + 1) + "s", PANEL_W - 40, 272);
+        });
+    }
+
+    private void showPrompt()
+    {
+        ensureOverlay();
+        if (overlay == null) return;
+        if (promptImage == null)
+        {
+            int w = 360;
+            int h = 110;
+            promptImage = new GreenfootImage(w, h);
+            promptImage.setColor(UIStyle.color(0, 0, 0, 170));
+            promptImage.fillRect(0, 0, w, h);
+            promptImage.setColor(UIStyle.color(255, 255, 255, 200));
+            promptImage.drawRect(0, 0, w - 1, h - 1);
+
+            promptImage.setFont(UIStyle.font("Arial", true, false, 18));
+            promptImage.setColor(Color.WHITE);
+            promptImage.drawString(definition.getName().toUpperCase(), 20, 30);
+            promptImage.setFont(UIStyle.font("Arial", false, false, 14));
+            promptImage.setColor(UIStyle.color(200, 200, 200));
+            promptImage.drawString("Apasă SPATIU pentru tutorial", 45, 85);
+        }
+        if (overlay.getImage() != promptImage)
+        {
+            overlay.setImage(promptImage);
+        }
+    }
+
+    protected GreenfootImage createTutorialImage()
+    {
+        int w = 460;
+        int h = 200;
+        GreenfootImage img = new GreenfootImage(w, h);
+        img.setColor(UIStyle.color(0, 0, 0, 200));
+        img.fillRect(0, 0, w, h);
+        img.setColor(UIStyle.withAlpha(themeColor, 200));
+        img.drawRect(0, 0, w - 1, h - 1);
+
+        img.setFont(UIStyle.font("Arial", true, false, 20));
+        img.setColor(Color.WHITE);
+        img.drawString("TUTORIAL: " + definition.getName().toUpperCase(), 20, 30);
+
+        greenfoot.Font bodyFont = UIStyle.font("Arial", false, false, 14);
+        img.setFont(bodyFont);
+        img.setColor(UIStyle.color(220, 220, 220));
+        int y = 65;
+        for (String line : wrap(definition.getInputDescription(), bodyFont, w - 40))
+        {
+            img.drawString(line, 20, y);
+            y += 20;
+        }
+        img.drawString("Timp: " + definition.getTimeLimitSeconds() + " secunde", 20, y + 5);
+
+        img.setColor(UIStyle.color(200, 255, 200));
+        img.drawString("Apasă SPATIU pentru a începe", 140, 180);
+        return img;
+    }
+
+    private GreenfootImage createResultImage()
+    {
+        GreenfootImage img = new GreenfootImage(PANEL_W, PANEL_H);
+        img.setColor(success ? UIStyle.color(0, 200, 50, 190) : UIStyle.color(200, 0, 50, 190));
+        img.fillRect(0, 0, PANEL_W, PANEL_H);
+        img.setColor(success ? UIStyle.color(100, 255, 150, 100) : UIStyle.color(255, 100, 100, 100));
+        img.fillRect(-8, -8, PANEL_W + 16, PANEL_H + 16);
+
+        img.setColor(UIStyle.color(255, 255, 255));
+        img.setFont(UIStyle.font("Arial", true, false, 38));
+        FontManager.drawCenteredString(img, success ? "SUCCES!" : "EȘUAT!", PANEL_W / 2, PANEL_H / 2 - 40);
+
+        greenfoot.Font effectFont = UIStyle.font("Arial", true, false, 15);
+        img.setFont(effectFont);
+        int y = PANEL_H / 2 + 10;
+        String effect = success ? definition.getSuccessEffect() : definition.getFailEffect();
+        for (String line : wrap(effect, effectFont, PANEL_W - 40))
+        {
+            FontManager.drawCenteredString(img, line, PANEL_W / 2, y);
+            y += 22;
+        }
+        return img;
+    }
+
+    /**
+     * Break text into lines no wider than maxWidth in the given font.
+     */
+    private static List<String> wrap(String text, greenfoot.Font font, int maxWidth)
+    {
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : text.split(" "))
+        {
+            if (line.length() > 0 && FontManager.measure(font, line + " " + word) > maxWidth)
+            {
+                lines.add(line.toString());
+                line.setLength(0);
+            }
+            if (line.length() > 0) line.append(' ');
+            line.append(word);
+        }
+        if (line.length() > 0) lines.add(line.toString());
+        return lines;
+    }
+
+    private static Color themeFor(String scienceType)
+    {
+        if ("physics".equals(scienceType)) return UIStyle.color(80, 150, 255);
+        if ("chemistry".equals(scienceType)) return UIStyle.color(100, 255, 150);
+        if ("biology".equals(scienceType)) return UIStyle.color(255, 100, 200);
+        return UIStyle.color(255, 160, 90);
+    }
+
+    public QuestDefinition getDefinition()
+    {
+        return definition;
+    }
+
+    public boolean isSuccessful()
+    {
+        return success;
+    }
+}
@@ -9,9 +9,7 @@ public class Desk extends Actor
     {
         try
         {
-            GreenfootImage image = new GreenfootImage("images/collision-desk.png");
-            image.scale(60, 50);
-            setImage(image);
+            setImage(AssetManager.getScaled("images/collision-desk.png", 60, 50));
         }
         catch (Exception e)
         {
@@ -1,14 +1,17 @@
 import greenfoot.*;
-import java.util.ArrayList;
 
 /**
  * DialogueBox
  * Displays dialogue text with pixel font support, multi-page support, and question mode
+ * Text is laid out once by TextLayout: wrapped to the text area in pixels, split into
+ * pages at "---" and wherever it runs past LINES_PER_PAGE, with [b] and [c=#RRGGBB]
+ * markup.
  */
 public class DialogueBox extends Actor {
 
     private static final int BOX_WIDTH = 500;
     private static final int BOX_HEIGHT = 120;
+    private static final int QUESTION_BOX_HEIGHT = 180;
     private static final int PADDING = 10;
     private static final int ICON_SIZE = 80;
     private static final int ICON_PADDING = 10;
@@ -19,9 +22,16 @@ public class DialogueBox extends Actor {
     private static final Color BORDER_COLOR = new Color(200, 200, 200);
     private static final Color TEXT_COLOR = Color.WHITE;
     private static final int BORDER_WIDTH = 3;
+    private static final int TEXT_WIDTH = BOX_WIDTH - TEXT_START_X - PADDING - BORDER_WIDTH;
+    private static final int LINE_HEIGHT = 20;
+    private static final int LINES_PER_PAGE = 4; // Baselines 30..90, clear of the key prompt
+    private static final Color SELECTED_BG_COLOR = new Color(70, 70, 120);
+    private static final Color SELECTED_TEXT_COLOR = new Color(220, 220, 255);
+    private static final greenfoot.Font ANSWER_FONT = new greenfoot.Font("Arial", true, true, 10);
 
     private String fullText;
-    private ArrayList<String> wrappedLines;
+    private TextLayout layout;
+    private TextLayout.Page page;
     private GreenfootImage iconImage;
     private String iconPath;
 
@@ -29,9 +39,18 @@ public class DialogueBox extends Actor {
     private int displayedCharacters = 0;
     private int typewriterCounter = 0;
     private int typewriterSpeed = 2;
+
+    // Rendering: the typewriter only draws new characters onto the canvas
+    private GreenfootImage chrome;   // Frame, icon and prompt, drawn once
+    private GreenfootImage canvas;   // The image shown: chrome plus the revealed text
+    private int drawnCharacters = 0; // Page characters already on the canvas
+    private int cursorLine = 0;      // Where the next character goes
+    private int cursorRun = 0;
+    private int cursorColumn = 0;
+    private int cursorX = TEXT_START_X;
+    private int answersY = 0;        // Baseline of the first answer
     
     // Multi-page support
-    private ArrayList<String> pages;
     private int currentPageIndex = 0;
     
     // Question mode support
@@ -39,6 +58,7 @@ public class DialogueBox extends Actor {
     private DialogueQuestion question;
     private int selectedIndex = 0;
     private int boxHeight = BOX_HEIGHT;
+    private long revealedAtNanos = 0; // When the question text finished showing, for analytics
     
     // Callback for correct answer
     private Runnable onCorrectAnswerCallback;
@@ -46,16 +66,7 @@ public class DialogueBox extends Actor {
     private java.util.function.Consumer<Boolean> onAnswerAttemptCallback;
 
     public DialogueBox(String text, String iconPath, boolean typewriter) {
-        this.fullText = text != null ? text : "";
-        this.iconPath = iconPath;
-        this.useTypewriter = typewriter;
-        this.questionMode = false;
-        this.boxHeight = BOX_HEIGHT;
-
-        loadIcon(iconPath);
-        parsePages();
-        wrapText();
-        createImage();
+        setUp(text, false, null, iconPath, typewriter);
     }
 
     public DialogueBox(String text, String iconPath) {
@@ -64,42 +75,68 @@ public class DialogueBox extends Actor {
     
     // Question constructor
     public DialogueBox(DialogueQuestion question, String iconPath, boolean typewriter) {
-        this.question = question;
+        setUp(question != null ? question.getQuestionText() : "", true, question, iconPath, typewriter);
+    }
+
+    /**
+     * Reuse this box for new text, as DialogueManager does with its pooled box. The
+     * chrome and canvas are kept, and the icon too when the path is unchanged.
+     * Callbacks and typewriter speed go back to their defaults.
+     */
+    public void reset(String text, String iconPath, boolean typewriter) {
+        setUp(text, false, null, iconPath, typewriter);
+    }
+
+    public void reset(DialogueQuestion question, String iconPath, boolean typewriter) {
+        setUp(question != null ? question.getQuestionText() : "", true, question, iconPath, typewriter);
+    }
+
+    private void setUp(String text, boolean asQuestion, DialogueQuestion question,
+                       String iconPath, boolean typewriter) {
+        if (iconImage == null || !java.util.Objects.equals(iconPath, this.iconPath)) {
+            if (iconImage != null) {
+                AssetManager.release(iconImage);
+            }
+            loadIcon(iconPath);
+            chrome = null;
+        }
+        if (asQuestion != questionMode) {
+            chrome = null;
+        }
+
+        this.fullText = text != null ? text : "";
         this.iconPath = iconPath;
         this.useTypewriter = typewriter;
-        this.questionMode = true;
-        this.fullText = question != null ? question.getQuestionText() : "";
-        this.boxHeight = 180;
-        this.selectedIndex = 0;
-        
-        loadIcon(iconPath);
-        parsePages();
-        wrapText();
+        this.questionMode = asQuestion;
+        this.question = question;
+        this.boxHeight = asQuestion ? QUESTION_BOX_HEIGHT : BOX_HEIGHT;
+        if (canvas != null && canvas.getHeight() != boxHeight) {
+            canvas = null;
+        }
+
+        displayedCharacters = 0;
+        typewriterCounter = 0;
+        typewriterSpeed = 2;
+        selectedIndex = 0;
+        revealedAtNanos = 0;
+        onCorrectAnswerCallback = null;
+        onAnswerAttemptCallback = null;
+
+        layoutText();
         createImage();
     }
     
-    private void parsePages() {
-        pages = new ArrayList<>();
-        if (questionMode) {
-            pages.add(fullText);
-        } else {
-            String[] parts = fullText.split("---");
-            for (String part : parts) {
-                String trimmed = part.trim();
-                if (!trimmed.isEmpty()) {
-                    pages.add(trimmed);
-                }
-            }
-            if (pages.isEmpty()) {
-                pages.add(fullText);
-            }
-        }
+    private void layoutText() {
+        // A question stays on one page, above its answers
+        layout = TextLayout.of(fullText, FontManager.getPixeled(), FontManager.getPixeledBold(),
+                TEXT_WIDTH, questionMode ? 0 : LINES_PER_PAGE);
+        currentPageIndex = 0;
+        page = layout.getPage(0);
     }
 
     private void loadIcon(String path) {
         try {
-            iconImage = new GreenfootImage(path);
-            iconImage.scale(ICON_SIZE, ICON_SIZE);
+            iconImage = AssetManager.acquireScaled(path, ICON_SIZE, ICON_SIZE);
         } catch (Exception e) {
             iconImage = new GreenfootImage(ICON_SIZE, ICON_SIZE);
             iconImage.setColor(Color.GRAY);
@@ -107,29 +144,49 @@ public class DialogueBox extends Actor {
         }
     }
 
-    private void wrapText() {
-        wrappedLines = new ArrayList<String>();
-        
-        String pageText = pages.isEmpty() ? fullText : pages.get(currentPageIndex);
-        int charsPerLine = 45;
-        String[] words = pageText.split(" ");
-        String line = "";
-
-        for (String w : words) {
-            String test = line.isEmpty() ? w : line + " " + w;
-
-            if (test.length() > charsPerLine) {
-                wrappedLines.add(line);
-                line = w;
-            } else {
-                line = test;
+    /**
+     * Give the shared icon back to the AssetManager once this box is gone for good
+     */
+    public void dispose() {
+        AssetManager.release(iconImage);
+        iconImage = null;
+    }
+
+    /**
+     * Full redraw: chrome, the text revealed so far and the answers. Needed when the box
+     * is built or turns a page; typewriter ticks and selection changes draw onto the
+     * existing canvas instead.
+     */
+    private void createImage() {
+        if (chrome == null) {
+            chrome = createChrome();
+        }
+        if (canvas == null) {
+            canvas = new GreenfootImage(BOX_WIDTH, boxHeight);
+        }
+        canvas.clear();
+        canvas.drawImage(chrome, 0, 0);
+
+        drawnCharacters = 0;
+        cursorLine = 0;
+        cursorRun = 0;
+        cursorColumn = 0;
+        cursorX = TEXT_START_X;
+        revealTo(useTypewriter ? displayedCharacters : Integer.MAX_VALUE);
+
+        if (questionMode && question != null) {
+            // Laid out for the whole question, so the answers don't shift while it types
+            answersY = PADDING + 20 + page.getLineCount() * LINE_HEIGHT + 10;
+            for (int i = 0; i < question.getAnswers().length; i++) {
+                drawAnswer(i);
             }
         }
 
-        if (!line.isEmpty()) wrappedLines.add(line);
+        setImage(canvas);
     }
 
-    private void createImage() {
+    // Background, border, icon and key prompt: everything that doesn't change while the box is up
+    private GreenfootImage createChrome() {
         GreenfootImage img = new GreenfootImage(BOX_WIDTH, boxHeight);
 
         img.setColor(Color.BLACK);
@@ -154,104 +211,106 @@ public class DialogueBox extends Actor {
                     (boxHeight - ICON_SIZE) / 2);
         }
 
-        img.setFont(FontManager.getPixeled());
-        img.setColor(TEXT_COLOR);
-
-        int y = PADDING + 20;
-
-        if (!questionMode) {
-            // Normal dialogue mode
-            if (!useTypewriter) {
-                for (String line : wrappedLines) {
-                    img.drawString(line, TEXT_START_X, y);
-                    y += 20;
-                }
-            } else {
-                int chars = 0;
-                for (String line : wrappedLines) {
-                    int len = Math.min(
-                            displayedCharacters - chars,
-                            line.length()
-                    );
-                    if (len > 0) {
-                        img.drawString(line.substring(0, len),
-                                TEXT_START_X, y);
-                    }
-                    chars += line.length() + 1;
-                    y += 20;
-                    if (chars >= displayedCharacters) break;
-                }
-            }
-        } else {
-            // Question mode
-            if (!useTypewriter) {
-                for (String line : wrappedLines) {
-                    img.drawString(line, TEXT_START_X, y);
-                    y += 20;
-                }
-            } else {
-                int chars = 0;
-                for (String line : wrappedLines) {
-                    int len = Math.min(
-                            displayedCharacters - chars,
-                            line.length()
-                    );
-                    if (len > 0) {
-                        img.drawString(line.substring(0, len),
-                                TEXT_START_X, y);
-                    }
-                    chars += line.length() + 1;
-                    y += 20;
-                    if (chars >= displayedCharacters) break;
-                }
-            }
-            
-            y += 10;
-            
-            if (question != null) {
-                String[] answers = question.getAnswers();
-                img.setFont(new greenfoot.Font("Arial", true, true, 10));
-                for (int i = 0; i < answers.length; i++) {
-                    int optionY = y + (i * 18);
-                    String label = (char)('A' + i) + ") ";
-                    String optionText = label + answers[i];
-                    
-                    if (i == selectedIndex) {
-                        img.setColor(new Color(70, 70, 120));
-                        img.fillRect(TEXT_START_X - 4, optionY - 14, 280, 18);
-                        img.setColor(new Color(220, 220, 255));
-                    } else {
-                        img.setColor(TEXT_COLOR);
-                    }
-                    img.drawString(optionText, TEXT_START_X, optionY);
-                }
-            }
-        }
-
         img.setFont(FontManager.getPixeledSmall());
         img.setColor(new Color(150,150,150));
         String promptText = questionMode
                 ? "1-4/↑↓: alege | ENTER: confirmă | ESC: închide"
                 : "ENTER: continuă | ESC: închide";
-        img.drawString(promptText, BOX_WIDTH - 260, boxHeight - 10);
+        FontManager.drawString(img, promptText, BOX_WIDTH - 260, boxHeight - 10);
+
+        return img;
+    }
+
+    /**
+     * Draw the page's characters up to count that aren't on the canvas yet, run by
+     * run. Like TextLayout.Page.getLength(), each line break counts as one character.
+     */
+    private void revealTo(int count) {
+        while (drawnCharacters < count && cursorLine < page.getLineCount()) {
+            TextLayout.Line line = page.getLine(cursorLine);
+            if (cursorRun >= line.getRunCount()) {
+                cursorLine++;
+                cursorRun = 0;
+                cursorColumn = 0;
+                drawnCharacters++;
+                continue;
+            }
+
+            TextLayout.Run run = line.getRun(cursorRun);
+            if (cursorColumn == 0) {
+                cursorX = TEXT_START_X + run.x;
+            }
+            int end = cursorColumn + Math.min(count - drawnCharacters, run.text.length() - cursorColumn);
+            String part = cursorColumn == 0 && end == run.text.length()
+                    ? run.text : run.text.substring(cursorColumn, end);
+
+            canvas.setFont(run.font);
+            canvas.setColor(run.color != null ? run.color : TEXT_COLOR);
+            FontManager.drawString(canvas, part, cursorX, PADDING + 20 + cursorLine * LINE_HEIGHT);
+            cursorX += FontManager.measure(run.font, part);
+            drawnCharacters += end - cursorColumn;
+            cursorColumn = end;
+
+            if (cursorColumn == run.text.length()) {
+                cursorRun++;
+                cursorColumn = 0;
+            }
+        }
+    }
+
+    private void drawAnswer(int index) {
+        int optionY = answersY + index * 18;
 
-        setImage(img);
+        canvas.setColor(index == selectedIndex ? SELECTED_BG_COLOR : BG_COLOR);
+        canvas.fillRect(TEXT_START_X - 4, optionY - 14, BOX_WIDTH - BORDER_WIDTH - (TEXT_START_X - 4), 18);
+
+        canvas.setFont(ANSWER_FONT);
+        canvas.setColor(index == selectedIndex ? SELECTED_TEXT_COLOR : TEXT_COLOR);
+        String label = (char)('A' + index) + ") ";
+        FontManager.drawString(canvas, label + question.getAnswers()[index], TEXT_START_X, optionY);
+    }
+
+    private void changeSelection(int index) {
+        int previous = selectedIndex;
+        selectedIndex = index;
+        if (previous == index) return;
+
+        // A long question can push the answers onto the prompt; then repaint it all
+        int lastBottom = answersY + (question.getAnswers().length - 1) * 18 + 4;
+        if (lastBottom > boxHeight - 22) {
+            createImage();
+            return;
+        }
+        drawAnswer(previous);
+        drawAnswer(index);
+    }
+
+    protected void addedToWorld(World world) {
+        markRevealedIfDone();
     }
 
     public void act() {
-        if (useTypewriter && displayedCharacters < fullText.length()) {
+        if (useTypewriter && displayedCharacters < page.getLength()) {
             typewriterCounter++;
             if (typewriterCounter >= typewriterSpeed) {
                 typewriterCounter = 0;
                 displayedCharacters++;
-                createImage();
+                revealTo(displayedCharacters);
+                markRevealedIfDone();
             }
         }
     }
 
     public void skip() {
-        displayedCharacters = fullText.length();
-        createImage();
+        displayedCharacters = page.getLength();
+        revealTo(displayedCharacters);
+        markRevealedIfDone();
+    }
+
+    private void markRevealedIfDone() {
+        if (revealedAtNanos == 0 && getWorld() != null && isFullyDisplayed()) {
+            revealedAtNanos = System.nanoTime();
+        }
     }
     
     public void skipTypewriter() {
@@ -262,10 +321,10 @@ public class DialogueBox extends Actor {
     public boolean nextPage() {
         if (questionMode) return false;
         
-        if (currentPageIndex < pages.size() - 1) {
+        if (currentPageIndex < layout.getPageCount() - 1) {
             currentPageIndex++;
+            page = layout.getPage(currentPageIndex);
             displayedCharacters = 0;
-            wrapText();
             createImage();
             return true;
         }
@@ -273,11 +332,11 @@ public class DialogueBox extends Actor {
     }
     
     public boolean hasNextPage() {
-        return !questionMode && currentPageIndex < pages.size() - 1;
+        return !questionMode && currentPageIndex < layout.getPageCount() - 1;
     }
     
     public boolean isFullyDisplayed() {
-        return !useTypewriter || displayedCharacters >= fullText.length();
+        return !useTypewriter || displayedCharacters >= page.getLength();
     }
     
     // Question mode support
@@ -288,15 +347,13 @@ public class DialogueBox extends Actor {
     public void moveSelection(int delta) {
         if (!questionMode || question == null) return;
         int count = question.getAnswers().length;
-        selectedIndex = (selectedIndex + delta + count) % count;
-        createImage();
+        changeSelection((selectedIndex + delta + count) % count);
     }
     
     public void selectIndex(int index) {
         if (!questionMode || question == null) return;
         if (index >= 0 && index < question.getAnswers().length) {
-            selectedIndex = index;
-            createImage();
+            changeSelection(index);
         }
     }
     
@@ -306,7 +363,10 @@ public class DialogueBox extends Actor {
         
         // Record quiz result in GameState
         GameState state = GameState.getInstance();
-        state.recordQuizResult(question.getTopic(), isCorrect);
+        state.recordQuestionResult(question, isCorrect);
+        int latencyMillis = revealedAtNanos == 0 ? 0
+                : (int) ((System.nanoTime() - revealedAtNanos) / 1000000L);
+        QuizAnalytics.getInstance().record(question, selectedIndex, isCorrect, latencyMillis);
         
         // Call attempt callback with correctness flag
         if (onAnswerAttemptCallback != null)
@@ -353,14 +413,20 @@ public class DialogueBox extends Actor {
         this.onAnswerAttemptCallback = callback;
     }
 
-    public DialogueBox createRetryBox() {
+    /**
+     * Put the same question back in this box after a wrong answer, keeping its
+     * callbacks and typewriter speed.
+     */
+    public void askAgain() {
         if (!questionMode || question == null) {
-            return null;
+            return;
         }
-        DialogueBox retry = new DialogueBox(question, iconPath, true);
-        retry.setTypewriterSpeed(typewriterSpeed);
-        retry.setOnCorrectAnswerCallback(onCorrectAnswerCallback);
-        retry.setOnAnswerAttemptCallback(onAnswerAttemptCallback);
-        return retry;
+        Runnable onCorrect = onCorrectAnswerCallback;
+        java.util.function.Consumer<Boolean> onAttempt = onAnswerAttemptCallback;
+        int speed = typewriterSpeed;
+        reset(question, iconPath, true);
+        setTypewriterSpeed(speed);
+        onCorrectAnswerCallback = onCorrect;
+        onAnswerAttemptCallback = onAttempt;
     }
 }
\ No newline at end of file
@@ -0,0 +1,413 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DialogueGraph - One NPC conversation from dialogues.json, compiled for playback.
+ * Nodes come in three kinds:
+ *   "text"      shows a dialogue (pages split at ---), then goes to "next"
+ *   "question"  asks a random question of "topic", records the answer on the graph's
+ *               quiz counter, shows the question's response, then goes to "correct"
+ *               or "incorrect"; with "retry" a wrong answer asks the same question again
+ *   "branch"    goes to the first of "cases" whose "if" holds, else to "else"
+ * Node ids are resolved to indices and text placeholders split out when the file is
+ * read, so DialogueManager only walks arrays while a conversation plays.
+ *
+ * Placeholders: {name}, {total}, {correct}, {next} (number of the coming question) and
+ * {needed} (correct answers still missing). Conditions: gateComplete, answeredAll,
+ * needsRetry (all answered, too few right) and firstQuestion.
+ */
+public final class DialogueGraph
+{
+    public static final int END = -1;
+
+    static final int TEXT = 0;
+    static final int QUESTION = 1;
+    static final int BRANCH = 2;
+
+    private static final String[] PLACEHOLDERS = { "name", "total", "correct", "next", "needed" };
+    private static final int NAME = 0;
+    private static final int TOTAL = 1;
+    private static final int CORRECT = 2;
+    private static final int NEXT = 3;
+
+    private enum Condition
+    {
+        GATE_COMPLETE("gateComplete"),
+        ANSWERED_ALL("answeredAll"),
+        NEEDS_RETRY("needsRetry"),
+        FIRST_QUESTION("firstQuestion");
+
+        private final String key;
+
+        Condition(String key)
+        {
+            this.key = key;
+        }
+
+        boolean test(QuizCounter counter, GameState state)
+        {
+            int total = counter.getTotal(state);
+            switch (this)
+            {
+                case GATE_COMPLETE: return counter.isGateComplete(state);
+                case ANSWERED_ALL: return total >= QuizCounter.QUESTIONS;
+                case NEEDS_RETRY: return total >= QuizCounter.QUESTIONS
+                                      && counter.getCorrect(state) < QuizCounter.CORRECT_NEEDED;
+                default: return total == 0;
+            }
+        }
+
+        static Condition fromKey(String key)
+        {
+            for (Condition condition : values())
+            {
+                if (condition.key.equals(key)) return condition;
+            }
+            return null;
+        }
+    }
+
+    private static final class Node
+    {
+        final String id;
+        final int kind;
+        // TEXT: literal pieces around the placeholders
+        String[] literals;
+        int[] placeholders;
+        int next = END;
+        // QUESTION
+        String topic;
+        boolean retry;
+        int correct = END;
+        int incorrect = END;
+        // BRANCH
+        Condition[] conditions;
+        int[] targets;
+        int otherwise = END;
+
+        Node(String id, int kind)
+        {
+            this.id = id;
+            this.kind = kind;
+        }
+    }
+
+    private final String id;
+    private final QuizCounter counter;
+    private final int typewriterSpeed;
+    private final Node[] nodes;
+    private final int start;
+
+    private DialogueGraph(String id, QuizCounter counter, int typewriterSpeed, Node[] nodes, int start)
+    {
+        this.id = id;
+        this.counter = counter;
+        this.typewriterSpeed = typewriterSpeed;
+        this.nodes = nodes;
+        this.start = start;
+    }
+
+    public String getId()
+    {
+        return id;
+    }
+
+    /**
+     * The counter questions record on and branches test, null for a graph without questions.
+     */
+    public QuizCounter getCounter()
+    {
+        return counter;
+    }
+
+    public int getTypewriterSpeed()
+    {
+        return typewriterSpeed;
+    }
+
+    public int getStart()
+    {
+        return start;
+    }
+
+    public int getNodeCount()
+    {
+        return nodes.length;
+    }
+
+    int getKind(int node)
+    {
+        return nodes[node].kind;
+    }
+
+    /**
+     * A text node's text with its placeholders filled in from the current session.
+     */
+    String getText(int node, GameState state)
+    {
+        Node n = nodes[node];
+        if (n.placeholders.length == 0) return n.literals[0];
+
+        int total = counter != null ? counter.getTotal(state) : 0;
+        int correct = counter != null ? counter.getCorrect(state) : 0;
+        StringBuilder text = new StringBuilder(n.literals[0]);
+        for (int i = 0; i < n.placeholders.length; i++)
+        {
+            switch (n.placeholders[i])
+            {
+                case NAME: text.append(PlayerData.getPlayerName()); break;
+                case TOTAL: text.append(total); break;
+                case CORRECT: text.append(correct); break;
+                case NEXT: text.append(total + 1); break;
+                default: text.append(Math.max(0, QuizCounter.CORRECT_NEEDED - correct)); break;
+            }
+            text.append(n.literals[i + 1]);
+        }
+        return text.toString();
+    }
+
+    int getNext(int node)
+    {
+        return nodes[node].next;
+    }
+
+    String getTopic(int node)
+    {
+        return nodes[node].topic;
+    }
+
+    boolean isRetry(int node)
+    {
+        return nodes[node].retry;
+    }
+
+    int getAnswerTarget(int node, boolean correct)
+    {
+        return correct ? nodes[node].correct : nodes[node].incorrect;
+    }
+
+    /**
+     * Where a branch node leads for the current session.
+     */
+    int resolveBranch(int node, GameState state)
+    {
+        Node n = nodes[node];
+        for (int i = 0; i < n.conditions.length; i++)
+        {
+            if (counter != null && n.conditions[i].test(counter, state))
+            {
+                return n.targets[i];
+            }
+        }
+        return n.otherwise;
+    }
+
+    /**
+     * Read and compile one graph object. The first node is the start unless "start"
+     * names another; a graph that points at a missing node is rejected.
+     */
+    public static DialogueGraph read(JsonReader reader) throws IOException
+    {
+        String id = null;
+        String counterKey = null;
+        String startId = null;
+        int typewriterSpeed = 2;
+        List<Map<String, Object>> specs = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext())
+        {
+            String field = reader.nextName();
+            if ("id".equals(field)) id = reader.nextString();
+            else if ("counter".equals(field)) counterKey = reader.nextString();
+            else if ("start".equals(field)) startId = reader.nextString();
+            else if ("typewriterSpeed".equals(field)) typewriterSpeed = reader.nextInt();
+            else if ("nodes".equals(field))
+            {
+                reader.beginArray();
+                while (reader.hasNext())
+                {
+                    specs.add(readNode(reader));
+                }
+                reader.endArray();
+            }
+            else reader.skipValue();
+        }
+        reader.endObject();
+
+        if (id == null || specs.isEmpty())
+        {
+            throw new IOException("Dialogue without id or nodes");
+        }
+        QuizCounter counter = null;
+        if (counterKey != null)
+        {
+            counter = QuizCounter.fromKey(counterKey);
+            if (counter == null) throw new IOException("Unknown quiz counter " + counterKey + " in " + id);
+        }
+
+        // Number the nodes, then link them by index
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < specs.size(); i++)
+        {
+            String nodeId = (String) specs.get(i).get("id");
+            if (nodeId == null || indices.put(nodeId, i) != null)
+            {
+                throw new IOException("Missing or repeated node id in " + id);
+            }
+        }
+
+        Node[] nodes = new Node[specs.size()];
+        for (int i = 0; i < nodes.length; i++)
+        {
+            nodes[i] = compile(specs.get(i), indices, id);
+        }
+        int start = startId != null ? target(startId, indices, id) : 0;
+        if (start == END) throw new IOException("Dialogue " + id + " has no start");
+
+        return new DialogueGraph(id, counter, Math.max(1, typewriterSpeed), nodes, start);
+    }
+
+    // Fields of one node as read; targets are still ids
+    private static Map<String, Object> readNode(JsonReader reader) throws IOException
+    {
+        Map<String, Object> spec = new HashMap<>();
+        reader.beginObject();
+        while (reader.hasNext())
+        {
+            String field = reader.nextName();
+            if ("retry".equals(field))
+            {
+                spec.put(field, reader.nextBoolean());
+            }
+            else if ("cases".equals(field))
+            {
+                List<String[]> cases = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext())
+                {
+                    String condition = null;
+                    String target = null;
+                    reader.beginObject();
+                    while (reader.hasNext())
+                    {
+                        String name = reader.nextName();
+                        if ("if".equals(name)) condition = reader.nextString();
+                        else if ("goto".equals(name)) target = reader.nextString();
+                        else reader.skipValue();
+                    }
+                    reader.endObject();
+                    cases.add(new String[] { condition, target });
+                }
+                reader.endArray();
+                spec.put(field, cases);
+            }
+            else if (reader.peek() == JsonReader.Token.STRING)
+            {
+                spec.put(field, reader.nextString());
+            }
+            else reader.skipValue();
+        }
+        reader.endObject();
+        return spec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Node compile(Map<String, Object> spec, Map<String, Integer> indices, String graphId)
+        throws IOException
+    {
+        String nodeId = (String) spec.get("id");
+        String type = (String) spec.get("type");
+
+        if ("text".equals(type))
+        {
+            Node node = new Node(nodeId, TEXT);
+            String text = (String) spec.get("text");
+            if (text == null) throw new IOException("Text node " + nodeId + " without text in " + graphId);
+            splitPlaceholders(node, text);
+            node.next = target((String) spec.get("next"), indices, graphId);
+            return node;
+        }
+        if ("question".equals(type))
+        {
+            Node node = new Node(nodeId, QUESTION);
+            node.topic = (String) spec.get("topic");
+            if (node.topic == null) throw new IOException("Question node " + nodeId + " without topic in " + graphId);
+            node.retry = Boolean.TRUE.equals(spec.get("retry"));
+            node.correct = target((String) spec.get("correct"), indices, graphId);
+            node.incorrect = target((String) spec.get("incorrect"), indices, graphId);
+            return node;
+        }
+        if ("branch".equals(type))
+        {
+            Node node = new Node(nodeId, BRANCH);
+            List<String[]> cases = (List<String[]>) spec.get("cases");
+            int count = cases != null ? cases.size() : 0;
+            node.conditions = new Condition[count];
+            node.targets = new int[count];
+            for (int i = 0; i < count; i++)
+            {
+                node.conditions[i] = Condition.fromKey(cases.get(i)[0]);
+                if (node.conditions[i] == null)
+                {
+                    throw new IOException("Unknown condition " + cases.get(i)[0] + " in " + graphId);
+                }
+                node.targets[i] = target(cases.get(i)[1], indices, graphId);
+            }
+            node.otherwise = target((String) spec.get("else"), indices, graphId);
+            return node;
+        }
+        throw new IOException("Node " + nodeId + " of unknown type " + type + " in " + graphId);
+    }
+
+    // Index of the node called id; END for none
+    private static int target(String id, Map<String, Integer> indices, String graphId) throws IOException
+    {
+        if (id == null) return END;
+        Integer index = indices.get(id);
+        if (index == null) throw new IOException("Dialogue " + graphId + " points at missing node " + id);
+        return index;
+    }
+
+    private static void splitPlaceholders(Node node, String text)
+    {
+        List<String> literals = new ArrayList<>();
+        List<Integer> placeholders = new ArrayList<>();
+        int from = 0;
+        int open = text.indexOf('{');
+        while (open >= 0)
+        {
+            int close = text.indexOf('}', open);
+            int placeholder = close > open ? indexOf(text.substring(open + 1, close)) : -1;
+            if (placeholder < 0)
+            {
+                open = text.indexOf('{', open + 1);
+                continue;
+            }
+            literals.add(text.substring(from, open));
+            placeholders.add(placeholder);
+            from = close + 1;
+            open = text.indexOf('{', from);
+        }
+        literals.add(text.substring(from));
+
+        node.literals = literals.toArray(new String[0]);
+        node.placeholders = new int[placeholders.size()];
+        for (int i = 0; i < node.placeholders.length; i++)
+        {
+            node.placeholders[i] = placeholders.get(i);
+        }
+    }
+
+    private static int indexOf(String placeholder)
+    {
+        for (int i = 0; i < PLACEHOLDERS.length; i++)
+        {
+            if (PLACEHOLDERS[i].equals(placeholder)) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,61 @@
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DialogueGraphs - Process-wide registry of the NPC conversations in dialogues.json.
+ * The file is read and every graph compiled once, on first lookup; all sessions share
+ * the compiled graphs, which are never modified.
+ */
+public final class DialogueGraphs
+{
+    private static final String DIALOGUES_PATH = "dialogues.json";
+
+    private static Map<String, DialogueGraph> graphs;
+
+    private DialogueGraphs()
+    {
+    }
+
+    /**
+     * The graph with the given id, or null if there is none.
+     */
+    public static DialogueGraph get(String id)
+    {
+        return load().get(id);
+    }
+
+    private static synchronized Map<String, DialogueGraph> load()
+    {
+        if (graphs != null) return graphs;
+
+        graphs = new HashMap<>();
+        try (JsonReader reader = JsonReader.open(DIALOGUES_PATH))
+        {
+            reader.beginObject();
+            while (reader.hasNext())
+            {
+                if (!"dialogues".equals(reader.nextName()))
+                {
+                    reader.skipValue();
+                    continue;
+                }
+
+                reader.beginArray();
+                while (reader.hasNext())
+                {
+                    DialogueGraph graph = DialogueGraph.read(reader);
+                    graphs.put(graph.getId(), graph);
+                }
+                reader.endArray();
+            }
+            reader.endObject();
+            DebugLog.log("DialogueGraphs: compiled " + graphs.size() + " dialogues");
+        }
+        catch (IOException e)
+        {
+            DebugLog.log("DialogueGraphs: could not load " + DIALOGUES_PATH + ": " + e.getMessage());
+        }
+        return graphs;
+    }
+}
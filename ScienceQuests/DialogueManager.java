@@ -4,22 +4,39 @@ import greenfoot.*;
  * DialogueManager - Manages global dialogue state for the game
  * Prevents multiple dialogue boxes from spawning at the same time
  * Handles input for showing/hiding dialogue
+ *
+ * NPC conversations are DialogueGraphs played through a small bounded queue of graph
+ * nodes. Every node is shown in one pooled DialogueBox that is reset for each line,
+ * so a conversation reuses the same images and icon from start to end.
  */
 public class DialogueManager
 {
-    // Singleton instance
-    private static DialogueManager instance;
-    
     // Current dialogue state
     private DialogueBox currentDialogue;
     private World currentWorld;
     private NPC currentNPC; // Reference to the NPC that triggered the dialogue
     private DialogueBox queuedDialogue; // Dialogue to show after the current one
+
+    // Dialogue graphs: queued nodes, front first, in a ring
+    private static final int QUEUE_CAPACITY = 8;
+    private static final int SHOW_RESPONSE = 1 << 30; // Flag: the response to this question node's answer
+    private static final int ASK_AGAIN = 1 << 29;     // Flag: this question node, same question
+    private static final int NODE_MASK = ASK_AGAIN - 1;
+    private final DialogueGraph[] queuedGraphs = new DialogueGraph[QUEUE_CAPACITY];
+    private final int[] queuedNodes = new int[QUEUE_CAPACITY];
+    private int queueHead = 0;
+    private int queueSize = 0;
+
+    private DialogueBox pooledBox;       // Shows every graph node
+    private DialogueGraph activeGraph;   // Graph of the node on screen, null for other boxes
+    private int activeNode;
+    private DialogueQuestion askedQuestion;
+    private boolean lastAnswerCorrect;
     
     /**
-     * Private constructor (singleton pattern)
+     * Created by GameSession, one per student
      */
-    private DialogueManager()
+    DialogueManager()
     {
         currentDialogue = null;
         currentWorld = null;
@@ -28,15 +45,11 @@ public class DialogueManager
     }
     
     /**
-     * Get the singleton instance of DialogueManager
+     * Get the DialogueManager of the current session
      */
     public static DialogueManager getInstance()
     {
-        if (instance == null)
-        {
-            instance = new DialogueManager();
-        }
-        return instance;
+        return GameSession.current().getDialogueManager();
     }
     
     /**
@@ -52,10 +65,15 @@ public class DialogueManager
         if (currentDialogue != null)
         {
             DebugLog.log("DEBUG: Dialogue already active, ignoring new dialogue");
+            if (dialogue != pooledBox)
+            {
+                dialogue.dispose();
+            }
             return false;
         }
         
         currentDialogue = dialogue;
+        activeGraph = null;
         currentWorld = world;
         currentNPC = npc;
         
@@ -77,6 +95,193 @@ public class DialogueManager
     {
         queuedDialogue = dialogue;
     }
+
+    /**
+     * Play a dialogue graph from its start node
+     * @return true if its first node was shown, false if already in dialogue
+     */
+    public boolean startDialogue(DialogueGraph graph, World world, NPC npc)
+    {
+        if (currentDialogue != null || graph == null)
+        {
+            DebugLog.log("DEBUG: Dialogue already active, ignoring new dialogue");
+            return false;
+        }
+
+        clearQueue();
+        pushFront(graph, graph.getStart());
+        return playNext(world, npc);
+    }
+
+    /**
+     * Queue a dialogue graph to play after everything already queued
+     * @return false if the queue is full
+     */
+    public boolean queueDialogue(DialogueGraph graph)
+    {
+        if (queueSize == QUEUE_CAPACITY)
+        {
+            DebugLog.log("DialogueManager: queue full, dropping " + graph.getId());
+            return false;
+        }
+        int tail = (queueHead + queueSize) % QUEUE_CAPACITY;
+        queuedGraphs[tail] = graph;
+        queuedNodes[tail] = graph.getStart();
+        queueSize++;
+        return true;
+    }
+
+    // Continuations of the node on screen go ahead of anything queued
+    private void pushFront(DialogueGraph graph, int entry)
+    {
+        if (queueSize == QUEUE_CAPACITY)
+        {
+            DebugLog.log("DialogueManager: queue full, dropping a node of " + graph.getId());
+            return;
+        }
+        queueHead = (queueHead + QUEUE_CAPACITY - 1) % QUEUE_CAPACITY;
+        queuedGraphs[queueHead] = graph;
+        queuedNodes[queueHead] = entry;
+        queueSize++;
+    }
+
+    private void clearQueue()
+    {
+        for (int i = 0; i < QUEUE_CAPACITY; i++)
+        {
+            queuedGraphs[i] = null;
+        }
+        queueHead = 0;
+        queueSize = 0;
+        askedQuestion = null;
+    }
+
+    /**
+     * Show the next queued node that has something to show; branches are followed on
+     * the way.
+     * @return false if the queue ran out
+     */
+    private boolean playNext(World world, NPC npc)
+    {
+        GameState state = GameState.getInstance();
+        int branchHops = 0;
+        while (queueSize > 0)
+        {
+            DialogueGraph graph = queuedGraphs[queueHead];
+            int entry = queuedNodes[queueHead];
+            queuedGraphs[queueHead] = null;
+            queueHead = (queueHead + 1) % QUEUE_CAPACITY;
+            queueSize--;
+
+            int node = entry & NODE_MASK;
+            if ((entry & SHOW_RESPONSE) != 0)
+            {
+                String response = lastAnswerCorrect
+                    ? askedQuestion.getCorrectResponse() : askedQuestion.getIncorrectResponse();
+                return showNode(graph, node, response, null, world, npc);
+            }
+
+            int kind = graph.getKind(node);
+            if (kind == DialogueGraph.BRANCH)
+            {
+                int target = graph.resolveBranch(node, state);
+                // A graph can't loop through branches alone for longer than it has nodes
+                if (target != DialogueGraph.END && ++branchHops <= graph.getNodeCount())
+                {
+                    pushFront(graph, target);
+                }
+            }
+            else if (kind == DialogueGraph.TEXT)
+            {
+                if (graph.getNext(node) != DialogueGraph.END)
+                {
+                    pushFront(graph, graph.getNext(node));
+                }
+                return showNode(graph, node, graph.getText(node, state), null, world, npc);
+            }
+            else
+            {
+                if ((entry & ASK_AGAIN) == 0 || askedQuestion == null)
+                {
+                    String topic = graph.getTopic(node);
+                    askedQuestion = state.getRandomQuestion(topic, QuestionPools.getQuestions(topic));
+                }
+                if (askedQuestion == null)
+                {
+                    DebugLog.log("DialogueManager: no questions to ask in " + graph.getId());
+                    continue;
+                }
+                return showNode(graph, node, null, askedQuestion, world, npc);
+            }
+        }
+        return false;
+    }
+
+    // Put a graph node in the pooled box and show it
+    private boolean showNode(DialogueGraph graph, int node, String text, DialogueQuestion question,
+                             World world, NPC npc)
+    {
+        fillPooledBox(text, question, npc != null ? npc.getIconPath() : null);
+        pooledBox.setTypewriterSpeed(graph.getTypewriterSpeed());
+
+        if (!showDialogue(pooledBox, world, npc)) return false;
+        activeGraph = graph;
+        activeNode = node;
+        return true;
+    }
+
+    private void fillPooledBox(String text, DialogueQuestion question, String iconPath)
+    {
+        if (pooledBox == null)
+        {
+            pooledBox = question != null ? new DialogueBox(question, iconPath, true)
+                                         : new DialogueBox(text, iconPath, true);
+        }
+        else if (question != null)
+        {
+            pooledBox.reset(question, iconPath, true);
+        }
+        else
+        {
+            pooledBox.reset(text, iconPath, true);
+        }
+    }
+
+    // Record a graph question's answer, then show its response and go where it leads
+    private void answerGraphQuestion(boolean correct)
+    {
+        DialogueGraph graph = activeGraph;
+        int node = activeNode;
+        World w = currentWorld;
+        NPC npc = currentNPC;
+
+        GameState state = GameState.getInstance();
+        QuizCounter counter = graph.getCounter();
+        if (counter != null)
+        {
+            counter.record(state, correct);
+            DebugLog.log("DEBUG: " + graph.getId() + " quiz: " + counter.getCorrect(state) + "/"
+                + counter.getTotal(state) + " correct");
+        }
+
+        lastAnswerCorrect = correct;
+        if (!correct && graph.isRetry(node))
+        {
+            pushFront(graph, node | ASK_AGAIN);
+        }
+        else
+        {
+            int next = graph.getAnswerTarget(node, correct);
+            if (next != DialogueGraph.END)
+            {
+                pushFront(graph, next);
+            }
+        }
+        pushFront(graph, node | SHOW_RESPONSE);
+
+        hideDialogue();
+        playNext(w, npc);
+    }
     
     /**
      * Hide the current dialogue box
@@ -86,12 +291,18 @@ public class DialogueManager
         if (currentDialogue != null && currentWorld != null)
         {
             currentWorld.removeObject(currentDialogue);
+            // The pooled box keeps its icon for the next line, a question asked again its answers
+            if (currentDialogue != pooledBox && currentDialogue != queuedDialogue)
+            {
+                currentDialogue.dispose();
+            }
             DebugLog.log("Dialogue hidden");
         }
         
         currentDialogue = null;
         currentWorld = null;
         currentNPC = null;
+        activeGraph = null;
     }
     
     /**
@@ -133,7 +344,12 @@ public class DialogueManager
             if (key != null && "escape".equals(key))
             {
                 DebugLog.log("DEBUG: ESC pressed, closing dialogue");
+                if (queuedDialogue != null)
+                {
+                    queuedDialogue.dispose();
+                }
                 queuedDialogue = null;
+                clearQueue();
                 hideDialogue();
                 return;
             }
@@ -155,6 +371,11 @@ public class DialogueManager
                         DebugLog.log("DEBUG: Confirming answer...");
                         // Confirm answer and show follow-up response
                         boolean correct = currentDialogue.confirmSelection();
+                        if (activeGraph != null)
+                        {
+                            answerGraphQuestion(correct);
+                            return;
+                        }
                         DialogueQuestion q = currentDialogue.getQuestion();
                         String responseText = correct ? q.getCorrectResponse() : q.getIncorrectResponse();
                         String iconPath = currentDialogue.getIconPath();
@@ -162,17 +383,18 @@ public class DialogueManager
                         NPC npc = currentNPC;
                         if (!correct)
                         {
-                            DialogueBox retry = currentDialogue.createRetryBox();
-                            queuedDialogue = retry;
+                            // The same box asks again after the response
+                            currentDialogue.askAgain();
+                            queuedDialogue = currentDialogue;
                         }
                         else
                         {
                             queuedDialogue = null;
                         }
                         hideDialogue();
-                        DialogueBox response = new DialogueBox(responseText, iconPath, true);
-                        response.setTypewriterSpeed(2);
-                        showDialogue(response, w, npc);
+                        fillPooledBox(responseText, null, iconPath);
+                        pooledBox.setTypewriterSpeed(2);
+                        showDialogue(pooledBox, w, npc);
                         return;
                     }
                 }
@@ -204,7 +426,12 @@ public class DialogueManager
                     NPC npc = currentNPC;
                     queuedDialogue = null;
                     hideDialogue();
-                    if (next != null)
+                    if (playNext(w, npc))
+                    {
+                        DebugLog.log("DEBUG: Showing next dialogue node");
+                        queuedDialogue = next;
+                    }
+                    else if (next != null)
                     {
                         DebugLog.log("DEBUG: Showing queued dialogue");
                         showDialogue(next, w, npc);
@@ -231,9 +458,16 @@ public class DialogueManager
         if (currentDialogue != null && currentWorld != null)
         {
             currentWorld.removeObject(currentDialogue);
+            currentDialogue.dispose();
+        }
+        if (pooledBox != null && pooledBox != currentDialogue)
+        {
+            pooledBox.dispose();
         }
         currentDialogue = null;
         currentWorld = null;
         currentNPC = null;
+        activeGraph = null;
+        clearQueue();
     }
 }
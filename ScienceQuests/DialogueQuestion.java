@@ -2,16 +2,23 @@ import java.util.Random;
 
 /**
  * DialogueQuestion - Represents a multiple-choice question for dialogue
+ * Questions in the QuestionPools bank keep their answers in authored order and are
+ * never modified; each time one is asked, withShuffledAnswers() gives a light view
+ * that shows the same answers in a random order.
  */
 public class DialogueQuestion
 {
-    private String topic;
-    private String questionText;
-    private String[] answers;
-    private int correctAnswerIndex;
-    private String correctResponse;
-    private String incorrectResponse;
-    
+    private final String topic;
+    private final String questionText;
+    private final String[] answers;       // As authored
+    private final int authoredCorrectIndex;
+    private final int correctAnswerIndex; // In the order returned by getAnswers()
+    private final String correctResponse;
+    private final String incorrectResponse;
+    private final int id;
+    private final int[] order;            // order[shown index] = authored index, null when unshuffled
+    private String[] shownAnswers;
+
     public DialogueQuestion(String questionText, String[] answers, int correctAnswerIndex,
                             String correctResponse, String incorrectResponse)
     {
@@ -23,45 +30,77 @@ public class DialogueQuestion
     {
         this.topic = (topic == null || topic.trim().isEmpty()) ? "general" : topic.trim();
         this.questionText = questionText;
-        this.answers = answers != null ? answers : new String[0];
-        this.correctAnswerIndex = Math.max(0, Math.min(correctAnswerIndex, this.answers.length - 1));
+        this.answers = answers != null ? answers.clone() : new String[0];
+        this.authoredCorrectIndex = Math.max(0, Math.min(correctAnswerIndex, this.answers.length - 1));
+        this.correctAnswerIndex = authoredCorrectIndex;
         this.correctResponse = correctResponse;
         this.incorrectResponse = incorrectResponse;
-        
-        // Shuffle answers and update correctAnswerIndex
-        shuffleAnswers();
+        // Stable across runs (String.hashCode is specified), so analytics can join on it
+        this.id = (this.topic + '\n' + questionText).hashCode();
+        this.order = null;
+        this.shownAnswers = this.answers;
+    }
+
+    // A shuffled view sharing the authored question's strings
+    private DialogueQuestion(DialogueQuestion source, int[] order)
+    {
+        this.topic = source.topic;
+        this.questionText = source.questionText;
+        this.answers = source.answers;
+        this.correctResponse = source.correctResponse;
+        this.incorrectResponse = source.incorrectResponse;
+        this.id = source.id;
+        this.authoredCorrectIndex = source.authoredCorrectIndex;
+        this.order = order;
+
+        int shownCorrect = 0;
+        for (int i = 0; i < order.length; i++)
+        {
+            if (order[i] == authoredCorrectIndex)
+            {
+                shownCorrect = i;
+                break;
+            }
+        }
+        this.correctAnswerIndex = shownCorrect;
     }
-    
+
     /**
-     * Shuffle the answer array and update the correctAnswerIndex accordingly
+     * This question with its answers in a random order (Fisher-Yates over indices).
      */
-    private void shuffleAnswers()
+    public DialogueQuestion withShuffledAnswers(Random random)
     {
-        if (answers.length <= 1) return;
-        
-        Random random = new Random();
-        String correctAnswer = answers[correctAnswerIndex];
-        
-        // Fisher-Yates shuffle
-        for (int i = answers.length - 1; i > 0; i--)
+        if (answers.length <= 1) return this;
+
+        int[] shuffled = new int[answers.length];
+        for (int i = 0; i < shuffled.length; i++)
         {
-            int j = random.nextInt(i + 1);
-            String temp = answers[i];
-            answers[i] = answers[j];
-            answers[j] = temp;
+            shuffled[i] = i;
         }
-        
-        // Find the new index of the correct answer
-        for (int i = 0; i < answers.length; i++)
+        for (int i = shuffled.length - 1; i > 0; i--)
         {
-            if (answers[i].equals(correctAnswer))
-            {
-                correctAnswerIndex = i;
-                break;
-            }
+            int j = random.nextInt(i + 1);
+            int temp = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = temp;
         }
+        return new DialogueQuestion(this, shuffled);
+    }
+
+    public int getId()
+    {
+        return id;
     }
-    
+
+    /**
+     * Map an index into getAnswers() back to the answer's position as authored
+     */
+    public int getOriginalAnswerIndex(int shownIndex)
+    {
+        if (shownIndex < 0 || shownIndex >= answers.length) return -1;
+        return order != null ? order[shownIndex] : shownIndex;
+    }
+
     public String getTopic()
     {
         return topic;
@@ -71,22 +110,33 @@ public class DialogueQuestion
     {
         return questionText;
     }
-    
+
+    /**
+     * Answers in display order. The array is shared; don't modify it.
+     */
     public String[] getAnswers()
     {
-        return answers;
+        if (shownAnswers == null)
+        {
+            shownAnswers = new String[answers.length];
+            for (int i = 0; i < shownAnswers.length; i++)
+            {
+                shownAnswers[i] = answers[order[i]];
+            }
+        }
+        return shownAnswers;
     }
-    
+
     public int getCorrectAnswerIndex()
     {
         return correctAnswerIndex;
     }
-    
+
     public String getCorrectResponse()
     {
         return correctResponse;
     }
-    
+
     public String getIncorrectResponse()
     {
         return incorrectResponse;
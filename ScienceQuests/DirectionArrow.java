@@ -38,15 +38,15 @@ public class DirectionArrow extends Actor
         img.fillRect(6, 6, w - 12, h - 12);
 
         // Smaller arrow
-        img.setFont(new greenfoot.Font("Arial", true, false, 42));
+        img.setFont(UIStyle.font("Arial", true, false, 42));
         img.setColor(new Color(255, 230, 120, 255));
-        img.drawString(arrow, w / 2 - 12, 45);
+        FontManager.drawCenteredString(img, arrow, w / 2, 45);
 
         // Smaller text with Pixeled font
         img.setFont(FontManager.getPixeledSmall());
         img.setColor(new Color(255, 255, 255, 255));
-        int labelX = Math.max(8, (w - (label.length() * 5)) / 2);
-        img.drawString(label, labelX, 70);
+        int labelX = Math.max(8, (w - FontManager.measure(img.getFont(), label)) / 2);
+        FontManager.drawString(img, label, labelX, 70);
 
         return img;
     }
@@ -26,39 +26,29 @@ public class DirectionDodgeQuest extends BaseQuest
     private int catchZoneSize = catchZoneEnd - catchZoneStart;
     private boolean lastWasHit = false;
     
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Text caughtText;
+    private QuestOverlay.Text scoreText;
+    private QuestOverlay.Text comboText;
+    private QuestOverlay.Text difficultyText;
+    private QuestOverlay.Widget progressBar;
+    private QuestOverlay.Widget arrowArea;
+    private QuestOverlay.Widget hitFlash;
+    
+    private static final Color CAUGHT_COLOR = UIStyle.color(120, 255, 150);
+    private static final Color SCORE_COLOR = UIStyle.color(255, 200, 100);
+    private static final Color COMBO_COLOR = UIStyle.color(150, 200, 255);
+    private static final Color DIFFICULTY_COLOR = UIStyle.color(255, 150, 150);
+    
+    // Tabled sin(tick * rate) curves for pulses and glows
+    private static final UIStyle.Curve WAVE_09 = UIStyle.wave(0.09);
+    private static final UIStyle.Curve WAVE_20 = UIStyle.wave(0.2);
+    
     public DirectionDodgeQuest(int mapX, int mapY)
     {
         super(mapX, mapY);
-        createImage();
-    }
-    private boolean anyArrowDown = false;
-    
-    private void createImage()
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        marker.setColor(new Color(255, 255, 255));
-        marker.setFont(new greenfoot.Font("Arial", true, false, 10));
-        marker.drawString("SPATIU", 4, 46);
-        setImage(marker);
+        setImage(getMarkerImage(true));
     }
     
     public void act()
@@ -78,12 +68,12 @@ public class DirectionDodgeQuest extends BaseQuest
         Actor player = getPlayer();
         if (player != null && !questActive)
         {
-            boolean startPressed = Greenfoot.isKeyDown("space");
+            boolean startPressed = input.justPressed(InputState.SPACE);
             if (canStartQuest(player, 100))
             {
                 if (!tutorialActive)
                 {
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = true;
                         showTutorial();
@@ -93,7 +83,7 @@ public class DirectionDodgeQuest extends BaseQuest
                 else
                 {
                     showTutorial();
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = false;
                         beginQuest();
@@ -109,7 +99,6 @@ public class DirectionDodgeQuest extends BaseQuest
                         arrowAppearTick = 0;
                         arrowGrowth = 0;
                         animTick = 0;
-                        anyArrowDown = false;
                         interactionCooldown = 10;
                     }
                 }
@@ -119,7 +108,6 @@ public class DirectionDodgeQuest extends BaseQuest
                 tutorialActive = false;
                 clearOverlay();
             }
-            startKeyDown = startPressed;
         }
         
         if (interactionCooldown > 0) interactionCooldown--;
@@ -174,14 +162,7 @@ public class DirectionDodgeQuest extends BaseQuest
     {
         if (currentArrow == null) return;
         
-        boolean up = Greenfoot.isKeyDown("up");
-        boolean down = Greenfoot.isKeyDown("down");
-        boolean anyDownNow = up || down;
-        boolean keyPressed = false;
-        if (currentArrow.equals("up") && up) keyPressed = true;
-        else if (currentArrow.equals("down") && down) keyPressed = true;
-        
-        if (keyPressed && !anyArrowDown)
+        if (input.justPressed(currentArrow))
         {
             boolean inCatch = arrowAppearTick >= catchZoneStart && arrowAppearTick <= catchZoneEnd;
             int earnedPoints;
@@ -206,8 +187,6 @@ public class DirectionDodgeQuest extends BaseQuest
             lastWasHit = inCatch;
             currentArrow = null;
         }
-        
-        anyArrowDown = anyDownNow;
     }
     
     private void arrowMissed()
@@ -231,166 +210,187 @@ public class DirectionDodgeQuest extends BaseQuest
         
         int panelW = 460;
         int panelH = 280;
-        GreenfootImage img = new GreenfootImage(panelW, panelH);
-        
-        int pulse = 75 + (int)(45 * Math.sin(animTick * 0.09));
-        img.setColor(new Color(0, 0, 0, pulse));
-        img.fillRect(0, 0, panelW, panelH);
         
         if (completed)
         {
+            // Result screen is drawn once, so it stays immediate-mode
+            GreenfootImage img = new GreenfootImage(panelW, panelH);
+            int pulse = WAVE_09.at(animTick, 75, 45);
+            img.setColor(UIStyle.color(0, 0, 0, pulse));
+            img.fillRect(0, 0, panelW, panelH);
             drawResultScreen(img, panelW, panelH);
+            overlay.setImage(img);
+            return;
         }
-        else
-        {
-            drawQuestScreen(img, panelW, panelH);
-        }
-        overlay.setImage(img);
+        
+        if (scene == null) buildScene(panelW, panelH);
+        
+        caughtText.set("Prinse: " + arrowsCaught + "/" + targetArrows, CAUGHT_COLOR);
+        scoreText.set("Scor: " + score, SCORE_COLOR);
+        comboText.set("Combo: " + combo + " | Max: " + maxCombo, COMBO_COLOR);
+        difficultyText.set("Dificultate: " + difficulty, DIFFICULTY_COLOR);
+        progressBar.update(arrowsCaught);
+        
+        int zoneFlash = WAVE_20.at(animTick, 0, 50);
+        boolean inCatchZone = arrowAppearTick >= catchZoneStart && arrowAppearTick <= catchZoneEnd;
+        arrowArea.update(currentArrow == null ? -1 : currentArrow.hashCode(),
+                         Math.min(20 + arrowAppearTick * 2, 70) * 4 + (arrowAppearTick < catchZoneStart ? 0 : inCatchZone ? 1 : 2),
+                         inCatchZone ? zoneFlash : 0);
+        hitFlash.update(feedbackTick > 0 && lastWasHit ? feedbackTick : 0);
+        
+        showScene(scene);
     }
     
-    private void drawQuestScreen(GreenfootImage img, int w, int h)
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene(int w, int h)
     {
         int panelW = w;
         int panelH = h;
         int px = 0;
         int py = 0;
         
-        // Glow effect
-        int glowAlpha = 65 + (int)(35 * Math.sin(animTick * 0.07));
-        img.setColor(new Color(100, 150, 255, glowAlpha));
-        img.fillRect(px - 12, py - 12, panelW + 24, panelH + 24);
-        
-        // Panel background
-        img.setColor(new Color(10, 15, 35, 250));
-        img.fillRect(px, py, panelW, panelH);
-        
-        // Border with glow layers
-        img.setColor(new Color(100, 150, 255, 220));
-        img.drawRect(px, py, panelW, panelH);
-        img.setColor(new Color(120, 160, 255, 140));
-        img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
-        img.setColor(new Color(140, 170, 255, 70));
-        img.drawRect(px + 2, py + 2, panelW - 4, panelH - 4);
-        
-        // Title
-        img.setColor(new Color(150, 200, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 30));
-        img.drawString("Evită DIRECȚIA", px + 80, py + 50);
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(180, 220, 255));
-        img.drawString("INSTRUCȚIUNI: apasă săgeata corectă când apare", px + 60, py + 75);
-        
-        // Stats
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
-        img.setColor(new Color(120, 255, 150));
-        img.drawString("Prinse: " + arrowsCaught + "/" + targetArrows, px + 40, py + 105);
-        
-        img.setColor(new Color(255, 200, 100));
-        img.drawString("Scor: " + score, px + 40, py + 135);
-        
-        img.setColor(new Color(150, 200, 255));
-        img.drawString("Combo: " + combo + " | Max: " + maxCombo, px + 40, py + 165);
-        
-        img.setColor(new Color(255, 150, 150));
-        img.drawString("Dificultate: " + difficulty, px + 310, py + 105);
-        
-        // Progress bar
+        // Progress bar and arrow display area geometry
         int barW = 450;
         int barH = 32;
         int barX = px + 45;
         int barY = py + 170;
-        
-        img.setColor(new Color(60, 60, 80, 200));
-        img.fillRect(barX - 4, barY - 4, barW + 8, barH + 8);
-        img.setColor(new Color(100, 150, 255, 180));
-        img.drawRect(barX - 4, barY - 4, barW + 8, barH + 8);
-        img.setColor(new Color(30, 40, 70));
-        img.fillRect(barX, barY, barW, barH);
-        
-        int progress = (int)((arrowsCaught * 1.0 / targetArrows) * barW);
-        for (int i = 0; i < progress; i++)
-        {
-            int shade = 150 + (i * 105) / barW;
-            img.setColor(new Color(100, shade, 255, 230));
-            img.drawLine(barX + i, barY, barX + i, barY + barH);
-        }
-        
-        // Arrow display area
         int arrowAreaX = px + 45;
         int arrowAreaY = py + 210;
         int arrowAreaW = 450;
         int arrowAreaH = 60;
         
-        img.setColor(new Color(40, 50, 100, 100));
-        img.fillRect(arrowAreaX, arrowAreaY, arrowAreaW, arrowAreaH);
-        img.setColor(new Color(100, 150, 255, 150));
-        img.drawRect(arrowAreaX, arrowAreaY, arrowAreaW, arrowAreaH);
-        
-        // Draw current arrow if active
-        if (currentArrow != null)
-        {
-            int arrowX = arrowAreaX + arrowAreaW / 2;
-            int arrowY = arrowAreaY + arrowAreaH / 2;
+        scene = new QuestOverlay(panelW, panelH, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 75));
+            img.fillRect(0, 0, panelW, panelH);
             
-            // Arrow growth/size based on time
-            int arrowSize = 20 + (arrowAppearTick * 2);
-            arrowSize = Math.min(arrowSize, 70);
+            // Glow effect
+            img.setColor(UIStyle.color(100, 150, 255, 65));
+            img.fillRect(px - 12, py - 12, panelW + 24, panelH + 24);
             
-            // In catch zone?
-            boolean inCatchZone = arrowAppearTick >= catchZoneStart && arrowAppearTick <= catchZoneEnd;
+            // Panel background
+            img.setColor(UIStyle.color(10, 15, 35, 250));
+            img.fillRect(px, py, panelW, panelH);
             
-            // Color based on zone
-            if (arrowAppearTick < catchZoneStart)
-            {
-                img.setColor(new Color(255, 255, 100, 200));
-            }
-            else if (inCatchZone)
-            {
-                int zoneFlash = 50 + (int)(50 * Math.sin(animTick * 0.2));
-                int zoneAlpha = Math.min(255, 200 + zoneFlash);
-                img.setColor(new Color(100, 255, 150, zoneAlpha));
-            }
-            else
-            {
-                img.setColor(new Color(255, 150, 100, 200));
-            }
+            // Border with glow layers
+            img.setColor(UIStyle.color(100, 150, 255, 220));
+            img.drawRect(px, py, panelW, panelH);
+            img.setColor(UIStyle.color(120, 160, 255, 140));
+            img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
+            img.setColor(UIStyle.color(140, 170, 255, 70));
+            img.drawRect(px + 2, py + 2, panelW - 4, panelH - 4);
+            
+            // Title
+            img.setColor(UIStyle.color(150, 200, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 30));
+            img.drawString("Evită DIRECȚIA", px + 80, py + 50);
+            img.setFont(UIStyle.font("Arial", false, false, 14));
+            img.setColor(UIStyle.color(180, 220, 255));
+            img.drawString("INSTRUCȚIUNI: apasă săgeata corectă când apare", px + 60, py + 75);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, arrowSize));
-            String arrowChar = getArrowChar(currentArrow);
-            drawCenteredString(img, arrowChar, arrowX, arrowY, arrowSize);
+            // Progress bar frame
+            img.setColor(UIStyle.color(60, 60, 80, 200));
+            img.fillRect(barX - 4, barY - 4, barW + 8, barH + 8);
+            img.setColor(UIStyle.color(100, 150, 255, 180));
+            img.drawRect(barX - 4, barY - 4, barW + 8, barH + 8);
+            img.setColor(UIStyle.color(30, 40, 70));
+            img.fillRect(barX, barY, barW, barH);
             
-            // Draw catch zone indicator
-            if (arrowAppearTick < catchZoneStart)
+            // Arrow display area
+            img.setColor(UIStyle.color(40, 50, 100, 100));
+            img.fillRect(arrowAreaX, arrowAreaY, arrowAreaW, arrowAreaH);
+            img.setColor(UIStyle.color(100, 150, 255, 150));
+            img.drawRect(arrowAreaX, arrowAreaY, arrowAreaW, arrowAreaH);
+        });
+        
+        // Stats
+        greenfoot.Font statsFont = UIStyle.font("Arial", true, false, 20);
+        caughtText = scene.add(new QuestOverlay.Text(px + 40, py + 105, 260, statsFont));
+        scoreText = scene.add(new QuestOverlay.Text(px + 40, py + 135, 260, statsFont));
+        comboText = scene.add(new QuestOverlay.Text(px + 40, py + 165, 260, statsFont));
+        difficultyText = scene.add(new QuestOverlay.Text(px + 310, py + 105, 150, statsFont));
+        
+        // Progress bar fill
+        progressBar = scene.add(barX, barY, barW, barH + 1, img -> {
+            int progress = (int)((arrowsCaught * 1.0 / targetArrows) * barW);
+            for (int i = 0; i < progress; i++)
             {
-                img.setColor(new Color(100, 255, 150, 100));
-                img.drawString("Pregătește-te...", arrowAreaX + 130, arrowAreaY + 55);
+                int shade = 150 + (i * 105) / barW;
+                img.setColor(UIStyle.color(100, shade, 255, 230));
+                img.drawLine(barX + i, barY, barX + i, barY + barH);
             }
-            else if (inCatchZone)
+        });
+        
+        // Current arrow and its catch zone hint (a fully grown arrow reaches up over the bar)
+        arrowArea = scene.add(arrowAreaX, arrowAreaY - 40, arrowAreaW, arrowAreaH + 48, img -> {
+            if (currentArrow != null)
             {
-                img.setColor(new Color(100, 255, 150, 255));
-                img.setFont(new greenfoot.Font("Arial", true, false, 16));
-                img.drawString("ACUM!", arrowAreaX + 185, arrowAreaY + 55);
+                int arrowX = arrowAreaX + arrowAreaW / 2;
+                int arrowY = arrowAreaY + arrowAreaH / 2;
+                
+                // Arrow growth/size based on time
+                int arrowSize = 20 + (arrowAppearTick * 2);
+                arrowSize = Math.min(arrowSize, 70);
+                
+                // In catch zone?
+                boolean inCatchZone = arrowAppearTick >= catchZoneStart && arrowAppearTick <= catchZoneEnd;
+                
+                // Color based on zone
+                if (arrowAppearTick < catchZoneStart)
+                {
+                    img.setColor(UIStyle.color(255, 255, 100, 200));
+                }
+                else if (inCatchZone)
+                {
+                    int zoneFlash = WAVE_20.at(animTick, 50, 50);
+                    int zoneAlpha = Math.min(255, 200 + zoneFlash);
+                    img.setColor(UIStyle.color(100, 255, 150, zoneAlpha));
+                }
+                else
+                {
+                    img.setColor(UIStyle.color(255, 150, 100, 200));
+                }
+                
+                img.setFont(UIStyle.font("Arial", true, false, arrowSize));
+                String arrowChar = getArrowChar(currentArrow);
+                drawCenteredString(img, arrowChar, arrowX, arrowY, arrowSize);
+                
+                // Draw catch zone indicator
+                if (arrowAppearTick < catchZoneStart)
+                {
+                    img.setColor(UIStyle.color(100, 255, 150, 100));
+                    img.drawString("Pregătește-te...", arrowAreaX + 130, arrowAreaY + 55);
+                }
+                else if (inCatchZone)
+                {
+                    img.setColor(UIStyle.color(100, 255, 150, 255));
+                    img.setFont(UIStyle.font("Arial", true, false, 16));
+                    img.drawString("ACUM!", arrowAreaX + 185, arrowAreaY + 55);
+                }
+                else
+                {
+                    img.setColor(UIStyle.color(255, 100, 100, 200));
+                    img.drawString("Ratat!", arrowAreaX + 175, arrowAreaY + 55);
+                }
             }
             else
             {
-                img.setColor(new Color(255, 100, 100, 200));
-                img.drawString("Ratat!", arrowAreaX + 175, arrowAreaY + 55);
+                img.setColor(UIStyle.color(150, 150, 200, 150));
+                img.setFont(UIStyle.font("Arial", false, false, 16));
+                img.drawString("Aștept săgeata...", arrowAreaX + 140, arrowAreaY + 40);
             }
-        }
-        else
-        {
-            img.setColor(new Color(150, 150, 200, 150));
-            img.setFont(new greenfoot.Font("Arial", false, false, 16));
-            img.drawString("Aștept săgeata...", arrowAreaX + 140, arrowAreaY + 40);
-        }
+        });
         
         // Flash feedback on hit
-        if (feedbackTick > 0 && lastWasHit)
-        {
-            int flashAlpha = (feedbackTick * 200) / 12;
-            img.setColor(new Color(100, 255, 150, flashAlpha / 2));
-            img.fillRect(px + 10, py + 10, panelW - 20, panelH - 20);
-        }
+        hitFlash = scene.add(px + 10, py + 10, panelW - 20, panelH - 20, img -> {
+            if (feedbackTick > 0 && lastWasHit)
+            {
+                int flashAlpha = (feedbackTick * 200) / 12;
+                img.setColor(UIStyle.color(100, 255, 150, flashAlpha / 2));
+                img.fillRect(px + 10, py + 10, panelW - 20, panelH - 20);
+            }
+        });
     }
     
     private void drawResultScreen(GreenfootImage img, int w, int h)
@@ -404,28 +404,28 @@ public class DirectionDodgeQuest extends BaseQuest
         int glowColor = success ? 100 : 200;
         int glowColorG = success ? 255 : 120;
         int glowColorB = success ? 100 : 100;
-        img.setColor(new Color(glowColor, glowColorG, glowColorB, 75));
+        img.setColor(UIStyle.color(glowColor, glowColorG, glowColorB, 75));
         img.fillRect(px - 10, py - 10, panelW + 20, panelH + 20);
         
-        img.setColor(new Color(15, 20, 40, 250));
+        img.setColor(UIStyle.color(15, 20, 40, 250));
         img.fillRect(px, py, panelW, panelH);
         
-        img.setColor(new Color(glowColor, glowColorG, glowColorB, 210));
+        img.setColor(UIStyle.color(glowColor, glowColorG, glowColorB, 210));
         img.drawRect(px, py, panelW, panelH);
         
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 36));
+        img.setColor(UIStyle.color(255, 255, 255));
+        img.setFont(UIStyle.font("Arial", true, false, 36));
         String resultText = success ? "SUCCESS!" : "COMPLETE!";
         img.drawString(resultText, px + 90, py + 60);
         
-        img.setColor(new Color(150, 200, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 24));
+        img.setColor(UIStyle.color(150, 200, 255));
+        img.setFont(UIStyle.font("Arial", true, false, 24));
         img.drawString("Scor final: " + score, px + 70, py + 120);
         img.drawString("Săgeți prinse: " + arrowsCaught, px + 70, py + 155);
         img.drawString("Combo maxim: " + maxCombo, px + 70, py + 190);
         
-        img.setColor(new Color(255, 200, 100));
-        img.setFont(new greenfoot.Font("Arial", false, false, 16));
+        img.setColor(UIStyle.color(255, 200, 100));
+        img.setFont(UIStyle.font("Arial", false, false, 16));
         img.drawString("Dificultate atinsă: " + difficulty, px + 95, py + 255);
     }
     
@@ -441,7 +441,7 @@ public class DirectionDodgeQuest extends BaseQuest
         }
     }
     
-    private void drawCenteredString(GreenfootImage img, String str, int x, int y, int size)
+    private void drawCenteredString(QuestOverlay.Canvas img, String str, int x, int y, int size)
     {
         int strWidth = size * str.length() / 2;
         img.drawString(str, x - strWidth / 2, y + size / 4);
@@ -450,7 +450,7 @@ public class DirectionDodgeQuest extends BaseQuest
     private void finishQuest(boolean success)
     {
         this.success = success;
-        completed = true;
+        markCompleted();
         endQuest();
         resultScreenTick = 0;
         resultDisplayTicks = 120;
@@ -468,65 +468,57 @@ public class DirectionDodgeQuest extends BaseQuest
         int glowColor = success ? 100 : 200;
         int glowColorG = success ? 255 : 120;
         int glowColorB = success ? 100 : 100;
-        img.setColor(new Color(glowColor, glowColorG, glowColorB, 75));
+        img.setColor(UIStyle.color(glowColor, glowColorG, glowColorB, 75));
         img.fillRect(-10, -10, panelW + 20, panelH + 20);
         
-        img.setColor(new Color(15, 20, 40, 250));
+        img.setColor(UIStyle.color(15, 20, 40, 250));
         img.fillRect(0, 0, panelW, panelH);
         
-        img.setColor(new Color(glowColor, glowColorG, glowColorB, 210));
+        img.setColor(UIStyle.color(glowColor, glowColorG, glowColorB, 210));
         img.drawRect(0, 0, panelW, panelH);
         
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 32));
+        img.setColor(UIStyle.color(255, 255, 255));
+        img.setFont(UIStyle.font("Arial", true, false, 32));
         String resultText = success ? "SUCCESS!" : "COMPLETE!";
         img.drawString(resultText, panelW / 2 - 70, panelH / 2 - 30);
         
-        img.setColor(new Color(150, 200, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setColor(UIStyle.color(150, 200, 255));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.drawString("Scor final: " + score, panelW / 2 - 90, panelH / 2 + 20);
         img.drawString("Săgeți prinse: " + arrowsCaught, panelW / 2 - 120, panelH / 2 + 50);
         img.drawString("Combo maxim: " + maxCombo, panelW / 2 - 95, panelH / 2 + 80);
         
-        img.setColor(new Color(255, 200, 100));
-        img.setFont(new greenfoot.Font("Arial", false, false, 13));
+        img.setColor(UIStyle.color(255, 200, 100));
+        img.setFont(UIStyle.font("Arial", false, false, 13));
         img.drawString("Dificultate atinsă: " + difficulty, panelW / 2 - 105, panelH / 2 + 115);
         
         // Set transparent actor image
-        GreenfootImage transparent = new GreenfootImage(48, 48);
-        transparent.setColor(new Color(0, 0, 0, 0));
-        transparent.fillRect(0, 0, 48, 48);
-        setImage(transparent);
+        setImage(getHiddenMarkerImage());
         
         overlay.setImage(img);
     }
 
-    private void showTutorial()
+    protected GreenfootImage createTutorialImage()
     {
-        World world = getWorld();
-        if (world == null) return;
-        ensureOverlay();
-        if (overlay == null) return;
-
         int w = 460;
         int h = 190;
         GreenfootImage img = new GreenfootImage(w, h);
-        img.setColor(new Color(0, 0, 0, 200));
+        img.setColor(UIStyle.color(0, 0, 0, 200));
         img.fillRect(0, 0, w, h);
-        img.setColor(new Color(120, 170, 255, 200));
+        img.setColor(UIStyle.color(120, 170, 255, 200));
         img.drawRect(0, 0, w - 1, h - 1);
 
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.setColor(Color.WHITE);
         img.drawString("TUTORIAL: DIRECȚII", 130, 30);
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(220, 220, 220));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(220, 220, 220));
         img.drawString("Apasă săgeata afișată când intră în zona verde.", 35, 70);
         img.drawString("Scop: prinde " + targetArrows + " săgeți.", 140, 95);
-        img.setColor(new Color(200, 255, 200));
+        img.setColor(UIStyle.color(200, 255, 200));
         img.drawString("Apasă SPATIU pentru a începe", 140, 145);
 
-        overlay.setImage(img);
+        return img;
     }
     
     public java.awt.Rectangle[] getCollisionRects()
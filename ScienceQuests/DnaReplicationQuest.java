@@ -15,40 +15,24 @@ public class DnaReplicationQuest extends BaseQuest
     private int currentBaseIndex = 0;
     private int correctFeedbackTick = 0;
     private int wrongFeedbackTick = 0;
-    private boolean anyArrowDown = false;
+    
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Widget strand;
+    private QuestOverlay.Widget progressBar;
+    private QuestOverlay.Text instructionText;
+    private QuestOverlay.Text statsText;
+    private QuestOverlay.Text timeText;
+    
+    private static final Color CORRECT_COLOR = UIStyle.color(100, 255, 100);
+    private static final Color WRONG_COLOR = UIStyle.color(255, 100, 100);
+    private static final Color PROMPT_COLOR = UIStyle.color(255, 200, 100);
+    private static final Color TIME_COLOR = UIStyle.color(255, 150, 220);
     
     public DnaReplicationQuest(int mapX, int mapY)
     {
         super(mapX, mapY);
-        createImage();
-    }
-    
-    private void createImage()
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        marker.setColor(new Color(255, 255, 255));
-        marker.setFont(new greenfoot.Font("Arial", true, false, 10));
-        marker.drawString("SPATIU", 4, 46);
-        setImage(marker);
+        setImage(getMarkerImage(true));
     }
     
     public void act()
@@ -68,12 +52,12 @@ public class DnaReplicationQuest extends BaseQuest
         Actor player = getPlayer();
         if (player != null && !questActive)
         {
-            boolean startPressed = Greenfoot.isKeyDown("space");
+            boolean startPressed = input.justPressed(InputState.SPACE);
             if (canStartQuest(player, 100))
             {
                 if (!tutorialActive)
                 {
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = true;
                         showTutorial();
@@ -83,7 +67,7 @@ public class DnaReplicationQuest extends BaseQuest
                 else
                 {
                     showTutorial();
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = false;
                         beginQuest();
@@ -100,7 +84,6 @@ public class DnaReplicationQuest extends BaseQuest
                 tutorialActive = false;
                 clearOverlay();
             }
-            startKeyDown = startPressed;
         }
         
         if (interactionCooldown > 0) interactionCooldown--;
@@ -130,15 +113,9 @@ public class DnaReplicationQuest extends BaseQuest
         String complement = getComplement(currentBase);
         
         // Map: A=up, T=down, G=left, C=right
-        boolean up = Greenfoot.isKeyDown("up");
-        boolean down = Greenfoot.isKeyDown("down");
-        boolean left = Greenfoot.isKeyDown("left");
-        boolean right = Greenfoot.isKeyDown("right");
-        boolean anyDownNow = up || down || left || right;
-        boolean expectedPressed = Greenfoot.isKeyDown(getKeyForBase(complement));
-        
-        if (anyDownNow && !anyArrowDown)
+        if (input.anyArrowJustPressed())
         {
+            boolean expectedPressed = input.justPressed(getKeyForBase(complement));
             if (expectedPressed)
             {
                 correctFeedbackTick = 15;
@@ -160,8 +137,6 @@ public class DnaReplicationQuest extends BaseQuest
                 wrongFeedbackTick = 15;
             }
         }
-        
-        anyArrowDown = anyDownNow;
     }
     
     private String getComplement(String base)
@@ -204,124 +179,132 @@ public class DnaReplicationQuest extends BaseQuest
     {
         World world = getWorld();
         if (world == null) return;
+        if (scene == null) buildScene();
         
-        ensureOverlay();
-        if (overlay == null) return;
+        strand.update(currentBaseIndex);
+        progressBar.update(currentBaseIndex);
+        
+        if (currentBaseIndex < bases.length)
+        {
+            String complement = getComplement(bases[currentBaseIndex]);
+            Color instrColor = correctFeedbackTick > 0 ? CORRECT_COLOR :
+                              wrongFeedbackTick > 0 ? WRONG_COLOR :
+                              PROMPT_COLOR;
+            instructionText.set("Apasă: " + complement + " " + getArrowForBase(complement), instrColor);
+        }
+        else
+        {
+            instructionText.set("", PROMPT_COLOR);
+        }
+        
+        statsText.set("Catene: " + strandsCompleted + "/" + targetStrands + " | Baze: " + currentBaseIndex + "/" + bases.length, Color.WHITE);
+        timeText.set("Timp: " + (timeRemaining / 60 + 1) + "s", TIME_COLOR);
         
+        showScene(scene);
+    }
+    
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene()
+    {
         int panelW = 460;
         int panelH = 320;
-        GreenfootImage img = new GreenfootImage(panelW, panelH);
-
-        int pulse = 90 + (int)(70 * Math.sin(animTick * 0.12));
-        img.setColor(new Color(0, 0, 0, pulse));
-        img.fillRect(0, 0, panelW, panelH);
+        
+        scene = new QuestOverlay(panelW, panelH, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 90));
+            img.fillRect(0, 0, panelW, panelH);
 
-        // Pink/purple biology theme glow
-        img.setColor(new Color(255, 100, 200, 60));
-        img.fillRect(-8, -8, panelW + 16, panelH + 16);
+            // Pink/purple biology theme glow
+            img.setColor(UIStyle.color(255, 100, 200, 60));
+            img.fillRect(-8, -8, panelW + 16, panelH + 16);
 
-        img.setColor(new Color(30, 10, 30, 245));
-        img.fillRect(0, 0, panelW, panelH);
+            img.setColor(UIStyle.color(30, 10, 30, 245));
+            img.fillRect(0, 0, panelW, panelH);
 
-        img.setColor(new Color(255, 100, 200, 220));
-        img.drawRect(0, 0, panelW, panelH);
-        img.setColor(new Color(255, 120, 220, 120));
-        img.drawRect(1, 1, panelW - 2, panelH - 2);
+            img.setColor(UIStyle.color(255, 100, 200, 220));
+            img.drawRect(0, 0, panelW, panelH);
+            img.setColor(UIStyle.color(255, 120, 220, 120));
+            img.drawRect(1, 1, panelW - 2, panelH - 2);
 
-        // Title
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 26));
-        img.drawString("REPLICAREA ADN", 110, 40);
-        
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(255, 150, 220));
-        img.drawString("INSTRUCȚIUNI: apasă baza complementară", 70, 65);
-        
-        img.setFont(new greenfoot.Font("Arial", false, false, 12));
-        img.drawString("A=↑  T=↓  G=←  C=→", 155, 85);
+            // Title
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 26));
+            img.drawString("REPLICAREA ADN", 110, 40);
+            
+            img.setFont(UIStyle.font("Arial", false, false, 14));
+            img.setColor(UIStyle.color(255, 150, 220));
+            img.drawString("INSTRUCȚIUNI: apasă baza complementară", 70, 65);
+            
+            img.setFont(UIStyle.font("Arial", false, false, 12));
+            img.drawString("A=↑  T=↓  G=←  C=→", 155, 85);
+        });
 
         // DNA strand visualization
         int strandY = 120;
         int baseSpacing = 45;
         int startX = 50;
-        
-        for (int i = 0; i < bases.length; i++)
-        {
-            int x = startX + i * baseSpacing;
-            String base = bases[i];
-            String complement = getComplement(base);
-            
-            boolean isCurrentBase = (i == currentBaseIndex);
-            Color baseColor = i < currentBaseIndex ? new Color(100, 255, 100) : 
-                             isCurrentBase ? new Color(255, 200, 100) : new Color(150, 150, 150);
-            
-            // Original base (top strand)
-            img.setColor(baseColor);
-            img.fillOval(x - 12, strandY - 12, 24, 24);
-            img.setColor(Color.WHITE);
-            img.setFont(new greenfoot.Font("Arial", true, false, 14));
-            img.drawString(base, x - 6, strandY + 5);
-            
-            // Connector line
-            if (i < currentBaseIndex)
-            {
-                img.setColor(new Color(100, 255, 100));
-                img.drawLine(x, strandY + 12, x, strandY + 38);
-            }
-            else
+        strand = scene.add(startX - 13, strandY - 13, (bases.length - 1) * baseSpacing + 27, 77, img -> {
+            for (int i = 0; i < bases.length; i++)
             {
-                img.setColor(new Color(100, 100, 100, 100));
-                img.drawLine(x, strandY + 12, x, strandY + 38);
+                int x = startX + i * baseSpacing;
+                String base = bases[i];
+                String complement = getComplement(base);
+                
+                boolean isCurrentBase = (i == currentBaseIndex);
+                Color baseColor = i < currentBaseIndex ? UIStyle.color(100, 255, 100) : 
+                                 isCurrentBase ? UIStyle.color(255, 200, 100) : UIStyle.color(150, 150, 150);
+                
+                // Original base (top strand)
+                img.setColor(baseColor);
+                img.fillOval(x - 12, strandY - 12, 24, 24);
+                img.setColor(Color.WHITE);
+                img.setFont(UIStyle.font("Arial", true, false, 14));
+                img.drawString(base, x - 6, strandY + 5);
+                
+                // Connector line
+                if (i < currentBaseIndex)
+                {
+                    img.setColor(UIStyle.color(100, 255, 100));
+                    img.drawLine(x, strandY + 12, x, strandY + 38);
+                }
+                else
+                {
+                    img.setColor(UIStyle.color(100, 100, 100, 100));
+                    img.drawLine(x, strandY + 12, x, strandY + 38);
+                }
+                
+                // Complement base (bottom strand)
+                Color compColor = i < currentBaseIndex ? UIStyle.color(100, 255, 100) : UIStyle.color(80, 80, 80);
+                img.setColor(compColor);
+                img.fillOval(x - 12, strandY + 38, 24, 24);
+                img.setColor(Color.WHITE);
+                img.drawString(i < currentBaseIndex ? complement : "?", x - 6, strandY + 55);
             }
-            
-            // Complement base (bottom strand)
-            Color compColor = i < currentBaseIndex ? new Color(100, 255, 100) : new Color(80, 80, 80);
-            img.setColor(compColor);
-            img.fillOval(x - 12, strandY + 38, 24, 24);
-            img.setColor(Color.WHITE);
-            img.drawString(i < currentBaseIndex ? complement : "?", x - 6, strandY + 55);
-        }
+        });
 
         // Current instruction
-        if (currentBaseIndex < bases.length)
-        {
-            String currentBase = bases[currentBaseIndex];
-            String complement = getComplement(currentBase);
-            String arrow = getArrowForBase(complement);
-            
-            Color instrColor = correctFeedbackTick > 0 ? new Color(100, 255, 100) :
-                              wrongFeedbackTick > 0 ? new Color(255, 100, 100) :
-                              new Color(255, 200, 100);
-            
-            img.setFont(new greenfoot.Font("Arial", true, false, 24));
-            img.setColor(instrColor);
-            img.drawString("Apasă: " + complement + " " + arrow, 145, 220);
-        }
+        instructionText = scene.add(new QuestOverlay.Text(145, 220, 220, UIStyle.font("Arial", true, false, 24)));
 
         // Progress
-        float progress = currentBaseIndex / (float)bases.length;
-        int barW = (int)((panelW - 80) * progress);
-        img.setColor(new Color(100, 255, 100, 100));
-        img.fillRect(40, 250, barW, 15);
-        img.setColor(new Color(255, 100, 200));
-        img.drawRect(40, 250, panelW - 80, 15);
+        progressBar = scene.add(40, 250, panelW - 79, 16, img -> {
+            float progress = currentBaseIndex / (float)bases.length;
+            int barW = (int)((panelW - 80) * progress);
+            img.setColor(UIStyle.color(100, 255, 100, 100));
+            img.fillRect(40, 250, barW, 15);
+            img.setColor(UIStyle.color(255, 100, 200));
+            img.drawRect(40, 250, panelW - 80, 15);
+        });
 
         // Stats
-        img.setFont(new greenfoot.Font("Arial", true, false, 18));
-        img.setColor(new Color(255, 255, 255));
-        img.drawString("Catene: " + strandsCompleted + "/" + targetStrands + " | Baze: " + currentBaseIndex + "/" + bases.length, 95, 285);
-        
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(255, 150, 220));
-        img.drawString("Timp: " + (timeRemaining / 60 + 1) + "s", 190, 305);
-
-        overlay.setImage(img);
+        statsText = scene.add(new QuestOverlay.Text(95, 285, 320, UIStyle.font("Arial", true, false, 18)));
+        timeText = scene.add(new QuestOverlay.Text(190, 305, 120, UIStyle.font("Arial", false, false, 14)));
     }
     
     private void finishQuest(boolean success)
     {
         endQuest();
-        completed = true;
+        markCompleted();
         resultDisplayTicks = 120;
 
         World world = getWorld();
@@ -335,31 +318,31 @@ public class DnaReplicationQuest extends BaseQuest
         
         if (success)
         {
-            img.setColor(new Color(0, 200, 50, 190));
+            img.setColor(UIStyle.color(0, 200, 50, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(100, 255, 150, 100));
+            img.setColor(UIStyle.color(100, 255, 150, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
 
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 40));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 40));
             img.drawString("SUCCES!", panelW / 2 - 100, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", false, false, 16));
+            img.setFont(UIStyle.font("Arial", false, false, 16));
             img.drawString("ADN replicat perfect!", panelW / 2 - 105, panelH / 2 + 30);
             img.drawString("Împerecherea bazelor e corectă.", panelW / 2 - 150, panelH / 2 + 55);
         }
         else
         {
-            img.setColor(new Color(200, 0, 50, 190));
+            img.setColor(UIStyle.color(200, 0, 50, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(255, 100, 100, 100));
+            img.setColor(UIStyle.color(255, 100, 100, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
 
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 40));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 40));
             img.drawString("EȘUAT!", panelW / 2 - 90, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", false, false, 16));
+            img.setFont(UIStyle.font("Arial", false, false, 16));
             img.drawString("Eroare de replicare. Recitește", panelW / 2 - 150, panelH / 2 + 30);
             img.drawString("regulile de complementaritate. " + strandsCompleted + "/" + targetStrands, panelW / 2 - 170, panelH / 2 + 55);
         }
@@ -367,32 +350,27 @@ public class DnaReplicationQuest extends BaseQuest
         overlay.setImage(img);
     }
 
-    private void showTutorial()
+    protected GreenfootImage createTutorialImage()
     {
-        World world = getWorld();
-        if (world == null) return;
-        ensureOverlay();
-        if (overlay == null) return;
-
         int w = 460;
         int h = 200;
         GreenfootImage img = new GreenfootImage(w, h);
-        img.setColor(new Color(0, 0, 0, 200));
+        img.setColor(UIStyle.color(0, 0, 0, 200));
         img.fillRect(0, 0, w, h);
-        img.setColor(new Color(255, 140, 220, 200));
+        img.setColor(UIStyle.color(255, 140, 220, 200));
         img.drawRect(0, 0, w - 1, h - 1);
 
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.setColor(Color.WHITE);
         img.drawString("TUTORIAL: ADN", 170, 30);
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(220, 220, 220));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(220, 220, 220));
         img.drawString("Apasă baza complementară (A↔T, G↔C).", 90, 70);
         img.drawString("Scop: " + targetStrands + " catene complete.", 135, 95);
-        img.setColor(new Color(200, 255, 200));
+        img.setColor(UIStyle.color(200, 255, 200));
         img.drawString("Apasă SPATIU pentru a începe", 140, 150);
 
-        overlay.setImage(img);
+        return img;
     }
     
     public java.util.List<TiledMap.CollisionRect> getCollisionRects()
@@ -18,7 +18,18 @@ public class DoubleTapSprintQuest extends BaseQuest
     private boolean lastWasSuccess = false;
     private int particleEmitTick = 0;
     private java.util.List<Particle> particles;
-    private boolean spaceDown = false;
+    
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Text doublesText;
+    private QuestOverlay.Text scoreText;
+    private QuestOverlay.Text tapsText;
+    private QuestOverlay.Widget progressBar;
+    private QuestOverlay.Widget effects;
+    
+    private static final Color DOUBLES_COLOR = UIStyle.color(120, 255, 120);
+    private static final Color SCORE_COLOR = UIStyle.color(255, 200, 120);
+    private static final Color TAPS_COLOR = UIStyle.color(150, 180, 255);
     
     private class Particle
     {
@@ -50,68 +61,14 @@ public class DoubleTapSprintQuest extends BaseQuest
         boolean alive() { return life > 0; }
     }
     
+    // Tabled sin(tick * rate) curves for pulses and glows
+    private static final UIStyle.Curve WAVE_10 = UIStyle.wave(0.1);
+    
     public DoubleTapSprintQuest(int mapX, int mapY)
     {
         super(mapX, mapY);
         particles = new java.util.ArrayList<Particle>();
-        createImage();
-    }
-    
-    private void createImage()
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        // Don't draw "SPATIU" text here - will be added dynamically when player is near
-        setImage(marker);
-    }
-    
-    private void updateMarkerImage(boolean showLabel)
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        if (showLabel)
-        {
-            marker.setColor(new Color(255, 255, 255));
-            marker.setFont(new greenfoot.Font("Arial", true, false, 10));
-            marker.drawString("SPATIU", 4, 46);
-        }
-        setImage(marker);
+        setImage(getMarkerImage(false));
     }
     
     public void act()
@@ -131,15 +88,15 @@ public class DoubleTapSprintQuest extends BaseQuest
         Actor player = getPlayer();
         if (player != null && !questActive)
         {
-            boolean startPressed = Greenfoot.isKeyDown("space");
+            boolean startPressed = input.justPressed(InputState.SPACE);
             if (canStartQuest(player, 100))
             {
                 // Show "SPATIU" label when player is near
-                updateMarkerImage(true);
+                setImage(getMarkerImage(true));
                 
                 if (!tutorialActive)
                 {
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = true;
                         showTutorial();
@@ -149,7 +106,7 @@ public class DoubleTapSprintQuest extends BaseQuest
                 else
                 {
                     showTutorial();
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = false;
                         questActive = true;
@@ -160,7 +117,6 @@ public class DoubleTapSprintQuest extends BaseQuest
                         lastSpacePress = -100;
                         animTick = 0;
                         particles.clear();
-                        spaceDown = false;
                         interactionCooldown = 10;
                     }
                 }
@@ -168,14 +124,13 @@ public class DoubleTapSprintQuest extends BaseQuest
             else
             {
                 // Hide "SPATIU" label when player is far
-                updateMarkerImage(false);
+                setImage(getMarkerImage(false));
                 if (tutorialActive)
                 {
                     tutorialActive = false;
                     clearOverlay();
                 }
             }
-            startKeyDown = startPressed;
         }
         
         if (interactionCooldown > 0) interactionCooldown--;
@@ -207,8 +162,8 @@ public class DoubleTapSprintQuest extends BaseQuest
     
     private void checkInput()
     {
-        boolean spacePressed = Greenfoot.isKeyDown("space");
-        if (spacePressed && !spaceDown)
+        boolean spacePressed = input.justPressed(InputState.SPACE);
+        if (spacePressed)
         {
             int timeSinceLastPress = animTick - lastSpacePress;
             
@@ -227,7 +182,6 @@ public class DoubleTapSprintQuest extends BaseQuest
                 emitParticles();
             }
         }
-        spaceDown = spacePressed;
     }
     
     private void emitParticles()
@@ -244,7 +198,7 @@ public class DoubleTapSprintQuest extends BaseQuest
             double angle = (i / 12.0) * Math.PI * 2;
             int vx = (int)(Math.cos(angle) * 8);
             int vy = (int)(Math.sin(angle) * 8);
-            Color particleColor = new Color(255, 200, 100, 200);
+            Color particleColor = UIStyle.color(255, 200, 100, 200);
             particles.add(new Particle(centerX, centerY, vx, vy, particleColor));
         }
     }
@@ -271,111 +225,127 @@ public class DoubleTapSprintQuest extends BaseQuest
         
         int panelW = 460;
         int panelH = 280;
-        GreenfootImage img = new GreenfootImage(panelW, panelH);
-        
-        int pulse = 70 + (int)(50 * Math.sin(animTick * 0.1));
-        img.setColor(new Color(0, 0, 0, pulse));
-        img.fillRect(0, 0, panelW, panelH);
         
         if (completed)
         {
+            // Result screen is drawn once, so it stays immediate-mode
+            GreenfootImage img = new GreenfootImage(panelW, panelH);
+            int pulse = WAVE_10.at(animTick, 70, 50);
+            img.setColor(UIStyle.color(0, 0, 0, pulse));
+            img.fillRect(0, 0, panelW, panelH);
             drawResultScreen(img, panelW, panelH);
-        }
-        else
-        {
-            drawQuestScreen(img, panelW, panelH);
+            if (overlay != null)
+            {
+                overlay.setImage(img);
+            }
+            return;
         }
         
-        if (overlay != null)
-        {
-            overlay.setImage(img);
-        }
+        if (scene == null) buildScene(panelW, panelH);
+        
+        doublesText.set("Duble reușite: " + successfulDoubleTaps + "/" + targetDoubleTaps, DOUBLES_COLOR);
+        scoreText.set("Scor: " + score, SCORE_COLOR);
+        tapsText.set("Apăsări totale: " + totalTaps, TAPS_COLOR);
+        progressBar.update(successfulDoubleTaps);
+        
+        // Flash and particles animate every tick while alive, then settle once
+        boolean effectsActive = lastTapFeedbackTick > 0 || !particles.isEmpty();
+        effects.update(effectsActive ? animTick : -1);
+        
+        showScene(scene);
     }
     
-    private void drawQuestScreen(GreenfootImage img, int w, int h)
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene(int w, int h)
     {
         int panelW = w;
         int panelH = h;
         int px = 0;
         int py = 0;
         
-        // Glow effect
-        int glowAlpha = 60 + (int)(40 * Math.sin(animTick * 0.08));
-        img.setColor(new Color(255, 130, 100, glowAlpha));
-        img.fillRect(px - 12, py - 12, panelW + 24, panelH + 24);
-        
-        // Panel background
-        img.setColor(new Color(12, 12, 28, 250));
-        img.fillRect(px, py, panelW, panelH);
-        
-        // Border with multiple layers for glow
-        img.setColor(new Color(255, 140, 100, 220));
-        img.drawRect(px, py, panelW, panelH);
-        img.setColor(new Color(255, 150, 120, 140));
-        img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
-        img.setColor(new Color(255, 160, 130, 70));
-        img.drawRect(px + 2, py + 2, panelW - 4, panelH - 4);
-        
-        // Title
-        img.setColor(new Color(255, 180, 80));
-        img.setFont(new greenfoot.Font("Arial", true, false, 28));
-        drawCenteredString(img, "SPRINT CU DUBLĂ APĂSARE", px + panelW / 2, py + 45, 28);
-        
-        // Status display
-        img.setFont(new greenfoot.Font("Arial", true, false, 22));
-        img.setColor(new Color(120, 255, 120));
-        img.drawString("Duble reușite: " + successfulDoubleTaps + "/" + targetDoubleTaps, px + 40, py + 110);
-        
-        img.setColor(new Color(255, 200, 120));
-        img.drawString("Scor: " + score, px + 40, py + 145);
-        
-        img.setColor(new Color(150, 180, 255));
-        img.drawString("Apăsări totale: " + totalTaps, px + 40, py + 180);
-        
-        // Progress bar with glow
+        // Progress bar geometry
         int barW = 420;
         int barH = 35;
         int barX = px + 50;
         int barY = py + 230;
         
-        img.setColor(new Color(50, 50, 70, 200));
-        img.fillRect(barX - 4, barY - 4, barW + 8, barH + 8);
-        img.setColor(new Color(255, 140, 100, 180));
-        img.drawRect(barX - 4, barY - 4, barW + 8, barH + 8);
-        img.setColor(new Color(40, 40, 60));
-        img.fillRect(barX, barY, barW, barH);
-        
-        int progress = (int)((successfulDoubleTaps * 1.0 / targetDoubleTaps) * barW);
-        for (int i = 0; i < progress; i++)
-        {
-            int shade = 150 + (i * 105) / barW;
-            img.setColor(new Color(255, shade, 100, 230));
-            img.drawLine(barX + i, barY, barX + i, barY + barH);
-        }
+        scene = new QuestOverlay(panelW, panelH, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 70));
+            img.fillRect(0, 0, panelW, panelH);
+            
+            // Glow effect
+            img.setColor(UIStyle.color(255, 130, 100, 60));
+            img.fillRect(px - 12, py - 12, panelW + 24, panelH + 24);
+            
+            // Panel background
+            img.setColor(UIStyle.color(12, 12, 28, 250));
+            img.fillRect(px, py, panelW, panelH);
+            
+            // Border with multiple layers for glow
+            img.setColor(UIStyle.color(255, 140, 100, 220));
+            img.drawRect(px, py, panelW, panelH);
+            img.setColor(UIStyle.color(255, 150, 120, 140));
+            img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
+            img.setColor(UIStyle.color(255, 160, 130, 70));
+            img.drawRect(px + 2, py + 2, panelW - 4, panelH - 4);
+            
+            // Title
+            img.setColor(UIStyle.color(255, 180, 80));
+            img.setFont(UIStyle.font("Arial", true, false, 28));
+            drawCenteredString(img, "SPRINT CU DUBLĂ APĂSARE", px + panelW / 2, py + 45, 28);
+            
+            // Progress bar frame
+            img.setColor(UIStyle.color(50, 50, 70, 200));
+            img.fillRect(barX - 4, barY - 4, barW + 8, barH + 8);
+            img.setColor(UIStyle.color(255, 140, 100, 180));
+            img.drawRect(barX - 4, barY - 4, barW + 8, barH + 8);
+            img.setColor(UIStyle.color(40, 40, 60));
+            img.fillRect(barX, barY, barW, barH);
+            
+            // Double-tap window indicator
+            img.setFont(UIStyle.font("Arial", false, false, 16));
+            img.setColor(UIStyle.color(180, 180, 200, 200));
+            drawCenteredString(img, "INSTRUCȚIUNI: apasă SPATIU de două ori rapid", px + panelW / 2, py + 300, 16);
+        });
         
-        // Tap feedback flash
-        if (lastTapFeedbackTick > 0)
-        {
-            int flashAlpha = (lastTapFeedbackTick * 255) / 15;
-            if (lastWasSuccess)
+        // Status display
+        greenfoot.Font statusFont = UIStyle.font("Arial", true, false, 22);
+        doublesText = scene.add(new QuestOverlay.Text(px + 40, py + 110, 300, statusFont));
+        scoreText = scene.add(new QuestOverlay.Text(px + 40, py + 145, 300, statusFont));
+        tapsText = scene.add(new QuestOverlay.Text(px + 40, py + 180, 300, statusFont));
+        
+        progressBar = scene.add(barX, barY, barW, barH + 1, img -> {
+            int progress = (int)((successfulDoubleTaps * 1.0 / targetDoubleTaps) * barW);
+            for (int i = 0; i < progress; i++)
             {
-                img.setColor(new Color(255, 255, 255, flashAlpha / 3));
-                img.fillRect(px + 10, py + 10, panelW - 20, panelH - 20);
+                int shade = 150 + (i * 105) / barW;
+                img.setColor(UIStyle.color(255, shade, 100, 230));
+                img.drawLine(barX + i, barY, barX + i, barY + barH);
             }
-        }
-        
-        // Double-tap window indicator
-        img.setFont(new greenfoot.Font("Arial", false, false, 16));
-        img.setColor(new Color(180, 180, 200, 200));
-        drawCenteredString(img, "INSTRUCȚIUNI: apasă SPATIU de două ori rapid", px + panelW / 2, py + 300, 16);
+        });
         
-        // Draw particles
-        for (Particle p : particles)
-        {
-            int alpha = (p.life * 200) / p.maxLife;
-            img.setColor(new Color(p.color.getRed(), p.color.getGreen(), p.color.getBlue(), alpha));
-            img.fillOval(p.x - 3, p.y - 3, 6, 6);
-        }
+        effects = scene.add(px, py, panelW, panelH, img -> {
+            // Tap feedback flash
+            if (lastTapFeedbackTick > 0)
+            {
+                int flashAlpha = (lastTapFeedbackTick * 255) / 15;
+                if (lastWasSuccess)
+                {
+                    img.setColor(UIStyle.color(255, 255, 255, flashAlpha / 3));
+                    img.fillRect(px + 10, py + 10, panelW - 20, panelH - 20);
+                }
+            }
+            
+            // Draw particles
+            for (Particle p : particles)
+            {
+                int alpha = (p.life * 200) / p.maxLife;
+                img.setColor(UIStyle.withAlpha(p.color, alpha));
+                img.fillOval(p.x - 3, p.y - 3, 6, 6);
+            }
+        });
     }
     
     private void drawResultScreen(GreenfootImage img, int w, int h)
@@ -388,34 +358,34 @@ public class DoubleTapSprintQuest extends BaseQuest
         // Glow effect
         int glowColor = success ? 120 : 200;
         int glowColorG = success ? 255 : 120;
-        img.setColor(new Color(glowColor, glowColorG, 100, 75));
+        img.setColor(UIStyle.color(glowColor, glowColorG, 100, 75));
         img.fillRect(px - 10, py - 10, panelW + 20, panelH + 20);
         
-        img.setColor(new Color(18, 18, 35, 250));
+        img.setColor(UIStyle.color(18, 18, 35, 250));
         img.fillRect(px, py, panelW, panelH);
         
-        img.setColor(new Color(glowColor, glowColorG, 100, 210));
+        img.setColor(UIStyle.color(glowColor, glowColorG, 100, 210));
         img.drawRect(px, py, panelW, panelH);
         
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 36));
+        img.setColor(UIStyle.color(255, 255, 255));
+        img.setFont(UIStyle.font("Arial", true, false, 36));
         String resultText = success ? "SUCCES!" : "COMPLET!";
         drawCenteredString(img, resultText, px + panelW / 2, py + 60, 36);
         
-        img.setColor(new Color(255, 200, 100));
-        img.setFont(new greenfoot.Font("Arial", true, false, 24));
+        img.setColor(UIStyle.color(255, 200, 100));
+        img.setFont(UIStyle.font("Arial", true, false, 24));
         img.drawString("Duble: " + successfulDoubleTaps, px + 50, py + 120);
         img.drawString("Scor total: " + score, px + 50, py + 160);
         
-        img.setColor(new Color(150, 200, 255));
-        img.setFont(new greenfoot.Font("Arial", false, false, 16));
+        img.setColor(UIStyle.color(150, 200, 255));
+        img.setFont(UIStyle.font("Arial", false, false, 16));
         drawCenteredString(img, "Provocare de sprint completă!", px + panelW / 2, py + 235, 16);
     }
     
     private void finishQuest(boolean success)
     {
         this.success = success;
-        completed = true;
+        markCompleted();
         questActive = false;
         resultScreenTick = 0;
         resultDisplayTicks = 120;
@@ -431,100 +401,94 @@ public class DoubleTapSprintQuest extends BaseQuest
         // Glow effect
         int glowColor = success ? 120 : 200;
         int glowColorG = success ? 255 : 120;
-        img.setColor(new Color(glowColor, glowColorG, 100, 75));
+        img.setColor(UIStyle.color(glowColor, glowColorG, 100, 75));
         img.fillRect(-10, -10, panelW + 20, panelH + 20);
         
-        img.setColor(new Color(18, 18, 35, 250));
+        img.setColor(UIStyle.color(18, 18, 35, 250));
         img.fillRect(0, 0, panelW, panelH);
         
-        img.setColor(new Color(glowColor, glowColorG, 100, 210));
+        img.setColor(UIStyle.color(glowColor, glowColorG, 100, 210));
         img.drawRect(0, 0, panelW, panelH);
         
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 32));
+        img.setColor(UIStyle.color(255, 255, 255));
+        img.setFont(UIStyle.font("Arial", true, false, 32));
         String resultText = success ? "SUCCES!" : "COMPLET!";
         img.drawString(resultText, panelW / 2 - 70, panelH / 2 - 30);
         
-        img.setColor(new Color(255, 200, 100));
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setColor(UIStyle.color(255, 200, 100));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.drawString("Duble: " + successfulDoubleTaps, panelW / 2 - 80, panelH / 2 + 20);
         img.drawString("Scor total: " + score, panelW / 2 - 80, panelH / 2 + 55);
         
-        img.setColor(new Color(150, 200, 255));
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(150, 200, 255));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
         img.drawString("Provocare de sprint completă!", panelW / 2 - 130, panelH / 2 + 95);
         
         // Set transparent actor image
-        GreenfootImage transparent = new GreenfootImage(48, 48);
-        transparent.setColor(new Color(0, 0, 0, 0));
-        transparent.fillRect(0, 0, 48, 48);
-        setImage(transparent);
+        setImage(getHiddenMarkerImage());
         
         overlay.setImage(img);
     }
 
-    private void showTutorial()
+    protected GreenfootImage createTutorialImage()
     {
-        World world = getWorld();
-        if (world == null) return;
-
-        ensureOverlay();
-        
         int panelW = 500;
         int panelH = 300;
         GreenfootImage img = new GreenfootImage(panelW, panelH);
         
         // Pulsing glow effect
-        int pulse = 70 + (int)(50 * Math.sin(animTick * 0.1));
-        img.setColor(new Color(0, 0, 0, pulse));
+        int pulse = WAVE_10.at(animTick, 70, 50);
+        img.setColor(UIStyle.color(0, 0, 0, pulse));
         img.fillRect(0, 0, panelW, panelH);
         
         // Panel background
-        img.setColor(new Color(12, 12, 28, 250));
+        img.setColor(UIStyle.color(12, 12, 28, 250));
         img.fillRect(0, 0, panelW, panelH);
         
         // Border with glow
-        img.setColor(new Color(100, 200, 255, 220));
+        img.setColor(UIStyle.color(100, 200, 255, 220));
         img.drawRect(0, 0, panelW, panelH);
-        img.setColor(new Color(120, 220, 255, 140));
+        img.setColor(UIStyle.color(120, 220, 255, 140));
         img.drawRect(1, 1, panelW - 2, panelH - 2);
-        img.setColor(new Color(140, 240, 255, 70));
+        img.setColor(UIStyle.color(140, 240, 255, 70));
         img.drawRect(2, 2, panelW - 4, panelH - 4);
         
         // Title
-        img.setColor(new Color(100, 200, 255));
+        img.setColor(UIStyle.color(100, 200, 255));
         img.setFont(FontManager.getPixeledLarge());
         drawCenteredString(img, "TUTORIAL", panelW / 2, 45, 28);
         
         // Instructions
         img.setFont(FontManager.getPixeled());
-        img.setColor(new Color(220, 220, 220));
+        img.setColor(UIStyle.color(220, 220, 220));
         
-        img.drawString("Scopul:", 40, 100);
-        img.setFont(new greenfoot.Font("Arial", false, false, 16));
-        img.drawString("Completeaza " + targetDoubleTaps + " duble apasari pe SPATIU", 60, 125);
+        FontManager.drawString(img, "Scopul:", 40, 100);
+        img.setFont(UIStyle.font("Arial", false, false, 16));
+        FontManager.drawString(img, "Completeaza " + targetDoubleTaps + " duble apasari pe SPATIU", 60, 125);
         
         img.setFont(FontManager.getPixeled());
-        img.setColor(new Color(220, 220, 220));
-        img.drawString("Cum se joaca:", 40, 165);
+        img.setColor(UIStyle.color(220, 220, 220));
+        FontManager.drawString(img, "Cum se joaca:", 40, 165);
         
         img.setFont(FontManager.getPixeledSmall());
-        img.setColor(new Color(200, 200, 200));
-        img.drawString("1. Apasa SPATIU de doua ori rapid", 60, 190);
-        img.drawString("2. Daca le apropii suficient, obtii un punct", 60, 210);
-        img.drawString("3. Evita sa apesi prea lent", 60, 230);
+        img.setColor(UIStyle.color(200, 200, 200));
+        FontManager.drawString(img, "1. Apasa SPATIU de doua ori rapid", 60, 190);
+        FontManager.drawString(img, "2. Daca le apropii suficient, obtii un punct", 60, 210);
+        FontManager.drawString(img, "3. Evita sa apesi prea lent", 60, 230);
         
         img.setFont(FontManager.getPixeledSmall());
-        img.setColor(new Color(100, 200, 255));
+        img.setColor(UIStyle.color(100, 200, 255));
         drawCenteredString(img, "Apasa SPATIU din nou pentru a incepe", panelW / 2, 280, 16);
         
-        if (overlay != null)
-        {
-            overlay.setImage(img);
-        }
+        return img;
     }
 
     private void drawCenteredString(GreenfootImage img, String str, int centerX, int y, int size)
+    {
+        FontManager.drawCenteredString(img, str, centerX, y + size / 4);
+    }
+
+    private void drawCenteredString(QuestOverlay.Canvas img, String str, int centerX, int y, int size)
     {
         int strWidth = size * str.length() / 2;
         img.drawString(str, centerX - strWidth / 2, y + size / 4);
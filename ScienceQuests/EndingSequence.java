@@ -10,6 +10,9 @@ public class EndingSequence extends OverlayLayer
     private boolean fadeComplete = false;
     private int displayTick = 0;
     
+    // Tabled sin(tick * rate) curves for pulses and glows
+    private static final UIStyle.Curve WAVE_05 = UIStyle.wave(0.05);
+    
     public EndingSequence()
     {
         super();
@@ -24,7 +27,7 @@ public class EndingSequence extends OverlayLayer
         
         // Draw fade-to-black with pulsing effect
         GreenfootImage img = new GreenfootImage(getWorld().getWidth(), getWorld().getHeight());
-        img.setColor(new Color(0, 0, 0, 0));
+        img.setColor(UIStyle.color(0, 0, 0, 0));
         img.fillRect(0, 0, img.getWidth(), img.getHeight());
         
         // Calculate fade alpha
@@ -47,48 +50,38 @@ public class EndingSequence extends OverlayLayer
         }
         
         // Draw semi-transparent black background
-        img.setColor(new Color(0, 0, 0, blackAlpha));
+        img.setColor(UIStyle.color(0, 0, 0, blackAlpha));
         img.fillRect(0, 0, img.getWidth(), img.getHeight());
         
         // Show text after fade completes
         if (displayTick > 0 && displayTick <= 300)
         {
             // Pulsing text
-            int textAlpha = (int)(128 + 127 * Math.sin(displayTick * 0.05));
+            int textAlpha = WAVE_05.at(displayTick, 128, 127);
             
-            img.setColor(new Color(255, 255, 255, textAlpha));
+            img.setColor(UIStyle.color(255, 255, 255, textAlpha));
             
             // Main title - "În curând..."
             img.setFont(FontManager.getPixeledLarge());
             String text = "In curand...";
-            int textWidth = text.length() * 12; // Approximate width for pixeled font
-            int textX = (img.getWidth() - textWidth) / 2;
-            img.drawString(text, textX, img.getHeight() / 2 - 80);
+            FontManager.drawCenteredString(img, text, img.getWidth() / 2, img.getHeight() / 2 - 80);
             
             // Subtitle - "ScienceQuests 2"
             img.setFont(FontManager.getPixeled());
             String text2 = "ScienceQuests 2";
-            int text2Width = text2.length() * 10;
-            int text2X = (img.getWidth() - text2Width) / 2;
-            img.drawString(text2, text2X, img.getHeight() / 2 - 40);
+            FontManager.drawCenteredString(img, text2, img.getWidth() / 2, img.getHeight() / 2 - 40);
             
             // Credits section
             img.setFont(FontManager.getPixeled());
             String creditsTitle = "CREDITS";
-            int creditsTitleWidth = creditsTitle.length() * 10;
-            int creditsTitleX = (img.getWidth() - creditsTitleWidth) / 2;
-            img.drawString(creditsTitle, creditsTitleX, img.getHeight() / 2 + 30);
+            FontManager.drawCenteredString(img, creditsTitle, img.getWidth() / 2, img.getHeight() / 2 + 30);
             
             img.setFont(FontManager.getPixeledSmall());
             String credit1 = "Silviu Chiscareanu";
-            int credit1Width = credit1.length() * 8;
-            int credit1X = (img.getWidth() - credit1Width) / 2;
-            img.drawString(credit1, credit1X, img.getHeight() / 2 + 60);
+            FontManager.drawCenteredString(img, credit1, img.getWidth() / 2, img.getHeight() / 2 + 60);
             
             String credit2 = "Cosmin Lacatus";
-            int credit2Width = credit2.length() * 8;
-            int credit2X = (img.getWidth() - credit2Width) / 2;
-            img.drawString(credit2, credit2X, img.getHeight() / 2 + 85);
+            FontManager.drawCenteredString(img, credit2, img.getWidth() / 2, img.getHeight() / 2 + 85);
         }
         
         setImage(img);
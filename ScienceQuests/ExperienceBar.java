@@ -2,7 +2,7 @@ import greenfoot.*;
 
 /**
  * ExperienceBar - Displays a green XP bar in the top-left corner of the screen
- * Updates in real-time based on the player's current XP
+ * Redraws whenever GameState publishes an XP change
  */
 public class ExperienceBar extends Actor
 {
@@ -13,28 +13,16 @@ public class ExperienceBar extends Actor
     private static final Color BG_COLOR = new Color(40, 40, 40);
     private static final Color FILL_COLOR = new Color(50, 200, 50); // Green
     
-    private int lastXP = -1; // Track last XP to avoid unnecessary redraws
-    private int lastLevel = -1; // Track last level to detect level-ups
-    
     public ExperienceBar()
     {
         updateImage();
+        GameEvents.subscribe(this, GameEvents.XpChanged.class, ExperienceBar::onXpChanged);
     }
     
-    public void act()
+    // Redrawn only when GameState reports a change, not polled every frame
+    private void onXpChanged(GameEvents.XpChanged event)
     {
-        // Get current XP and level from GameState
-        GameState state = GameState.getInstance();
-        int currentXP = state.getXp();
-        int currentLevel = state.getLevel();
-        
-        // Only redraw if XP or level changed
-        if (currentXP != lastXP || currentLevel != lastLevel)
-        {
-            lastXP = currentXP;
-            lastLevel = currentLevel;
-            updateImage();
-        }
+        updateImage();
     }
     
     /**
@@ -67,12 +55,11 @@ public class ExperienceBar extends Actor
         img.setFont(FontManager.getPixeledSmall());
         img.setColor(Color.WHITE);
         String levelText = "LVL " + level;
-        img.drawString(levelText, 4, 15);
+        FontManager.drawString(img, levelText, 4, 15);
         
         // Draw XP text in center
         String xpText = state.getXp() + "/" + state.getMaxXP();
-        int textX = (BAR_WIDTH - (xpText.length() * 6)) / 2;
-        img.drawString(xpText, textX, BAR_HEIGHT - 5);
+        FontManager.drawCenteredString(img, xpText, BAR_WIDTH / 2, BAR_HEIGHT - 5);
         
         setImage(img);
     }
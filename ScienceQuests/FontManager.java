@@ -1,25 +1,42 @@
 import java.awt.Font;
 import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 /**
  * FontManager
  * -----------
  * Uses Greenfoot reflection hack to inject custom TTF fonts.
  * This is the ONLY reliable method in older Greenfoot versions.
+ *
+ * Text in these fonts is drawn from baked glyph atlases (see GlyphAtlas)
+ * via drawString() and measured with measure().
  */
 public class FontManager {
 
     private static greenfoot.Font pixeled;
     private static greenfoot.Font pixeledSmall;
     private static greenfoot.Font pixeledLarge;
+    private static greenfoot.Font pixeledBold;
+    private static volatile boolean loaded;
+
+    // Atlases by AWT font, plus a fast path for the Greenfoot fonts already seen
+    private static final Map<Font, GlyphAtlas> atlases = new HashMap<>();
+    private static final Map<greenfoot.Font, GlyphAtlas> atlasByFont = new IdentityHashMap<>();
+    private static Field internalFontField;
+
+    public static synchronized void loadFonts() {
+        // Once per run: the atlases and cached text layouts are keyed by these font objects
+        if (loaded) return;
 
-    public static void loadFonts() {
         try {
             // Create dummy Greenfoot fonts
             pixeled = new greenfoot.Font("Arial", false, false, 10);
             pixeledSmall = new greenfoot.Font("Arial", false, false, 8);
             pixeledLarge = new greenfoot.Font("Arial", false, false, 12);
+            pixeledBold = new greenfoot.Font("Arial", true, false, 10);
 
             // Load TTF from project
             InputStream is = FontManager.class
@@ -31,31 +48,124 @@ public class FontManager {
             Font big = awtFont.deriveFont(10f);
             Font small = awtFont.deriveFont(8f);
             Font large = awtFont.deriveFont(12f);
+            Font bold = awtFont.deriveFont(Font.BOLD, 10f);
 
             // Access Greenfoot internal font field
-            Field internalFont =
-                    greenfoot.Font.class.getDeclaredField("font");
-
-            internalFont.setAccessible(true);
+            Field internalFont = getInternalFontField();
 
             internalFont.set(pixeled, big);
             internalFont.set(pixeledSmall, small);
             internalFont.set(pixeledLarge, large);
+            internalFont.set(pixeledBold, bold);
 
         } catch (Exception e) {
             DebugLog.log("Pixel font injection failed — fallback used");
         }
+        loaded = true;
+    }
+
+    /**
+     * Load the fonts and bake their glyph atlases. AssetManifest runs this in the
+     * background; the getters below still load the fonts themselves if asked first.
+     */
+    public static void preload() {
+        loadFonts();
+        getAtlas(pixeled);
+        getAtlas(pixeledSmall);
+        getAtlas(pixeledLarge);
+        getAtlas(pixeledBold);
     }
 
     public static greenfoot.Font getPixeled() {
+        if (!loaded) loadFonts();
         return pixeled;
     }
 
     public static greenfoot.Font getPixeledSmall() {
+        if (!loaded) loadFonts();
         return pixeledSmall;
     }
     
     public static greenfoot.Font getPixeledLarge() {
+        if (!loaded) loadFonts();
         return pixeledLarge;
     }
+
+    /**
+     * Same size as getPixeled(), for [b] dialogue markup.
+     */
+    public static greenfoot.Font getPixeledBold() {
+        if (!loaded) loadFonts();
+        return pixeledBold;
+    }
+
+    /**
+     * Glyph atlas for a Greenfoot font, baked on first use.
+     * Returns null if the font's AWT face cannot be reached.
+     */
+    public static synchronized GlyphAtlas getAtlas(greenfoot.Font font) {
+        if (font == null) return null;
+        GlyphAtlas atlas = atlasByFont.get(font);
+        if (atlas != null) return atlas;
+
+        try {
+            Font awtFont = (Font) getInternalFontField().get(font);
+            atlas = atlases.get(awtFont);
+            if (atlas == null) {
+                atlas = new GlyphAtlas(awtFont);
+                atlases.put(awtFont, atlas);
+            }
+            atlasByFont.put(font, atlas);
+            return atlas;
+        } catch (Exception e) {
+            DebugLog.log("Glyph atlas unavailable for font: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Width of the text in pixels when drawn in the given font.
+     */
+    public static int measure(greenfoot.Font font, String text) {
+        GlyphAtlas atlas = getAtlas(font);
+        if (atlas != null) return atlas.measure(text);
+        return font == null ? 0 : font.getSize() * text.length() / 2;
+    }
+
+    /**
+     * Advance width of one character, for layout code that measures as it goes.
+     */
+    public static int advance(greenfoot.Font font, char c) {
+        GlyphAtlas atlas = getAtlas(font);
+        if (atlas != null) return atlas.advance(c);
+        return font == null ? 0 : font.getSize() / 2;
+    }
+
+    /**
+     * Drop-in for img.drawString: draws with the image's current font and color
+     * from the glyph atlas.
+     */
+    public static void drawString(greenfoot.GreenfootImage img, String text, int x, int y) {
+        GlyphAtlas atlas = getAtlas(img.getFont());
+        if (atlas == null) {
+            img.drawString(text, x, y);
+            return;
+        }
+        atlas.drawString(img, text, img.getColor(), x, y);
+    }
+
+    /**
+     * Draw text horizontally centered on centerX, measured with the image's current font.
+     */
+    public static void drawCenteredString(greenfoot.GreenfootImage img, String text, int centerX, int y) {
+        drawString(img, text, centerX - measure(img.getFont(), text) / 2, y);
+    }
+
+    private static Field getInternalFontField() throws NoSuchFieldException {
+        if (internalFontField == null) {
+            internalFontField = greenfoot.Font.class.getDeclaredField("font");
+            internalFontField.setAccessible(true);
+        }
+        return internalFontField;
+    }
 }
@@ -0,0 +1,291 @@
+import greenfoot.Actor;
+import greenfoot.World;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * GameEvents - Typed, synchronous event bus for game progression.
+ * GameState and the quests publish what changed (a quest finished, XP moved, a lab
+ * was completed ...) and worlds and UI react to it once, instead of re-checking the
+ * same conditions every frame.
+ *
+ * Subscriptions are tied to an owner that is held weakly: handlers receive the owner
+ * as their first argument, so they should not capture it (use MainMapWorld::onX style
+ * method references). A discarded world or actor then simply stops receiving events.
+ * Handlers run on the publishing thread, in subscription order. Each GameSession has
+ * its own subscribers, so events never cross from one student's game to another's.
+ */
+public final class GameEvents
+{
+    private static final Map<GameSession, Map<Class<?>, List<Subscription<?, ?>>>> sessions =
+        new WeakHashMap<GameSession, Map<Class<?>, List<Subscription<?, ?>>>>();
+
+    private GameEvents()
+    {
+    }
+
+    // Subscriptions of the current session
+    private static Map<Class<?>, List<Subscription<?, ?>>> subscriptions()
+    {
+        GameSession session = GameSession.current();
+        synchronized (sessions)
+        {
+            Map<Class<?>, List<Subscription<?, ?>>> subscriptions = sessions.get(session);
+            if (subscriptions == null)
+            {
+                subscriptions = new HashMap<Class<?>, List<Subscription<?, ?>>>();
+                sessions.put(session, subscriptions);
+            }
+            return subscriptions;
+        }
+    }
+
+    /**
+     * Call handler(owner, event) for every event of the given type published while
+     * owner is alive.
+     */
+    public static <O, E> void subscribe(O owner, Class<E> type, BiConsumer<? super O, ? super E> handler)
+    {
+        Map<Class<?>, List<Subscription<?, ?>>> subscriptions = subscriptions();
+        List<Subscription<?, ?>> list = subscriptions.get(type);
+        if (list == null)
+        {
+            list = new ArrayList<Subscription<?, ?>>();
+            subscriptions.put(type, list);
+        }
+        list.add(new Subscription<O, E>(owner, handler));
+    }
+
+    /**
+     * Drop every subscription of owner.
+     */
+    public static void unsubscribe(Object owner)
+    {
+        removeOwners(Collections.singleton(owner));
+    }
+
+    /**
+     * Drop the subscriptions of a world that is being let go and of every actor in it,
+     * so none of them runs again before the collector gets to them.
+     */
+    public static void unsubscribeWorld(World world)
+    {
+        Set<Object> owners = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        owners.add(world);
+        List<Actor> actors = world.getObjects(Actor.class);
+        if (actors != null)
+        {
+            owners.addAll(actors);
+        }
+        removeOwners(owners);
+    }
+
+    private static void removeOwners(Set<Object> owners)
+    {
+        for (List<Subscription<?, ?>> list : subscriptions().values())
+        {
+            for (int i = list.size() - 1; i >= 0; i--)
+            {
+                Object current = list.get(i).owner.get();
+                if (current == null || owners.contains(current))
+                {
+                    list.remove(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deliver an event to the subscribers of its exact class.
+     */
+    public static void publish(Object event)
+    {
+        List<Subscription<?, ?>> list = subscriptions().get(event.getClass());
+        if (list == null || list.isEmpty()) return;
+
+        // Handlers may subscribe or unsubscribe while the event is delivered
+        List<Subscription<?, ?>> snapshot = new ArrayList<Subscription<?, ?>>(list);
+        for (Subscription<?, ?> subscription : snapshot)
+        {
+            if (!subscription.deliver(event))
+            {
+                list.remove(subscription);
+            }
+        }
+    }
+
+    private static class Subscription<O, E>
+    {
+        final WeakReference<O> owner;
+        final BiConsumer<? super O, ? super E> handler;
+
+        Subscription(O owner, BiConsumer<? super O, ? super E> handler)
+        {
+            this.owner = new WeakReference<O>(owner);
+            this.handler = handler;
+        }
+
+        // False once the owner is gone
+        @SuppressWarnings("unchecked")
+        boolean deliver(Object event)
+        {
+            O current = owner.get();
+            if (current == null) return false;
+            handler.accept(current, (E) event);
+            return true;
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Events
+    // ---------------------------------------------------------------
+
+    /**
+     * A mini-quest finished (successfully or not); it will not run again.
+     */
+    public static final class QuestCompleted
+    {
+        private final BaseQuest quest;
+
+        public QuestCompleted(BaseQuest quest)
+        {
+            this.quest = quest;
+        }
+
+        public BaseQuest getQuest()
+        {
+            return quest;
+        }
+    }
+
+    /**
+     * A lab was marked completed for the first time.
+     */
+    public static final class LabCompleted
+    {
+        private final LabType lab;
+
+        public LabCompleted(LabType lab)
+        {
+            this.lab = lab;
+        }
+
+        public LabType getLab()
+        {
+            return lab;
+        }
+    }
+
+    /**
+     * An NPC quiz gate was passed: lab is the lab whose mini-quests it unlocks, or
+     * null for the classroom quests on the main map.
+     */
+    public static final class QuizGateCompleted
+    {
+        private final LabType lab;
+
+        public QuizGateCompleted(LabType lab)
+        {
+            this.lab = lab;
+        }
+
+        public LabType getLab()
+        {
+            return lab;
+        }
+    }
+
+    /**
+     * XP or level changed; carries the new values.
+     */
+    public static final class XpChanged
+    {
+        private final int xp;
+        private final int level;
+
+        public XpChanged(int xp, int level)
+        {
+            this.xp = xp;
+            this.level = level;
+        }
+
+        public int getXp()
+        {
+            return xp;
+        }
+
+        public int getLevel()
+        {
+            return level;
+        }
+    }
+
+    /**
+     * The player reached a new level; published once per level gained.
+     */
+    public static final class LevelUp
+    {
+        private final int level;
+
+        public LevelUp(int level)
+        {
+            this.level = level;
+        }
+
+        public int getLevel()
+        {
+            return level;
+        }
+    }
+
+    /**
+     * A quiz question was answered.
+     */
+    public static final class QuizAnswered
+    {
+        private final String topic;
+        private final boolean correct;
+
+        public QuizAnswered(String topic, boolean correct)
+        {
+            this.topic = topic;
+            this.correct = correct;
+        }
+
+        public String getTopic()
+        {
+            return topic;
+        }
+
+        public boolean isCorrect()
+        {
+            return correct;
+        }
+    }
+
+    /**
+     * A badge was awarded for the first time.
+     */
+    public static final class BadgeAwarded
+    {
+        private final String badgeId;
+
+        public BadgeAwarded(String badgeId)
+        {
+            this.badgeId = badgeId;
+        }
+
+        public String getBadgeId()
+        {
+            return badgeId;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+import greenfoot.Greenfoot;
+import greenfoot.World;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * GameSession - Everything that belongs to one student.
+ * GameState, DialogueManager, InputState, PlayerData, the quiz analytics log, the save
+ * slot and the event subscriptions all resolve through GameSession.current(), so the
+ * usual getInstance() calls keep working and one JVM can host many students.
+ *
+ * The Greenfoot desktop game uses the default session and never has to bind one. A
+ * server or bot harness creates sessions with create() and runs each session's work
+ * inside run(), usually through a SessionHost. A session is not thread safe: run it on
+ * one thread at a time. Shared, read-only content (images, question bank, quest
+ * definitions) stays process-wide.
+ */
+public final class GameSession
+{
+    private static final GameSession DEFAULT = new GameSession(null);
+    private static final ThreadLocal<GameSession> bound = new ThreadLocal<GameSession>();
+    private static final AtomicInteger nextId = new AtomicInteger(1);
+
+    private final String id;
+    private GameState gameState;
+    private DialogueManager dialogueManager;
+    private InputState inputState;
+    private QuizAnalytics quizAnalytics;
+    private World world;
+    private final WorldCache worldCache = new WorldCache();
+    private final WorldPreloader worldPreloader = new WorldPreloader(this);
+
+    // PlayerData
+    private String playerName = "";
+    private Gender playerGender = null;
+    private GenderButton selectedGenderButton = null;
+
+    private GameSession(String id)
+    {
+        this.id = id;
+    }
+
+    /**
+     * A new, independent session for hosting another student in this JVM.
+     */
+    public static GameSession create()
+    {
+        return new GameSession("s" + nextId.getAndIncrement());
+    }
+
+    /**
+     * The session bound to the calling thread, or the default desktop session.
+     */
+    public static GameSession current()
+    {
+        GameSession session = bound.get();
+        return session != null ? session : DEFAULT;
+    }
+
+    /**
+     * Run work with this session bound to the calling thread.
+     */
+    public void run(Runnable work)
+    {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public <T> T call(Supplier<T> work)
+    {
+        GameSession previous = bound.get();
+        bound.set(this);
+        try
+        {
+            return work.get();
+        }
+        finally
+        {
+            if (previous != null)
+            {
+                bound.set(previous);
+            }
+            else
+            {
+                bound.remove();
+            }
+        }
+    }
+
+    /**
+     * Session id, null for the default desktop session.
+     */
+    public String getId()
+    {
+        return id;
+    }
+
+    public boolean isDefault()
+    {
+        return this == DEFAULT;
+    }
+
+    /**
+     * Name used for this session's files, e.g. "progress" becomes "progress-s3".
+     */
+    public String fileName(String base, String extension)
+    {
+        return (id == null ? base : base + "-" + id) + extension;
+    }
+
+    /**
+     * Switch the session to a world. The desktop session hands it to Greenfoot; hosted
+     * sessions keep it for SessionHost to tick.
+     */
+    public void setWorld(World world)
+    {
+        this.world = world;
+        if (isDefault())
+        {
+            Greenfoot.setWorld(world);
+        }
+    }
+
+    public World getWorld()
+    {
+        return world;
+    }
+
+    /**
+     * Rooms this session left recently, for WorldNavigator to resume
+     */
+    public WorldCache getWorldCache()
+    {
+        return worldCache;
+    }
+
+    /**
+     * Map data being loaded ahead of time for this session
+     */
+    public WorldPreloader getWorldPreloader()
+    {
+        return worldPreloader;
+    }
+
+    public GameState getGameState()
+    {
+        if (gameState == null)
+        {
+            gameState = new GameState();
+        }
+        return gameState;
+    }
+
+    public DialogueManager getDialogueManager()
+    {
+        if (dialogueManager == null)
+        {
+            dialogueManager = new DialogueManager();
+        }
+        return dialogueManager;
+    }
+
+    public InputState getInputState()
+    {
+        if (inputState == null)
+        {
+            inputState = new InputState();
+        }
+        return inputState;
+    }
+
+    public QuizAnalytics getQuizAnalytics()
+    {
+        if (quizAnalytics == null)
+        {
+            quizAnalytics = new QuizAnalytics(SaveGame.dataFile(fileName("quiz-analytics", ".dat")));
+        }
+        return quizAnalytics;
+    }
+
+    String getPlayerName()
+    {
+        return playerName;
+    }
+
+    void setPlayerName(String playerName)
+    {
+        this.playerName = playerName;
+    }
+
+    Gender getPlayerGender()
+    {
+        return playerGender;
+    }
+
+    void setPlayerGender(Gender playerGender)
+    {
+        this.playerGender = playerGender;
+    }
+
+    GenderButton getSelectedGenderButton()
+    {
+        return selectedGenderButton;
+    }
+
+    void setSelectedGenderButton(GenderButton button)
+    {
+        selectedGenderButton = button;
+    }
+}
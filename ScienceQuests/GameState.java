@@ -1,3 +1,7 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -11,11 +15,9 @@ import java.util.Set;
  */
 public class GameState
 {
-    private static GameState instance;
-
     private final EnumSet<LabType> completedLabs;
     private final Set<String> badges;
-    private final Map<String, Set<Integer>> usedQuestionIndices;
+    private final Map<String, QuestionDeck> questionDecks;
     private final Map<String, Integer> quizCorrectCount;
     private final Map<String, Integer> quizTotalCount;
     private final Random rng;
@@ -46,11 +48,12 @@ public class GameState
     private boolean comboChainQuestComplete = false;
     private boolean directionDodgeQuestComplete = false;
 
-    private GameState()
+    // Created by GameSession, one per student
+    GameState()
     {
         completedLabs = EnumSet.noneOf(LabType.class);
         badges = new HashSet<>();
-        usedQuestionIndices = new HashMap<>();
+        questionDecks = new HashMap<>();
         quizCorrectCount = new HashMap<>();
         quizTotalCount = new HashMap<>();
         rng = new Random();
@@ -69,20 +72,19 @@ public class GameState
         hasShownMainMapTutorial = false;
     }
 
+    /**
+     * The progress of the current session's student.
+     */
     public static GameState getInstance()
     {
-        if (instance == null)
-        {
-            instance = new GameState();
-        }
-        return instance;
+        return GameSession.current().getGameState();
     }
 
     public void reset()
     {
         completedLabs.clear();
         badges.clear();
-        usedQuestionIndices.clear();
+        questionDecks.clear();
         quizCorrectCount.clear();
         quizTotalCount.clear();
         xp = 0;
@@ -104,6 +106,8 @@ public class GameState
         doubleTapSprintQuestComplete = false;
         comboChainQuestComplete = false;
         directionDodgeQuestComplete = false;
+        GameEvents.publish(new GameEvents.XpChanged(xp, level));
+        SaveGame.requestSave();
     }
 
     public boolean hasShownMainMapTutorial()
@@ -114,6 +118,7 @@ public class GameState
     public void setMainMapTutorialShown()
     {
         hasShownMainMapTutorial = true;
+        SaveGame.requestSave();
     }
 
     public boolean isMiniQuestActive()
@@ -135,17 +140,21 @@ public class GameState
     {
         if (completed)
         {
-            completedLabs.add(lab);
+            completeLab(lab);
         }
-        else
+        else if (completedLabs.remove(lab))
         {
-            completedLabs.remove(lab);
+            SaveGame.requestSave();
         }
     }
 
     public void completeLab(LabType lab)
     {
-        completedLabs.add(lab);
+        if (completedLabs.add(lab))
+        {
+            GameEvents.publish(new GameEvents.LabCompleted(lab));
+            SaveGame.requestSave();
+        }
     }
 
     /**
@@ -199,13 +208,18 @@ public class GameState
                 xp -= MAX_XP;
                 level++;
                 DebugLog.log("LEVEL UP! Now level: " + level + " (XP: " + xp + "/" + MAX_XP + ")");
+                GameEvents.publish(new GameEvents.LevelUp(level));
             }
+            GameEvents.publish(new GameEvents.XpChanged(xp, level));
+            SaveGame.requestSave();
         }
     }
 
     public void resetXP()
     {
         xp = 0;
+        GameEvents.publish(new GameEvents.XpChanged(xp, level));
+        SaveGame.requestSave();
     }
 
     public float getXPPercent()
@@ -227,7 +241,11 @@ public class GameState
     {
         if (badgeId != null && !badgeId.trim().isEmpty())
         {
-            badges.add(badgeId.trim());
+            if (badges.add(badgeId.trim()))
+            {
+                GameEvents.publish(new GameEvents.BadgeAwarded(badgeId.trim()));
+                SaveGame.requestSave();
+            }
         }
     }
 
@@ -239,6 +257,8 @@ public class GameState
         {
             quizCorrectCount.put(key, quizCorrectCount.getOrDefault(key, 0) + 1);
         }
+        GameEvents.publish(new GameEvents.QuizAnswered(topic, correct));
+        SaveGame.requestSave();
     }
 
     public int getQuizCorrectCount(String topic)
@@ -252,7 +272,8 @@ public class GameState
     }
 
     /**
-     * Randomly select a question from a pool without repeating in the same session.
+     * Draw a question from the topic's shuffled deck: no repeats until every question
+     * has been asked, and missed questions are dealt again more often.
      */
     public DialogueQuestion getRandomQuestion(String topic, List<DialogueQuestion> pool)
     {
@@ -262,23 +283,33 @@ public class GameState
         }
 
         String key = normalizeTopic(topic);
-        Set<Integer> used = usedQuestionIndices.computeIfAbsent(key, k -> new HashSet<>());
-
-        if (used.size() >= pool.size())
+        QuestionDeck deck = questionDecks.get(key);
+        if (deck == null || deck.size() != pool.size() || !deck.matches(0, pool.get(0).getId()))
         {
-            used.clear();
+            // First draw for this topic, or the pool changed: deal a new deck
+            int[] ids = new int[pool.size()];
+            for (int i = 0; i < ids.length; i++)
+            {
+                ids[i] = pool.get(i).getId();
+            }
+            deck = new QuestionDeck(ids, rng);
+            questionDecks.put(key, deck);
         }
+        return pool.get(deck.draw()).withShuffledAnswers(rng);
+    }
 
-        int index;
-        int safety = 0;
-        do
+    /**
+     * Record an answer to a specific question: the per-topic counters, plus the
+     * mistake count that makes missed questions come back more often.
+     */
+    public void recordQuestionResult(DialogueQuestion question, boolean correct)
+    {
+        QuestionDeck deck = questionDecks.get(normalizeTopic(question.getTopic()));
+        if (deck != null)
         {
-            index = rng.nextInt(pool.size());
-            safety++;
-        } while (used.contains(index) && safety < 50);
-
-        used.add(index);
-        return pool.get(index);
+            deck.recordAnswer(question.getId(), correct);
+        }
+        recordQuizResult(question.getTopic(), correct);
     }
 
     private String normalizeTopic(String topic)
@@ -311,7 +342,9 @@ public class GameState
         if (!mainMapQuestsUnlocked && mainMapNPCCorrectCount >= CORRECT_NEEDED)
         {
             mainMapQuestsUnlocked = true;
+            GameEvents.publish(new GameEvents.QuizGateCompleted(null));
         }
+        SaveGame.requestSave();
     }
     
     /**
@@ -348,11 +381,17 @@ public class GameState
      */
     public void recordLabBioNPCQuizResult(boolean correct)
     {
+        boolean wasComplete = isLabBioQuizGateComplete();
         labNPCTotalCountBio++;
         if (correct)
         {
             labNPCCorrectCountBio++;
         }
+        if (!wasComplete && isLabBioQuizGateComplete())
+        {
+            GameEvents.publish(new GameEvents.QuizGateCompleted(LabType.BIOLOGY));
+        }
+        SaveGame.requestSave();
     }
     
     /**
@@ -360,11 +399,17 @@ public class GameState
      */
     public void recordLabPhysNPCQuizResult(boolean correct)
     {
+        boolean wasComplete = isLabPhysQuizGateComplete();
         labNPCTotalCountPhys++;
         if (correct)
         {
             labNPCCorrectCountPhys++;
         }
+        if (!wasComplete && isLabPhysQuizGateComplete())
+        {
+            GameEvents.publish(new GameEvents.QuizGateCompleted(LabType.PHYSICS));
+        }
+        SaveGame.requestSave();
     }
     
     /**
@@ -421,11 +466,17 @@ public class GameState
      */
     public void recordLabChemQuizResult(boolean correct)
     {
+        boolean wasComplete = isLabChemQuizGateComplete();
         labNPCTotalCountChem++;
         if (correct)
         {
             labNPCCorrectCountChem++;
         }
+        if (!wasComplete && isLabChemQuizGateComplete())
+        {
+            GameEvents.publish(new GameEvents.QuizGateCompleted(LabType.CHEMISTRY));
+        }
+        SaveGame.requestSave();
     }
 
     public int getLabChemQuizTotal()
@@ -445,20 +496,248 @@ public class GameState
     
     // MainMap mini-quest completion methods
     public boolean isRapidFireQuestComplete() { return rapidFireQuestComplete; }
-    public void setRapidFireQuestComplete(boolean complete) { rapidFireQuestComplete = complete; }
+    public void setRapidFireQuestComplete(boolean complete) { rapidFireQuestComplete = complete; SaveGame.requestSave(); }
     
     public boolean isKeySequenceQuestComplete() { return keySequenceQuestComplete; }
-    public void setKeySequenceQuestComplete(boolean complete) { keySequenceQuestComplete = complete; }
+    public void setKeySequenceQuestComplete(boolean complete) { keySequenceQuestComplete = complete; SaveGame.requestSave(); }
     
     public boolean isAlternatingKeysQuestComplete() { return alternatingKeysQuestComplete; }
-    public void setAlternatingKeysQuestComplete(boolean complete) { alternatingKeysQuestComplete = complete; }
+    public void setAlternatingKeysQuestComplete(boolean complete) { alternatingKeysQuestComplete = complete; SaveGame.requestSave(); }
     
     public boolean isDoubleTapSprintQuestComplete() { return doubleTapSprintQuestComplete; }
-    public void setDoubleTapSprintQuestComplete(boolean complete) { doubleTapSprintQuestComplete = complete; }
+    public void setDoubleTapSprintQuestComplete(boolean complete) { doubleTapSprintQuestComplete = complete; SaveGame.requestSave(); }
     
     public boolean isComboChainQuestComplete() { return comboChainQuestComplete; }
-    public void setComboChainQuestComplete(boolean complete) { comboChainQuestComplete = complete; }
+    public void setComboChainQuestComplete(boolean complete) { comboChainQuestComplete = complete; SaveGame.requestSave(); }
     
     public boolean isDirectionDodgeQuestComplete() { return directionDodgeQuestComplete; }
-    public void setDirectionDodgeQuestComplete(boolean complete) { directionDodgeQuestComplete = complete; }
+    public void setDirectionDodgeQuestComplete(boolean complete) { directionDodgeQuestComplete = complete; SaveGame.requestSave(); }
+
+    /**
+     * Immutable copy of the persistent progress, including PlayerData. Cheap to take on
+     * the game thread, so SaveGame can encode and write it on a background thread.
+     */
+    public Snapshot snapshot()
+    {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Replace the current progress with a saved snapshot. Transient state (active
+     * mini-quest, questions already asked this session) starts fresh.
+     */
+    public void restore(Snapshot snapshot)
+    {
+        completedLabs.clear();
+        completedLabs.addAll(snapshot.completedLabs);
+        badges.clear();
+        badges.addAll(snapshot.badges);
+        questionDecks.clear();
+        quizCorrectCount.clear();
+        quizCorrectCount.putAll(snapshot.quizCorrectCount);
+        quizTotalCount.clear();
+        quizTotalCount.putAll(snapshot.quizTotalCount);
+        xp = snapshot.xp;
+        level = snapshot.level;
+        miniQuestActive = false;
+        mainMapNPCCorrectCount = snapshot.mainMapNPCCorrectCount;
+        mainMapNPCTotalCount = snapshot.mainMapNPCTotalCount;
+        mainMapQuestsUnlocked = snapshot.has(Snapshot.MAIN_MAP_UNLOCKED);
+        labNPCCorrectCountBio = snapshot.labNPCCorrectCountBio;
+        labNPCTotalCountBio = snapshot.labNPCTotalCountBio;
+        labNPCCorrectCountPhys = snapshot.labNPCCorrectCountPhys;
+        labNPCTotalCountPhys = snapshot.labNPCTotalCountPhys;
+        labNPCCorrectCountChem = snapshot.labNPCCorrectCountChem;
+        labNPCTotalCountChem = snapshot.labNPCTotalCountChem;
+        hasShownMainMapTutorial = snapshot.has(Snapshot.TUTORIAL_SHOWN);
+        rapidFireQuestComplete = snapshot.has(Snapshot.RAPID_FIRE);
+        keySequenceQuestComplete = snapshot.has(Snapshot.KEY_SEQUENCE);
+        alternatingKeysQuestComplete = snapshot.has(Snapshot.ALTERNATING_KEYS);
+        doubleTapSprintQuestComplete = snapshot.has(Snapshot.DOUBLE_TAP_SPRINT);
+        comboChainQuestComplete = snapshot.has(Snapshot.COMBO_CHAIN);
+        directionDodgeQuestComplete = snapshot.has(Snapshot.DIRECTION_DODGE);
+
+        PlayerData.setPlayerName(snapshot.playerName);
+        PlayerData.setPlayerGender(snapshot.playerGender);
+    }
+
+    /**
+     * Frozen copy of GameState and PlayerData. The boolean progress flags are packed
+     * into one int; labs and gender are stored by enum name so reordering the enums
+     * does not corrupt old saves.
+     */
+    public static final class Snapshot
+    {
+        private static final int MAIN_MAP_UNLOCKED = 1;
+        private static final int TUTORIAL_SHOWN = 1 << 1;
+        private static final int RAPID_FIRE = 1 << 2;
+        private static final int KEY_SEQUENCE = 1 << 3;
+        private static final int ALTERNATING_KEYS = 1 << 4;
+        private static final int DOUBLE_TAP_SPRINT = 1 << 5;
+        private static final int COMBO_CHAIN = 1 << 6;
+        private static final int DIRECTION_DODGE = 1 << 7;
+
+        private final Set<LabType> completedLabs;
+        private final Set<String> badges;
+        private final Map<String, Integer> quizCorrectCount;
+        private final Map<String, Integer> quizTotalCount;
+        private final int xp;
+        private final int level;
+        private final int mainMapNPCCorrectCount;
+        private final int mainMapNPCTotalCount;
+        private final int labNPCCorrectCountBio;
+        private final int labNPCTotalCountBio;
+        private final int labNPCCorrectCountPhys;
+        private final int labNPCTotalCountPhys;
+        private final int labNPCCorrectCountChem;
+        private final int labNPCTotalCountChem;
+        private final int flags;
+        private final String playerName;
+        private final Gender playerGender;
+
+        private Snapshot(GameState state)
+        {
+            Set<LabType> labs = EnumSet.noneOf(LabType.class);
+            labs.addAll(state.completedLabs);
+            completedLabs = Collections.unmodifiableSet(labs);
+            badges = Collections.unmodifiableSet(new HashSet<>(state.badges));
+            quizCorrectCount = Collections.unmodifiableMap(new HashMap<>(state.quizCorrectCount));
+            quizTotalCount = Collections.unmodifiableMap(new HashMap<>(state.quizTotalCount));
+            xp = state.xp;
+            level = state.level;
+            mainMapNPCCorrectCount = state.mainMapNPCCorrectCount;
+            mainMapNPCTotalCount = state.mainMapNPCTotalCount;
+            labNPCCorrectCountBio = state.labNPCCorrectCountBio;
+            labNPCTotalCountBio = state.labNPCTotalCountBio;
+            labNPCCorrectCountPhys = state.labNPCCorrectCountPhys;
+            labNPCTotalCountPhys = state.labNPCTotalCountPhys;
+            labNPCCorrectCountChem = state.labNPCCorrectCountChem;
+            labNPCTotalCountChem = state.labNPCTotalCountChem;
+            flags = (state.mainMapQuestsUnlocked ? MAIN_MAP_UNLOCKED : 0)
+                | (state.hasShownMainMapTutorial ? TUTORIAL_SHOWN : 0)
+                | (state.rapidFireQuestComplete ? RAPID_FIRE : 0)
+                | (state.keySequenceQuestComplete ? KEY_SEQUENCE : 0)
+                | (state.alternatingKeysQuestComplete ? ALTERNATING_KEYS : 0)
+                | (state.doubleTapSprintQuestComplete ? DOUBLE_TAP_SPRINT : 0)
+                | (state.comboChainQuestComplete ? COMBO_CHAIN : 0)
+                | (state.directionDodgeQuestComplete ? DIRECTION_DODGE : 0);
+            playerName = PlayerData.getPlayerName();
+            playerGender = PlayerData.getPlayerGender();
+        }
+
+        private Snapshot(DataInput in) throws IOException
+        {
+            Set<LabType> labs = EnumSet.noneOf(LabType.class);
+            for (int i = in.readUnsignedByte(); i > 0; i--)
+            {
+                LabType lab = enumOrNull(LabType.class, in.readUTF());
+                if (lab != null) labs.add(lab);
+            }
+            completedLabs = Collections.unmodifiableSet(labs);
+
+            Set<String> readBadges = new HashSet<>();
+            for (int i = in.readUnsignedShort(); i > 0; i--)
+            {
+                readBadges.add(in.readUTF());
+            }
+            badges = Collections.unmodifiableSet(readBadges);
+
+            quizCorrectCount = Collections.unmodifiableMap(readCounts(in));
+            quizTotalCount = Collections.unmodifiableMap(readCounts(in));
+            xp = in.readInt();
+            level = in.readInt();
+            mainMapNPCCorrectCount = in.readUnsignedShort();
+            mainMapNPCTotalCount = in.readUnsignedShort();
+            labNPCCorrectCountBio = in.readUnsignedShort();
+            labNPCTotalCountBio = in.readUnsignedShort();
+            labNPCCorrectCountPhys = in.readUnsignedShort();
+            labNPCTotalCountPhys = in.readUnsignedShort();
+            labNPCCorrectCountChem = in.readUnsignedShort();
+            labNPCTotalCountChem = in.readUnsignedShort();
+            flags = in.readInt();
+            playerName = in.readUTF();
+            String gender = in.readUTF();
+            playerGender = gender.isEmpty() ? null : enumOrNull(Gender.class, gender);
+        }
+
+        /**
+         * Decode a snapshot written by writeTo(). version is the format version of the
+         * save file, for reading older layouts.
+         */
+        public static Snapshot readFrom(DataInput in, int version) throws IOException
+        {
+            if (version != 1)
+            {
+                throw new IOException("Unsupported save version " + version);
+            }
+            return new Snapshot(in);
+        }
+
+        public void writeTo(DataOutput out) throws IOException
+        {
+            out.writeByte(completedLabs.size());
+            for (LabType lab : completedLabs)
+            {
+                out.writeUTF(lab.name());
+            }
+            out.writeShort(badges.size());
+            for (String badge : badges)
+            {
+                out.writeUTF(badge);
+            }
+            writeCounts(out, quizCorrectCount);
+            writeCounts(out, quizTotalCount);
+            out.writeInt(xp);
+            out.writeInt(level);
+            out.writeShort(mainMapNPCCorrectCount);
+            out.writeShort(mainMapNPCTotalCount);
+            out.writeShort(labNPCCorrectCountBio);
+            out.writeShort(labNPCTotalCountBio);
+            out.writeShort(labNPCCorrectCountPhys);
+            out.writeShort(labNPCTotalCountPhys);
+            out.writeShort(labNPCCorrectCountChem);
+            out.writeShort(labNPCTotalCountChem);
+            out.writeInt(flags);
+            out.writeUTF(playerName != null ? playerName : "");
+            out.writeUTF(playerGender != null ? playerGender.name() : "");
+        }
+
+        private boolean has(int flag)
+        {
+            return (flags & flag) != 0;
+        }
+
+        private static Map<String, Integer> readCounts(DataInput in) throws IOException
+        {
+            Map<String, Integer> counts = new HashMap<>();
+            for (int i = in.readUnsignedShort(); i > 0; i--)
+            {
+                counts.put(in.readUTF(), in.readInt());
+            }
+            return counts;
+        }
+
+        private static void writeCounts(DataOutput out, Map<String, Integer> counts) throws IOException
+        {
+            out.writeShort(counts.size());
+            for (Map.Entry<String, Integer> entry : counts.entrySet())
+            {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        }
+
+        // A constant that no longer exists is skipped rather than failing the whole load
+        private static <E extends Enum<E>> E enumOrNull(Class<E> type, String name)
+        {
+            try
+            {
+                return Enum.valueOf(type, name);
+            }
+            catch (IllegalArgumentException e)
+            {
+                return null;
+            }
+        }
+    }
 }
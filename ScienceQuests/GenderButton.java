@@ -8,7 +8,6 @@ public class GenderButton extends Actor
     private String gender;
     private boolean isSelected;
     private boolean isHovered;
-    private static GenderButton selectedButton = null;
     private GreenfootImage characterImage;
     private boolean usesSpritesheet = false;
     private AnimatedCharacter animatedCharacter = null;
@@ -87,7 +86,7 @@ public class GenderButton extends Actor
     {
         try
         {
-            GreenfootImage spritesheet = new GreenfootImage(spritesheetPath);
+            GreenfootImage spritesheet = AssetManager.get(spritesheetPath);
             int spriteWidth = 480;
             int spriteHeight = 320;
             
@@ -142,13 +141,15 @@ public class GenderButton extends Actor
         if (Greenfoot.mouseClicked(this))
         {
             // Enforce single selection across all gender buttons
+            GameSession session = GameSession.current();
+            GenderButton selectedButton = session.getSelectedGenderButton();
             if (selectedButton != this)
             {
                 if (selectedButton != null)
                 {
                     selectedButton.setSelected(false);
                 }
-                selectedButton = this;
+                session.setSelectedGenderButton(this);
                 setSelected(true);
             }
         }
@@ -11,9 +11,15 @@ import greenfoot.*;  // (World, Actor, GreenfootImage, Greenfoot and MouseInfo)
  */
 public class Girl extends BasePlayer
 {
-    // Base frames (never modified - kept clean for visual transformations)
-    private GreenfootImage[] baseLeftFrames;
-    private GreenfootImage[] baseRightFrames;
+    // Pre-baked frames indexed [effect][frame], built once per process and shared
+    private static GreenfootImage[][] leftVariants;
+    private static GreenfootImage[][] rightVariants;
+    
+    // Effect variants (index into the first dimension above)
+    private static final int EFFECT_NONE = 0;
+    private static final int EFFECT_UP = 1;
+    private static final int EFFECT_DOWN = 2;
+    private static final int EFFECT_COUNT = 3;
     
     // Animation state
     private int currentFrame = 0;
@@ -40,9 +46,7 @@ public class Girl extends BasePlayer
     {
         try
         {
-            // Load base frames (kept pristine for transformations)
-            baseLeftFrames = loadDirectionalFrames("spritesheet/girl/LEFT.png");
-            baseRightFrames = loadDirectionalFrames("spritesheet/girl/RIGHT.png");
+            preloadFrames();
             
             // Start with left-facing idle frame
             currentDirection = DIR_LEFT;
@@ -57,32 +61,26 @@ public class Girl extends BasePlayer
     }
     
     /**
-     * Load frames from a horizontal spritesheet
-     * These are kept as base frames and copied when applying visual effects
+     * Load base frames and bake every direction effect, once per process.
+     * WorldPreloader calls this in the background once the girl is picked.
      */
-    private GreenfootImage[] loadDirectionalFrames(String spritesheetPath)
+    public static synchronized void preloadFrames()
     {
-        GreenfootImage spritesheet = new GreenfootImage(spritesheetPath);
-        GreenfootImage[] frames = new GreenfootImage[FRAMES_PER_DIRECTION];
-        
-        for (int i = 0; i < FRAMES_PER_DIRECTION; i++)
+        if (leftVariants == null || rightVariants == null)
         {
-            // Extract each frame
-            GreenfootImage frame = new GreenfootImage(FRAME_WIDTH, FRAME_HEIGHT);
-            frame.drawImage(spritesheet, -i * FRAME_WIDTH, 0);
-            
-            // Scale to 3x size
-            frame.scale(BASE_DISPLAY_WIDTH, BASE_DISPLAY_HEIGHT);
-            
-            // Crop to remove transparent areas - center the character
-            int startX = (int)Math.round(BASE_DISPLAY_WIDTH / 2 - CROP_WIDTH / 2);
-            int startY = (int)Math.round(BASE_DISPLAY_HEIGHT / 2 - CROP_HEIGHT / 2);
-            GreenfootImage croppedFrame = new GreenfootImage(CROP_WIDTH, CROP_HEIGHT);
-            croppedFrame.drawImage(frame, -startX, -startY);
-            frames[i] = croppedFrame;
+            leftVariants = buildVariants(loadDirectionalFrames("spritesheet/girl/LEFT.png"));
+            rightVariants = buildVariants(loadDirectionalFrames("spritesheet/girl/RIGHT.png"));
         }
-        
-        return frames;
+    }
+    
+    /**
+     * Load frames from a horizontal spritesheet
+     * These are the neutral frames the effect variants are built from
+     */
+    private static GreenfootImage[] loadDirectionalFrames(String spritesheetPath)
+    {
+        return SpriteCache.getFrames(spritesheetPath, FRAME_WIDTH, FRAME_HEIGHT, FRAMES_PER_DIRECTION,
+                                     BASE_DISPLAY_WIDTH, BASE_DISPLAY_HEIGHT, CROP_WIDTH, CROP_HEIGHT);
     }
     
     /**
@@ -140,119 +138,91 @@ public class Girl extends BasePlayer
     }
     
     /**
-     * Apply the current frame with visual effects based on direction
-     * Fakes UP/DOWN movement by transforming LEFT/RIGHT animations
+     * Build the neutral, UP and DOWN variants of every frame
+     * Runs once per spritesheet so the per-tick path only swaps images
      */
-    private void updateDisplayImage()
+    private static GreenfootImage[][] buildVariants(GreenfootImage[] baseFrames)
     {
-        if (baseLeftFrames == null || baseRightFrames == null) return;
+        GreenfootImage[][] variants = new GreenfootImage[EFFECT_COUNT][FRAMES_PER_DIRECTION];
+        int upHeight = (int)(CROP_HEIGHT * UP_VERTICAL_SCALE);
+        int downHeight = (int)(CROP_HEIGHT * DOWN_VERTICAL_SCALE);
         
-        // Get the base frame (LEFT or RIGHT)
-        GreenfootImage baseFrame = getBaseFrameForDirection();
-        if (baseFrame == null) return;
-        
-        // Create a copy to apply effects
-        GreenfootImage displayFrame = new GreenfootImage(baseFrame);
+        for (int i = 0; i < FRAMES_PER_DIRECTION; i++)
+        {
+            variants[EFFECT_NONE][i] = baseFrames[i];
+            
+            // Moving away - smaller and darker
+            GreenfootImage up = new GreenfootImage(baseFrames[i]);
+            up.scale(CROP_WIDTH, upHeight);
+            RasterKernels.brightness(up, UP_BRIGHTNESS_ADJUST);
+            variants[EFFECT_UP][i] = up;
+            
+            // Moving closer - larger and brighter
+            GreenfootImage down = new GreenfootImage(baseFrames[i]);
+            down.scale(CROP_WIDTH, downHeight);
+            RasterKernels.brightness(down, DOWN_BRIGHTNESS_ADJUST);
+            variants[EFFECT_DOWN][i] = down;
+        }
         
-        // Apply visual effects based on direction
-        applyDirectionEffects(displayFrame);
+        return variants;
+    }
+    
+    /**
+     * Show the pre-baked frame for the current direction
+     * Fakes UP/DOWN movement by picking a transformed LEFT/RIGHT variant
+     */
+    private void updateDisplayImage()
+    {
+        if (leftVariants == null || rightVariants == null) return;
         
-        setImage(displayFrame);
+        GreenfootImage[][] variants = isRightFacing() ? rightVariants : leftVariants;
+        GreenfootImage frame = variants[getEffectForDirection()][currentFrame];
+        if (frame != getImage())
+        {
+            setImage(frame);
+        }
     }
     
     /**
-     * Get the base LEFT or RIGHT frame for the current direction
+     * Whether the current direction uses the RIGHT sheet
+     * Pure vertical directions use LEFT as base
      */
-    private GreenfootImage getBaseFrameForDirection()
+    private boolean isRightFacing()
     {
         switch (currentDirection)
         {
-            case DIR_LEFT:
-            case DIR_UP_LEFT:
-            case DIR_DOWN_LEFT:
-            case DIR_UP:  // Pure vertical uses LEFT as base
-            case DIR_DOWN:
-                return baseLeftFrames[currentFrame];
-                
             case DIR_RIGHT:
             case DIR_UP_RIGHT:
             case DIR_DOWN_RIGHT:
-                return baseRightFrames[currentFrame];
+                return true;
                 
             default:
-                return baseLeftFrames[currentFrame];
+                return false;
         }
     }
     
     /**
-     * Apply visual effects to fake UP/DOWN movement
-     * - UP: scale smaller vertically + darken
-     * - DOWN: scale larger vertically + brighten
+     * Pick the visual effect that fakes UP/DOWN movement
+     * - UP: scaled smaller vertically + darkened
+     * - DOWN: scaled larger vertically + brightened
      */
-    private void applyDirectionEffects(GreenfootImage image)
+    private int getEffectForDirection()
     {
         switch (currentDirection)
         {
             case DIR_UP:
             case DIR_UP_LEFT:
             case DIR_UP_RIGHT:
-                // Moving away - smaller and darker
-                int upHeight = (int)(CROP_HEIGHT * UP_VERTICAL_SCALE);
-                image.scale(CROP_WIDTH, upHeight);
-                adjustBrightness(image, UP_BRIGHTNESS_ADJUST);
-                break;
+                return EFFECT_UP;
                 
             case DIR_DOWN:
             case DIR_DOWN_LEFT:
             case DIR_DOWN_RIGHT:
-                // Moving closer - larger and brighter
-                int downHeight = (int)(CROP_HEIGHT * DOWN_VERTICAL_SCALE);
-                image.scale(CROP_WIDTH, downHeight);
-                adjustBrightness(image, DOWN_BRIGHTNESS_ADJUST);
-                break;
+                return EFFECT_DOWN;
                 
-            case DIR_LEFT:
-            case DIR_RIGHT:
+            default:
                 // No effects for pure horizontal movement
-                break;
-        }
-    }
-    
-    /**
-     * Adjust image brightness by adding/subtracting from RGB values
-     * Positive adjustment = brighter, negative = darker
-     */
-    private void adjustBrightness(GreenfootImage image, int adjustment)
-    {
-        if (adjustment == 0) return;
-        
-        int width = image.getWidth();
-        int height = image.getHeight();
-        
-        for (int x = 0; x < width; x++)
-        {
-            for (int y = 0; y < height; y++)
-            {
-                Color color = image.getColorAt(x, y);
-                
-                // Skip fully transparent pixels
-                if (color.getAlpha() == 0) continue;
-                
-                // Adjust RGB values, clamping to 0-255
-                int r = clamp(color.getRed() + adjustment, 0, 255);
-                int g = clamp(color.getGreen() + adjustment, 0, 255);
-                int b = clamp(color.getBlue() + adjustment, 0, 255);
-                
-                image.setColorAt(x, y, new Color(r, g, b, color.getAlpha()));
-            }
+                return EFFECT_NONE;
         }
     }
-    
-    /**
-     * Clamp a value between min and max
-     */
-    private int clamp(int value, int min, int max)
-    {
-        return Math.max(min, Math.min(max, value));
-    }
 }
@@ -0,0 +1,243 @@
+import greenfoot.Color;
+import greenfoot.GreenfootImage;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GlyphAtlas - Pre-rendered glyphs of one AWT font at one size.
+ * Every glyph of the baked character set (ASCII, Romanian diacritics, arrows and
+ * common punctuation) is drawn once into a single coverage raster together with its
+ * exact advance width. Strings are then composed from that raster with int[] copies
+ * instead of going through AWT text rendering, and measure() gives real widths.
+ * Characters outside the set are baked on first use.
+ */
+public class GlyphAtlas
+{
+    private static final String BAKED_CHARS =
+        "ĂăÂâÎîȘșȚțŞşŢţ←↑→↓•…–—„”“’°·×÷±²³";
+
+    // Blank columns around each glyph so overhangs and antialiasing are not clipped
+    private static final int PAD = 2;
+
+    private static final int TEXT_CACHE_SIZE = 64;
+
+    private final java.awt.Font font;
+    private final int ascent;
+    private final int descent;
+    private final int height;
+
+    // ASCII glyphs by code point, everything else by character
+    private final Glyph[] asciiGlyphs = new Glyph[128];
+    private final Map<Character, Glyph> otherGlyphs = new HashMap<Character, Glyph>();
+
+    // Rendered strings by color and text, least recently used dropped first
+    private final Map<String, GreenfootImage> textCache =
+        new LinkedHashMap<String, GreenfootImage>(TEXT_CACHE_SIZE, 0.75f, true)
+        {
+            protected boolean removeEldestEntry(Map.Entry<String, GreenfootImage> eldest)
+            {
+                return size() > TEXT_CACHE_SIZE;
+            }
+        };
+
+    public GlyphAtlas(java.awt.Font font)
+    {
+        this.font = font;
+        FontMetrics metrics = createGraphics(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB)).getFontMetrics();
+        this.ascent = metrics.getAscent();
+        this.descent = metrics.getDescent();
+        this.height = ascent + descent;
+
+        StringBuilder chars = new StringBuilder(128);
+        for (char c = 32; c < 127; c++)
+        {
+            chars.append(c);
+        }
+        chars.append(BAKED_CHARS);
+        bake(chars.toString());
+    }
+
+    // Draw the given characters side by side into one raster and slice the glyph table out of it
+    private void bake(String chars)
+    {
+        FontMetrics metrics = createGraphics(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB)).getFontMetrics();
+        int[] cellX = new int[chars.length()];
+        int atlasWidth = 0;
+        for (int i = 0; i < chars.length(); i++)
+        {
+            cellX[i] = atlasWidth;
+            atlasWidth += metrics.charWidth(chars.charAt(i)) + PAD * 2;
+        }
+
+        BufferedImage atlasImage = new BufferedImage(Math.max(1, atlasWidth), Math.max(1, height), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = createGraphics(atlasImage);
+        g.setColor(java.awt.Color.WHITE);
+        for (int i = 0; i < chars.length(); i++)
+        {
+            g.drawString(String.valueOf(chars.charAt(i)), cellX[i] + PAD, ascent);
+        }
+        g.dispose();
+
+        // Keep coverage only; the color is applied when a string is composed
+        int[] coverage = atlasImage.getRGB(0, 0, atlasImage.getWidth(), atlasImage.getHeight(), null, 0, atlasImage.getWidth());
+        for (int i = 0; i < coverage.length; i++)
+        {
+            coverage[i] >>>= 24;
+        }
+
+        for (int i = 0; i < chars.length(); i++)
+        {
+            char c = chars.charAt(i);
+            Glyph glyph = new Glyph(coverage, atlasImage.getWidth(), cellX[i], metrics.charWidth(c) + PAD * 2, metrics.charWidth(c));
+            if (c < 128)
+            {
+                asciiGlyphs[c] = glyph;
+            }
+            else
+            {
+                otherGlyphs.put(c, glyph);
+            }
+        }
+    }
+
+    private Graphics2D createGraphics(BufferedImage image)
+    {
+        Graphics2D g = image.createGraphics();
+        g.setFont(font);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_OFF);
+        return g;
+    }
+
+    private Glyph glyph(char c)
+    {
+        Glyph glyph = c < 128 ? asciiGlyphs[c] : otherGlyphs.get(c);
+        if (glyph == null)
+        {
+            bake(String.valueOf(c));
+            glyph = c < 128 ? asciiGlyphs[c] : otherGlyphs.get(c);
+        }
+        return glyph;
+    }
+
+    /**
+     * Width of the text in pixels, summed from per-glyph advances.
+     */
+    public int measure(String text)
+    {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++)
+        {
+            width += glyph(text.charAt(i)).advance;
+        }
+        return width;
+    }
+
+    /**
+     * Advance width of one character; measure() is the sum of these.
+     */
+    public int advance(char c)
+    {
+        return glyph(c).advance;
+    }
+
+    public int getAscent()
+    {
+        return ascent;
+    }
+
+    public int getDescent()
+    {
+        return descent;
+    }
+
+    public int getHeight()
+    {
+        return height;
+    }
+
+    /**
+     * The text drawn in one color, baseline at getAscent() and a PAD-pixel margin on
+     * the left. The image is shared and cached, so callers must not draw on it.
+     */
+    public GreenfootImage render(String text, Color color)
+    {
+        String key = color.getRed() + "," + color.getGreen() + "," + color.getBlue() + "," + color.getAlpha() + "|" + text;
+        GreenfootImage image = textCache.get(key);
+        if (image == null)
+        {
+            image = compose(text, color);
+            textCache.put(key, image);
+        }
+        return image;
+    }
+
+    /**
+     * Draw text onto target with its left edge at x and its baseline at baselineY,
+     * like GreenfootImage.drawString.
+     */
+    public void drawString(GreenfootImage target, String text, Color color, int x, int baselineY)
+    {
+        if (text.isEmpty()) return;
+        target.drawImage(render(text, color), x - PAD, baselineY - ascent);
+    }
+
+    private GreenfootImage compose(String text, Color color)
+    {
+        int width = measure(text) + PAD * 2;
+        int[] out = new int[Math.max(1, width) * Math.max(1, height)];
+        int rgb = (color.getRed() << 16) | (color.getGreen() << 8) | color.getBlue();
+        int alpha = color.getAlpha();
+
+        int penX = 0;
+        for (int i = 0; i < text.length(); i++)
+        {
+            Glyph glyph = glyph(text.charAt(i));
+            for (int y = 0; y < height; y++)
+            {
+                int srcRow = y * glyph.stride + glyph.x;
+                int dstRow = y * width + penX;
+                for (int gx = 0; gx < glyph.width && penX + gx < width; gx++)
+                {
+                    int a = glyph.coverage[srcRow + gx];
+                    if (a == 0) continue;
+                    a = a * alpha / 255;
+                    // Neighbouring cells overlap in their padding; keep the stronger coverage
+                    if (a > (out[dstRow + gx] >>> 24))
+                    {
+                        out[dstRow + gx] = (a << 24) | rgb;
+                    }
+                }
+            }
+            penX += glyph.advance;
+        }
+
+        return PixelScaler.toImage(out, Math.max(1, width), Math.max(1, height));
+    }
+
+    /**
+     * One glyph cell: a column range of a coverage raster plus the pen advance.
+     */
+    private static class Glyph
+    {
+        final int[] coverage;
+        final int stride;
+        final int x;
+        final int width;
+        final int advance;
+
+        Glyph(int[] coverage, int stride, int x, int width, int advance)
+        {
+            this.coverage = coverage;
+            this.stride = stride;
+            this.x = x;
+            this.width = width;
+            this.advance = advance;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+import greenfoot.*;
+
+/**
+ * HoldMechanic - Holding the key raises a gauge, letting go drops it; every second
+ * the gauge spends inside the target zone counts toward the goal.
+ */
+public class HoldMechanic implements QuestMechanic
+{
+    private static final int MAX_LEVEL = 1000;
+    private static final int RISE_PER_TICK = 22;
+    private static final int FALL_PER_TICK = 18;
+    private static final int ZONE_LOW = 550;
+    private static final int ZONE_HIGH = 800;
+    private static final int TICKS_PER_SECOND = 60;
+
+    private int chord;
+    private int level;
+    private int ticksInZone;
+
+    public void start(QuestDefinition definition)
+    {
+        chord = QuestMechanics.chordMasks(definition)[0];
+        level = 0;
+        ticksInZone = 0;
+    }
+
+    public void update(InputState input, int tick)
+    {
+        if (input.allDown(chord))
+        {
+            level = Math.min(MAX_LEVEL, level + RISE_PER_TICK);
+        }
+        else
+        {
+            level = Math.max(0, level - FALL_PER_TICK);
+        }
+
+        if (isInZone())
+        {
+            ticksInZone++;
+        }
+    }
+
+    private boolean isInZone()
+    {
+        return level >= ZONE_LOW && level <= ZONE_HIGH;
+    }
+
+    public int getProgress()
+    {
+        return ticksInZone / TICKS_PER_SECOND;
+    }
+
+    public String getStatus()
+    {
+        if (isInZone()) return "Menține în zona verde!";
+        if (level > ZONE_HIGH) return "Prea mult! Eliberează";
+        return "Ține apăsat " + QuestMechanics.chordLabel(chord);
+    }
+
+    public long getVisualState()
+    {
+        return (long)(level / 10) * 1000 + ticksInZone / 6;
+    }
+
+    public void paint(QuestOverlay.Canvas canvas, int x, int y, int w, int h)
+    {
+        int gaugeH = h - 20;
+        canvas.setColor(UIStyle.color(40, 40, 55, 220));
+        canvas.fillRect(x, y, w, gaugeH);
+
+        int zoneX = x + ZONE_LOW * w / MAX_LEVEL;
+        int zoneW = (ZONE_HIGH - ZONE_LOW) * w / MAX_LEVEL;
+        canvas.setColor(UIStyle.color(100, 220, 100, 120));
+        canvas.fillRect(zoneX, y, zoneW, gaugeH);
+
+        int fillW = level * w / MAX_LEVEL;
+        canvas.setColor(isInZone() ? UIStyle.color(120, 255, 140, 220) : UIStyle.color(255, 170, 90, 220));
+        canvas.fillRect(x, y + gaugeH / 4, fillW, gaugeH / 2);
+
+        canvas.setColor(UIStyle.color(150, 150, 180, 200));
+        canvas.drawRect(x, y, w - 1, gaugeH);
+
+        // Time spent in the zone within the current second
+        int secondW = (ticksInZone % TICKS_PER_SECOND) * w / TICKS_PER_SECOND;
+        canvas.setColor(UIStyle.color(120, 200, 255, 180));
+        canvas.fillRect(x, y + gaugeH + 8, secondW, 6);
+    }
+}
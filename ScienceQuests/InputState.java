@@ -0,0 +1,193 @@
+import greenfoot.Greenfoot;
+import java.util.function.Predicate;
+
+/**
+ * InputState - Per-frame keyboard snapshot with edge detection.
+ * Every world calls poll() once at the top of its act(), which samples all game keys
+ * into a bitmask. Actors then query the snapshot instead of asking Greenfoot for each
+ * key by name and tracking their own "was down last frame" booleans.
+ */
+public final class InputState
+{
+    public static final int UP = 0;
+    public static final int DOWN = 1;
+    public static final int LEFT = 2;
+    public static final int RIGHT = 3;
+    public static final int SPACE = 4;
+    public static final int ENTER = 5;
+    public static final int ESCAPE = 6;
+    public static final int G = 7;
+
+    // Greenfoot key names, indexed by the constants above
+    private static final String[] KEY_NAMES = {
+        "up", "down", "left", "right", "space", "enter", "escape", "g"
+    };
+
+    private static final int ARROW_BITS = (1 << UP) | (1 << DOWN) | (1 << LEFT) | (1 << RIGHT);
+
+    private int current;
+    private int previous;
+    private final int[] holdTicks = new int[KEY_NAMES.length];
+    private final int[] lastHoldTicks = new int[KEY_NAMES.length];
+    private Predicate<String> keySource = Greenfoot::isKeyDown;
+
+    // Created by GameSession, one per student
+    InputState()
+    {
+    }
+
+    public static InputState getInstance()
+    {
+        return GameSession.current().getInputState();
+    }
+
+    /**
+     * Where poll() reads keys from. Defaults to the Greenfoot keyboard; hosted sessions
+     * (bots, server-driven students) supply their own.
+     */
+    public void setKeySource(Predicate<String> keySource)
+    {
+        this.keySource = keySource;
+    }
+
+    /**
+     * Sample every tracked key once. Call at the start of World.act() so the
+     * snapshot is fresh before any actor runs.
+     */
+    public void poll()
+    {
+        previous = current;
+        int mask = 0;
+        for (int i = 0; i < KEY_NAMES.length; i++)
+        {
+            if (keySource.test(KEY_NAMES[i]))
+            {
+                mask |= 1 << i;
+                holdTicks[i]++;
+            }
+            else
+            {
+                if (holdTicks[i] > 0)
+                {
+                    lastHoldTicks[i] = holdTicks[i];
+                }
+                holdTicks[i] = 0;
+            }
+        }
+        current = mask;
+    }
+
+    public boolean isDown(int key)
+    {
+        return (current & (1 << key)) != 0;
+    }
+
+    public boolean justPressed(int key)
+    {
+        return (current & ~previous & (1 << key)) != 0;
+    }
+
+    public boolean justReleased(int key)
+    {
+        return (~current & previous & (1 << key)) != 0;
+    }
+
+    /**
+     * True on the frame any arrow key goes down.
+     */
+    public boolean anyArrowJustPressed()
+    {
+        return (current & ~previous & ARROW_BITS) != 0;
+    }
+
+    /**
+     * Bitmask of a key chord such as "up+right"; 0 if any part is not a tracked key.
+     */
+    public static int chordMask(String chord)
+    {
+        int mask = 0;
+        for (String part : chord.split("\\+"))
+        {
+            int key = keyCode(part.trim().toLowerCase());
+            if (key < 0) return 0;
+            mask |= 1 << key;
+        }
+        return mask;
+    }
+
+    /**
+     * True while every key in the mask is held.
+     */
+    public boolean allDown(int mask)
+    {
+        return mask != 0 && (current & mask) == mask;
+    }
+
+    /**
+     * True on the frame any key in the mask goes down.
+     */
+    public boolean anyJustPressed(int mask)
+    {
+        return (current & ~previous & mask) != 0;
+    }
+
+    /**
+     * True on the frame any key in the mask is let go.
+     */
+    public boolean anyJustReleased(int mask)
+    {
+        return (~current & previous & mask) != 0;
+    }
+
+    /**
+     * Bitmask of the arrow keys and SPACE, the keys quests listen to.
+     */
+    public static int questKeysMask()
+    {
+        return ARROW_BITS | (1 << SPACE);
+    }
+
+    /**
+     * Number of consecutive frames the key has been held (0 when up).
+     */
+    public int getHoldTicks(int key)
+    {
+        return holdTicks[key];
+    }
+
+    /**
+     * Length in frames of the most recently completed press of the key.
+     */
+    public int getLastHoldTicks(int key)
+    {
+        return lastHoldTicks[key];
+    }
+
+    /**
+     * Name-based lookups for quests that store key names as data (e.g. "up", "left").
+     * Untracked names fall back to a direct query of the key source.
+     */
+    public boolean isDown(String keyName)
+    {
+        int key = keyCode(keyName);
+        return key >= 0 ? isDown(key) : keySource.test(keyName);
+    }
+
+    public boolean justPressed(String keyName)
+    {
+        int key = keyCode(keyName);
+        return key >= 0 && justPressed(key);
+    }
+
+    public static int keyCode(String keyName)
+    {
+        for (int i = 0; i < KEY_NAMES.length; i++)
+        {
+            if (KEY_NAMES[i].equals(keyName))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
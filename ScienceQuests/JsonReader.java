@@ -0,0 +1,393 @@
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JsonReader - Small streaming (pull) JSON parser.
+ * Reads tokens straight from a Reader through a fixed buffer, so callers walk the
+ * document with beginObject/nextName/nextInt/... and never hold the whole file as a
+ * String or build a tree. Commas and colons are consumed automatically, but only
+ * where JSON allows them: a scope stack tracks whether the reader is in an object or
+ * an array and whether an element was already read, so "[1,,2]", "[1,]" or a missing
+ * comma between members are reported as IOExceptions like any other syntax error.
+ */
+public class JsonReader implements Closeable
+{
+    /** Kind of the next value in the stream */
+    public enum Token
+    {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private final Reader in;
+    private final char[] buffer = new char[4096];
+    private int pos = 0;
+    private int limit = 0;
+    private final StringBuilder scratch = new StringBuilder();
+
+    // Scopes on the stack: where the reader is and what the next token may be
+    private static final int DOCUMENT = 0;
+    private static final int EMPTY_ARRAY = 1;
+    private static final int ARRAY = 2;          // at least one element read
+    private static final int EMPTY_OBJECT = 3;
+    private static final int OBJECT = 4;         // at least one member read
+    private static final int DANGLING_NAME = 5;  // name read, its value is next
+
+    private int[] scopes = new int[32];
+    private int depth = 1;
+    // The comma or scope change before the next token was already handled (by peek)
+    private boolean separated = false;
+    private boolean separatedByComma = false;
+    private boolean atName = false;
+
+    public JsonReader(Reader in)
+    {
+        this.in = in;
+    }
+
+    /**
+     * Open a JSON file relative to the project folder, falling back to the classpath.
+     */
+    public static JsonReader open(String path) throws IOException
+    {
+        InputStream stream;
+        try
+        {
+            stream = new FileInputStream(path);
+        }
+        catch (IOException e)
+        {
+            stream = JsonReader.class.getClassLoader().getResourceAsStream(path);
+            if (stream == null) throw e;
+        }
+        return new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    public Token peek() throws IOException
+    {
+        separate();
+        int c = peekSignificant();
+        switch (c)
+        {
+            case -1:  return Token.END_DOCUMENT;
+            case '{': return Token.BEGIN_OBJECT;
+            case '}': return Token.END_OBJECT;
+            case '[': return Token.BEGIN_ARRAY;
+            case ']': return Token.END_ARRAY;
+            case '"': return Token.STRING;
+            case 't':
+            case 'f': return Token.BOOLEAN;
+            case 'n': return Token.NULL;
+            default:  return Token.NUMBER;
+        }
+    }
+
+    public void beginObject() throws IOException
+    {
+        beforeValue();
+        expect('{');
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException
+    {
+        int scope = endScope();
+        if (scope == DANGLING_NAME) throw syntaxError("expected value");
+        if (scope != EMPTY_OBJECT && scope != OBJECT) throw syntaxError("unexpected '}'");
+        expect('}');
+        depth--;
+    }
+
+    public void beginArray() throws IOException
+    {
+        beforeValue();
+        expect('[');
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException
+    {
+        int scope = endScope();
+        if (scope != EMPTY_ARRAY && scope != ARRAY) throw syntaxError("unexpected ']'");
+        expect(']');
+        depth--;
+    }
+
+    /**
+     * True while the current object or array has more members.
+     */
+    public boolean hasNext() throws IOException
+    {
+        int c = peekSignificant();
+        return c != '}' && c != ']' && c != -1;
+    }
+
+    public String nextName() throws IOException
+    {
+        separate();
+        if (!separated || !atName) throw syntaxError("expected name");
+        String name = readString();
+        expect(':');
+        scopes[depth - 1] = DANGLING_NAME;
+        return name;
+    }
+
+    public String nextString() throws IOException
+    {
+        beforeValue();
+        return readString();
+    }
+
+    private String readString() throws IOException
+    {
+        separated = false;
+        expect('"');
+        scratch.setLength(0);
+        while (true)
+        {
+            int c = read();
+            if (c == -1) throw syntaxError("unterminated string");
+            if (c == '"') break;
+            if (c == '\\')
+            {
+                int e = read();
+                switch (e)
+                {
+                    case '"':
+                    case '\\':
+                    case '/': scratch.append((char) e); break;
+                    case 'n': scratch.append('\n'); break;
+                    case 't': scratch.append('\t'); break;
+                    case 'r': scratch.append('\r'); break;
+                    case 'b': scratch.append('\b'); break;
+                    case 'f': scratch.append('\f'); break;
+                    case 'u':
+                        int code = 0;
+                        for (int i = 0; i < 4; i++)
+                        {
+                            int digit = Character.digit(read(), 16);
+                            if (digit < 0) throw syntaxError("bad \\u escape");
+                            code = (code << 4) | digit;
+                        }
+                        scratch.append((char) code);
+                        break;
+                    case -1: throw syntaxError("unterminated string");
+                    default: throw syntaxError("bad escape '\\" + (char) e + "'");
+                }
+            }
+            else
+            {
+                scratch.append((char) c);
+            }
+        }
+        return scratch.toString();
+    }
+
+    public double nextDouble() throws IOException
+    {
+        String literal = nextLiteral();
+        try
+        {
+            return Double.parseDouble(literal);
+        }
+        catch (NumberFormatException e)
+        {
+            throw syntaxError("expected number but was '" + literal + "'");
+        }
+    }
+
+    public int nextInt() throws IOException
+    {
+        return (int) nextDouble();
+    }
+
+    public boolean nextBoolean() throws IOException
+    {
+        String literal = nextLiteral();
+        if ("true".equals(literal)) return true;
+        if ("false".equals(literal)) return false;
+        throw syntaxError("expected boolean but was '" + literal + "'");
+    }
+
+    public void nextNull() throws IOException
+    {
+        String literal = nextLiteral();
+        if (!"null".equals(literal)) throw syntaxError("expected null but was '" + literal + "'");
+    }
+
+    /**
+     * Skip the next value, including any nested objects or arrays.
+     */
+    public void skipValue() throws IOException
+    {
+        switch (peek())
+        {
+            case BEGIN_OBJECT:
+                beginObject();
+                while (hasNext())
+                {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case BEGIN_ARRAY:
+                beginArray();
+                while (hasNext())
+                {
+                    skipValue();
+                }
+                endArray();
+                break;
+            case STRING:
+                nextString();
+                break;
+            default:
+                nextLiteral();
+                break;
+        }
+    }
+
+    public void close() throws IOException
+    {
+        in.close();
+    }
+
+    // Read a number / true / false / null token
+    private String nextLiteral() throws IOException
+    {
+        beforeValue();
+        separated = false;
+        peekSignificant();
+        scratch.setLength(0);
+        while (true)
+        {
+            int c = peekRaw();
+            if (c == -1 || c == ',' || c == '}' || c == ']' || c == ':' || Character.isWhitespace(c)) break;
+            scratch.append((char) read());
+        }
+        if (scratch.length() == 0) throw syntaxError("expected value");
+        return scratch.toString();
+    }
+
+    private void expect(char expected) throws IOException
+    {
+        int c = peekSignificant();
+        if (c != expected) throw syntaxError("expected '" + expected + "'");
+        pos++;
+    }
+
+    /**
+     * Consume what has to come before the next token of the current scope: a comma
+     * after a previous array element or member, nothing before the first one or a
+     * member's value. Nothing is consumed in front of a closing bracket.
+     */
+    private void separate() throws IOException
+    {
+        if (separated) return;
+        int c = peekSignificant();
+        if (c == '}' || c == ']' || c == -1) return;
+
+        separatedByComma = false;
+        atName = false;
+        switch (scopes[depth - 1])
+        {
+            case EMPTY_ARRAY:
+                scopes[depth - 1] = ARRAY;
+                break;
+            case ARRAY:
+                expect(',');
+                separatedByComma = true;
+                break;
+            case EMPTY_OBJECT:
+                scopes[depth - 1] = OBJECT;
+                atName = true;
+                break;
+            case OBJECT:
+                expect(',');
+                separatedByComma = true;
+                atName = true;
+                break;
+            case DANGLING_NAME:
+                scopes[depth - 1] = OBJECT;
+                break;
+            default:
+                break;
+        }
+        separated = true;
+    }
+
+    private void beforeValue() throws IOException
+    {
+        separate();
+        if (separated && atName) throw syntaxError("expected name");
+    }
+
+    // The scope a closing bracket ends; a comma in front of it is an error
+    private int endScope() throws IOException
+    {
+        if (separated && separatedByComma) throw syntaxError("trailing comma");
+        separated = false;
+        return scopes[depth - 1];
+    }
+
+    private void push(int scope)
+    {
+        separated = false;
+        if (depth == scopes.length)
+        {
+            int[] grown = new int[depth * 2];
+            System.arraycopy(scopes, 0, grown, 0, depth);
+            scopes = grown;
+        }
+        scopes[depth++] = scope;
+    }
+
+    // Skip whitespace, then peek the next character
+    private int peekSignificant() throws IOException
+    {
+        while (true)
+        {
+            int c = peekRaw();
+            if (c != -1 && Character.isWhitespace(c))
+            {
+                pos++;
+                continue;
+            }
+            return c;
+        }
+    }
+
+    private int peekRaw() throws IOException
+    {
+        if (pos >= limit && !fill()) return -1;
+        return buffer[pos];
+    }
+
+    private int read() throws IOException
+    {
+        if (pos >= limit && !fill()) return -1;
+        return buffer[pos++];
+    }
+
+    private boolean fill() throws IOException
+    {
+        limit = in.read(buffer, 0, buffer.length);
+        pos = 0;
+        if (limit <= 0)
+        {
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+
+    private IOException syntaxError(String message)
+    {
+        return new IOException("Malformed JSON: " + message);
+    }
+}
@@ -16,43 +16,28 @@ public class KeyRainfallQuest extends BaseQuest
     private int baseSpawnRate = 45;
     private int currentSpawnRate;
     private int animTick = 0;
-    private boolean upDown = false;
-    private boolean downDown = false;
-    private boolean leftDown = false;
-    private boolean rightDown = false;
+    
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Text levelText;
+    private QuestOverlay.Widget catchZone;
+    private QuestOverlay.Widget keysLayer;
+    private int keysShown = 0; // falling keys on the layer when it was last drawn
+    private QuestOverlay.Text catchText;
+    private QuestOverlay.Text scoreText;
+    private QuestOverlay.Text comboText;
+    
+    private static final Color LEVEL_COLOR = UIStyle.color(150, 200, 255);
+    private static final Color SCORE_COLOR = UIStyle.color(100, 255, 200);
+    private static final Color COMBO_COLOR = UIStyle.color(100, 255, 100);
+    
+    // Tabled sin(tick * rate) curves for pulses and glows
+    private static final UIStyle.Curve WAVE_15 = UIStyle.wave(0.15);
     
     public KeyRainfallQuest(int mapX, int mapY)
     {
         super(mapX, mapY);
-        createImage();
-    }
-    
-    private void createImage()
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        marker.setColor(new Color(255, 255, 255));
-        marker.setFont(new greenfoot.Font("Arial", true, false, 10));
-        marker.drawString("SPATIU", 4, 46);
-        setImage(marker);
+        setImage(getMarkerImage(true));
     }
     
     public void act()
@@ -72,12 +57,12 @@ public class KeyRainfallQuest extends BaseQuest
         Actor player = getPlayer();
         if (player != null && !questActive)
         {
-            boolean startPressed = Greenfoot.isKeyDown("space");
+            boolean startPressed = input.justPressed(InputState.SPACE);
             if (canStartQuest(player, 100))
             {
                 if (!tutorialActive)
                 {
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = true;
                         showTutorial();
@@ -87,7 +72,7 @@ public class KeyRainfallQuest extends BaseQuest
                 else
                 {
                     showTutorial();
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = false;
                         beginQuest();
@@ -107,7 +92,6 @@ public class KeyRainfallQuest extends BaseQuest
                 tutorialActive = false;
                 clearOverlay();
             }
-            startKeyDown = startPressed;
         }
         
         if (interactionCooldown > 0) interactionCooldown--;
@@ -119,14 +103,10 @@ public class KeyRainfallQuest extends BaseQuest
             // Difficulty progression - spawn rate increases
             currentSpawnRate = Math.max(15, baseSpawnRate - (catchCount * 3));
             
-            boolean upPressed = Greenfoot.isKeyDown("up");
-            boolean downPressed = Greenfoot.isKeyDown("down");
-            boolean leftPressed = Greenfoot.isKeyDown("left");
-            boolean rightPressed = Greenfoot.isKeyDown("right");
-            boolean upJust = upPressed && !upDown;
-            boolean downJust = downPressed && !downDown;
-            boolean leftJust = leftPressed && !leftDown;
-            boolean rightJust = rightPressed && !rightDown;
+            boolean upJust = input.justPressed(InputState.UP);
+            boolean downJust = input.justPressed(InputState.DOWN);
+            boolean leftJust = input.justPressed(InputState.LEFT);
+            boolean rightJust = input.justPressed(InputState.RIGHT);
             
             // Spawn new keys
             spawnTimer++;
@@ -172,10 +152,6 @@ public class KeyRainfallQuest extends BaseQuest
                 }
             }
             
-            upDown = upPressed;
-            downDown = downPressed;
-            leftDown = leftPressed;
-            rightDown = rightPressed;
             
             updateDisplay();
         }
@@ -190,136 +166,138 @@ public class KeyRainfallQuest extends BaseQuest
     
     private void updateDisplay()
     {
-            
-                upDown = Greenfoot.isKeyDown("up");
-                downDown = Greenfoot.isKeyDown("down");
-                leftDown = Greenfoot.isKeyDown("left");
-                rightDown = Greenfoot.isKeyDown("right");
+        if (scene == null) buildScene();
+        
+        int diffLevel = Math.min(8, (catchCount / 2) + 1);
+        levelText.set("NIVEL " + diffLevel + " | RITM: " + (baseSpawnRate - currentSpawnRate) + "%", LEVEL_COLOR);
+        catchZone.update(WAVE_15.at(animTick, 100, 80));
+        
+        // Every key falls each tick, so the layer only stays clean once it is empty
+        if (!fallingKeys.isEmpty() || keysShown > 0)
+        {
+            keysLayer.markDirty();
+        }
+        keysShown = fallingKeys.size();
+        
+        catchText.set("PRINSE: " + catchCount + " / " + targetCount, Color.WHITE);
+        scoreText.set("Scor: " + totalScore, SCORE_COLOR);
+        comboText.set(combo > 1 ? "Combo x" + combo : "", COMBO_COLOR);
+        
+        showScene(scene);
+    }
+    
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene()
+    {
         World world = getWorld();
         int w = world != null ? world.getWidth() : 800;
         int h = world != null ? world.getHeight() : 600;
         
-        ensureOverlay();
-        
-        GreenfootImage img = new GreenfootImage(w, h);
-
-        // Animated pulsing background
-        int pulse = 90 + (int)(70 * Math.sin(animTick * 0.12));
-        img.setColor(new Color(0, 0, 0, pulse));
-        img.fillRect(0, 0, w, h);
-
         int panelW = 460;
         int panelH = 280;
         int px = (w - panelW) / 2;
         int py = (h - panelH) / 2;
+        
+        scene = new QuestOverlay(w, h, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 90));
+            img.fillRect(0, 0, w, h);
 
-        // Glowing aura effect (cyan: 100, 200, 255)
-        img.setColor(new Color(100, 200, 255, 60));
-        img.fillRect(px - 8, py - 8, panelW + 16, panelH + 16);
+            // Glowing aura effect (cyan: 100, 200, 255)
+            img.setColor(UIStyle.color(100, 200, 255, 60));
+            img.fillRect(px - 8, py - 8, panelW + 16, panelH + 16);
 
-        // Panel background
-        img.setColor(new Color(10, 20, 35, 220));
-        img.fillRect(px, py, panelW, panelH);
+            // Panel background
+            img.setColor(UIStyle.color(10, 20, 35, 220));
+            img.fillRect(px, py, panelW, panelH);
 
-        // Double-line fancy borders with cyan glow
-        img.setColor(new Color(100, 200, 255, 220));
-        img.drawRect(px, py, panelW, panelH);
-        img.setColor(new Color(150, 220, 255, 120));
-        img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
+            // Double-line fancy borders with cyan glow
+            img.setColor(UIStyle.color(100, 200, 255, 220));
+            img.drawRect(px, py, panelW, panelH);
+            img.setColor(UIStyle.color(150, 220, 255, 120));
+            img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
 
-        // Title
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 24));
-        img.drawString("PLOAIA DE SĂGEȚI", px + 70, py + 50);
+            // Title
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 24));
+            img.drawString("PLOAIA DE SĂGEȚI", px + 70, py + 50);
 
+            img.setColor(UIStyle.color(150, 200, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 14));
+            img.drawString("INSTRUCȚIUNI: prinde săgețile în zona albastră", px + 45, py + 75);
+        });
+        
         // Difficulty level and speed
-        img.setColor(new Color(150, 200, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 14));
-        int diffLevel = Math.min(8, (catchCount / 2) + 1);
-        img.drawString("INSTRUCȚIUNI: prinde săgețile în zona albastră", px + 45, py + 75);
-        img.drawString("NIVEL " + diffLevel + " | RITM: " + (baseSpawnRate - currentSpawnRate) + "%", px + 125, py + 95);
+        levelText = scene.add(new QuestOverlay.Text(px + 125, py + 95, 250, UIStyle.font("Arial", true, false, 14)));
 
         // Catch zone visualization at bottom
         int zoneX = px + 80;
         int zoneY = py + 180;
         int zoneW = 300;
         int zoneH = 50;
-        
-        // Zone background
-        img.setColor(new Color(50, 100, 150, 150));
-        img.fillRect(zoneX, zoneY, zoneW, zoneH);
-        
-        // Zone label
-        img.setColor(new Color(150, 220, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 16));
-        img.drawString("ZONA DE PRINDERE", zoneX + 60, zoneY + 35);
-        
-        // Pulsing zone glow
-        int zoneGlow = 100 + (int)(80 * Math.sin(animTick * 0.15));
-        img.setColor(new Color(100, 200, 255, zoneGlow / 2));
-        img.fillRect(zoneX - 4, zoneY - 4, zoneW + 8, zoneH + 8);
-        
-        // Zone border
-        img.setColor(new Color(100, 200, 255, 200));
-        img.drawRect(zoneX, zoneY, zoneW, zoneH);
-
-        // Falling keys rendering
-        for (FallingKey key : fallingKeys)
-        {
-            // Scale keys based on fall progress (depth effect)
-            float scale = 0.7f + (key.y / 200.0f) * 0.3f;
-            int keySize = (int)(20 * scale);
-            
-            // Alpha fading as they approach catch zone
-            int alpha = 255;
-            if (key.y > 150)
-            {
-                alpha = 150 + (int)((200 - key.y) * 1.05f);
-            }
+        catchZone = scene.add(zoneX - 4, zoneY - 4, zoneW + 9, zoneH + 9, img -> {
+            // Zone background
+            img.setColor(UIStyle.color(50, 100, 150, 150));
+            img.fillRect(zoneX, zoneY, zoneW, zoneH);
             
-            img.setColor(new Color(100, 255, 200, alpha));
+            // Zone label
+            img.setColor(UIStyle.color(150, 220, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 16));
+            img.drawString("ZONA DE PRINDERE", zoneX + 60, zoneY + 35);
             
-            String arrow = key.keyName.equals("up") ? "^" :
-                          key.keyName.equals("down") ? "v" :
-                          key.keyName.equals("left") ? "<" : ">";
+            // Pulsing zone glow
+            int zoneGlow = WAVE_15.at(animTick, 100, 80);
+            img.setColor(UIStyle.color(100, 200, 255, zoneGlow / 2));
+            img.fillRect(zoneX - 4, zoneY - 4, zoneW + 8, zoneH + 8);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, keySize));
-            int keyX = px + key.x - (int)(keySize / 2.5);
-            int keyY = py + key.y + 45;
-            img.drawString(arrow, keyX, keyY);
-            
-            // Glow effect on keys
-            img.setColor(new Color(100, 255, 200, Math.max(0, alpha / 3)));
-            img.drawString(arrow, keyX - 3, keyY - 3);
-        }
-
-        // Progress tracking
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 22));
-        img.drawString("PRINSE: " + catchCount + " / " + targetCount, px + 150, py + 145);
-
-        // Score and combo display
-        img.setColor(new Color(100, 255, 200));
-        img.setFont(new greenfoot.Font("Arial", true, false, 18));
-        img.drawString("Scor: " + totalScore, px + 180, py + 260);
+            // Zone border
+            img.setColor(UIStyle.color(100, 200, 255, 200));
+            img.drawRect(zoneX, zoneY, zoneW, zoneH);
+        });
 
-        if (combo > 1)
-        {
-            img.setColor(new Color(100, 255, 100));
-            img.setFont(new greenfoot.Font("Arial", true, false, 16));
-            img.drawString("Combo x" + combo, px + 190, py + 235);
-        }
+        // Falling keys rendering
+        keysLayer = scene.add(px + 60, py + 20, 270, 250, img -> {
+            for (FallingKey key : fallingKeys)
+            {
+                // Scale keys based on fall progress (depth effect)
+                float scale = 0.7f + (key.y / 200.0f) * 0.3f;
+                int keySize = (int)(20 * scale);
+                
+                // Alpha fading as they approach catch zone
+                int alpha = 255;
+                if (key.y > 150)
+                {
+                    alpha = 150 + (int)((200 - key.y) * 1.05f);
+                }
+                
+                img.setColor(UIStyle.color(100, 255, 200, alpha));
+                
+                String arrow = key.keyName.equals("up") ? "^" :
+                              key.keyName.equals("down") ? "v" :
+                              key.keyName.equals("left") ? "<" : ">";
+                
+                img.setFont(UIStyle.font("Arial", true, false, keySize));
+                int keyX = px + key.x - (int)(keySize / 2.5);
+                int keyY = py + key.y + 45;
+                img.drawString(arrow, keyX, keyY);
+                
+                // Glow effect on keys
+                img.setColor(UIStyle.color(100, 255, 200, Math.max(0, alpha / 3)));
+                img.drawString(arrow, keyX - 3, keyY - 3);
+            }
+        });
 
-        if (overlay != null)
-        {
-            overlay.setImage(img);
-        }
+        // Progress tracking, score and combo display
+        catchText = scene.add(new QuestOverlay.Text(px + 150, py + 145, 200, UIStyle.font("Arial", true, false, 22)));
+        comboText = scene.add(new QuestOverlay.Text(px + 190, py + 235, 120, UIStyle.font("Arial", true, false, 16)));
+        scoreText = scene.add(new QuestOverlay.Text(px + 180, py + 260, 150, UIStyle.font("Arial", true, false, 18)));
     }
     
     private void finishQuest(boolean success)
     {
         endQuest();
-        completed = true;
+        markCompleted();
         resultDisplayTicks = 120;
 
         World world = getWorld();
@@ -333,80 +311,72 @@ public class KeyRainfallQuest extends BaseQuest
         
         if (success)
         {
-            img.setColor(new Color(100, 200, 255, 190));
+            img.setColor(UIStyle.color(100, 200, 255, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(100, 200, 255, 100));
+            img.setColor(UIStyle.color(100, 200, 255, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
             
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 38));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 38));
             img.drawString("AI PRINS TOT!", panelW / 2 - 125, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 20));
-            img.setColor(new Color(150, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 20));
+            img.setColor(UIStyle.color(150, 255, 255));
             img.drawString("Scor: " + totalScore, panelW / 2 - 70, panelH / 2 + 15);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 15));
-            img.setColor(new Color(200, 200, 200));
+            img.setFont(UIStyle.font("Arial", true, false, 15));
+            img.setColor(UIStyle.color(200, 200, 200));
             img.drawString("Săgeți prinse: " + catchCount, panelW / 2 - 105, panelH / 2 + 50);
             img.drawString("Combo maxim: x" + combo, panelW / 2 - 105, panelH / 2 + 70);
         }
         else
         {
-            img.setColor(new Color(100, 200, 255, 190));
+            img.setColor(UIStyle.color(100, 200, 255, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(255, 100, 100, 100));
+            img.setColor(UIStyle.color(255, 100, 100, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
             
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 38));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 38));
             img.drawString("RATAT!", panelW / 2 - 90, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 18));
-            img.setColor(new Color(255, 150, 150));
+            img.setFont(UIStyle.font("Arial", true, false, 18));
+            img.setColor(UIStyle.color(255, 150, 150));
             img.drawString("O săgeată a scăpat!", panelW / 2 - 120, panelH / 2 + 10);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 15));
-            img.setColor(new Color(200, 200, 200));
+            img.setFont(UIStyle.font("Arial", true, false, 15));
+            img.setColor(UIStyle.color(200, 200, 200));
             img.drawString("Prinse: " + catchCount + " / " + targetCount, panelW / 2 - 95, panelH / 2 + 50);
             img.drawString("Scor: " + totalScore, panelW / 2 - 70, panelH / 2 + 70);
         }
         
         // Set transparent actor image
-        GreenfootImage transparent = new GreenfootImage(48, 48);
-        transparent.setColor(new Color(0, 0, 0, 0));
-        transparent.fillRect(0, 0, 48, 48);
-        setImage(transparent);
+        setImage(getHiddenMarkerImage());
         
         overlay.setImage(img);
     }
 
-    private void showTutorial()
+    protected GreenfootImage createTutorialImage()
     {
-        World world = getWorld();
-        if (world == null) return;
-        ensureOverlay();
-        if (overlay == null) return;
-
         int w = 460;
         int h = 190;
         GreenfootImage img = new GreenfootImage(w, h);
-        img.setColor(new Color(0, 0, 0, 200));
+        img.setColor(UIStyle.color(0, 0, 0, 200));
         img.fillRect(0, 0, w, h);
-        img.setColor(new Color(120, 200, 255, 200));
+        img.setColor(UIStyle.color(120, 200, 255, 200));
         img.drawRect(0, 0, w - 1, h - 1);
 
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.setColor(Color.WHITE);
         img.drawString("TUTORIAL: PLOAIA DE SĂGEȚI", 70, 30);
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(220, 220, 220));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(220, 220, 220));
         img.drawString("Apasă săgeata potrivită când trece prin zona albastră.", 25, 70);
         img.drawString("Scop: prinde " + targetCount + " săgeți.", 140, 95);
-        img.setColor(new Color(200, 255, 200));
+        img.setColor(UIStyle.color(200, 255, 200));
         img.drawString("Apasă SPATIU pentru a începe", 140, 145);
 
-        overlay.setImage(img);
+        return img;
     }
     
     private class FallingKey
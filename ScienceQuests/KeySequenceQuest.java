@@ -16,16 +16,31 @@ public class KeySequenceQuest extends BaseQuest
     private int animTick = 0;
     private int correctFeedbackTick = 0;
     private int wrongFeedbackTick = 0;
-    private boolean upDown = false;
-    private boolean downDown = false;
-    private boolean leftDown = false;
-    private boolean rightDown = false;
+    
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Widget sequenceBoxes;
+    private QuestOverlay.Widget progressBar;
+    private QuestOverlay.Widget timeBar;
+    private QuestOverlay.Text keyText;
+    private QuestOverlay.Text sequencesText;
+    private QuestOverlay.Text stepText;
+    private QuestOverlay.Text timeText;
+    
+    private static final Color CORRECT_COLOR = UIStyle.color(100, 255, 100);
+    private static final Color WRONG_COLOR = UIStyle.color(255, 120, 120);
+    private static final Color PROMPT_COLOR = UIStyle.color(200, 200, 200);
+    private static final Color COUNTER_COLOR = UIStyle.color(255, 200, 100);
+    private static final Color TIME_COLOR = UIStyle.color(200, 200, 220);
+    
+    // Tabled sin(tick * rate) curves for pulses and glows
+    private static final UIStyle.Curve WAVE_20 = UIStyle.wave(0.2);
     
     public KeySequenceQuest(int mapX, int mapY)
     {
         super(mapX, mapY);
         generateSequence();
-        createImage();
+        setImage(getMarkerImage(true));
     }
     
     private void generateSequence()
@@ -44,34 +59,6 @@ public class KeySequenceQuest extends BaseQuest
         }
     }
     
-    private void createImage()
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        marker.setColor(new Color(255, 255, 255));
-        marker.setFont(new greenfoot.Font("Arial", true, false, 10));
-        marker.drawString("SPATIU", 4, 46);
-        setImage(marker);
-    }
-    
     public void act()
     {
         if (completed)
@@ -89,12 +76,12 @@ public class KeySequenceQuest extends BaseQuest
         Actor player = getPlayer();
         if (player != null && !questActive)
         {
-            boolean startPressed = Greenfoot.isKeyDown("space");
+            boolean startPressed = input.justPressed(InputState.SPACE);
             if (canStartQuest(player, 100))
             {
                 if (!tutorialActive)
                 {
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = true;
                         showTutorial();
@@ -104,7 +91,7 @@ public class KeySequenceQuest extends BaseQuest
                 else
                 {
                     showTutorial();
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = false;
                         questActive = true;
@@ -113,10 +100,6 @@ public class KeySequenceQuest extends BaseQuest
                         completedSequences = 0;
                         animTick = 0;
                         timeRemaining = timeMax;
-                        upDown = false;
-                        downDown = false;
-                        leftDown = false;
-                        rightDown = false;
                         interactionCooldown = 10;
                     }
                 }
@@ -126,7 +109,6 @@ public class KeySequenceQuest extends BaseQuest
                 tutorialActive = false;
                 clearOverlay();
             }
-            startKeyDown = startPressed;
         }
         
         if (interactionCooldown > 0) interactionCooldown--;
@@ -152,14 +134,10 @@ public class KeySequenceQuest extends BaseQuest
     private void checkInput()
     {
         String currentKey = sequence[sequenceIndex];
-        boolean upPressed = Greenfoot.isKeyDown("up");
-        boolean downPressed = Greenfoot.isKeyDown("down");
-        boolean leftPressed = Greenfoot.isKeyDown("left");
-        boolean rightPressed = Greenfoot.isKeyDown("right");
-        boolean upJust = upPressed && !upDown;
-        boolean downJust = downPressed && !downDown;
-        boolean leftJust = leftPressed && !leftDown;
-        boolean rightJust = rightPressed && !rightDown;
+        boolean upJust = input.justPressed(InputState.UP);
+        boolean downJust = input.justPressed(InputState.DOWN);
+        boolean leftJust = input.justPressed(InputState.LEFT);
+        boolean rightJust = input.justPressed(InputState.RIGHT);
         boolean anyJust = upJust || downJust || leftJust || rightJust;
         
         String pressedKey = null;
@@ -199,10 +177,6 @@ public class KeySequenceQuest extends BaseQuest
             }
         }
         
-        upDown = upPressed;
-        downDown = downPressed;
-        leftDown = leftPressed;
-        rightDown = rightPressed;
     }
     
     private void updateDisplay()
@@ -214,110 +188,127 @@ public class KeySequenceQuest extends BaseQuest
         
         int panelW = 460;
         int panelH = 300;
-        GreenfootImage img = new GreenfootImage(panelW, panelH);
-
-        int pulse = 100 + (int)(60 * Math.sin(animTick * 0.12));
-        img.setColor(new Color(0, 0, 0, pulse));
-        img.fillRect(0, 0, panelW, panelH);
-
+        if (scene == null) buildScene(panelW, panelH);
+        
+        int glow = WAVE_20.at(animTick, 140, 80);
+        sequenceBoxes.update(sequenceIndex, glow, wrongFeedbackTick > 0 ? 1 : 0);
+        
+        String keyStr = sequence[sequenceIndex].toUpperCase();
+        String arrow = getArrowForKey(sequence[sequenceIndex]);
+        keyText.set("Apasă: " + keyStr + " " + arrow,
+                    correctFeedbackTick > 0 ? CORRECT_COLOR :
+                    wrongFeedbackTick > 0 ? WRONG_COLOR : PROMPT_COLOR);
+        
+        sequencesText.set("Secvențe: " + completedSequences + " / " + targetSequences, COUNTER_COLOR);
+        stepText.set("Pas: " + (sequenceIndex + 1) + " / " + SEQUENCE_LENGTH, COUNTER_COLOR);
+        
+        progressBar.update(sequenceIndex);
+        timeBar.update((int)((panelW - 40) * (timeRemaining / (float)timeMax)));
+        timeText.set(Math.round(timeRemaining / 60.0f) + "s", TIME_COLOR);
+        
+        showScene(scene);
+    }
+    
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene(int w, int h)
+    {
+        int panelW = w;
+        int panelH = h;
         int px = 0;
         int py = 0;
+        
+        scene = new QuestOverlay(panelW, panelH, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 100));
+            img.fillRect(0, 0, panelW, panelH);
 
-        // Glow effect
-        img.setColor(new Color(100, 150, 255, 60));
-        img.fillRect(px - 8, py - 8, panelW + 16, panelH + 16);
+            // Glow effect
+            img.setColor(UIStyle.color(100, 150, 255, 60));
+            img.fillRect(px - 8, py - 8, panelW + 16, panelH + 16);
 
-        // Panel
-        img.setColor(new Color(10, 10, 20, 245));
-        img.fillRect(px, py, panelW, panelH);
+            // Panel
+            img.setColor(UIStyle.color(10, 10, 20, 245));
+            img.fillRect(px, py, panelW, panelH);
 
-        img.setColor(new Color(100, 150, 255, 220));
-        img.drawRect(px, py, panelW, panelH);
-        img.setColor(new Color(120, 170, 255, 120));
-        img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
+            img.setColor(UIStyle.color(100, 150, 255, 220));
+            img.drawRect(px, py, panelW, panelH);
+            img.setColor(UIStyle.color(120, 170, 255, 120));
+            img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
 
-        // Title
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 24));
-        img.drawString("MAESTRUL SECVENȚEI", px + 70, py + 38);
+            // Title
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 24));
+            img.drawString("MAESTRUL SECVENȚEI", px + 70, py + 38);
 
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(170, 200, 255));
-        img.drawString("INSTRUCȚIUNI: apasă săgețile în ordinea afișată", px + 40, py + 58);
+            img.setFont(UIStyle.font("Arial", false, false, 14));
+            img.setColor(UIStyle.color(170, 200, 255));
+            img.drawString("INSTRUCȚIUNI: apasă săgețile în ordinea afișată", px + 40, py + 58);
+        });
 
         // Sequence display
         int seqStartX = px + 60;
         int seqY = py + 80;
         int boxSize = 40;
         int gap = 12;
-        for (int i = 0; i < SEQUENCE_LENGTH; i++)
-        {
-            int bx = seqStartX + i * (boxSize + gap);
-            Color boxColor = new Color(50, 60, 80, 220);
-            Color borderColor = new Color(120, 170, 255, 140);
-            if (i < sequenceIndex)
-            {
-                boxColor = new Color(80, 180, 120, 220);
-                borderColor = new Color(120, 255, 170, 200);
-            }
-            else if (i == sequenceIndex)
-            {
-                int glow = 140 + (int)(80 * Math.sin(animTick * 0.2));
-                boxColor = new Color(70, 90, 130, 230);
-                borderColor = new Color(150, 220, 255, glow);
-            }
-            else if (wrongFeedbackTick > 0)
+        sequenceBoxes = scene.add(seqStartX, seqY, SEQUENCE_LENGTH * (boxSize + gap) - gap + 1, boxSize + 1, img -> {
+            for (int i = 0; i < SEQUENCE_LENGTH; i++)
             {
-                borderColor = new Color(255, 100, 100, 160);
+                int bx = seqStartX + i * (boxSize + gap);
+                Color boxColor = UIStyle.color(50, 60, 80, 220);
+                Color borderColor = UIStyle.color(120, 170, 255, 140);
+                if (i < sequenceIndex)
+                {
+                    boxColor = UIStyle.color(80, 180, 120, 220);
+                    borderColor = UIStyle.color(120, 255, 170, 200);
+                }
+                else if (i == sequenceIndex)
+                {
+                    int glow = WAVE_20.at(animTick, 140, 80);
+                    boxColor = UIStyle.color(70, 90, 130, 230);
+                    borderColor = UIStyle.color(150, 220, 255, glow);
+                }
+                else if (wrongFeedbackTick > 0)
+                {
+                    borderColor = UIStyle.color(255, 100, 100, 160);
+                }
+                
+                img.setColor(boxColor);
+                img.fillRect(bx, seqY, boxSize, boxSize);
+                img.setColor(borderColor);
+                img.drawRect(bx, seqY, boxSize, boxSize);
+                img.setColor(UIStyle.color(200, 200, 220));
+                img.setFont(UIStyle.font("Arial", true, false, 20));
+                img.drawString(getArrowForKey(sequence[i]), bx + 12, seqY + 28);
             }
-            
-            img.setColor(boxColor);
-            img.fillRect(bx, seqY, boxSize, boxSize);
-            img.setColor(borderColor);
-            img.drawRect(bx, seqY, boxSize, boxSize);
-            img.setColor(new Color(200, 200, 220));
-            img.setFont(new greenfoot.Font("Arial", true, false, 20));
-            img.drawString(getArrowForKey(sequence[i]), bx + 12, seqY + 28);
-        }
-
-        // Current key to press
-        img.setFont(new greenfoot.Font("Arial", true, false, 18));
-        String keyStr = sequence[sequenceIndex].toUpperCase();
-        String arrow = getArrowForKey(sequence[sequenceIndex]);
-        
-        img.setColor(correctFeedbackTick > 0 ? new Color(100, 255, 100) :
-                     wrongFeedbackTick > 0 ? new Color(255, 120, 120) : new Color(200, 200, 200));
-        img.drawString("Apasă: " + keyStr + " " + arrow, px + 160, py + 150);
+        });
 
-        // Sequence counter
-        img.setFont(new greenfoot.Font("Arial", true, false, 18));
-        img.setColor(new Color(255, 200, 100));
-        img.drawString("Secvențe: " + completedSequences + " / " + targetSequences, px + 80, py + 155);
-        img.drawString("Pas: " + (sequenceIndex + 1) + " / " + SEQUENCE_LENGTH, px + 285, py + 185);
+        // Current key to press and sequence counter
+        greenfoot.Font statusFont = UIStyle.font("Arial", true, false, 18);
+        keyText = scene.add(new QuestOverlay.Text(px + 160, py + 150, 200, statusFont));
+        sequencesText = scene.add(new QuestOverlay.Text(px + 80, py + 155, 200, statusFont));
+        stepText = scene.add(new QuestOverlay.Text(px + 285, py + 185, 150, statusFont));
 
         // Progress bar for current sequence
-        float progress = (sequenceIndex + 1) / (float)SEQUENCE_LENGTH;
-        int barW = (int)((panelW - 40) * progress);
-        img.setColor(new Color(100, 200, 255, 150));
-        img.fillRect(px + 20, py + 220, barW, 15);
-        img.setColor(new Color(120, 220, 255, 200));
-        img.drawRect(px + 20, py + 220, panelW - 40, 15);
+        progressBar = scene.add(px + 20, py + 220, panelW - 39, 16, img -> {
+            float progress = (sequenceIndex + 1) / (float)SEQUENCE_LENGTH;
+            int barW = (int)((panelW - 40) * progress);
+            img.setColor(UIStyle.color(100, 200, 255, 150));
+            img.fillRect(px + 20, py + 220, barW, 15);
+            img.setColor(UIStyle.color(120, 220, 255, 200));
+            img.drawRect(px + 20, py + 220, panelW - 40, 15);
+        });
 
         // Time bar
-        float timePct = timeRemaining / (float)timeMax;
-        int timeW = (int)((panelW - 40) * timePct);
-        img.setColor(new Color(120, 120, 255, 80));
-        img.fillRect(px + 20, py + 245, timeW, 8);
-        img.setColor(new Color(150, 150, 255, 180));
-        img.drawRect(px + 20, py + 245, panelW - 40, 8);
-        img.setFont(new greenfoot.Font("Arial", true, false, 12));
-        img.setColor(new Color(200, 200, 220));
-        img.drawString(Math.round(timeRemaining / 60.0f) + "s", px + panelW - 45, py + 258);
-
-        if (overlay != null)
-        {
-            overlay.setImage(img);
-        }
+        timeBar = scene.add(px + 20, py + 245, panelW - 39, 9, img -> {
+            float timePct = timeRemaining / (float)timeMax;
+            int timeW = (int)((panelW - 40) * timePct);
+            img.setColor(UIStyle.color(120, 120, 255, 80));
+            img.fillRect(px + 20, py + 245, timeW, 8);
+            img.setColor(UIStyle.color(150, 150, 255, 180));
+            img.drawRect(px + 20, py + 245, panelW - 40, 8);
+        });
+        timeText = scene.add(new QuestOverlay.Text(px + panelW - 45, py + 258, 40, UIStyle.font("Arial", true, false, 12)));
     }
     
     private String getArrowForKey(String key)
@@ -329,40 +320,33 @@ public class KeySequenceQuest extends BaseQuest
         return "";
     }
 
-    private void showTutorial()
+    protected GreenfootImage createTutorialImage()
     {
-        World world = getWorld();
-        if (world == null) return;
-        ensureOverlay();
-
         int w = 460;
         int h = 200;
         GreenfootImage img = new GreenfootImage(w, h);
-        img.setColor(new Color(0, 0, 0, 200));
+        img.setColor(UIStyle.color(0, 0, 0, 200));
         img.fillRect(0, 0, w, h);
-        img.setColor(new Color(120, 170, 255, 200));
+        img.setColor(UIStyle.color(120, 170, 255, 200));
         img.drawRect(0, 0, w - 1, h - 1);
 
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.setColor(Color.WHITE);
         img.drawString("TUTORIAL: SECVENȚE", 130, 30);
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(220, 220, 220));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(220, 220, 220));
         img.drawString("Apasă săgețile în ordinea afișată.", 90, 70);
         img.drawString("Completează " + targetSequences + " secvențe de " + SEQUENCE_LENGTH + " pași.", 70, 95);
-        img.setColor(new Color(200, 255, 200));
+        img.setColor(UIStyle.color(200, 255, 200));
         img.drawString("Apasă SPATIU pentru a începe", 140, 150);
 
-        if (overlay != null)
-        {
-            overlay.setImage(img);
-        }
+        return img;
     }
     
     private void finishQuest(boolean success)
     {
         questActive = false;
-        completed = true;
+        markCompleted();
         resultDisplayTicks = 120;
         endQuest();
 
@@ -376,23 +360,20 @@ public class KeySequenceQuest extends BaseQuest
 
         if (success)
         {
-            img.setColor(new Color(0, 200, 50, 190));
+            img.setColor(UIStyle.color(0, 200, 50, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(100, 255, 150, 100));
+            img.setColor(UIStyle.color(100, 255, 150, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
 
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 38));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 38));
             img.drawString("SUCCES!", panelW / 2 - 100, panelH / 2 - 30);
-            img.setFont(new greenfoot.Font("Arial", true, false, 20));
+            img.setFont(UIStyle.font("Arial", true, false, 20));
             img.drawString("Scor: " + score, panelW / 2 - 70, panelH / 2 + 50);
         }
         
         // Set transparent actor image
-        GreenfootImage transparent = new GreenfootImage(48, 48);
-        transparent.setColor(new Color(0, 0, 0, 0));
-        transparent.fillRect(0, 0, 48, 48);
-        setImage(transparent);
+        setImage(getHiddenMarkerImage());
         
         if (overlay != null)
         {
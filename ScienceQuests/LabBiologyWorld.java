@@ -1,9 +1,11 @@
 import greenfoot.*;
 import java.util.*;
 
-public class LabBiologyWorld extends World implements CollisionWorld
+public class LabBiologyWorld extends World implements CollisionWorld, ResumableWorld, ProximityService.Host, ActorScheduler.Host
 {
     private Actor character;
+    private final ProximityService proximity = new ProximityService(this);
+    private final ActorScheduler scheduler = new ActorScheduler(this);
     private BiologyAssistant assistant;
     private GreenfootImage backgroundImage;
     private GreenfootImage onTopLayerImage;
@@ -36,12 +38,13 @@ public class LabBiologyWorld extends World implements CollisionWorld
     private int animationCounter = 0;
     private int flickerCount = 0;
     private boolean showBlack = false;
+    
+    private static final String NORMAL_MAP = "images/LabBiologyWorld-Normal.json";
+    private static final String DESTROYED_MAP = "images/LabBiologyWorld-destroyed.json";
 
     public LabBiologyWorld()
     {
         super(864, 672, 1); // 18x14 tiles at 48px
-        // Ensure any lingering dialogue state is cleared on world init
-        DialogueManager.getInstance().reset();
         
         // Draw UI on top, then overlay, then arrows, then characters and assistant
         setPaintOrder(DialogueBox.class, OverlayLayer.class, ExperienceBar.class, Label.class, 
@@ -52,13 +55,13 @@ public class LabBiologyWorld extends World implements CollisionWorld
         // Load biology lab map (start destroyed until repaired, unless already completed)
         if (GameState.getInstance().isLabCompleted(LabType.BIOLOGY))
         {
-            loadMap("images/LabBiologyWorld-Normal.json");
+            loadMap(NORMAL_MAP);
             isDestroyed = false;
             hasTriggeredDestroySequence = true;
         }
         else
         {
-            loadMap("images/LabBiologyWorld-destroyed.json");
+            loadMap(DESTROYED_MAP);
             isDestroyed = true;
             hasTriggeredDestroySequence = true;
         }
@@ -80,26 +83,7 @@ public class LabBiologyWorld extends World implements CollisionWorld
             character = girl;
         }
         
-        // Set character spawn position 
-        if (character != null)
-        {
-            // Spawn at top of the map (entering from MainMapWorld bottom wall)
-            // Map is 672px tall, spawn at y=50 in map coords, center horizontally
-            int targetMapX = backgroundImage.getWidth() / 2;  // Center of map width
-            int targetMapY = 50;  // Near top edge of map
-            
-            // Calculate screen position from map position
-            // We want to center the view on the character
-            scrollX = targetMapX - getWidth() / 2;
-            scrollY = targetMapY - getHeight() / 2;
-            scrollX = Math.max(0, Math.min(scrollX, maxScrollX));
-            scrollY = Math.max(0, Math.min(scrollY, maxScrollY));
-            
-            // Set character at center of screen (scroll will handle the offset)
-            int screenX = targetMapX - scrollX;
-            int screenY = targetMapY - scrollY;
-            character.setLocation(screenX, screenY);
-        }
+        placeAtEntrance();
         
         // Draw initial background
         drawBackground();
@@ -138,6 +122,46 @@ public class LabBiologyWorld extends World implements CollisionWorld
         {
             addReturnArrow();
         }
+
+        // Progression is event driven: react to the quiz gate and to finished quests
+        subscribeToEvents();
+    }
+
+    private void subscribeToEvents()
+    {
+        GameEvents.subscribe(this, GameEvents.QuizGateCompleted.class, LabBiologyWorld::onQuizGateCompleted);
+        GameEvents.subscribe(this, GameEvents.QuestCompleted.class, LabBiologyWorld::onQuestCompleted);
+    }
+
+    /**
+     * Unlock the mini-quests once the NPC quiz gate is passed
+     */
+    private void onQuizGateCompleted(GameEvents.QuizGateCompleted event)
+    {
+        if (event.getLab() != LabType.BIOLOGY || miniQuestsAdded) return;
+        addMiniQuests();
+        miniQuestsAdded = true;
+    }
+
+    /**
+     * Repair the lab when the last of its mini-quests finishes
+     */
+    private void onQuestCompleted(GameEvents.QuestCompleted event)
+    {
+        if (event.getQuest().getWorld() != this) return;
+        if (!repairTriggered && isDestroyed && miniQuestsAdded && areLabMiniQuestsComplete())
+        {
+            repairTriggered = true;
+            repairLab();
+            GameState state = GameState.getInstance();
+            if (!state.isLabCompleted(LabType.BIOLOGY))
+            {
+                state.completeLab(LabType.BIOLOGY);
+                state.awardBadge("biology_master");
+                state.addXp(50);
+            }
+            addReturnArrow();
+        }
     }
     
     /**
@@ -161,12 +185,20 @@ public class LabBiologyWorld extends World implements CollisionWorld
             && dnaQuest.isCompleted() && bondQuest.isCompleted() && precisionQuest.isCompleted();
     }
     
+    /**
+     * The map a new biology lab opens with: repaired once the lab is completed.
+     */
+    static String openingMapPath()
+    {
+        return GameState.getInstance().isLabCompleted(LabType.BIOLOGY) ? NORMAL_MAP : DESTROYED_MAP;
+    }
+    
     private void loadMap(String mapPath)
     {
         try
         {
             DebugLog.log("====== Loading Biology Lab Map: " + mapPath + " ======");
-            tiledMap = new TiledMap(mapPath);
+            tiledMap = GameSession.current().getWorldPreloader().takeMap(mapPath);
             tileSize = tiledMap.tileSize;
             backgroundImage = tiledMap.getFullMapImage();
             
@@ -201,8 +233,61 @@ public class LabBiologyWorld extends World implements CollisionWorld
         }
     }
     
+    /**
+     * Put the player at the door from the classroom
+     */
+    private void placeAtEntrance()
+    {
+        if (character != null)
+        {
+            // Spawn at top of the map (entering from MainMapWorld bottom wall)
+            // Map is 672px tall, spawn at y=50 in map coords, center horizontally
+            int targetMapX = backgroundImage.getWidth() / 2;  // Center of map width
+            int targetMapY = 50;  // Near top edge of map
+        
+            // Calculate screen position from map position
+            // We want to center the view on the character
+            scrollX = targetMapX - getWidth() / 2;
+            scrollY = targetMapY - getHeight() / 2;
+            scrollX = Math.max(0, Math.min(scrollX, maxScrollX));
+            scrollY = Math.max(0, Math.min(scrollY, maxScrollY));
+        
+            // Set character at center of screen (scroll will handle the offset)
+            int screenX = targetMapX - scrollX;
+            int screenY = targetMapY - scrollY;
+            character.setLocation(screenX, screenY);
+        }
+    }
+
+    /**
+     * Shown again by WorldNavigator, actors as they were left
+     */
+    public void resume()
+    {
+        subscribeToEvents();
+        placeAtEntrance();
+    }
+
+    public void suspend()
+    {
+        GameEvents.unsubscribe(this);
+    }
+
+    public ProximityService getProximityService()
+    {
+        return proximity;
+    }
+
+    public ActorScheduler getScheduler()
+    {
+        return scheduler;
+    }
+    
     public void act()
     {
+        InputState.getInstance().poll();
+        scheduler.tick();
+
         // Process dialogue input so dialogues can advance/close
         DialogueManager.getInstance().processInput();
 
@@ -228,7 +313,7 @@ public class LabBiologyWorld extends World implements CollisionWorld
         }
         
         // Check for G key press to toggle lab state (debug/manual mode)
-        if (Greenfoot.isKeyDown("g") && hasTriggeredDestroySequence && !isAnimating && !waitingForDialogue)
+        if (InputState.getInstance().justPressed(InputState.G) && hasTriggeredDestroySequence && !isAnimating && !waitingForDialogue)
         {
             startFlickerAnimation();
         }
@@ -278,28 +363,6 @@ public class LabBiologyWorld extends World implements CollisionWorld
             cleanupCompletedQuests();
         }
         
-        // Gate mini-quests until NPC quiz requirement is met
-        if (!miniQuestsAdded && GameState.getInstance().isLabBioQuizGateComplete())
-        {
-            addMiniQuests();
-            miniQuestsAdded = true;
-        }
-
-        // Repair lab after mini-quests are completed
-        if (!repairTriggered && isDestroyed && miniQuestsAdded && areLabMiniQuestsComplete())
-        {
-            repairTriggered = true;
-            repairLab();
-            GameState state = GameState.getInstance();
-            if (!state.isLabCompleted(LabType.BIOLOGY))
-            {
-                state.completeLab(LabType.BIOLOGY);
-                state.awardBadge("biology_master");
-                state.addXp(50);
-            }
-            addReturnArrow();
-        }
-
         // Check for world transitions
         checkWorldTransition();
     }
@@ -475,14 +538,14 @@ public class LabBiologyWorld extends World implements CollisionWorld
         if (isDestroyed)
         {
             // Switch back to normal
-            loadMap("images/LabBiologyWorld-Normal.json");
+            loadMap(NORMAL_MAP);
             isDestroyed = false;
             DebugLog.log("Biology lab restored to normal state");
         }
         else
         {
             // Switch to destroyed
-            loadMap("images/LabBiologyWorld-destroyed.json");
+            loadMap(DESTROYED_MAP);
             isDestroyed = true;
             DebugLog.log("Biology lab changed to destroyed state");
         }
@@ -1,9 +1,11 @@
 import greenfoot.*;
 import java.util.*;
 
-public class LabFizicaWorld extends World implements CollisionWorld
+public class LabFizicaWorld extends World implements CollisionWorld, ResumableWorld, ProximityService.Host, ActorScheduler.Host
 {
     private Actor character;
+    private final ProximityService proximity = new ProximityService(this);
+    private final ActorScheduler scheduler = new ActorScheduler(this);
     private PhysicsTeacher teacher;
     private GreenfootImage backgroundImage;
     private GreenfootImage onTopLayerImage;
@@ -36,12 +38,13 @@ public class LabFizicaWorld extends World implements CollisionWorld
     private int animationCounter = 0;
     private int flickerCount = 0;
     private boolean showBlack = false;
+    
+    private static final String NORMAL_MAP = "images/labfizica-normal.json";
+    private static final String BROKEN_MAP = "images/labfizica-broken.json";
 
     public LabFizicaWorld()
     {
         super(864, 672, 1); // 18x14 tiles at 48px
-        // Ensure any lingering dialogue state is cleared on world init
-        DialogueManager.getInstance().reset();
         
         // Draw UI on top, then overlay, then arrows, then characters and teacher
         setPaintOrder(DialogueBox.class, OverlayLayer.class, ExperienceBar.class, Label.class, 
@@ -51,13 +54,13 @@ public class LabFizicaWorld extends World implements CollisionWorld
         // Load physics lab map (start broken until repaired, unless already completed)
         if (GameState.getInstance().isLabCompleted(LabType.PHYSICS))
         {
-            loadMap("images/labfizica-normal.json");
+            loadMap(NORMAL_MAP);
             isBroken = false;
             hasTriggeredBreakSequence = true;
         }
         else
         {
-            loadMap("images/labfizica-broken.json");
+            loadMap(BROKEN_MAP);
             isBroken = true;
             hasTriggeredBreakSequence = true;
         }
@@ -79,26 +82,7 @@ public class LabFizicaWorld extends World implements CollisionWorld
             character = girl;
         }
         
-        // Set character spawn position 
-        if (character != null)
-        {
-            // Spawn at right side of the map (entering from MainMapWorld left wall)
-            // Map is 864px wide, spawn at x=780 in map coords, center vertically
-            int targetMapX = 780;  // Near right edge of map
-            int targetMapY = backgroundImage.getHeight() / 2;  // Center of map height
-            
-            // Calculate screen position from map position
-            // We want to center the view on the character
-            scrollX = targetMapX - getWidth() / 2;
-            scrollY = targetMapY - getHeight() / 2;
-            scrollX = Math.max(0, Math.min(scrollX, maxScrollX));
-            scrollY = Math.max(0, Math.min(scrollY, maxScrollY));
-            
-            // Set character at center of screen (scroll will handle the offset)
-            int screenX = targetMapX - scrollX;
-            int screenY = targetMapY - scrollY;
-            character.setLocation(screenX, screenY);
-        }
+        placeAtEntrance();
         
         // Draw initial background
         drawBackground();
@@ -138,6 +122,46 @@ public class LabFizicaWorld extends World implements CollisionWorld
         {
             addReturnArrow();
         }
+
+        // Progression is event driven: react to the quiz gate and to finished quests
+        subscribeToEvents();
+    }
+
+    private void subscribeToEvents()
+    {
+        GameEvents.subscribe(this, GameEvents.QuizGateCompleted.class, LabFizicaWorld::onQuizGateCompleted);
+        GameEvents.subscribe(this, GameEvents.QuestCompleted.class, LabFizicaWorld::onQuestCompleted);
+    }
+
+    /**
+     * Unlock the mini-quests once the NPC quiz gate is passed
+     */
+    private void onQuizGateCompleted(GameEvents.QuizGateCompleted event)
+    {
+        if (event.getLab() != LabType.PHYSICS || miniQuestsAdded) return;
+        addMiniQuests();
+        miniQuestsAdded = true;
+    }
+
+    /**
+     * Repair the lab when the last of its mini-quests finishes
+     */
+    private void onQuestCompleted(GameEvents.QuestCompleted event)
+    {
+        if (event.getQuest().getWorld() != this) return;
+        if (!repairTriggered && isBroken && miniQuestsAdded && areLabMiniQuestsComplete())
+        {
+            repairTriggered = true;
+            repairLab();
+            GameState state = GameState.getInstance();
+            if (!state.isLabCompleted(LabType.PHYSICS))
+            {
+                state.completeLab(LabType.PHYSICS);
+                state.awardBadge("physics_expert");
+                state.addXp(50);
+            }
+            addReturnArrow();
+        }
     }
     
     /**
@@ -161,11 +185,19 @@ public class LabFizicaWorld extends World implements CollisionWorld
             && pendulumQuest.isCompleted() && rhythmQuest.isCompleted() && sequenceQuest.isCompleted();
     }
     
+    /**
+     * The map a new physics lab opens with: repaired once the lab is completed.
+     */
+    static String openingMapPath()
+    {
+        return GameState.getInstance().isLabCompleted(LabType.PHYSICS) ? NORMAL_MAP : BROKEN_MAP;
+    }
+    
     private void loadMap(String mapPath)
     {
         try
         {
-            tiledMap = new TiledMap(mapPath);
+            tiledMap = GameSession.current().getWorldPreloader().takeMap(mapPath);
             tileSize = tiledMap.tileSize;
             backgroundImage = tiledMap.getFullMapImage();
             DebugLog.log("SUCCESS: Loaded " + mapPath + ", backgroundImage size: " + 
@@ -199,8 +231,61 @@ public class LabFizicaWorld extends World implements CollisionWorld
         maxScrollY = Math.max(0, backgroundImage.getHeight() - getHeight());
     }
 
+    /**
+     * Put the player at the door from the classroom
+     */
+    private void placeAtEntrance()
+    {
+        if (character != null)
+        {
+            // Spawn at right side of the map (entering from MainMapWorld left wall)
+            // Map is 864px wide, spawn at x=780 in map coords, center vertically
+            int targetMapX = 780;  // Near right edge of map
+            int targetMapY = backgroundImage.getHeight() / 2;  // Center of map height
+        
+            // Calculate screen position from map position
+            // We want to center the view on the character
+            scrollX = targetMapX - getWidth() / 2;
+            scrollY = targetMapY - getHeight() / 2;
+            scrollX = Math.max(0, Math.min(scrollX, maxScrollX));
+            scrollY = Math.max(0, Math.min(scrollY, maxScrollY));
+        
+            // Set character at center of screen (scroll will handle the offset)
+            int screenX = targetMapX - scrollX;
+            int screenY = targetMapY - scrollY;
+            character.setLocation(screenX, screenY);
+        }
+    }
+
+    /**
+     * Shown again by WorldNavigator, actors as they were left
+     */
+    public void resume()
+    {
+        subscribeToEvents();
+        placeAtEntrance();
+    }
+
+    public void suspend()
+    {
+        GameEvents.unsubscribe(this);
+    }
+
+    public ProximityService getProximityService()
+    {
+        return proximity;
+    }
+
+    public ActorScheduler getScheduler()
+    {
+        return scheduler;
+    }
+    
     public void act()
     {
+        InputState.getInstance().poll();
+        scheduler.tick();
+
         // Process dialogue input so dialogues can advance/close
         DialogueManager.getInstance().processInput();
 
@@ -226,7 +311,7 @@ public class LabFizicaWorld extends World implements CollisionWorld
         }
         
         // Check for G key press to toggle lab state (debug/manual mode)
-        if (Greenfoot.isKeyDown("g") && hasTriggeredBreakSequence && !isAnimating && !waitingForDialogue)
+        if (InputState.getInstance().justPressed(InputState.G) && hasTriggeredBreakSequence && !isAnimating && !waitingForDialogue)
         {
             startFlickerAnimation();
         }
@@ -270,28 +355,6 @@ public class LabFizicaWorld extends World implements CollisionWorld
                 lastScrollY = scrollY;
             }
             
-            // Gate mini-quests until NPC quiz requirement is met
-            if (!miniQuestsAdded && GameState.getInstance().isLabPhysQuizGateComplete())
-            {
-                addMiniQuests();
-                miniQuestsAdded = true;
-            }
-
-            // Repair lab after mini-quests are completed
-            if (!repairTriggered && isBroken && miniQuestsAdded && areLabMiniQuestsComplete())
-            {
-                repairTriggered = true;
-                repairLab();
-                GameState state = GameState.getInstance();
-                if (!state.isLabCompleted(LabType.PHYSICS))
-                {
-                    state.completeLab(LabType.PHYSICS);
-                    state.awardBadge("physics_expert");
-                    state.addXp(50);
-                }
-                addReturnArrow();
-            }
-
             // Check for transition back to MainMapWorld
             checkWorldTransition();
         }
@@ -450,14 +513,14 @@ public class LabFizicaWorld extends World implements CollisionWorld
         if (isBroken)
         {
             // Switch back to normal
-            loadMap("images/labfizica-normal.json");
+            loadMap(NORMAL_MAP);
             isBroken = false;
             DebugLog.log("Lab restored to normal state");
         }
         else
         {
             // Switch to broken
-            loadMap("images/labfizica-broken.json");
+            loadMap(BROKEN_MAP);
             isBroken = true;
             DebugLog.log("Lab changed to broken state");
         }
@@ -1,9 +1,11 @@
 import greenfoot.*;
 import java.util.*;
 
-public class LabWorld extends World implements CollisionWorld
+public class LabWorld extends World implements CollisionWorld, ResumableWorld, ProximityService.Host, ActorScheduler.Host
 {
     private Actor character;
+    private final ProximityService proximity = new ProximityService(this);
+    private final ActorScheduler scheduler = new ActorScheduler(this);
     private ChemistryTeacher teacher;
     private GreenfootImage backgroundImage;
     private GreenfootImage overPlayerLayerImage;
@@ -20,10 +22,12 @@ public class LabWorld extends World implements CollisionWorld
     private TiledMap tiledMap;
     private List<QuestBlock> questBlocks;
     private boolean miniQuestsAdded = false;
+    private static final int DUPLICATE_CHECK_TICKS = 60;
+    static final String MAP_PATH = "images/lab_noapte_2.json";
     
     // Chemistry-specific mini-quests
     private KeyRainfallQuest rainfallQuest;
-    private ComboChainQuest comboQuest;
+    private DataQuest comboQuest;
     private RhythmReleaseQuest rhythmQuest;
 
     public LabWorld()
@@ -31,10 +35,7 @@ public class LabWorld extends World implements CollisionWorld
         super(800, 600, 1);
 
         // Draw UI on top, then overlay, then characters
-        setPaintOrder(DialogueBox.class, OverlayLayer.class, ExperienceBar.class, Label.class, TimingQuestUI.class, QuestBlock.class, RapidFireQuest.class, KeySequenceQuest.class, AlternatingKeysQuest.class, DoubleTapSprintQuest.class, DirectionDodgeQuest.class, ComboChainQuest.class, RhythmReleaseQuest.class, PrecisionHoldQuest.class, KeyRainfallQuest.class, Boy.class, Girl.class, ChemistryTeacher.class);
-        
-        // Ensure any lingering dialogue state is cleared on world init
-        DialogueManager.getInstance().reset();
+        setPaintOrder(DialogueBox.class, OverlayLayer.class, ExperienceBar.class, Label.class, TimingQuestUI.class, QuestBlock.class, DataQuest.class, KeySequenceQuest.class, AlternatingKeysQuest.class, DoubleTapSprintQuest.class, DirectionDodgeQuest.class, RhythmReleaseQuest.class, PrecisionHoldQuest.class, KeyRainfallQuest.class, Boy.class, Girl.class, ChemistryTeacher.class);
         
         // Initialize quest blocks list
         questBlocks = new ArrayList<QuestBlock>();
@@ -59,19 +60,7 @@ public class LabWorld extends World implements CollisionWorld
             character = girl;
         }
         
-        // Now set character to map position 74, 163 (will be adjusted by scroll in act())
-        if (character != null)
-        {
-            character.setLocation(74, 163);
-            // Force initial scroll calculation
-            scrollX = character.getX() - getWidth() / 2;
-            scrollY = character.getY() - getHeight() / 2;
-            scrollX = Math.max(0, Math.min(scrollX, maxScrollX));
-            scrollY = Math.max(0, Math.min(scrollY, maxScrollY));
-            
-            DebugLog.log("Character spawned at: " + character.getX() + ", " + character.getY());
-            DebugLog.log("Initial scroll: " + scrollX + ", " + scrollY);
-        }
+        placeAtEntrance();
         
         // Add Chemistry teacher near the character spawn for easy interaction
         teacher = new ChemistryTeacher();
@@ -89,8 +78,7 @@ public class LabWorld extends World implements CollisionWorld
         // Add mini-quests only after NPC quiz gate is completed
         if (GameState.getInstance().isLabChemQuizGateComplete())
         {
-            addMiniQuests();
-            miniQuestsAdded = true;
+            unlockMiniQuests();
         }
         
         // Add return arrow at left edge to go back to MainMapWorld (only if lab is completed)
@@ -98,15 +86,63 @@ public class LabWorld extends World implements CollisionWorld
         {
             addObject(new DirectionArrow("left", "ÎNAPOI LA CLASĂ"), 70, getHeight() / 2);
         }
+
+        // Progression is event driven: react to the quiz gate and to finished quests
+        subscribeToEvents();
+    }
+
+    private void subscribeToEvents()
+    {
+        GameEvents.subscribe(this, GameEvents.QuizGateCompleted.class, LabWorld::onQuizGateCompleted);
+        GameEvents.subscribe(this, GameEvents.QuestCompleted.class, LabWorld::onQuestCompleted);
+    }
+
+    /**
+     * Unlock the mini-quests once the chemistry NPC quiz gate is passed
+     */
+    private void onQuizGateCompleted(GameEvents.QuizGateCompleted event)
+    {
+        if (event.getLab() != LabType.CHEMISTRY || miniQuestsAdded) return;
+        unlockMiniQuests();
+        DebugLog.log("Chemistry mini-quests unlocked!");
+    }
+
+    /**
+     * Mark the lab as complete when the last of its mini-quests finishes
+     */
+    private void onQuestCompleted(GameEvents.QuestCompleted event)
+    {
+        if (event.getQuest().getWorld() != this) return;
+        if (miniQuestsAdded && areLabMiniQuestsComplete() && !GameState.getInstance().isLabCompleted(LabType.CHEMISTRY))
+        {
+            GameState.getInstance().completeLab(LabType.CHEMISTRY);
+            DebugLog.log("Chemistry Lab completed!");
+            
+            // Add return arrow when lab is completed
+            addObject(new DirectionArrow("left", "ÎNAPOI LA CLASĂ"), 70, getHeight() / 2);
+        }
     }
     
+    /**
+     * Add the mini-quests, once, and keep them free of duplicates until the lab is done
+     */
+    private void unlockMiniQuests()
+    {
+        addMiniQuests();
+        miniQuestsAdded = true;
+        if (!GameState.getInstance().isLabCompleted(LabType.CHEMISTRY))
+        {
+            scheduleDuplicateCleanup();
+        }
+    }
+
     /**
      * Add chemistry-specific mini-quests to the lab
      */
     private void addMiniQuests()
     {
         java.util.List<KeyRainfallQuest> rainfallExisting = getObjects(KeyRainfallQuest.class);
-        java.util.List<ComboChainQuest> comboExisting = getObjects(ComboChainQuest.class);
+        java.util.List<DataQuest> comboExisting = getObjects(DataQuest.class);
         java.util.List<RhythmReleaseQuest> rhythmExisting = getObjects(RhythmReleaseQuest.class);
 
         if (!rainfallExisting.isEmpty())
@@ -142,7 +178,7 @@ public class LabWorld extends World implements CollisionWorld
         }
         if (comboQuest == null)
         {
-            comboQuest = new ComboChainQuest(300, 400);
+            comboQuest = new DataQuest("Lanț combo", 300, 400);
             addObject(comboQuest, 300, 400);
         }
         if (rhythmQuest == null)
@@ -170,7 +206,7 @@ public class LabWorld extends World implements CollisionWorld
         try
         {
             // Load the lab map
-            tiledMap = new TiledMap("images/lab_noapte_2.json");
+            tiledMap = GameSession.current().getWorldPreloader().takeMap(MAP_PATH);
             tileSize = tiledMap.tileSize;
             backgroundImage = tiledMap.getFullMapImage();
             DebugLog.log("SUCCESS: Loaded lab map, backgroundImage size: " + 
@@ -202,8 +238,55 @@ public class LabWorld extends World implements CollisionWorld
         maxScrollY = Math.max(0, backgroundImage.getHeight() - getHeight());
     }
 
+    /**
+     * Put the player at the door from the classroom
+     */
+    private void placeAtEntrance()
+    {
+        // Now set character to map position 74, 163 (will be adjusted by scroll in act())
+        if (character != null)
+        {
+            character.setLocation(74, 163);
+            // Force initial scroll calculation
+            scrollX = character.getX() - getWidth() / 2;
+            scrollY = character.getY() - getHeight() / 2;
+            scrollX = Math.max(0, Math.min(scrollX, maxScrollX));
+            scrollY = Math.max(0, Math.min(scrollY, maxScrollY));
+        
+            DebugLog.log("Character spawned at: " + character.getX() + ", " + character.getY());
+            DebugLog.log("Initial scroll: " + scrollX + ", " + scrollY);
+        }
+    }
+
+    /**
+     * Shown again by WorldNavigator, actors as they were left
+     */
+    public void resume()
+    {
+        subscribeToEvents();
+        placeAtEntrance();
+    }
+
+    public void suspend()
+    {
+        GameEvents.unsubscribe(this);
+    }
+
+    public ProximityService getProximityService()
+    {
+        return proximity;
+    }
+
+    public ActorScheduler getScheduler()
+    {
+        return scheduler;
+    }
+    
     public void act()
     {
+        InputState.getInstance().poll();
+        scheduler.tick();
+
         // Process dialogue input so dialogues can advance/close
         DialogueManager.getInstance().processInput();
 
@@ -242,38 +325,31 @@ public class LabWorld extends World implements CollisionWorld
             // Update quest block positions
             updateQuestBlockPositions();
 
-            if (miniQuestsAdded)
-            {
-                cleanupMiniQuestDuplicates();
-            }
-            
-            // Check if player got enough correct quizzes to unlock mini-quests
-            if (!miniQuestsAdded && GameState.getInstance().isLabChemQuizGateComplete())
-            {
-                addMiniQuests();
-                miniQuestsAdded = true;
-                DebugLog.log("Chemistry mini-quests unlocked!");
-            }
-            
-            // Check if all mini-quests are completed to mark lab as complete
-            if (miniQuestsAdded && areLabMiniQuestsComplete() && !GameState.getInstance().isLabCompleted(LabType.CHEMISTRY))
-            {
-                GameState.getInstance().completeLab(LabType.CHEMISTRY);
-                DebugLog.log("Chemistry Lab completed!");
-                
-                // Add return arrow when lab is completed
-                addObject(new DirectionArrow("left", "ÎNAPOI LA CLASĂ"), 70, getHeight() / 2);
-            }
-            
             // Check for transition back to MainMapWorld
             checkWorldTransition();
         }
     }
 
+    /**
+     * addMiniQuests() already leaves one of each quest; re-check once a second
+     * rather than scanning the world for them every tick. Once the lab is completed
+     * no quest is added again, so the check stops.
+     */
+    private void scheduleDuplicateCleanup()
+    {
+        scheduler.sleepFor(DUPLICATE_CHECK_TICKS, () -> {
+            cleanupMiniQuestDuplicates();
+            if (!GameState.getInstance().isLabCompleted(LabType.CHEMISTRY))
+            {
+                scheduleDuplicateCleanup();
+            }
+        });
+    }
+
     private void cleanupMiniQuestDuplicates()
     {
         java.util.List<KeyRainfallQuest> rainfallExisting = getObjects(KeyRainfallQuest.class);
-        java.util.List<ComboChainQuest> comboExisting = getObjects(ComboChainQuest.class);
+        java.util.List<DataQuest> comboExisting = getObjects(DataQuest.class);
         java.util.List<RhythmReleaseQuest> rhythmExisting = getObjects(RhythmReleaseQuest.class);
 
         if (!rainfallExisting.isEmpty())
@@ -304,7 +380,7 @@ public class LabWorld extends World implements CollisionWorld
             }
             for (int i = 0; i < comboExisting.size(); i++)
             {
-                ComboChainQuest quest = comboExisting.get(i);
+                DataQuest quest = comboExisting.get(i);
                 if (quest != comboQuest)
                 {
                     removeObject(quest);
@@ -24,14 +24,9 @@ public class Label extends Actor
      */
     public Label(String text, greenfoot.Font font, Color textColor)
     {
-        // Create a temporary image to measure text size
-        GreenfootImage tempImg = new GreenfootImage(1, 1);
-        tempImg.setFont(font);
-        
-        // Estimate text dimensions (Greenfoot doesn't have direct text measurement)
-        // Use a scale factor based on font size - pixel fonts are roughly square
+        // Measure the text from the font's glyph advances
         int fontSize = font.getSize();
-        int estimatedWidth = text.length() * fontSize + 20;
+        int estimatedWidth = FontManager.measure(font, text) + 20;
         int estimatedHeight = fontSize * 3;
         
         // Create the actual image with proper size
@@ -42,7 +37,7 @@ public class Label extends Actor
         img.setColor(textColor);
         
         // Draw text at appropriate position
-        img.drawString(text, 10, fontSize + 5);
+        FontManager.drawString(img, text, 10, fontSize + 5);
         
         setImage(img);
     }
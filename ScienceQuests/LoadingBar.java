@@ -1,66 +1,57 @@
 import greenfoot.*;
+import java.awt.Graphics2D;
 
 /**
- * LoadingBar - displays a horizontal loading animation over 36 seconds
+ * LoadingBar - reveals the title graphic left to right as the AssetManifest preload
+ * advances. Only the newly loaded strip is drawn each time, clipped from the full image.
  */
 public class LoadingBar extends Actor
 {
     private GreenfootImage fullImage;
-    private int totalFrames;
-    private int currentFrame;
+    private GreenfootImage display;
     private int maxWidth;
-    
+    private int shownWidth;
+
     public LoadingBar()
     {
         // Load the image
-        fullImage = new GreenfootImage("fonts/696d62d95d863.png");
+        fullImage = AssetManager.get("fonts/696d62d95d863.png");
         maxWidth = fullImage.getWidth();
-        
-        // 36 seconds at 60 FPS = 2160 frames
-        totalFrames = 36 * 60;
-        currentFrame = 0;
-        
+
         // Start with empty image
+        display = new GreenfootImage(maxWidth, fullImage.getHeight());
+        shownWidth = 0;
+        setImage(display);
         updateDisplay();
     }
-    
+
     public void act()
     {
-        if (currentFrame < totalFrames)
+        if (shownWidth < maxWidth)
         {
-            currentFrame++;
             updateDisplay();
         }
     }
-    
+
     private void updateDisplay()
     {
         // Calculate how much of the image to show
-        double progress = (double) currentFrame / totalFrames;
-        int currentWidth = (int) (maxWidth * progress);
-        
-        if (currentWidth < 1) currentWidth = 1;
+        int currentWidth = (int) (maxWidth * AssetManifest.getProgress());
         if (currentWidth > maxWidth) currentWidth = maxWidth;
-        
-        // Create an image showing only the left portion
-        GreenfootImage display = new GreenfootImage(maxWidth, fullImage.getHeight());
-        display.setColor(new Color(0, 0, 0, 0)); // Transparent
-        display.fill();
-        
-        // Copy the left portion of the full image
-        for (int x = 0; x < currentWidth; x++)
-        {
-            for (int y = 0; y < fullImage.getHeight(); y++)
-            {
-                display.setColorAt(x, y, fullImage.getColorAt(x, y));
-            }
-        }
-        
+        if (currentWidth <= shownWidth) return;
+
+        // Copy only the strip revealed since the last update; the rest stays as drawn
+        Graphics2D g = display.getAwtImage().createGraphics();
+        g.setClip(shownWidth, 0, currentWidth - shownWidth, display.getHeight());
+        g.drawImage(fullImage.getAwtImage(), 0, 0, null);
+        g.dispose();
+        shownWidth = currentWidth;
+
         setImage(display);
     }
-    
+
     public boolean isComplete()
     {
-        return currentFrame >= totalFrames;
+        return shownWidth >= maxWidth;
     }
 }
@@ -1,9 +1,11 @@
 import greenfoot.*;
 import java.util.*;
 
-public class MainMapWorld extends World implements CollisionWorld
+public class MainMapWorld extends World implements CollisionWorld, ResumableWorld, ProximityService.Host, ActorScheduler.Host
 {
     private Actor character;
+    private final ProximityService proximity = new ProximityService(this);
+    private final ActorScheduler scheduler = new ActorScheduler(this);
     private GreenfootImage backgroundImage;
     private int scrollX = 0;
     private int scrollY = 0;
@@ -17,11 +19,11 @@ public class MainMapWorld extends World implements CollisionWorld
     private int teacherMapY = 115;
     private DialogueManager dialogueManager; // For managing dialogue interactions
     private ExperienceBar experienceBar; // XP bar in top-left
-    private RapidFireQuest rapidFireQuest;
+    private DataQuest rapidFireQuest;
     private KeySequenceQuest keySequenceQuest;
     private AlternatingKeysQuest alternatingKeysQuest;
     private DoubleTapSprintQuest doubleTapSprintQuest;
-    private ComboChainQuest comboChainQuest;
+    private DataQuest comboChainQuest;
     private DirectionDodgeQuest directionDodgeQuest;
     private DirectionArrow bioArrow;
     private DirectionArrow physArrow;
@@ -30,26 +32,27 @@ public class MainMapWorld extends World implements CollisionWorld
     private EndingSequence endingSequence;
     private boolean endingTriggered = false;
     private int tutorialDisplayTicks = 0;
+    // How far from a lab exit edge the player comes back in; the exits trigger within 5px
+    private static final int ENTRANCE_MARGIN = 40;
+    // How near a lab exit the player comes before that lab's map is loaded in the background
+    private static final int PRELOAD_DISTANCE = 120;
+    static final String MAP_PATH = "images/classroom-new.json";
 
     public MainMapWorld()
     {
         // Match world size to full map size (18x14 tiles at 48px)
         super(864, 672, 1);
-        // Ensure any lingering dialogue state is cleared on world init
-        DialogueManager.getInstance().reset();
         
         // Set paint order for all quests and UI elements
         // Dialogue boxes on top, then overlays, then UI, then arrows beneath dialogue
         setPaintOrder(DialogueBox.class, OverlayLayer.class, ExperienceBar.class, Label.class, 
                  TeacherDisplay.class, DirectionArrow.class,
-                     RapidFireQuest.class, KeySequenceQuest.class, AlternatingKeysQuest.class, 
-                     DoubleTapSprintQuest.class, DirectionDodgeQuest.class, ComboChainQuest.class, 
+                     DataQuest.class, KeySequenceQuest.class, AlternatingKeysQuest.class, 
+                     DoubleTapSprintQuest.class, DirectionDodgeQuest.class, 
                      RhythmReleaseQuest.class, PrecisionHoldQuest.class, KeyRainfallQuest.class,
                      ChemicalBondQuest.class, DnaReplicationQuest.class, PendulumTimingQuest.class,
                      Boy.class, Girl.class, Teacher.class);
         
-        FontManager.loadFonts();
-        
         // Initialize dialogue manager
         dialogueManager = DialogueManager.getInstance();
         
@@ -91,20 +94,10 @@ public class MainMapWorld extends World implements CollisionWorld
         // Add mini-quests scattered across the map
         addMiniQuests();
 
-        // Add direction arrows based on game progression
-        // Only show Physics arrow if Biology lab is completed
-        if (GameState.getInstance().isLabCompleted(LabType.BIOLOGY))
-        {
-            physArrow = new DirectionArrow("left", "LAB FIZICĂ");
-            addObject(physArrow, 70, 190);
-        }
-        
-        // Only show Chemistry arrow if Physics lab is completed
-        if (GameState.getInstance().isLabCompleted(LabType.PHYSICS))
-        {
-            chemArrow = new DirectionArrow("right", "LAB CHIMIE");
-            addObject(chemArrow, 790, 350);
-        }
+        // Add direction arrows based on game progression, then keep them in sync as it changes
+        updateArrows();
+        subscribeToEvents();
+        preloadNextLab();
         
         // Show tutorial popup if first time entering MainMapWorld
         if (!GameState.getInstance().hasShownMainMapTutorial())
@@ -113,6 +106,13 @@ public class MainMapWorld extends World implements CollisionWorld
             GameState.getInstance().setMainMapTutorialShown();
         }
     }
+
+    private void subscribeToEvents()
+    {
+        GameEvents.subscribe(this, GameEvents.QuestCompleted.class, MainMapWorld::onQuestCompleted);
+        GameEvents.subscribe(this, GameEvents.LabCompleted.class, MainMapWorld::onProgressChanged);
+        GameEvents.subscribe(this, GameEvents.QuizGateCompleted.class, MainMapWorld::onProgressChanged);
+    }
     
     /**
      * Add various mini-quests scattered across the main map world
@@ -124,7 +124,7 @@ public class MainMapWorld extends World implements CollisionWorld
         // Only add quests that haven't been completed yet
         if (!state.isRapidFireQuestComplete())
         {
-            rapidFireQuest = new RapidFireQuest(150, 200);
+            rapidFireQuest = new DataQuest("Foc rapid", 150, 200);
             addObject(rapidFireQuest, 150, 200);
         }
         
@@ -148,7 +148,7 @@ public class MainMapWorld extends World implements CollisionWorld
         
         if (!state.isComboChainQuestComplete())
         {
-            comboChainQuest = new ComboChainQuest(500, 350);
+            comboChainQuest = new DataQuest("Lanț combo", 500, 350);
             addObject(comboChainQuest, 500, 350);
         }
         
@@ -167,7 +167,7 @@ public class MainMapWorld extends World implements CollisionWorld
     {
         try
         {
-            tiledMap = new TiledMap("images/classroom-new.json");
+            tiledMap = GameSession.current().getWorldPreloader().takeMap(MAP_PATH);
             tileSize = tiledMap.tileSize;
             // Render layers in the specified order
             String[] layerOrder = new String[] {
@@ -210,8 +210,44 @@ public class MainMapWorld extends World implements CollisionWorld
         }
     }
 
+    /**
+     * Shown again by WorldNavigator. The player is still where they left for a lab, on
+     * that lab's edge, so step them back inside through the same door. Progress made
+     * in the lab arrived while suspended, so the arrows catch up here.
+     */
+    public void resume()
+    {
+        subscribeToEvents();
+        updateArrows();
+        if (character == null || backgroundImage == null) return;
+
+        int x = Math.max(ENTRANCE_MARGIN, Math.min(character.getX(), backgroundImage.getWidth() - ENTRANCE_MARGIN));
+        int y = Math.max(ENTRANCE_MARGIN, Math.min(character.getY(), backgroundImage.getHeight() - ENTRANCE_MARGIN));
+        character.setLocation(x, y);
+        preloadNextLab();
+    }
+
+    public void suspend()
+    {
+        GameEvents.unsubscribe(this);
+    }
+
+    public ProximityService getProximityService()
+    {
+        return proximity;
+    }
+
+    public ActorScheduler getScheduler()
+    {
+        return scheduler;
+    }
+
     public void act()
     {
+        InputState input = InputState.getInstance();
+        input.poll();
+        scheduler.tick();
+
         // Process dialogue input (ENTER key to dismiss)
         dialogueManager.processInput();
         
@@ -223,37 +259,13 @@ public class MainMapWorld extends World implements CollisionWorld
             {
                 clearTutorial();
             }
-            else if (Greenfoot.isKeyDown("enter") || Greenfoot.isKeyDown("space"))
+            else if (input.justPressed(InputState.ENTER) || input.justPressed(InputState.SPACE))
             {
                 tutorialDisplayTicks = 0;
                 clearTutorial();
             }
         }
 
-        // Show Biology arrow only after all MainMap quests are completed
-        if (bioArrow == null && GameState.getInstance().areMainMapQuestsUnlocked() && areMainMapMiniQuestsComplete())
-        {
-            bioArrow = new DirectionArrow("down", "LABORATOR BIOLOGIE");
-            addObject(bioArrow, 432, 620);
-        }
-        
-        // Check if Physics arrow should be added after Biology completion
-        if (physArrow == null && GameState.getInstance().isLabCompleted(LabType.BIOLOGY))
-        {
-            physArrow = new DirectionArrow("left", "LAB FIZICĂ");
-            addObject(physArrow, 70, 190);
-        }
-        
-        // Check if Chemistry arrow should be added after Physics completion
-        if (chemArrow == null && GameState.getInstance().isLabCompleted(LabType.PHYSICS))
-        {
-            chemArrow = new DirectionArrow("right", "LAB CHIMIE");
-            addObject(chemArrow, 790, 350);
-        }
-        
-        // Track quest completions in GameState
-        checkQuestCompletions();
-        
         if (character != null && character.getWorld() != null)
         {
             scrollX = 0;
@@ -326,6 +338,8 @@ public class MainMapWorld extends World implements CollisionWorld
     {
         if (character == null || backgroundImage == null) return;
 
+        preloadApproachedLab();
+
         if (DialogueManager.getInstance().isDialogueActive() || GameState.getInstance().isMiniQuestActive())
         {
             return;
@@ -368,6 +382,46 @@ public class MainMapWorld extends World implements CollisionWorld
         }
     }
 
+    /**
+     * Start loading the map of the lab behind an exit the player is walking up to
+     */
+    private void preloadApproachedLab()
+    {
+        int mapX = screenToMapX(character.getX());
+        int mapY = screenToMapY(character.getY());
+
+        if (mapX >= backgroundImage.getWidth() - PRELOAD_DISTANCE)
+        {
+            WorldNavigator.preloadLab(LabType.CHEMISTRY);
+        }
+        if (mapX <= PRELOAD_DISTANCE)
+        {
+            WorldNavigator.preloadLab(LabType.PHYSICS);
+        }
+        if (mapY >= backgroundImage.getHeight() - PRELOAD_DISTANCE)
+        {
+            WorldNavigator.preloadLab(LabType.BIOLOGY);
+        }
+    }
+
+    /**
+     * Start loading the map of the first lab the player may enter but hasn't finished, the one
+     * the newest arrow points to
+     */
+    private void preloadNextLab()
+    {
+        GameState state = GameState.getInstance();
+        // LabType lists the labs in the order they unlock
+        for (LabType lab : LabType.values())
+        {
+            if (state.canEnterLab(lab) && !state.isLabCompleted(lab))
+            {
+                WorldNavigator.preloadLab(lab);
+                return;
+            }
+        }
+    }
+
     private boolean areMainMapMiniQuestsComplete()
     {
         GameState state = GameState.getInstance();
@@ -377,47 +431,86 @@ public class MainMapWorld extends World implements CollisionWorld
     }
     
     /**
-     * Check and track quest completions in GameState
+     * Add the direction arrows the current progression allows
      */
-    private void checkQuestCompletions()
+    private void updateArrows()
     {
         GameState state = GameState.getInstance();
+
+        // Show Biology arrow only after all MainMap quests are completed
+        if (bioArrow == null && state.areMainMapQuestsUnlocked() && areMainMapMiniQuestsComplete())
+        {
+            bioArrow = new DirectionArrow("down", "LABORATOR BIOLOGIE");
+            addObject(bioArrow, 432, 620);
+        }
         
-        if (rapidFireQuest != null && rapidFireQuest.isCompleted() && !state.isRapidFireQuestComplete())
+        // Only show Physics arrow if Biology lab is completed
+        if (physArrow == null && state.isLabCompleted(LabType.BIOLOGY))
+        {
+            physArrow = new DirectionArrow("left", "LAB FIZICĂ");
+            addObject(physArrow, 70, 190);
+        }
+        
+        // Only show Chemistry arrow if Physics lab is completed
+        if (chemArrow == null && state.isLabCompleted(LabType.PHYSICS))
+        {
+            chemArrow = new DirectionArrow("right", "LAB CHIMIE");
+            addObject(chemArrow, 790, 350);
+        }
+    }
+
+    private void onProgressChanged(Object event)
+    {
+        updateArrows();
+        preloadNextLab();
+    }
+    
+    /**
+     * Track quest completions in GameState
+     */
+    private void onQuestCompleted(GameEvents.QuestCompleted event)
+    {
+        GameState state = GameState.getInstance();
+        BaseQuest quest = event.getQuest();
+        
+        if (quest == rapidFireQuest && !state.isRapidFireQuestComplete())
         {
             state.setRapidFireQuestComplete(true);
-            DebugLog.log("RapidFireQuest completed - saved to GameState");
+            DebugLog.log("Rapid fire quest completed - saved to GameState");
         }
         
-        if (keySequenceQuest != null && keySequenceQuest.isCompleted() && !state.isKeySequenceQuestComplete())
+        if (quest == keySequenceQuest && !state.isKeySequenceQuestComplete())
         {
             state.setKeySequenceQuestComplete(true);
             DebugLog.log("KeySequenceQuest completed - saved to GameState");
         }
         
-        if (alternatingKeysQuest != null && alternatingKeysQuest.isCompleted() && !state.isAlternatingKeysQuestComplete())
+        if (quest == alternatingKeysQuest && !state.isAlternatingKeysQuestComplete())
         {
             state.setAlternatingKeysQuestComplete(true);
             DebugLog.log("AlternatingKeysQuest completed - saved to GameState");
         }
         
-        if (doubleTapSprintQuest != null && doubleTapSprintQuest.isCompleted() && !state.isDoubleTapSprintQuestComplete())
+        if (quest == doubleTapSprintQuest && !state.isDoubleTapSprintQuestComplete())
         {
             state.setDoubleTapSprintQuestComplete(true);
             DebugLog.log("DoubleTapSprintQuest completed - saved to GameState");
         }
         
-        if (comboChainQuest != null && comboChainQuest.isCompleted() && !state.isComboChainQuestComplete())
+        if (quest == comboChainQuest && !state.isComboChainQuestComplete())
         {
             state.setComboChainQuestComplete(true);
-            DebugLog.log("ComboChainQuest completed - saved to GameState");
+            DebugLog.log("Combo chain quest completed - saved to GameState");
         }
         
-        if (directionDodgeQuest != null && directionDodgeQuest.isCompleted() && !state.isDirectionDodgeQuestComplete())
+        if (quest == directionDodgeQuest && !state.isDirectionDodgeQuestComplete())
         {
             state.setDirectionDodgeQuestComplete(true);
             DebugLog.log("DirectionDodgeQuest completed - saved to GameState");
         }
+
+        updateArrows();
+        preloadNextLab();
     }
     
     private void showTutorial()
@@ -451,14 +544,14 @@ public class MainMapWorld extends World implements CollisionWorld
         int startY = 110;
         int lineHeight = 35;
         
-        img.drawString("• Rezolva toate Quiz-urile date de profesor apropiindu-te de el", 40, startY);
-        img.drawString("apoi mini-quest-urile apăsând SPACE în dreptul a fiecarui '!'", 40, startY + lineHeight);
+        FontManager.drawString(img, "• Rezolva toate Quiz-urile date de profesor apropiindu-te de el", 40, startY);
+        FontManager.drawString(img, "apoi mini-quest-urile apăsând SPACE în dreptul a fiecarui '!'", 40, startY + lineHeight);
         
-        img.drawString("• După aceea, vei debloca Laboratorul de Biologie", 40, startY + lineHeight * 2);
-        img.drawString("unde v-a trebui să repari laboratorul.", 40, startY + lineHeight * 3);
+        FontManager.drawString(img, "• După aceea, vei debloca Laboratorul de Biologie", 40, startY + lineHeight * 2);
+        FontManager.drawString(img, "unde v-a trebui să repari laboratorul.", 40, startY + lineHeight * 3);
         
-        img.drawString("• Apoi vei debloca Laboratorul de Fizică", 40, startY + lineHeight * 4);
-        img.drawString("• La final vei debloca Laboratorul de Chimie", 40, startY + lineHeight * 5);
+        FontManager.drawString(img, "• Apoi vei debloca Laboratorul de Fizică", 40, startY + lineHeight * 4);
+        FontManager.drawString(img, "• La final vei debloca Laboratorul de Chimie", 40, startY + lineHeight * 5);
 
 
         // Bottom text
@@ -481,7 +574,6 @@ public class MainMapWorld extends World implements CollisionWorld
     
     private void drawCenteredString(GreenfootImage img, String str, int centerX, int y)
     {
-        int strWidth = img.getFont().getSize() * str.length() / 2;
-        img.drawString(str, centerX - strWidth / 2, y);
+        FontManager.drawCenteredString(img, str, centerX, y);
     }
 }
@@ -9,42 +9,25 @@ public class PendulumTimingQuest extends BaseQuest
     private int targetReleases = 3;
     private int timeRemaining = 900; // 15 seconds
     private int animTick = 0;
-    private boolean wasSpacePressed = false;
     private double pendulumAngle = -45; // -45 to 45 degrees
     private double pendulumVelocity = 1.5;
     
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Widget pendulum;
+    private QuestOverlay.Text releasesText;
+    private QuestOverlay.Text timeText;
+    private QuestOverlay.Text hintText;
+    
+    private static final int PENDULUM_LENGTH = 80;
+    private static final Color TIME_COLOR = UIStyle.color(150, 200, 255);
+    private static final Color CENTER_COLOR = UIStyle.color(100, 255, 100);
+    private static final Color WAIT_COLOR = UIStyle.color(255, 200, 100);
+    
     public PendulumTimingQuest(int mapX, int mapY)
     {
         super(mapX, mapY);
-        createImage();
-    }
-    
-    private void createImage()
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        marker.setColor(new Color(255, 255, 255));
-        marker.setFont(new greenfoot.Font("Arial", true, false, 10));
-        marker.drawString("SPATIU", 4, 46);
-        setImage(marker);
+        setImage(getMarkerImage(true));
     }
     
     public void act()
@@ -64,12 +47,12 @@ public class PendulumTimingQuest extends BaseQuest
         Actor player = getPlayer();
         if (player != null && !questActive)
         {
-            boolean startPressed = Greenfoot.isKeyDown("space");
+            boolean startPressed = input.justPressed(InputState.SPACE);
             if (canStartQuest(player, 100))
             {
                 if (!tutorialActive)
                 {
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = true;
                         showTutorial();
@@ -79,7 +62,7 @@ public class PendulumTimingQuest extends BaseQuest
                 else
                 {
                     showTutorial();
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = false;
                         beginQuest();
@@ -97,7 +80,6 @@ public class PendulumTimingQuest extends BaseQuest
                 tutorialActive = false;
                 clearOverlay();
             }
-            startKeyDown = startPressed;
         }
         
         if (interactionCooldown > 0) interactionCooldown--;
@@ -117,8 +99,7 @@ public class PendulumTimingQuest extends BaseQuest
             }
             
             // Check for release timing
-            boolean spacePressed = Greenfoot.isKeyDown("space");
-            if (!spacePressed && wasSpacePressed)
+            if (input.justReleased(InputState.SPACE))
             {
                 // Player released space - check timing
                 if (Math.abs(pendulumAngle) < 5) // Within 5 degrees of center
@@ -130,7 +111,6 @@ public class PendulumTimingQuest extends BaseQuest
                     }
                 }
             }
-            wasSpacePressed = spacePressed;
             
             timeRemaining--;
             updateDisplay();
@@ -146,87 +126,96 @@ public class PendulumTimingQuest extends BaseQuest
     {
         World world = getWorld();
         if (world == null) return;
-        ensureOverlay();
-        if (overlay == null) return;
+        if (scene == null) buildScene();
         
+        double radians = Math.toRadians(pendulumAngle);
+        int bobX = (int)(PENDULUM_LENGTH * Math.sin(radians));
+        int bobY = (int)(PENDULUM_LENGTH * Math.cos(radians));
+        boolean inCenterZone = Math.abs(pendulumAngle) < 5;
+        pendulum.update(bobX, bobY, inCenterZone ? 1 : 0);
+        
+        releasesText.set("Eliberări corecte: " + successfulReleases + " / " + targetReleases, Color.WHITE);
+        timeText.set("Timp: " + (timeRemaining / 60 + 1) + "s", TIME_COLOR);
+        hintText.set(inCenterZone ? "RELEASE NOW!" : "Wait for center...", inCenterZone ? CENTER_COLOR : WAIT_COLOR);
+        
+        showScene(scene);
+    }
+    
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene()
+    {
         int panelW = 460;
         int panelH = 300;
-        GreenfootImage img = new GreenfootImage(panelW, panelH);
-
-        int pulse = 90 + (int)(70 * Math.sin(animTick * 0.12));
-        img.setColor(new Color(0, 0, 0, pulse));
-        img.fillRect(0, 0, panelW, panelH);
+        
+        scene = new QuestOverlay(panelW, panelH, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 90));
+            img.fillRect(0, 0, panelW, panelH);
 
-        // Blue physics theme glow
-        img.setColor(new Color(80, 150, 255, 60));
-        img.fillRect(-8, -8, panelW + 16, panelH + 16);
+            // Blue physics theme glow
+            img.setColor(UIStyle.color(80, 150, 255, 60));
+            img.fillRect(-8, -8, panelW + 16, panelH + 16);
 
-        img.setColor(new Color(10, 10, 30, 245));
-        img.fillRect(0, 0, panelW, panelH);
+            img.setColor(UIStyle.color(10, 10, 30, 245));
+            img.fillRect(0, 0, panelW, panelH);
 
-        img.setColor(new Color(80, 150, 255, 220));
-        img.drawRect(0, 0, panelW, panelH);
-        img.setColor(new Color(100, 170, 255, 120));
-        img.drawRect(1, 1, panelW - 2, panelH - 2);
+            img.setColor(UIStyle.color(80, 150, 255, 220));
+            img.drawRect(0, 0, panelW, panelH);
+            img.setColor(UIStyle.color(100, 170, 255, 120));
+            img.drawRect(1, 1, panelW - 2, panelH - 2);
 
-        // Title
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 26));
-        img.drawString("TIMINGUL PENDULULUI", 80, 40);
-        
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(150, 200, 255));
-        img.drawString("INSTRUCȚIUNI: eliberează SPATIU în centru", 70, 65);
+            // Title
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 26));
+            img.drawString("TIMINGUL PENDULULUI", 80, 40);
+            
+            img.setFont(UIStyle.font("Arial", false, false, 14));
+            img.setColor(UIStyle.color(150, 200, 255));
+            img.drawString("INSTRUCȚIUNI: eliberează SPATIU în centru", 70, 65);
+        });
 
         // Draw pendulum
         int pivotX = panelW / 2;
         int pivotY = 100;
-        int pendulumLength = 80;
-        double radians = Math.toRadians(pendulumAngle);
-        int bobX = pivotX + (int)(pendulumLength * Math.sin(radians));
-        int bobY = pivotY + (int)(pendulumLength * Math.cos(radians));
-        
-        // Pivot point
-        img.setColor(new Color(200, 200, 200));
-        img.fillOval(pivotX - 5, pivotY - 5, 10, 10);
-        
-        // Pendulum string
-        img.setColor(new Color(150, 150, 150));
-        img.drawLine(pivotX, pivotY, bobX, bobY);
-        
-        // Center zone (green = perfect timing)
-        boolean inCenterZone = Math.abs(pendulumAngle) < 5;
-        img.setColor(inCenterZone ? new Color(100, 255, 100, 100) : new Color(100, 255, 100, 30));
-        img.fillRect(pivotX - 15, pivotY, 30, pendulumLength + 20);
-        img.setColor(new Color(100, 255, 100));
-        img.drawRect(pivotX - 15, pivotY, 30, pendulumLength + 20);
-        
-        // Pendulum bob
-        img.setColor(inCenterZone ? new Color(100, 255, 100) : new Color(255, 200, 100));
-        img.fillOval(bobX - 12, bobY - 12, 24, 24);
-        img.setColor(Color.WHITE);
-        img.drawOval(bobX - 12, bobY - 12, 24, 24);
+        int pendulumLength = PENDULUM_LENGTH;
+        pendulum = scene.add(pivotX - 72, pivotY - 6, 145, pendulumLength + 28, img -> {
+            double radians = Math.toRadians(pendulumAngle);
+            int bobX = pivotX + (int)(pendulumLength * Math.sin(radians));
+            int bobY = pivotY + (int)(pendulumLength * Math.cos(radians));
+            
+            // Pivot point
+            img.setColor(UIStyle.color(200, 200, 200));
+            img.fillOval(pivotX - 5, pivotY - 5, 10, 10);
+            
+            // Pendulum string
+            img.setColor(UIStyle.color(150, 150, 150));
+            img.drawLine(pivotX, pivotY, bobX, bobY);
+            
+            // Center zone (green = perfect timing)
+            boolean inCenterZone = Math.abs(pendulumAngle) < 5;
+            img.setColor(inCenterZone ? UIStyle.color(100, 255, 100, 100) : UIStyle.color(100, 255, 100, 30));
+            img.fillRect(pivotX - 15, pivotY, 30, pendulumLength + 20);
+            img.setColor(UIStyle.color(100, 255, 100));
+            img.drawRect(pivotX - 15, pivotY, 30, pendulumLength + 20);
+            
+            // Pendulum bob
+            img.setColor(inCenterZone ? UIStyle.color(100, 255, 100) : UIStyle.color(255, 200, 100));
+            img.fillOval(bobX - 12, bobY - 12, 24, 24);
+            img.setColor(Color.WHITE);
+            img.drawOval(bobX - 12, bobY - 12, 24, 24);
+        });
 
         // Stats
-        img.setFont(new greenfoot.Font("Arial", true, false, 18));
-        img.setColor(new Color(255, 255, 255));
-        img.drawString("Eliberări corecte: " + successfulReleases + " / " + targetReleases, 90, 220);
-        
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(150, 200, 255));
-        img.drawString("Timp: " + (timeRemaining / 60 + 1) + "s", 190, 245);
-        
-        img.setFont(new greenfoot.Font("Arial", false, false, 12));
-        img.setColor(inCenterZone ? new Color(100, 255, 100) : new Color(255, 200, 100));
-        img.drawString(inCenterZone ? "RELEASE NOW!" : "Wait for center...", 165, 270);
-
-        overlay.setImage(img);
+        releasesText = scene.add(new QuestOverlay.Text(90, 220, 300, UIStyle.font("Arial", true, false, 18)));
+        timeText = scene.add(new QuestOverlay.Text(190, 245, 120, UIStyle.font("Arial", false, false, 14)));
+        hintText = scene.add(new QuestOverlay.Text(165, 270, 150, UIStyle.font("Arial", false, false, 12)));
     }
     
     private void finishQuest(boolean success)
     {
         endQuest();
-        completed = true;
+        markCompleted();
         resultDisplayTicks = 120;
 
         World world = getWorld();
@@ -240,70 +229,62 @@ public class PendulumTimingQuest extends BaseQuest
         
         if (success)
         {
-            img.setColor(new Color(0, 200, 50, 190));
+            img.setColor(UIStyle.color(0, 200, 50, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(100, 255, 150, 100));
+            img.setColor(UIStyle.color(100, 255, 150, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
 
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 40));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 40));
             img.drawString("SUCCES!", panelW / 2 - 100, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", false, false, 16));
+            img.setFont(UIStyle.font("Arial", false, false, 16));
             img.drawString("Timing perfect! Mișcarea periodică", panelW / 2 - 150, panelH / 2 + 30);
             img.drawString("este înțeleasă.", panelW / 2 - 85, panelH / 2 + 55);
         }
         else
         {
-            img.setColor(new Color(200, 0, 50, 190));
+            img.setColor(UIStyle.color(200, 0, 50, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(255, 100, 100, 100));
+            img.setColor(UIStyle.color(255, 100, 100, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
 
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 40));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 40));
             img.drawString("EȘUAT!", panelW / 2 - 90, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", false, false, 16));
+            img.setFont(UIStyle.font("Arial", false, false, 16));
             img.drawString("Eliberare greșită. Recitește", panelW / 2 - 135, panelH / 2 + 30);
             img.drawString("mișcarea armonică. " + successfulReleases + "/" + targetReleases + " finalizat.", panelW / 2 - 150, panelH / 2 + 55);
         }
 
         // Hide exclamation marker after completion
-        GreenfootImage transparent = new GreenfootImage(48, 48);
-        transparent.setColor(new Color(0, 0, 0, 0));
-        transparent.fillRect(0, 0, 48, 48);
-        setImage(transparent);
+        setImage(getHiddenMarkerImage());
         
         overlay.setImage(img);
     }
 
-    private void showTutorial()
+    protected GreenfootImage createTutorialImage()
     {
-        World world = getWorld();
-        if (world == null) return;
-        ensureOverlay();
-        if (overlay == null) return;
-
         int w = 460;
         int h = 190;
         GreenfootImage img = new GreenfootImage(w, h);
-        img.setColor(new Color(0, 0, 0, 200));
+        img.setColor(UIStyle.color(0, 0, 0, 200));
         img.fillRect(0, 0, w, h);
-        img.setColor(new Color(120, 180, 255, 200));
+        img.setColor(UIStyle.color(120, 180, 255, 200));
         img.drawRect(0, 0, w - 1, h - 1);
 
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.setColor(Color.WHITE);
         img.drawString("TUTORIAL: PENDUL", 140, 30);
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(220, 220, 220));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(220, 220, 220));
         img.drawString("Ține SPATIU și eliberează când pendulul e în centru.", 35, 70);
         img.drawString("Scop: " + targetReleases + " eliberări corecte.", 130, 95);
-        img.setColor(new Color(200, 255, 200));
+        img.setColor(UIStyle.color(200, 255, 200));
         img.drawString("Apasă SPATIU pentru a începe", 140, 145);
 
-        overlay.setImage(img);
+        return img;
     }
     
     public java.util.List<TiledMap.CollisionRect> getCollisionRects()
@@ -12,9 +12,8 @@ public class PhysicsTeacher extends QuizNPCBase
     {
         try
         {
-            // Load man_teacher.png image
-            GreenfootImage image = new GreenfootImage("images/man_teacher.png");
-            setImage(image);
+            // Shared trimmed man_teacher.png
+            setImage(AssetManager.getDerived("images/man_teacher.png", "trimmed", PixelScaler::trimTransparent));
         }
         catch (Exception e)
         {
@@ -64,12 +63,7 @@ public class PhysicsTeacher extends QuizNPCBase
         
         DialogueManager manager = DialogueManager.getInstance();
         
-        // Panic dialogue
-        String panicText = "O NU! Echipamentul din laborator s-a stricat!\n---\nTrebuie să-l reparăm urgent!";
-        DialogueBox panicDialogue = new DialogueBox(panicText, getIconPath(), true);
-        panicDialogue.setTypewriterSpeed(2);
-        
-        manager.showDialogue(panicDialogue, world, this);
+        manager.startDialogue(DialogueGraphs.get("physicsPanic"), world, this);
     }
     
     
@@ -82,88 +76,11 @@ public class PhysicsTeacher extends QuizNPCBase
         if (world == null) return;
         
         DialogueManager manager = DialogueManager.getInstance();
-        
         if (manager.isDialogueActive()) return;
         
-        GameState state = GameState.getInstance();
-        int total = state.getLabPhysQuizTotal();
-        int correct = state.getLabPhysQuizCorrect();
-
-        if (state.isLabPhysQuizGateComplete())
-        {
-            String doneText = "Ai terminat toate cele 5 întrebări.\n---\n" +
-                "Corecte: " + correct + "/5.\n---\n" +
-                "Continuă cu mini‑quest‑urile.";
-            DialogueBox done = new DialogueBox(doneText, getIconPath(), true);
-            done.setTypewriterSpeed(2);
-            manager.showDialogue(done, world, this);
-            return;
-        }
-
-        if (total >= 5 && correct < 3)
-        {
-            String retryText = "Nu ai suficiente răspunsuri corecte.\n---\n" +
-                "Mai ai nevoie de " + (3 - correct) + " corecte.";
-            DialogueBox retry = new DialogueBox(retryText, getIconPath(), true);
-            retry.setTypewriterSpeed(2);
-
-            DialogueQuestion question = buildPhysicsQuestion();
-            DialogueBox questionBox = new DialogueBox(question, getIconPath(), true);
-            questionBox.setTypewriterSpeed(2);
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                GameState gs = GameState.getInstance();
-                gs.recordLabPhysNPCQuizResult(isCorrect);
-            });
-
-            manager.queueDialogue(questionBox);
-            manager.showDialogue(retry, world, this);
-            return;
-        }
-
-        // Show introduction only on first question
-        if (total == 0)
-        {
-            String repairText = "Bine ai venit la Laboratorul de Fizică!\n---\n" +
-                "Întrebarea 1 din 5.\n---\n" +
-                "Corecte: 0/5.";
-            DialogueBox instruction = new DialogueBox(repairText, getIconPath(), true);
-            instruction.setTypewriterSpeed(2);
-            
-            // Physics question
-            DialogueQuestion question = buildPhysicsQuestion();
-            DialogueBox questionBox = new DialogueBox(question, getIconPath(), true);
-            questionBox.setTypewriterSpeed(2);
-            
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                GameState gs = GameState.getInstance();
-                gs.recordLabPhysNPCQuizResult(isCorrect);
-            });
-            
-            manager.queueDialogue(questionBox);
-            manager.showDialogue(instruction, world, this);
-        }
-        else
-        {
-            // Show question directly for subsequent questions
-            DialogueQuestion question = buildPhysicsQuestion();
-            DialogueBox questionBox = new DialogueBox(question, getIconPath(), true);
-            questionBox.setTypewriterSpeed(2);
-            
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                GameState gs = GameState.getInstance();
-                gs.recordLabPhysNPCQuizResult(isCorrect);
-            });
-            
-            manager.showDialogue(questionBox, world, this);
-        }
+        manager.startDialogue(DialogueGraphs.get("physicsTeacher"), world, this);
     }
     
-    private DialogueQuestion buildPhysicsQuestion()
-    {
-        return GameState.getInstance().getRandomQuestion("physics", QuestionPools.getPhysicsQuestions());
-    }
-    
-    
     @Override
     public String getDialogueText(String playerName)
     {
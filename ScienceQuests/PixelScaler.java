@@ -0,0 +1,166 @@
+import greenfoot.GreenfootImage;
+
+/**
+ * PixelScaler - Integer-factor nearest-neighbour scaling for pixel art.
+ * Works directly on ARGB int[] rasters, so each source pixel becomes a crisp
+ * factor x factor block instead of going through GreenfootImage.scale().
+ * Can also trim fully transparent borders to keep baked sprites small.
+ */
+public final class PixelScaler
+{
+    private PixelScaler()
+    {
+    }
+
+    /**
+     * Copy an image's pixels into a new ARGB array (row-major, width * height).
+     */
+    public static int[] readPixels(GreenfootImage image)
+    {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        return image.getAwtImage().getRGB(0, 0, width, height, null, 0, width);
+    }
+
+    /**
+     * Create a GreenfootImage from an ARGB array.
+     */
+    public static GreenfootImage toImage(int[] pixels, int width, int height)
+    {
+        GreenfootImage image = new GreenfootImage(width, height);
+        image.getAwtImage().setRGB(0, 0, width, height, pixels, 0, width);
+        return image;
+    }
+
+    /**
+     * Returns the integer factor that maps source to target on both axes, or 0 if
+     * there is none (non-integer or different horizontal/vertical factors).
+     */
+    public static int integerFactor(int sourceWidth, int sourceHeight, int targetWidth, int targetHeight)
+    {
+        if (sourceWidth <= 0 || sourceHeight <= 0) return 0;
+        if (targetWidth % sourceWidth != 0 || targetHeight % sourceHeight != 0) return 0;
+        int factor = targetWidth / sourceWidth;
+        return (factor >= 1 && factor == targetHeight / sourceHeight) ? factor : 0;
+    }
+
+    /**
+     * Upscale a whole image by an integer factor.
+     */
+    public static GreenfootImage upscale(GreenfootImage source, int factor)
+    {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        return upscaleCrop(readPixels(source), width, 0, 0, width, height, factor, width * factor, height * factor);
+    }
+
+    /**
+     * Upscale the region (srcX, srcY, srcW, srcH) of a raster by an integer factor and
+     * keep only a cropWidth x cropHeight box centered on the scaled result.
+     * Slicing, scaling and cropping happen in a single pass; pixels outside the
+     * source region come out transparent.
+     */
+    public static GreenfootImage upscaleCrop(int[] source, int sourceStride,
+                                             int srcX, int srcY, int srcW, int srcH,
+                                             int factor, int cropWidth, int cropHeight)
+    {
+        int offsetX = (srcW * factor - cropWidth) / 2;
+        int offsetY = (srcH * factor - cropHeight) / 2;
+        int sourceRows = source.length / sourceStride;
+        int[] out = new int[cropWidth * cropHeight];
+
+        for (int dy = 0; dy < cropHeight; dy++)
+        {
+            int sy = dy + offsetY;
+            if (sy < 0 || sy >= srcH * factor) continue;
+            sy = srcY + sy / factor;
+            if (sy < 0 || sy >= sourceRows) continue;
+
+            int rowBase = sy * sourceStride;
+            int outBase = dy * cropWidth;
+            for (int dx = 0; dx < cropWidth; dx++)
+            {
+                int sx = dx + offsetX;
+                if (sx < 0 || sx >= srcW * factor) continue;
+                sx = srcX + sx / factor;
+                if (sx < 0 || sx >= sourceStride) continue;
+                out[outBase + dx] = source[rowBase + sx];
+            }
+        }
+
+        return toImage(out, cropWidth, cropHeight);
+    }
+
+    /**
+     * Return a copy of the image without its fully transparent border.
+     * The opaque content keeps its pixels exactly; an all-transparent image stays 1x1.
+     */
+    public static GreenfootImage trimTransparent(GreenfootImage image)
+    {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = readPixels(image);
+        int[] bounds = opaqueBounds(pixels, width, height);
+        if (bounds == null)
+        {
+            return new GreenfootImage(1, 1);
+        }
+
+        int trimWidth = bounds[2] - bounds[0] + 1;
+        int trimHeight = bounds[3] - bounds[1] + 1;
+        if (trimWidth == width && trimHeight == height)
+        {
+            return image;
+        }
+
+        int[] out = new int[trimWidth * trimHeight];
+        for (int y = 0; y < trimHeight; y++)
+        {
+            System.arraycopy(pixels, (bounds[1] + y) * width + bounds[0], out, y * trimWidth, trimWidth);
+        }
+        return toImage(out, trimWidth, trimHeight);
+    }
+
+    /**
+     * Scale an image as if to targetWidth x targetHeight but return only its opaque part.
+     * Uses nearest-neighbour when the factor is an integer, GreenfootImage.scale otherwise.
+     */
+    public static GreenfootImage scaleTrimmed(GreenfootImage source, int targetWidth, int targetHeight)
+    {
+        int factor = integerFactor(source.getWidth(), source.getHeight(), targetWidth, targetHeight);
+        if (factor > 0)
+        {
+            return trimTransparent(upscale(source, factor));
+        }
+
+        GreenfootImage trimmed = trimTransparent(source);
+        int width = Math.max(1, Math.round((float) trimmed.getWidth() * targetWidth / source.getWidth()));
+        int height = Math.max(1, Math.round((float) trimmed.getHeight() * targetHeight / source.getHeight()));
+        GreenfootImage scaled = new GreenfootImage(trimmed);
+        scaled.scale(width, height);
+        return scaled;
+    }
+
+    /**
+     * Bounding box {minX, minY, maxX, maxY} of pixels with non-zero alpha, or null if none.
+     */
+    private static int[] opaqueBounds(int[] pixels, int width, int height)
+    {
+        int minX = width, minY = height, maxX = -1, maxY = -1;
+        for (int y = 0; y < height; y++)
+        {
+            int rowBase = y * width;
+            for (int x = 0; x < width; x++)
+            {
+                if ((pixels[rowBase + x] >>> 24) != 0)
+                {
+                    if (x < minX) minX = x;
+                    if (x > maxX) maxX = x;
+                    if (y < minY) minY = y;
+                    if (y > maxY) maxY = y;
+                }
+            }
+        }
+        return maxX < 0 ? null : new int[]{minX, minY, maxX, maxY};
+    }
+}
@@ -1,18 +1,18 @@
 /**
  * PlayerData - Stores global player information
  * Accessible throughout the game to retrieve player name and gender
+ * Saved together with GameState by SaveGame; the values belong to the current GameSession
  */
 public class PlayerData
 {
-    private static String playerName = "";
-    private static Gender playerGender = null;
 
     /**
      * Set player name
      */
     public static void setPlayerName(String name)
     {
-        playerName = name;
+        GameSession.current().setPlayerName(name);
+        SaveGame.requestSave();
     }
 
     /**
@@ -20,7 +20,7 @@ public class PlayerData
      */
     public static String getPlayerName()
     {
-        return playerName;
+        return GameSession.current().getPlayerName();
     }
 
     /**
@@ -28,7 +28,8 @@ public class PlayerData
      */
     public static void setPlayerGender(Gender gender)
     {
-        playerGender = gender;
+        GameSession.current().setPlayerGender(gender);
+        SaveGame.requestSave();
     }
 
     /**
@@ -36,7 +37,7 @@ public class PlayerData
      */
     public static Gender getPlayerGender()
     {
-        return playerGender;
+        return GameSession.current().getPlayerGender();
     }
 
     /**
@@ -44,7 +45,7 @@ public class PlayerData
      */
     public static void reset()
     {
-        playerName = "";
-        playerGender = null;
+        GameSession.current().setPlayerName("");
+        GameSession.current().setPlayerGender(null);
     }
 }
@@ -17,38 +17,23 @@ public class PrecisionHoldQuest extends BaseQuest
     private int successFlash = 0;
     private boolean holdingStarted = false;
     
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Text levelText;
+    private QuestOverlay.Widget holdBar;
+    private QuestOverlay.Text heldText;
+    private QuestOverlay.Text scoreText;
+    
+    private static final Color LEVEL_COLOR = UIStyle.color(200, 150, 220);
+    private static final Color SCORE_COLOR = UIStyle.color(255, 200, 100);
+    
+    // Tabled sin(tick * rate) curves for pulses and glows
+    private static final UIStyle.Curve WAVE_20 = UIStyle.wave(0.2);
+    
     public PrecisionHoldQuest(int mapX, int mapY)
     {
         super(mapX, mapY);
-        createImage();
-    }
-    
-    private void createImage()
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        marker.setColor(new Color(255, 255, 255));
-        marker.setFont(new greenfoot.Font("Arial", true, false, 10));
-        marker.drawString("SPATIU", 4, 46);
-        setImage(marker);
+        setImage(getMarkerImage(true));
     }
     
     public void act()
@@ -68,12 +53,12 @@ public class PrecisionHoldQuest extends BaseQuest
         Actor player = getPlayer();
         if (player != null && !questActive)
         {
-            boolean startPressed = Greenfoot.isKeyDown("space");
+            boolean startPressed = input.justPressed(InputState.SPACE);
             if (canStartQuest(player, 100))
             {
                 if (!tutorialActive)
                 {
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = true;
                         showTutorial();
@@ -83,7 +68,7 @@ public class PrecisionHoldQuest extends BaseQuest
                 else
                 {
                     showTutorial();
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = false;
                         beginQuest();
@@ -105,7 +90,6 @@ public class PrecisionHoldQuest extends BaseQuest
                 tutorialActive = false;
                 clearOverlay();
             }
-            startKeyDown = startPressed;
         }
         
         if (interactionCooldown > 0) interactionCooldown--;
@@ -114,7 +98,7 @@ public class PrecisionHoldQuest extends BaseQuest
         if (questActive)
         {
             animTick++;
-            if (Greenfoot.isKeyDown("left"))
+            if (input.isDown(InputState.LEFT))
             {
                 holdingStarted = true;
                 holdTime++;
@@ -161,7 +145,7 @@ public class PrecisionHoldQuest extends BaseQuest
             if (levelCount >= targetRounds)
             {
                 endQuest();
-                completed = true;
+                markCompleted();
                 finishQuest(true);
             }
             else
@@ -174,7 +158,7 @@ public class PrecisionHoldQuest extends BaseQuest
         else
         {
             endQuest();
-            completed = true;
+            markCompleted();
             finishQuest(false);
         }
     }
@@ -187,113 +171,121 @@ public class PrecisionHoldQuest extends BaseQuest
 
         int panelW = 460;
         int panelH = 280;
-        GreenfootImage img = new GreenfootImage(panelW, panelH);
+        if (scene == null) buildScene(panelW, panelH);
+
+        levelText.set("NIVEL " + (levelCount + 1) + " | ȚINTĂ: " + (targetTime / 60.0f) + "s", LEVEL_COLOR);
+
+        boolean inPerfectZone = holdTime >= (targetTime - tolerance) && holdTime <= (targetTime + tolerance);
+        int glow = inPerfectZone ? WAVE_20.at(animTick, 150, 100) : 0;
+        holdBar.update(targetTime * 1000L + tolerance, holdTime, glow);
+
+        float seconds = holdTime / 60.0f;
+        float targetSeconds = targetTime / 60.0f;
+        heldText.set(String.format("ȚINUT: %.2f / %.2f sec", seconds, targetSeconds), Color.WHITE);
+        scoreText.set("Scor: " + totalScore, SCORE_COLOR);
+
+        showScene(scene);
+    }
+    
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene(int w, int h)
+    {
+        int panelW = w;
+        int panelH = h;
         int px = 0;
         int py = 0;
 
-        // Animated pulsing background
-        int pulse = 90 + (int)(70 * Math.sin(animTick * 0.12));
-        img.setColor(new Color(0, 0, 0, pulse));
-        img.fillRect(0, 0, panelW, panelH);
+        scene = new QuestOverlay(panelW, panelH, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 90));
+            img.fillRect(0, 0, panelW, panelH);
 
-        // Glowing aura effect (purple: 180, 100, 220)
-        img.setColor(new Color(180, 100, 220, 60));
-        img.fillRect(px - 8, py - 8, panelW + 16, panelH + 16);
+            // Glowing aura effect (purple: 180, 100, 220)
+            img.setColor(UIStyle.color(180, 100, 220, 60));
+            img.fillRect(px - 8, py - 8, panelW + 16, panelH + 16);
 
-        // Panel background
-        img.setColor(new Color(15, 10, 25, 220));
-        img.fillRect(px, py, panelW, panelH);
+            // Panel background
+            img.setColor(UIStyle.color(15, 10, 25, 220));
+            img.fillRect(px, py, panelW, panelH);
 
-        // Double-line fancy borders with purple glow
-        img.setColor(new Color(180, 100, 220, 220));
-        img.drawRect(px, py, panelW, panelH);
-        img.setColor(new Color(200, 150, 230, 120));
-        img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
+            // Double-line fancy borders with purple glow
+            img.setColor(UIStyle.color(180, 100, 220, 220));
+            img.drawRect(px, py, panelW, panelH);
+            img.setColor(UIStyle.color(200, 150, 230, 120));
+            img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
 
-        // Title
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 24));
-        img.drawString("MENȚINERE PRECISĂ", px + 70, py + 50);
+            // Title
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 24));
+            img.drawString("MENȚINERE PRECISĂ", px + 70, py + 50);
 
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(200, 180, 220));
-        img.drawString("INSTRUCȚIUNI: ține apăsată săgeata STÂNGA exact cât trebuie", px + 20, py + 70);
+            img.setFont(UIStyle.font("Arial", false, false, 14));
+            img.setColor(UIStyle.color(200, 180, 220));
+            img.drawString("INSTRUCȚIUNI: ține apăsată săgeata STÂNGA exact cât trebuie", px + 20, py + 70);
+        });
 
         // Difficulty level
-        img.setColor(new Color(200, 150, 220));
-        img.setFont(new greenfoot.Font("Arial", true, false, 14));
-        img.drawString("NIVEL " + (levelCount + 1) + " | ȚINTĂ: " + (targetTime / 60.0f) + "s", px + 140, py + 90);
+        levelText = scene.add(new QuestOverlay.Text(px + 140, py + 90, 250, UIStyle.font("Arial", true, false, 14)));
 
         // Tolerance zone visualization
         int progressBarWidth = panelW - 80;
         int progressBarHeight = 40;
         int barX = px + 40;
         int barY = py + 120;
-        
-        // Dark background
-        img.setColor(new Color(40, 30, 50, 200));
-        img.fillRect(barX, barY, progressBarWidth, progressBarHeight);
+        holdBar = scene.add(barX - 15, barY - 20, progressBarWidth + 30, progressBarHeight + 31, img -> {
+            // Dark background
+            img.setColor(UIStyle.color(40, 30, 50, 200));
+            img.fillRect(barX, barY, progressBarWidth, progressBarHeight);
 
-        // Red zone (too short)
-        img.setColor(new Color(200, 50, 50, 120));
-        img.fillRect(barX, barY, (targetTime - tolerance) * progressBarWidth / 300, progressBarHeight);
+            // Red zone (too short)
+            img.setColor(UIStyle.color(200, 50, 50, 120));
+            img.fillRect(barX, barY, (targetTime - tolerance) * progressBarWidth / 300, progressBarHeight);
 
-        // Green perfect zone
-        img.setColor(new Color(100, 220, 100, 180));
-        int perfectStart = (targetTime - tolerance) * progressBarWidth / 300;
-        int perfectWidth = (tolerance * 2) * progressBarWidth / 300;
-        img.fillRect(barX + perfectStart, barY, perfectWidth, progressBarHeight);
+            // Green perfect zone
+            img.setColor(UIStyle.color(100, 220, 100, 180));
+            int perfectStart = (targetTime - tolerance) * progressBarWidth / 300;
+            int perfectWidth = (tolerance * 2) * progressBarWidth / 300;
+            img.fillRect(barX + perfectStart, barY, perfectWidth, progressBarHeight);
 
-        // Red zone (too long)
-        img.setColor(new Color(200, 50, 50, 120));
-        int redStart = (targetTime + tolerance) * progressBarWidth / 300;
-        img.fillRect(barX + redStart, barY, progressBarWidth - redStart, progressBarHeight);
+            // Red zone (too long)
+            img.setColor(UIStyle.color(200, 50, 50, 120));
+            int redStart = (targetTime + tolerance) * progressBarWidth / 300;
+            img.fillRect(barX + redStart, barY, progressBarWidth - redStart, progressBarHeight);
 
-        // Current progress indicator
-        int currentPos = holdTime * progressBarWidth / 300;
-        if (holdTime <= 300)
-        {
-            Color posColor;
-            if (holdTime >= (targetTime - tolerance) && holdTime <= (targetTime + tolerance))
+            // Current progress indicator
+            int currentPos = holdTime * progressBarWidth / 300;
+            if (holdTime <= 300)
             {
-                // In perfect zone - pulsing glow
-                int glow = 150 + (int)(100 * Math.sin(animTick * 0.2));
-                posColor = new Color(100, 255, 100);
-                img.setColor(new Color(100, 255, 100, glow / 2));
-                img.fillRect(barX + currentPos - 15, barY - 10, 30, progressBarHeight + 20);
-            }
-            else
-            {
-                posColor = new Color(255, 150, 100);
+                Color posColor;
+                if (holdTime >= (targetTime - tolerance) && holdTime <= (targetTime + tolerance))
+                {
+                    // In perfect zone - pulsing glow
+                    int glow = WAVE_20.at(animTick, 150, 100);
+                    posColor = UIStyle.color(100, 255, 100);
+                    img.setColor(UIStyle.color(100, 255, 100, glow / 2));
+                    img.fillRect(barX + currentPos - 15, barY - 10, 30, progressBarHeight + 20);
+                }
+                else
+                {
+                    posColor = UIStyle.color(255, 150, 100);
+                }
+                
+                img.setColor(posColor);
+                img.fillRect(barX + currentPos - 3, barY - 8, 6, progressBarHeight + 16);
             }
-            
-            img.setColor(posColor);
-            img.fillRect(barX + currentPos - 3, barY - 8, 6, progressBarHeight + 16);
-        }
 
-        // Zone labels
-        img.setColor(new Color(180, 180, 180));
-        img.setFont(new greenfoot.Font("Arial", true, false, 12));
-        img.drawString("PREA SCURT", barX + 5, barY - 5);
-        img.drawString("PERFECT", barX + progressBarWidth / 2 - 25, barY - 5);
-        img.drawString("PREA LUNG", barX + progressBarWidth - 60, barY - 5);
+            // Zone labels
+            img.setColor(UIStyle.color(180, 180, 180));
+            img.setFont(UIStyle.font("Arial", true, false, 12));
+            img.drawString("PREA SCURT", barX + 5, barY - 5);
+            img.drawString("PERFECT", barX + progressBarWidth / 2 - 25, barY - 5);
+            img.drawString("PREA LUNG", barX + progressBarWidth - 60, barY - 5);
+        });
 
-        // Time display
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
-        float seconds = holdTime / 60.0f;
-        float targetSeconds = targetTime / 60.0f;
-        img.drawString(String.format("ȚINUT: %.2f / %.2f sec", seconds, targetSeconds), px + 110, py + 220);
-
-        // Score display
-        img.setColor(new Color(255, 200, 100));
-        img.setFont(new greenfoot.Font("Arial", true, false, 18));
-        img.drawString("Scor: " + totalScore, px + 175, py + 250);
-
-        if (overlay != null)
-        {
-            overlay.setImage(img);
-        }
+        // Time and score display
+        heldText = scene.add(new QuestOverlay.Text(px + 110, py + 220, 300, UIStyle.font("Arial", true, false, 20)));
+        scoreText = scene.add(new QuestOverlay.Text(px + 175, py + 250, 200, UIStyle.font("Arial", true, false, 18)));
     }
     
     private void finishQuest(boolean success)
@@ -311,40 +303,40 @@ public class PrecisionHoldQuest extends BaseQuest
         
         if (success)
         {
-            img.setColor(new Color(180, 100, 220, 190));
+            img.setColor(UIStyle.color(180, 100, 220, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(200, 100, 255, 100));
+            img.setColor(UIStyle.color(200, 100, 255, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
             
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 38));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 38));
             img.drawString("PERFECT!", panelW / 2 - 100, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 20));
-            img.setColor(new Color(100, 255, 200));
+            img.setFont(UIStyle.font("Arial", true, false, 20));
+            img.setColor(UIStyle.color(100, 255, 200));
             img.drawString("Scor: " + totalScore, panelW / 2 - 70, panelH / 2 + 15);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 15));
-            img.setColor(new Color(200, 200, 200));
+            img.setFont(UIStyle.font("Arial", true, false, 15));
+            img.setColor(UIStyle.color(200, 200, 200));
             img.drawString("Durată ținută: " + String.format("%.2f sec", holdTime / 60.0f), panelW / 2 - 140, panelH / 2 + 50);
         }
         else
         {
-            img.setColor(new Color(180, 100, 220, 190));
+            img.setColor(UIStyle.color(180, 100, 220, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(200, 100, 255, 100));
+            img.setColor(UIStyle.color(200, 100, 255, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
             
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 38));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 38));
             img.drawString("EȘUAT!", panelW / 2 - 90, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 18));
-            img.setColor(new Color(255, 150, 200));
+            img.setFont(UIStyle.font("Arial", true, false, 18));
+            img.setColor(UIStyle.color(255, 150, 200));
             img.drawString("Ai ținut prea " + (holdTime < targetTime ? "PUȚIN" : "MULT"), panelW / 2 - 120, panelH / 2 + 10);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 14));
-            img.setColor(new Color(200, 200, 200));
+            img.setFont(UIStyle.font("Arial", true, false, 14));
+            img.setColor(UIStyle.color(200, 200, 200));
             float held = holdTime / 60.0f;
             float target = targetTime / 60.0f;
             img.drawString("Tu: " + String.format("%.2f sec", held), panelW / 2 - 60, panelH / 2 + 45);
@@ -352,40 +344,32 @@ public class PrecisionHoldQuest extends BaseQuest
         }
         
         // Set transparent actor image
-        GreenfootImage transparent = new GreenfootImage(48, 48);
-        transparent.setColor(new Color(0, 0, 0, 0));
-        transparent.fillRect(0, 0, 48, 48);
-        setImage(transparent);
+        setImage(getHiddenMarkerImage());
         
         overlay.setImage(img);
     }
 
-    private void showTutorial()
+    protected GreenfootImage createTutorialImage()
     {
-        World world = getWorld();
-        if (world == null) return;
-        ensureOverlay();
-        if (overlay == null) return;
-
         int w = 460;
         int h = 190;
         GreenfootImage img = new GreenfootImage(w, h);
-        img.setColor(new Color(0, 0, 0, 200));
+        img.setColor(UIStyle.color(0, 0, 0, 200));
         img.fillRect(0, 0, w, h);
-        img.setColor(new Color(180, 120, 220, 200));
+        img.setColor(UIStyle.color(180, 120, 220, 200));
         img.drawRect(0, 0, w - 1, h - 1);
 
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.setColor(Color.WHITE);
         img.drawString("TUTORIAL: MENȚINERE", 130, 30);
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(220, 220, 220));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(220, 220, 220));
         img.drawString("Ține apăsată săgeata STÂNGA exact cât trebuie.", 40, 70);
         img.drawString("Scop: intră în zona verde.", 130, 95);
-        img.setColor(new Color(200, 255, 200));
+        img.setColor(UIStyle.color(200, 255, 200));
         img.drawString("Apasă SPATIU pentru a începe", 140, 145);
 
-        overlay.setImage(img);
+        return img;
     }
     
     public java.util.List<TiledMap.CollisionRect> getCollisionRects()
@@ -0,0 +1,167 @@
+import greenfoot.Actor;
+import greenfoot.World;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProximityService - Per-world index of interactables around the player.
+ * Quests and NPCs register a trigger radius once. The player reports its position
+ * once per tick, and the service fires onEnter/onExit as it crosses trigger radii,
+ * so interactables just read a flag instead of scanning the world for the player and
+ * measuring the distance themselves. Distances are compared squared.
+ *
+ * Trigger centers are read live from their owners, so actors repositioned by a
+ * scrolling camera stay correct. Triggers whose owner left the world are dropped.
+ * Each world keeps its own service, so it goes away with the world.
+ */
+public class ProximityService
+{
+    /**
+     * Notified when the player crosses a trigger's radius.
+     */
+    public interface Listener
+    {
+        void onEnter(Actor player);
+
+        void onExit(Actor player);
+    }
+
+    /**
+     * A world with players and interactables, holding its service in a field.
+     */
+    public interface Host
+    {
+        ProximityService getProximityService();
+    }
+
+    private final World world;
+    private final List<Trigger> triggers = new ArrayList<Trigger>();
+    private Actor player;
+
+    ProximityService(World world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * The service of a world.
+     */
+    public static ProximityService of(World world)
+    {
+        if (!(world instanceof Host))
+        {
+            throw new IllegalArgumentException(world.getClass().getSimpleName() + " has no ProximityService");
+        }
+        return ((Host) world).getProximityService();
+    }
+
+    /**
+     * Watch a circle of the given radius around owner. The listener may be null for
+     * owners that only poll Trigger.isPlayerInside().
+     */
+    public Trigger register(Actor owner, int radius, Listener listener)
+    {
+        Trigger trigger = new Trigger(this, owner, radius, listener);
+        triggers.add(trigger);
+        if (player != null)
+        {
+            trigger.refresh(player);
+        }
+        return trigger;
+    }
+
+    public void unregister(Trigger trigger)
+    {
+        triggers.remove(trigger);
+    }
+
+    /**
+     * The player last reported to this world, or null if none has acted here yet.
+     */
+    public Actor getPlayer()
+    {
+        return player != null && player.getWorld() == world ? player : null;
+    }
+
+    /**
+     * Record the player's position for this tick and fire enter/exit callbacks.
+     */
+    public void update(Actor player)
+    {
+        this.player = player;
+        for (int i = triggers.size() - 1; i >= 0; i--)
+        {
+            Trigger trigger = triggers.get(i);
+            if (trigger.owner.getWorld() != world)
+            {
+                triggers.remove(i);
+                continue;
+            }
+            trigger.refresh(player);
+        }
+    }
+
+    /**
+     * One registered circle around an actor.
+     */
+    public static class Trigger
+    {
+        private final ProximityService service;
+        private final Actor owner;
+        private final int radius;
+        private final int radiusSquared;
+        private final Listener listener;
+        private boolean inside = false;
+
+        private Trigger(ProximityService service, Actor owner, int radius, Listener listener)
+        {
+            this.service = service;
+            this.owner = owner;
+            this.radius = radius;
+            this.radiusSquared = radius * radius;
+            this.listener = listener;
+        }
+
+        private void refresh(Actor player)
+        {
+            int dx = player.getX() - owner.getX();
+            int dy = player.getY() - owner.getY();
+            boolean nowInside = dx * dx + dy * dy < radiusSquared;
+            if (nowInside == inside) return;
+
+            inside = nowInside;
+            if (listener == null) return;
+            if (inside)
+            {
+                listener.onEnter(player);
+            }
+            else
+            {
+                listener.onExit(player);
+            }
+        }
+
+        public boolean isPlayerInside()
+        {
+            return inside;
+        }
+
+        public int getRadius()
+        {
+            return radius;
+        }
+
+        /**
+         * Whether this trigger still belongs to the given world's service.
+         */
+        public boolean isFor(World world)
+        {
+            return service.world == world;
+        }
+
+        public void unregister()
+        {
+            service.unregister(this);
+        }
+    }
+}
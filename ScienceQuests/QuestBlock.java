@@ -11,6 +11,10 @@ public class QuestBlock extends Actor
     private int mapX;
     private int mapY;
     
+    // Set by the world's ProximityService when the player is within 100 px
+    private ProximityService.Trigger trigger;
+    private boolean playerNearby = false;
+    
     public QuestBlock(int mapX, int mapY)
     {
         this.mapX = mapX;
@@ -18,14 +22,14 @@ public class QuestBlock extends Actor
         
         // Create a visible block image
         GreenfootImage image = new GreenfootImage(48, 48);
-        image.setColor(new Color(139, 69, 19)); // Brown color for a wooden crate
+        image.setColor(UIStyle.color(139, 69, 19)); // Brown color for a wooden crate
         image.fillRect(0, 0, 48, 48);
-        image.setColor(new Color(101, 50, 13)); // Darker brown for border
+        image.setColor(UIStyle.color(101, 50, 13)); // Darker brown for border
         image.drawRect(0, 0, 47, 47);
         image.drawRect(2, 2, 43, 43);
         
         // Draw X pattern
-        image.setColor(new Color(160, 82, 45));
+        image.setColor(UIStyle.color(160, 82, 45));
         image.drawLine(10, 10, 37, 37);
         image.drawLine(37, 10, 10, 37);
         
@@ -40,30 +44,29 @@ public class QuestBlock extends Actor
         World world = getWorld();
         if (world == null) return;
         
-        Actor player = null;
-        if (!world.getObjects(Boy.class).isEmpty())
-        {
-            player = world.getObjects(Boy.class).get(0);
-        }
-        else if (!world.getObjects(Girl.class).isEmpty())
+        if (trigger == null || !trigger.isFor(world))
         {
-            player = world.getObjects(Girl.class).get(0);
+            playerNearby = false;
+            trigger = ProximityService.of(world).register(this, 100, new ProximityService.Listener()
+            {
+                public void onEnter(Actor player)
+                {
+                    playerNearby = true;
+                }
+
+                public void onExit(Actor player)
+                {
+                    playerNearby = false;
+                }
+            });
         }
         
-        if (player != null)
+        // If player is close and presses space, start the quest
+        if (playerNearby && !questStarted)
         {
-            // Calculate distance to player
-            int dx = Math.abs(player.getX() - getX());
-            int dy = Math.abs(player.getY() - getY());
-            double distance = Math.sqrt(dx * dx + dy * dy);
-            
-            // If player is close and presses space, start the quest
-            if (distance < 100 && !questStarted)
+            if (InputState.getInstance().isDown(InputState.SPACE))
             {
-                if (Greenfoot.isKeyDown("space"))
-                {
-                    startQuest();
-                }
+                startQuest();
             }
         }
         
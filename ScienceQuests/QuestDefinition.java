@@ -0,0 +1,139 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * QuestDefinition - One declarative mini-quest entry from MiniQuestIdeas.json.
+ * Holds what the generic quest engine needs: which mechanic runs it, the keys it
+ * listens to, the goal, the time limit and the texts shown around it.
+ */
+public class QuestDefinition
+{
+    private final String name;
+    private final String scienceType;
+    private final String mechanicType;
+    private final String inputDescription;
+    private final int timeLimitSeconds;
+    private final int target;
+    private final String[] keys;
+    private final String successEffect;
+    private final String failEffect;
+
+    public QuestDefinition(String name, String scienceType, String mechanicType, String inputDescription,
+                           int timeLimitSeconds, int target, String[] keys,
+                           String successEffect, String failEffect)
+    {
+        this.name = name;
+        this.scienceType = scienceType;
+        this.mechanicType = mechanicType;
+        this.inputDescription = inputDescription;
+        this.timeLimitSeconds = timeLimitSeconds;
+        this.target = target;
+        this.keys = keys;
+        this.successEffect = successEffect;
+        this.failEffect = failEffect;
+    }
+
+    /**
+     * Read one quest object. Unknown fields are skipped; "target" defaults to 1 and
+     * "keys" to ["space"].
+     */
+    public static QuestDefinition read(JsonReader reader) throws IOException
+    {
+        String name = null;
+        String scienceType = "";
+        String mechanicType = "";
+        String inputDescription = "";
+        int timeLimitSeconds = 10;
+        int target = 1;
+        List<String> keys = new ArrayList<>();
+        String successEffect = "";
+        String failEffect = "";
+
+        reader.beginObject();
+        while (reader.hasNext())
+        {
+            String field = reader.nextName();
+            if ("questName".equals(field)) name = reader.nextString();
+            else if ("scienceType".equals(field)) scienceType = reader.nextString();
+            else if ("mechanicType".equals(field)) mechanicType = reader.nextString();
+            else if ("inputDescription".equals(field)) inputDescription = reader.nextString();
+            else if ("timeLimitSeconds".equals(field)) timeLimitSeconds = reader.nextInt();
+            else if ("target".equals(field)) target = reader.nextInt();
+            else if ("successEffect".equals(field)) successEffect = reader.nextString();
+            else if ("failEffect".equals(field)) failEffect = reader.nextString();
+            else if ("keys".equals(field))
+            {
+                reader.beginArray();
+                while (reader.hasNext())
+                {
+                    keys.add(reader.nextString());
+                }
+                reader.endArray();
+            }
+            else reader.skipValue();
+        }
+        reader.endObject();
+
+        if (name == null)
+        {
+            throw new IOException("Quest definition without questName");
+        }
+        if (keys.isEmpty())
+        {
+            keys.add("space");
+        }
+        return new QuestDefinition(name, scienceType, mechanicType, inputDescription,
+                                   timeLimitSeconds, Math.max(1, target), keys.toArray(new String[0]),
+                                   successEffect, failEffect);
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public String getScienceType()
+    {
+        return scienceType;
+    }
+
+    public String getMechanicType()
+    {
+        return mechanicType;
+    }
+
+    public String getInputDescription()
+    {
+        return inputDescription;
+    }
+
+    public int getTimeLimitSeconds()
+    {
+        return timeLimitSeconds;
+    }
+
+    public int getTarget()
+    {
+        return target;
+    }
+
+    /**
+     * Key tokens in order. A token is an InputState key name ("up", "space") or
+     * several joined with '+' for keys held together ("up+right").
+     */
+    public String[] getKeys()
+    {
+        return keys.clone();
+    }
+
+    public String getSuccessEffect()
+    {
+        return successEffect;
+    }
+
+    public String getFailEffect()
+    {
+        return failEffect;
+    }
+}
@@ -0,0 +1,72 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * QuestDefinitions - Process-wide registry of declarative quests.
+ * MiniQuestIdeas.json is parsed once, on first lookup; every DataQuest after that
+ * shares the same definition objects.
+ */
+public final class QuestDefinitions
+{
+    private static final String DEFINITIONS_PATH = "MiniQuestIdeas.json";
+
+    private static Map<String, QuestDefinition> definitions;
+
+    private QuestDefinitions()
+    {
+    }
+
+    /**
+     * The definition with the given questName, or null if there is none.
+     */
+    public static QuestDefinition get(String questName)
+    {
+        return load().get(questName);
+    }
+
+    /**
+     * Every definition in file order.
+     */
+    public static List<QuestDefinition> getAll()
+    {
+        return Collections.unmodifiableList(new ArrayList<>(load().values()));
+    }
+
+    private static synchronized Map<String, QuestDefinition> load()
+    {
+        if (definitions != null) return definitions;
+
+        definitions = new LinkedHashMap<>();
+        try (JsonReader reader = JsonReader.open(DEFINITIONS_PATH))
+        {
+            reader.beginObject();
+            while (reader.hasNext())
+            {
+                if (!"scienceMiniQuests".equals(reader.nextName()))
+                {
+                    reader.skipValue();
+                    continue;
+                }
+
+                reader.beginArray();
+                while (reader.hasNext())
+                {
+                    QuestDefinition definition = QuestDefinition.read(reader);
+                    definitions.put(definition.getName(), definition);
+                }
+                reader.endArray();
+            }
+            reader.endObject();
+            DebugLog.log("QuestDefinitions: loaded " + definitions.size() + " quests");
+        }
+        catch (IOException e)
+        {
+            DebugLog.log("QuestDefinitions: could not load " + DEFINITIONS_PATH + ": " + e.getMessage());
+        }
+        return definitions;
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * QuestMechanic - The gameplay module a DataQuest runs.
+ * The quest owns the start/tutorial/timer/result state machine and the overlay;
+ * a mechanic only turns input into progress and draws its own play area.
+ */
+public interface QuestMechanic
+{
+    /**
+     * Reset for a fresh attempt at the given quest.
+     */
+    void start(QuestDefinition definition);
+
+    /**
+     * Advance one tick with the current input snapshot.
+     */
+    void update(InputState input, int tick);
+
+    /**
+     * Goals reached so far; the quest succeeds when this reaches the definition's target.
+     */
+    int getProgress();
+
+    /**
+     * One-line instruction or feedback for the current moment.
+     */
+    String getStatus();
+
+    /**
+     * Values the play area depends on; the area repaints only when this changes.
+     */
+    long getVisualState();
+
+    /**
+     * Draw the play area inside (x, y, w, h), in scene coordinates.
+     */
+    void paint(QuestOverlay.Canvas canvas, int x, int y, int w, int h);
+}
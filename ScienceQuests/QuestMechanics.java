@@ -0,0 +1,83 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * QuestMechanics - Registry of mechanic modules by mechanicType.
+ * Each DataQuest gets its own instance; new mechanics plug in with register().
+ */
+public final class QuestMechanics
+{
+    private static final Map<String, Supplier<QuestMechanic>> factories = new HashMap<>();
+
+    static
+    {
+        register("reflex", ReflexMechanic::new);
+        register("timing", TimingMechanic::new);
+        register("hold", HoldMechanic::new);
+        register("combo", ComboMechanic::new);
+    }
+
+    private QuestMechanics()
+    {
+    }
+
+    public static void register(String mechanicType, Supplier<QuestMechanic> factory)
+    {
+        factories.put(mechanicType, factory);
+    }
+
+    /**
+     * A new mechanic for the type; unknown types fall back to reflex so a typo in
+     * the data still gives a playable quest.
+     */
+    public static QuestMechanic create(String mechanicType)
+    {
+        Supplier<QuestMechanic> factory = factories.get(mechanicType);
+        if (factory == null)
+        {
+            DebugLog.log("QuestMechanics: unknown mechanic '" + mechanicType + "', using reflex");
+            factory = factories.get("reflex");
+        }
+        return factory.get();
+    }
+
+    /**
+     * Key masks for the definition's key tokens, skipping tokens that are not tracked keys.
+     */
+    static int[] chordMasks(QuestDefinition definition)
+    {
+        String[] keys = definition.getKeys();
+        int[] masks = new int[keys.length];
+        int count = 0;
+        for (String key : keys)
+        {
+            int mask = InputState.chordMask(key);
+            if (mask != 0) masks[count++] = mask;
+        }
+        if (count == 0)
+        {
+            return new int[]{1 << InputState.SPACE};
+        }
+        int[] result = new int[count];
+        System.arraycopy(masks, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Display label for a key chord, e.g. "↑+→" or "SPATIU".
+     */
+    static String chordLabel(int mask)
+    {
+        StringBuilder label = new StringBuilder();
+        // Indexed by the InputState key constants UP..SPACE
+        String[] names = {"↑", "↓", "←", "→", "SPATIU"};
+        for (int key = 0; key < names.length; key++)
+        {
+            if ((mask & (1 << key)) == 0) continue;
+            if (label.length() > 0) label.append('+');
+            label.append(names[key]);
+        }
+        return label.toString();
+    }
+}
@@ -0,0 +1,325 @@
+import greenfoot.*;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * QuestOverlay - Retained-mode scene for a quest's on-screen panel.
+ * The static chrome (panel, glow, borders, title, instructions) is painted once into
+ * its own layer. Dynamic parts are widgets with dirty flags; render() restores the
+ * chrome under each changed widget and repaints only those widgets into one reused
+ * buffer, so a quiet tick costs nothing and a busy one costs the changed area.
+ */
+public class QuestOverlay
+{
+    /** Paints part of the scene; coordinates are in scene space */
+    public interface Painter
+    {
+        void paint(Canvas canvas);
+    }
+
+    private final int width;
+    private final int height;
+    private final GreenfootImage chrome;
+    private final GreenfootImage buffer;
+    private final List<Widget> widgets = new ArrayList<>();
+    private boolean fullRepaint = true;
+
+    public QuestOverlay(int width, int height, Painter chromePainter)
+    {
+        this.width = width;
+        this.height = height;
+        this.chrome = new GreenfootImage(width, height);
+        this.buffer = new GreenfootImage(width, height);
+        chromePainter.paint(new Canvas(chrome, 0, 0));
+    }
+
+    public <T extends Widget> T add(T widget)
+    {
+        widgets.add(widget);
+        fullRepaint = true;
+        return widget;
+    }
+
+    /**
+     * Shorthand for a custom widget covering (x, y, w, h).
+     */
+    public Widget add(int x, int y, int w, int h, Painter painter)
+    {
+        return add(new Widget(x, y, w, h, painter));
+    }
+
+    /**
+     * Force every widget to repaint on the next render (e.g. after a retry).
+     */
+    public void invalidate()
+    {
+        fullRepaint = true;
+    }
+
+    /**
+     * The composited scene image. Stays the same object for the overlay's lifetime.
+     */
+    public GreenfootImage getImage()
+    {
+        return buffer;
+    }
+
+    /**
+     * Re-composite changed widgets into the buffer.
+     * Returns true if any pixels changed.
+     */
+    public boolean render()
+    {
+        if (fullRepaint)
+        {
+            fullRepaint = false;
+            for (Widget widget : widgets)
+            {
+                widget.dirty = true;
+            }
+            copyChrome(0, 0, width, height);
+            paintDirtyWidgets();
+            return true;
+        }
+
+        boolean anyDirty = false;
+        for (Widget widget : widgets)
+        {
+            anyDirty |= widget.dirty;
+        }
+        if (!anyDirty) return false;
+
+        // Restoring chrome under a widget erases whatever overlaps it, so those repaint too
+        boolean spread = true;
+        while (spread)
+        {
+            spread = false;
+            for (Widget a : widgets)
+            {
+                if (!a.dirty) continue;
+                for (Widget b : widgets)
+                {
+                    if (!b.dirty && a.intersects(b))
+                    {
+                        b.dirty = true;
+                        spread = true;
+                    }
+                }
+            }
+        }
+
+        for (Widget widget : widgets)
+        {
+            if (widget.dirty)
+            {
+                copyChrome(widget.x, widget.y, widget.width, widget.height);
+            }
+        }
+        paintDirtyWidgets();
+        return true;
+    }
+
+    private void paintDirtyWidgets()
+    {
+        for (Widget widget : widgets)
+        {
+            if (widget.dirty)
+            {
+                widget.repaint();
+                buffer.drawImage(widget.image, widget.x, widget.y);
+                widget.dirty = false;
+            }
+        }
+    }
+
+    // Replace (not blend) a region of the buffer with the chrome layer
+    private void copyChrome(int x, int y, int w, int h)
+    {
+        Graphics2D g = buffer.getAwtImage().createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(chrome.getAwtImage(), x, y, x + w, y + h, x, y, x + w, y + h, null);
+        g.dispose();
+    }
+
+    /**
+     * A rectangular piece of the scene that repaints only when its state changes.
+     */
+    public static class Widget
+    {
+        final int x, y, width, height;
+        final GreenfootImage image;
+        private final Painter painter;
+        private final Canvas canvas;
+        // The values last passed to update(), compared one by one
+        private long stateA = Long.MIN_VALUE;
+        private long stateB = Long.MIN_VALUE;
+        private long stateC = Long.MIN_VALUE;
+        boolean dirty = true;
+
+        public Widget(int x, int y, int width, int height, Painter painter)
+        {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.painter = painter;
+            this.image = new GreenfootImage(Math.max(1, width), Math.max(1, height));
+            this.canvas = new Canvas(image, x, y);
+        }
+
+        /**
+         * Report the values the widget depends on; it is marked dirty only if they changed.
+         */
+        public void update(long newState)
+        {
+            update(newState, 0, 0);
+        }
+
+        public void update(long a, long b)
+        {
+            update(a, b, 0);
+        }
+
+        public void update(long a, long b, long c)
+        {
+            if (a != stateA || b != stateB || c != stateC)
+            {
+                stateA = a;
+                stateB = b;
+                stateC = c;
+                dirty = true;
+            }
+        }
+
+        public void markDirty()
+        {
+            dirty = true;
+        }
+
+        protected void repaint()
+        {
+            image.clear();
+            painter.paint(canvas);
+        }
+
+        boolean intersects(Widget other)
+        {
+            return x < other.x + other.width && other.x < x + width
+                && y < other.y + other.height && other.y < y + height;
+        }
+    }
+
+    /**
+     * A single line of text at a fixed baseline; repaints only when text or color change.
+     */
+    public static class Text extends Widget
+    {
+        private String text = "";
+        private Color color = Color.WHITE;
+        private final greenfoot.Font font;
+        private final int ascent;
+
+        public Text(int x, int baselineY, int maxWidth, greenfoot.Font font)
+        {
+            this(x, baselineY, maxWidth, font, font.getSize());
+        }
+
+        private Text(int x, int baselineY, int maxWidth, greenfoot.Font font, int size)
+        {
+            // One em above the baseline covers accented capitals; 0.3em below covers descenders
+            super(x, baselineY - size, maxWidth, size + (size * 3 + 9) / 10, null);
+            this.font = font;
+            this.ascent = size;
+        }
+
+        public void set(String newText, Color newColor)
+        {
+            if (newText == null) newText = "";
+            if (!newText.equals(text) || !newColor.equals(color))
+            {
+                text = newText;
+                color = newColor;
+                markDirty();
+            }
+        }
+
+        protected void repaint()
+        {
+            image.clear();
+            if (text.isEmpty()) return;
+            image.setFont(font);
+            image.setColor(color);
+            image.drawString(text, 0, ascent);
+        }
+    }
+
+    /**
+     * Drawing surface for painters: same calls as GreenfootImage, in scene coordinates.
+     * Anything outside the target widget is clipped away.
+     */
+    public static class Canvas
+    {
+        private final GreenfootImage target;
+        private final int offsetX;
+        private final int offsetY;
+
+        Canvas(GreenfootImage target, int originX, int originY)
+        {
+            this.target = target;
+            this.offsetX = originX;
+            this.offsetY = originY;
+        }
+
+        public void setColor(Color color)
+        {
+            target.setColor(color);
+        }
+
+        public void setFont(greenfoot.Font font)
+        {
+            target.setFont(font);
+        }
+
+        public void fillRect(int x, int y, int w, int h)
+        {
+            target.fillRect(x - offsetX, y - offsetY, w, h);
+        }
+
+        public void drawRect(int x, int y, int w, int h)
+        {
+            target.drawRect(x - offsetX, y - offsetY, w, h);
+        }
+
+        public void fillOval(int x, int y, int w, int h)
+        {
+            target.fillOval(x - offsetX, y - offsetY, w, h);
+        }
+
+        public void drawOval(int x, int y, int w, int h)
+        {
+            target.drawOval(x - offsetX, y - offsetY, w, h);
+        }
+
+        public void drawLine(int x1, int y1, int x2, int y2)
+        {
+            target.drawLine(x1 - offsetX, y1 - offsetY, x2 - offsetX, y2 - offsetY);
+        }
+
+        public void drawString(String text, int x, int y)
+        {
+            target.drawString(text, x - offsetX, y - offsetY);
+        }
+
+        public void drawImage(GreenfootImage image, int x, int y)
+        {
+            target.drawImage(image, x - offsetX, y - offsetY);
+        }
+
+        public void drawCenteredString(String text, int centerX, int y)
+        {
+            FontManager.drawCenteredString(target, text, centerX - offsetX, y - offsetY);
+        }
+    }
+}
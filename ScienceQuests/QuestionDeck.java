@@ -0,0 +1,107 @@
+import java.util.Random;
+
+/**
+ * QuestionDeck - Shuffled deck of question indices for one topic.
+ * A draw takes the next index from a primitive array, so it is O(1), allocation free,
+ * and never repeats a question until the deck is used up. The deck is then reshuffled;
+ * questions the student got wrong go into the new deck extra times (spaced repetition),
+ * and a correct answer works a mistake off again.
+ */
+public class QuestionDeck
+{
+    private static final int MAX_EXTRA_COPIES = 2;
+
+    private final Random rng;
+    private final int[] questionIds;  // DialogueQuestion id per pool index
+    private final int[] mistakes;     // Outstanding mistakes per pool index
+    private final int[] cards;        // Pool indices, sized for the heaviest possible deck
+    private int deckSize = 0;
+    private int next = 0;
+    private int lastDrawn = -1;
+
+    public QuestionDeck(int[] questionIds, Random rng)
+    {
+        this.rng = rng;
+        this.questionIds = questionIds.clone();
+        this.mistakes = new int[questionIds.length];
+        this.cards = new int[questionIds.length * (1 + MAX_EXTRA_COPIES)];
+    }
+
+    public int size()
+    {
+        return questionIds.length;
+    }
+
+    /**
+     * Whether this deck was built for the given question at the given pool index.
+     */
+    public boolean matches(int index, int questionId)
+    {
+        return index < questionIds.length && questionIds[index] == questionId;
+    }
+
+    /**
+     * Index of the next question in the pool.
+     */
+    public int draw()
+    {
+        if (next >= deckSize)
+        {
+            refill();
+        }
+
+        // Don't ask the same question twice in a row across a reshuffle or a repeat copy
+        if (cards[next] == lastDrawn && next + 1 < deckSize)
+        {
+            int swap = next + 1 + rng.nextInt(deckSize - next - 1);
+            int card = cards[next];
+            cards[next] = cards[swap];
+            cards[swap] = card;
+        }
+
+        lastDrawn = cards[next++];
+        return lastDrawn;
+    }
+
+    /**
+     * Record an answer to one of this deck's questions; ignores other questions.
+     */
+    public void recordAnswer(int questionId, boolean correct)
+    {
+        for (int i = 0; i < questionIds.length; i++)
+        {
+            if (questionIds[i] != questionId) continue;
+            if (correct)
+            {
+                if (mistakes[i] > 0) mistakes[i]--;
+            }
+            else if (mistakes[i] < MAX_EXTRA_COPIES)
+            {
+                mistakes[i]++;
+            }
+            return;
+        }
+    }
+
+    // Every question once, plus one extra copy per outstanding mistake, then Fisher-Yates
+    private void refill()
+    {
+        deckSize = 0;
+        for (int i = 0; i < questionIds.length; i++)
+        {
+            cards[deckSize++] = i;
+            for (int copy = 0; copy < mistakes[i]; copy++)
+            {
+                cards[deckSize++] = i;
+            }
+        }
+        for (int i = deckSize - 1; i > 0; i--)
+        {
+            int j = rng.nextInt(i + 1);
+            int card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+        next = 0;
+    }
+}
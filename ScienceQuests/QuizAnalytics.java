@@ -0,0 +1,500 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * QuizAnalytics - Append-only log of every quiz answer, for teachers.
+ * Each answer records the question id, topic, chosen answer (as authored, before the
+ * shuffle), correctness and response latency. The log is stored column-wise in a
+ * memory-mapped file: one primitive column per field, so appending is a few stores
+ * into mapped memory and the queries below scan only the columns they need, without
+ * creating an object per record.
+ *
+ * File layout: a header (magic, version, layout, record count), a topic dictionary
+ * of up to MAX_TOPICS names, then the column block, each column sized for capacity
+ * records. The layout packs the block's offset and capacity into one long. The record
+ * count is written after the record itself, so a crash mid-append just drops that
+ * record.
+ *
+ * Three quarters full, the log starts growing on a background thread. A block with
+ * twice the capacity is appended after the current one, and the columns are copied
+ * into it and forced to disk. The next record() then copies the few records appended
+ * since and switches the layout over in a single store. Until then the file still
+ * describes the old block, so a crash mid-grow loses nothing. The old block stays in
+ * the file unused.
+ */
+public final class QuizAnalytics
+{
+    private static final int MAGIC = 0x53515141; // "SQQA"
+    private static final int VERSION = 1;
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private static final int MAX_TOPICS = 32;
+    private static final int TOPIC_SLOT_BYTES = 32;
+    private static final int UNKNOWN_TOPIC = 0xFF;
+
+    // Header fields
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int LAYOUT_OFFSET = 8;
+    private static final int COUNT_OFFSET = 16;
+    private static final int TOPIC_COUNT_OFFSET = 20;
+    private static final int TOPICS_OFFSET = 64;
+    private static final int COLUMNS_OFFSET = TOPICS_OFFSET + MAX_TOPICS * TOPIC_SLOT_BYTES;
+
+    // Bytes per record in each column, in file order
+    private static final int QUESTION_BYTES = 4;
+    private static final int TOPIC_BYTES = 1;
+    private static final int CHOICE_BYTES = 1;
+    private static final int CORRECT_BYTES = 1;
+    private static final int LATENCY_BYTES = 4;
+    private static final int RECORD_BYTES = QUESTION_BYTES + TOPIC_BYTES + CHOICE_BYTES + CORRECT_BYTES + LATENCY_BYTES;
+    private static final int[] COLUMN_BYTES = { QUESTION_BYTES, TOPIC_BYTES, CHOICE_BYTES, CORRECT_BYTES, LATENCY_BYTES };
+
+    private static ExecutorService grower;
+
+    private final Path file;
+    private MappedByteBuffer buffer;
+    private int columnsAt;
+    private int capacity;
+    private Growth growth;
+    private int count;
+    private String[] topics = new String[0];
+    private boolean disabled = false;
+
+    // Created by GameSession, one log per student
+    QuizAnalytics(Path file)
+    {
+        this.file = file;
+    }
+
+    public static QuizAnalytics getInstance()
+    {
+        return GameSession.current().getQuizAnalytics();
+    }
+
+    /**
+     * Append one answer. shownIndex is the index the player picked among the shuffled
+     * answers; it is stored as the authored index so records of one question line up.
+     */
+    public void record(DialogueQuestion question, int shownIndex, boolean correct, int latencyMillis)
+    {
+        if (!open()) return;
+        // Switch to a grown block once it is ready; only a full block waits for it
+        if (growth != null && (count == capacity || growth.block.isDone()) && !finishGrowth()) return;
+        if (count == capacity && (!startGrowth() || !finishGrowth())) return;
+
+        int i = count;
+        buffer.putInt(questionColumn() + i * QUESTION_BYTES, question.getId());
+        buffer.put(topicColumn() + i, (byte) topicCode(question.getTopic()));
+        buffer.put(choiceColumn() + i, (byte) question.getOriginalAnswerIndex(shownIndex));
+        buffer.put(correctColumn() + i, (byte) (correct ? 1 : 0));
+        buffer.putInt(latencyColumn() + i * LATENCY_BYTES, Math.max(0, latencyMillis));
+
+        count++;
+        buffer.putInt(COUNT_OFFSET, count);
+
+        if (growth == null && count >= capacity - capacity / 4)
+        {
+            startGrowth();
+        }
+    }
+
+    public int getRecordCount()
+    {
+        return open() ? count : 0;
+    }
+
+    /**
+     * Fraction of answers to the question that were correct, or -1 if it was never answered.
+     */
+    public double getAccuracy(int questionId)
+    {
+        if (!open()) return -1;
+        int questions = questionColumn();
+        int correctColumn = correctColumn();
+        int answered = 0;
+        int correct = 0;
+        for (int i = 0; i < count; i++)
+        {
+            if (buffer.getInt(questions + i * QUESTION_BYTES) == questionId)
+            {
+                answered++;
+                correct += buffer.get(correctColumn + i);
+            }
+        }
+        return answered == 0 ? -1 : (double) correct / answered;
+    }
+
+    /**
+     * Accuracy of every answered question, keyed by DialogueQuestion.getId().
+     */
+    public Map<Integer, Double> getAccuracyByQuestion()
+    {
+        Map<Integer, Double> result = new HashMap<Integer, Double>();
+        if (!open() || count == 0) return result;
+
+        // Sort (id, correct) pairs packed into longs, then count runs of equal ids
+        int questions = questionColumn();
+        int correctColumn = correctColumn();
+        long[] packed = new long[count];
+        for (int i = 0; i < count; i++)
+        {
+            packed[i] = ((long) buffer.getInt(questions + i * QUESTION_BYTES) << 1) | buffer.get(correctColumn + i);
+        }
+        Arrays.sort(packed);
+
+        int runStart = 0;
+        int correct = 0;
+        for (int i = 0; i <= count; i++)
+        {
+            if (i == count || (packed[i] >> 1) != (packed[runStart] >> 1))
+            {
+                result.put((int) (packed[runStart] >> 1), (double) correct / (i - runStart));
+                if (i == count) break;
+                runStart = i;
+                correct = 0;
+            }
+            correct += (int) (packed[i] & 1);
+        }
+        return result;
+    }
+
+    /**
+     * Median response latency in milliseconds for a topic, or -1 without answers.
+     */
+    public int getMedianLatency(String topic)
+    {
+        if (!open()) return -1;
+        int code = findTopic(normalize(topic));
+        if (code < 0) return -1;
+
+        int topicColumn = topicColumn();
+        int latencies = latencyColumn();
+        int[] values = new int[count];
+        int n = 0;
+        for (int i = 0; i < count; i++)
+        {
+            if ((buffer.get(topicColumn + i) & 0xFF) == code)
+            {
+                values[n++] = buffer.getInt(latencies + i * LATENCY_BYTES);
+            }
+        }
+        if (n == 0) return -1;
+
+        Arrays.sort(values, 0, n);
+        return n % 2 == 1 ? values[n / 2] : (values[n / 2 - 1] + values[n / 2]) / 2;
+    }
+
+    // ---------------------------------------------------------------
+    // Storage
+    // ---------------------------------------------------------------
+
+    private boolean open()
+    {
+        if (buffer != null) return true;
+        if (disabled) return false;
+
+        try
+        {
+            Files.createDirectories(file.getParent());
+            boolean existing = Files.exists(file) && Files.size(file) >= COLUMNS_OFFSET;
+            long layout = existing ? readLayout() : 0;
+            if (layout != 0)
+            {
+                setLayout(layout);
+                map();
+                if (buffer.getInt(MAGIC_OFFSET) == MAGIC && buffer.getInt(VERSION_OFFSET) == VERSION)
+                {
+                    count = Math.min(Math.max(buffer.getInt(COUNT_OFFSET), 0), capacity);
+                    readTopics();
+                    return true;
+                }
+            }
+            if (existing)
+            {
+                DebugLog.log("QuizAnalytics: " + file + " is not a version " + VERSION + " log, starting a new one");
+            }
+            setLayout(layout(COLUMNS_OFFSET, INITIAL_CAPACITY));
+            map();
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            buffer.putInt(VERSION_OFFSET, VERSION);
+            buffer.putLong(LAYOUT_OFFSET, layout(columnsAt, capacity));
+            buffer.putInt(COUNT_OFFSET, 0);
+            buffer.putInt(TOPIC_COUNT_OFFSET, 0);
+            count = 0;
+            topics = new String[0];
+            return true;
+        }
+        catch (IOException | RuntimeException e)
+        {
+            // Analytics must never break the quiz; just stop recording
+            DebugLog.log("QuizAnalytics: disabled, could not open " + file + ": " + e.getMessage());
+            disable();
+            return false;
+        }
+    }
+
+    // The stored layout, or 0 if it doesn't describe a column block inside the file
+    private long readLayout() throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            ByteBuffer header = ByteBuffer.allocate(8);
+            channel.read(header, LAYOUT_OFFSET);
+            header.flip();
+            long layout = header.getLong();
+            int at = (int) (layout >>> 32);
+            int records = (int) layout;
+            boolean valid = at >= COLUMNS_OFFSET && records > 0
+                && at + (long) records * RECORD_BYTES <= channel.size();
+            return valid ? layout : 0;
+        }
+    }
+
+    private static long layout(int columnsAt, int capacity)
+    {
+        return ((long) columnsAt << 32) | capacity;
+    }
+
+    private void setLayout(long layout)
+    {
+        columnsAt = (int) (layout >>> 32);
+        capacity = (int) layout;
+    }
+
+    private void map() throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                 StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, columnsAt + (long) capacity * RECORD_BYTES);
+        }
+    }
+
+    private void disable()
+    {
+        disabled = true;
+        buffer = null;
+        growth = null;
+    }
+
+    /**
+     * Start building a block of twice the capacity after the current one, filled with
+     * the records so far. Only the background thread writes the new block, and the
+     * records it copies are never written again, so recording carries on meanwhile.
+     */
+    private boolean startGrowth()
+    {
+        if (growth != null) return true;
+        if (capacity > (Integer.MAX_VALUE - columnsAt) / (3 * RECORD_BYTES))
+        {
+            DebugLog.log("QuizAnalytics: " + file + " is full");
+            disable();
+            return false;
+        }
+
+        final int copied = count;
+        final int oldCapacity = capacity;
+        final int newCapacity = capacity * 2;
+        final int newColumnsAt = columnsAt + capacity * RECORD_BYTES;
+        final ByteBuffer source = buffer.duplicate();
+        final int[] from = { questionColumn(), topicColumn(), choiceColumn(), correctColumn(), latencyColumn() };
+
+        Future<MappedByteBuffer> block = grower().submit(() -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE))
+            {
+                // Mapping past the end extends the file
+                MappedByteBuffer target = channel.map(FileChannel.MapMode.READ_WRITE, newColumnsAt,
+                                                      (long) newCapacity * RECORD_BYTES);
+                int to = 0;
+                for (int c = 0; c < COLUMN_BYTES.length; c++)
+                {
+                    int length = copied * COLUMN_BYTES[c];
+                    ByteBuffer column = source.duplicate();
+                    column.position(from[c]);
+                    column.limit(from[c] + length);
+                    target.position(to);
+                    target.put(column);
+                    to += newCapacity * COLUMN_BYTES[c];
+                }
+                target.force();
+                DebugLog.log("QuizAnalytics: grew " + file.getFileName() + " to " + newCapacity
+                             + " records, from " + oldCapacity);
+                return target;
+            }
+        });
+        growth = new Growth(block, copied, newColumnsAt, newCapacity);
+        return true;
+    }
+
+    /**
+     * Switch to the grown block once it is built, waiting for it only if the current
+     * block is full. Copies the records appended while it was being built, then
+     * points the header at it.
+     */
+    private boolean finishGrowth()
+    {
+        try
+        {
+            MappedByteBuffer block = growth.block.get();
+            int[] from = { questionColumn(), topicColumn(), choiceColumn(), correctColumn(), latencyColumn() };
+            int to = 0;
+            for (int c = 0; c < COLUMN_BYTES.length; c++)
+            {
+                int width = COLUMN_BYTES[c];
+                for (int i = growth.copied * width; i < count * width; i++)
+                {
+                    block.put(to + i, buffer.get(from[c] + i));
+                }
+                to += growth.capacity * width;
+            }
+            block.force();
+
+            // One store switches the log over; a crash before it leaves the old block in use
+            buffer.putLong(LAYOUT_OFFSET, layout(growth.columnsAt, growth.capacity));
+            setLayout(layout(growth.columnsAt, growth.capacity));
+            growth = null;
+            map();
+            return true;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        catch (ExecutionException | IOException | RuntimeException e)
+        {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            DebugLog.log("QuizAnalytics: could not grow " + file + ": " + cause);
+            disable();
+            return false;
+        }
+    }
+
+    private static synchronized ExecutorService grower()
+    {
+        if (grower == null)
+        {
+            grower = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "analytics-grow");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        return grower;
+    }
+
+    // A bigger column block being built in the background
+    private static final class Growth
+    {
+        final Future<MappedByteBuffer> block;
+        final int copied;
+        final int columnsAt;
+        final int capacity;
+
+        Growth(Future<MappedByteBuffer> block, int copied, int columnsAt, int capacity)
+        {
+            this.block = block;
+            this.copied = copied;
+            this.columnsAt = columnsAt;
+            this.capacity = capacity;
+        }
+    }
+
+    private int questionColumn()
+    {
+        return columnsAt;
+    }
+
+    private int topicColumn()
+    {
+        return questionColumn() + capacity * QUESTION_BYTES;
+    }
+
+    private int choiceColumn()
+    {
+        return topicColumn() + capacity * TOPIC_BYTES;
+    }
+
+    private int correctColumn()
+    {
+        return choiceColumn() + capacity * CHOICE_BYTES;
+    }
+
+    private int latencyColumn()
+    {
+        return correctColumn() + capacity * CORRECT_BYTES;
+    }
+
+    // ---------------------------------------------------------------
+    // Topic dictionary
+    // ---------------------------------------------------------------
+
+    private int topicCode(String topic)
+    {
+        String name = normalize(topic);
+        int code = findTopic(name);
+        if (code >= 0) return code;
+        if (topics.length == MAX_TOPICS) return UNKNOWN_TOPIC;
+
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, TOPIC_SLOT_BYTES - 1);
+        int slot = TOPICS_OFFSET + topics.length * TOPIC_SLOT_BYTES;
+        buffer.put(slot, (byte) length);
+        for (int i = 0; i < length; i++)
+        {
+            buffer.put(slot + 1 + i, bytes[i]);
+        }
+
+        topics = Arrays.copyOf(topics, topics.length + 1);
+        topics[topics.length - 1] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        buffer.putInt(TOPIC_COUNT_OFFSET, topics.length);
+        return topics.length - 1;
+    }
+
+    private int findTopic(String name)
+    {
+        for (int i = 0; i < topics.length; i++)
+        {
+            if (topics[i].equals(name)) return i;
+        }
+        return -1;
+    }
+
+    private void readTopics()
+    {
+        int n = Math.min(Math.max(buffer.getInt(TOPIC_COUNT_OFFSET), 0), MAX_TOPICS);
+        topics = new String[n];
+        for (int t = 0; t < n; t++)
+        {
+            int slot = TOPICS_OFFSET + t * TOPIC_SLOT_BYTES;
+            int length = Math.min(buffer.get(slot) & 0xFF, TOPIC_SLOT_BYTES - 1);
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++)
+            {
+                bytes[i] = buffer.get(slot + 1 + i);
+            }
+            topics[t] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String normalize(String topic)
+    {
+        return topic == null ? "general" : topic.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * QuizCounter - The NPC quiz progress counters kept in GameState, by the name the
+ * dialogue graphs in dialogues.json use for them.
+ */
+public enum QuizCounter
+{
+    MAIN_MAP("mainMap")
+    {
+        public int getTotal(GameState state) { return state.getMainMapNPCProgress(); }
+        public int getCorrect(GameState state) { return state.getMainMapNPCCorrect(); }
+        public boolean isGateComplete(GameState state) { return state.areMainMapQuestsUnlocked(); }
+        public void record(GameState state, boolean correct) { state.recordMainMapNPCQuizResult(correct); }
+    },
+    BIOLOGY_LAB("labBio")
+    {
+        public int getTotal(GameState state) { return state.getLabBioQuizTotal(); }
+        public int getCorrect(GameState state) { return state.getLabBioQuizCorrect(); }
+        public boolean isGateComplete(GameState state) { return state.isLabBioQuizGateComplete(); }
+        public void record(GameState state, boolean correct) { state.recordLabBioNPCQuizResult(correct); }
+    },
+    PHYSICS_LAB("labPhys")
+    {
+        public int getTotal(GameState state) { return state.getLabPhysQuizTotal(); }
+        public int getCorrect(GameState state) { return state.getLabPhysQuizCorrect(); }
+        public boolean isGateComplete(GameState state) { return state.isLabPhysQuizGateComplete(); }
+        public void record(GameState state, boolean correct) { state.recordLabPhysNPCQuizResult(correct); }
+    },
+    CHEMISTRY_LAB("labChem")
+    {
+        public int getTotal(GameState state) { return state.getLabChemQuizTotal(); }
+        public int getCorrect(GameState state) { return state.getLabChemQuizCorrect(); }
+        public boolean isGateComplete(GameState state) { return state.isLabChemQuizGateComplete(); }
+        public void record(GameState state, boolean correct) { state.recordLabChemQuizResult(correct); }
+    };
+
+    // Every quiz gate: five questions, three of them right
+    public static final int QUESTIONS = 5;
+    public static final int CORRECT_NEEDED = 3;
+
+    private final String key;
+
+    QuizCounter(String key)
+    {
+        this.key = key;
+    }
+
+    public abstract int getTotal(GameState state);
+
+    public abstract int getCorrect(GameState state);
+
+    public abstract boolean isGateComplete(GameState state);
+
+    public abstract void record(GameState state, boolean correct);
+
+    /**
+     * The counter called key in dialogues.json, or null.
+     */
+    public static QuizCounter fromKey(String key)
+    {
+        for (QuizCounter counter : values())
+        {
+            if (counter.key.equals(key)) return counter;
+        }
+        return null;
+    }
+}
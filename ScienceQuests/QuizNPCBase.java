@@ -11,9 +11,15 @@ public abstract class QuizNPCBase extends Actor implements NPC
     protected boolean interactionArmed = false;
     protected int dialogueCooldown = 0;
 
+    private ProximityService.Trigger trigger;
+    private boolean asleep = false;
+
     @Override
     public void act()
     {
+        // Out of range there is nothing to do until the player walks up again
+        if (asleep) return;
+
         if (dialogueCooldown > 0)
         {
             dialogueCooldown--;
@@ -31,23 +37,24 @@ public abstract class QuizNPCBase extends Actor implements NPC
             return;
         }
 
-        double distance = getDistance(player, this);
-        boolean inRange = distance < INTERACTION_DISTANCE;
+        boolean inRange = trigger.isPlayerInside();
         updatePrompt(world, inRange);
 
-        if (!isInteractionEnabled())
+        if (!inRange)
         {
             resetArming();
+            asleep = true;
+            ActorScheduler.of(world).sleepUntilNear(this, INTERACTION_DISTANCE, () -> asleep = false);
             return;
         }
 
-        if (GameState.getInstance().isMiniQuestActive())
+        if (!isInteractionEnabled())
         {
             resetArming();
             return;
         }
 
-        if (!inRange)
+        if (GameState.getInstance().isMiniQuestActive())
         {
             resetArming();
             return;
@@ -126,23 +133,17 @@ public abstract class QuizNPCBase extends Actor implements NPC
         dialogueCooldown = 0;
     }
 
+    /**
+     * The player as last reported to the world's ProximityService; registers this
+     * NPC's interaction trigger on first use in a world.
+     */
     protected Actor getPlayer(World world)
     {
-        if (!world.getObjects(Boy.class).isEmpty())
-        {
-            return world.getObjects(Boy.class).get(0);
-        }
-        if (!world.getObjects(Girl.class).isEmpty())
+        ProximityService proximity = ProximityService.of(world);
+        if (trigger == null || !trigger.isFor(world))
         {
-            return world.getObjects(Girl.class).get(0);
+            trigger = proximity.register(this, INTERACTION_DISTANCE, null);
         }
-        return null;
-    }
-
-    protected double getDistance(Actor a, Actor b)
-    {
-        int dx = a.getX() - b.getX();
-        int dy = a.getY() - b.getY();
-        return Math.sqrt(dx * dx + dy * dy);
+        return proximity.getPlayer();
     }
 }
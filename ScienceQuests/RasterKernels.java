@@ -0,0 +1,259 @@
+import greenfoot.GreenfootImage;
+
+/**
+ * RasterKernels - Bulk pixel operations on ARGB int[] rasters.
+ * Replaces per-pixel getColorAt/setColorAt (and the Color object each call allocates)
+ * with tight loops over the array pulled once from GreenfootImage.getAwtImage().
+ * Array kernels work in place unless they return a new array; the GreenfootImage
+ * helpers read the pixels once, run the kernel and write them back once.
+ */
+public final class RasterKernels
+{
+    private RasterKernels()
+    {
+    }
+
+    // ---------------------------------------------------------------
+    // GreenfootImage helpers
+    // ---------------------------------------------------------------
+
+    /**
+     * Write an ARGB array back over an image of the same size.
+     */
+    public static void writePixels(GreenfootImage image, int[] pixels)
+    {
+        int width = image.getWidth();
+        image.getAwtImage().setRGB(0, 0, width, image.getHeight(), pixels, 0, width);
+    }
+
+    /**
+     * Add adjustment to the RGB channels of every visible pixel (in place).
+     */
+    public static void brightness(GreenfootImage image, int adjustment)
+    {
+        if (adjustment == 0) return;
+        int[] pixels = PixelScaler.readPixels(image);
+        brightness(pixels, adjustment);
+        writePixels(image, pixels);
+    }
+
+    /**
+     * New image with every pixel's alpha scaled by factor (0..1).
+     */
+    public static GreenfootImage withAlpha(GreenfootImage image, float factor)
+    {
+        int[] pixels = PixelScaler.readPixels(image);
+        multiplyAlpha(pixels, factor);
+        return PixelScaler.toImage(pixels, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * New image with rows and columns swapped (Tiled's diagonal flip).
+     */
+    public static GreenfootImage transpose(GreenfootImage image)
+    {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] transposed = transpose(PixelScaler.readPixels(image), width, height);
+        return PixelScaler.toImage(transposed, height, width);
+    }
+
+    // ---------------------------------------------------------------
+    // Array kernels
+    // ---------------------------------------------------------------
+
+    /**
+     * Add adjustment to R, G and B, clamped to 0-255; fully transparent pixels are skipped.
+     */
+    public static void brightness(int[] pixels, int adjustment)
+    {
+        for (int i = 0; i < pixels.length; i++)
+        {
+            int argb = pixels[i];
+            if ((argb >>> 24) == 0) continue;
+
+            int r = clamp(((argb >> 16) & 0xFF) + adjustment);
+            int g = clamp(((argb >> 8) & 0xFF) + adjustment);
+            int b = clamp((argb & 0xFF) + adjustment);
+            pixels[i] = (argb & 0xFF000000) | (r << 16) | (g << 8) | b;
+        }
+    }
+
+    /**
+     * Scale every pixel's alpha by factor (0..1).
+     */
+    public static void multiplyAlpha(int[] pixels, float factor)
+    {
+        if (factor >= 1f) return;
+        int scale = Math.max(0, (int)(factor * 256));
+        for (int i = 0; i < pixels.length; i++)
+        {
+            int argb = pixels[i];
+            int a = ((argb >>> 24) * scale) >> 8;
+            pixels[i] = (a << 24) | (argb & 0x00FFFFFF);
+        }
+    }
+
+    /**
+     * Blend the RGB of every visible pixel toward rgb by amount (0 = unchanged, 1 = solid tint).
+     */
+    public static void tint(int[] pixels, int rgb, float amount)
+    {
+        int t = Math.max(0, Math.min(256, (int)(amount * 256)));
+        int inv = 256 - t;
+        int tr = ((rgb >> 16) & 0xFF) * t;
+        int tg = ((rgb >> 8) & 0xFF) * t;
+        int tb = (rgb & 0xFF) * t;
+
+        for (int i = 0; i < pixels.length; i++)
+        {
+            int argb = pixels[i];
+            if ((argb >>> 24) == 0) continue;
+
+            int r = (((argb >> 16) & 0xFF) * inv + tr) >> 8;
+            int g = (((argb >> 8) & 0xFF) * inv + tg) >> 8;
+            int b = ((argb & 0xFF) * inv + tb) >> 8;
+            pixels[i] = (argb & 0xFF000000) | (r << 16) | (g << 8) | b;
+        }
+    }
+
+    /**
+     * Return a new height x width raster with x and y swapped.
+     */
+    public static int[] transpose(int[] pixels, int width, int height)
+    {
+        int[] out = new int[pixels.length];
+        for (int y = 0; y < height; y++)
+        {
+            int rowBase = y * width;
+            for (int x = 0; x < width; x++)
+            {
+                out[x * height + y] = pixels[rowBase + x];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Flip left-right in place.
+     */
+    public static void mirrorHorizontally(int[] pixels, int width, int height)
+    {
+        for (int y = 0; y < height; y++)
+        {
+            int left = y * width;
+            int right = left + width - 1;
+            while (left < right)
+            {
+                int tmp = pixels[left];
+                pixels[left++] = pixels[right];
+                pixels[right--] = tmp;
+            }
+        }
+    }
+
+    /**
+     * Flip top-bottom in place.
+     */
+    public static void mirrorVertically(int[] pixels, int width, int height)
+    {
+        int[] row = new int[width];
+        for (int top = 0, bottom = height - 1; top < bottom; top++, bottom--)
+        {
+            System.arraycopy(pixels, top * width, row, 0, width);
+            System.arraycopy(pixels, bottom * width, pixels, top * width, width);
+            System.arraycopy(row, 0, pixels, bottom * width, width);
+        }
+    }
+
+    /**
+     * Copy a w x h rectangle from (srcX, srcY) in src to (dstX, dstY) in dst, row by row.
+     * The rectangle is clipped to both rasters.
+     */
+    public static void cropCopy(int[] src, int srcWidth, int srcX, int srcY,
+                                int[] dst, int dstWidth, int dstX, int dstY, int w, int h)
+    {
+        int srcHeight = src.length / srcWidth;
+        int dstHeight = dst.length / dstWidth;
+        w = Math.min(w, Math.min(srcWidth - srcX, dstWidth - dstX));
+        h = Math.min(h, Math.min(srcHeight - srcY, dstHeight - dstY));
+        if (w <= 0 || h <= 0) return;
+
+        for (int row = 0; row < h; row++)
+        {
+            System.arraycopy(src, (srcY + row) * srcWidth + srcX, dst, (dstY + row) * dstWidth + dstX, w);
+        }
+    }
+
+    /**
+     * Convert straight-alpha ARGB to premultiplied in place.
+     */
+    public static void premultiply(int[] pixels)
+    {
+        for (int i = 0; i < pixels.length; i++)
+        {
+            int argb = pixels[i];
+            int a = argb >>> 24;
+            if (a == 255) continue;
+            if (a == 0)
+            {
+                pixels[i] = 0;
+                continue;
+            }
+            int r = ((argb >> 16) & 0xFF) * a / 255;
+            int g = ((argb >> 8) & 0xFF) * a / 255;
+            int b = (argb & 0xFF) * a / 255;
+            pixels[i] = (a << 24) | (r << 16) | (g << 8) | b;
+        }
+    }
+
+    /**
+     * Convert premultiplied ARGB back to straight alpha in place.
+     */
+    public static void unpremultiply(int[] pixels)
+    {
+        for (int i = 0; i < pixels.length; i++)
+        {
+            int argb = pixels[i];
+            int a = argb >>> 24;
+            if (a == 255 || a == 0) continue;
+            int r = Math.min(255, ((argb >> 16) & 0xFF) * 255 / a);
+            int g = Math.min(255, ((argb >> 8) & 0xFF) * 255 / a);
+            int b = Math.min(255, (argb & 0xFF) * 255 / a);
+            pixels[i] = (a << 24) | (r << 16) | (g << 8) | b;
+        }
+    }
+
+    /**
+     * Source-over blend of premultiplied src onto premultiplied dst (same size), in place:
+     * dst = src + dst * (1 - srcAlpha).
+     */
+    public static void blendPremultiplied(int[] dst, int[] src)
+    {
+        int n = Math.min(dst.length, src.length);
+        for (int i = 0; i < n; i++)
+        {
+            int s = src[i];
+            int sa = s >>> 24;
+            if (sa == 0) continue;
+            if (sa == 255)
+            {
+                dst[i] = s;
+                continue;
+            }
+
+            int d = dst[i];
+            int inv = 255 - sa;
+            int a = sa + ((d >>> 24) * inv + 127) / 255;
+            int r = ((s >> 16) & 0xFF) + (((d >> 16) & 0xFF) * inv + 127) / 255;
+            int g = ((s >> 8) & 0xFF) + (((d >> 8) & 0xFF) * inv + 127) / 255;
+            int b = (s & 0xFF) + ((d & 0xFF) * inv + 127) / 255;
+            dst[i] = (a << 24) | (r << 16) | (g << 8) | b;
+        }
+    }
+
+    private static int clamp(int value)
+    {
+        return value < 0 ? 0 : (value > 255 ? 255 : value);
+    }
+}
@@ -0,0 +1,114 @@
+import greenfoot.*;
+import java.util.Random;
+
+/**
+ * ReflexMechanic - Press fast. With one key every press counts (mashing);
+ * with several, a random stimulus appears and only its key scores.
+ */
+public class ReflexMechanic implements QuestMechanic
+{
+    private final Random random = new Random();
+    private int[] chords;
+    private int allKeys;
+    private int progress;
+    private int stimulus;
+    private int nextStimulusTick;
+    private int hitFlash;
+    private int missFlash;
+
+    public void start(QuestDefinition definition)
+    {
+        chords = QuestMechanics.chordMasks(definition);
+        allKeys = 0;
+        for (int chord : chords) allKeys |= chord;
+        progress = 0;
+        stimulus = chords.length == 1 ? 0 : -1;
+        nextStimulusTick = 20;
+        hitFlash = 0;
+        missFlash = 0;
+    }
+
+    public void update(InputState input, int tick)
+    {
+        if (hitFlash > 0) hitFlash--;
+        if (missFlash > 0) missFlash--;
+
+        if (chords.length == 1)
+        {
+            if (input.anyJustPressed(chords[0]) && input.allDown(chords[0]))
+            {
+                progress++;
+                hitFlash = 6;
+            }
+            return;
+        }
+
+        if (stimulus < 0)
+        {
+            if (tick >= nextStimulusTick)
+            {
+                stimulus = random.nextInt(chords.length);
+            }
+            else if (input.anyJustPressed(allKeys))
+            {
+                // Too early
+                missFlash = 10;
+            }
+            return;
+        }
+
+        if (input.anyJustPressed(chords[stimulus]) && input.allDown(chords[stimulus]))
+        {
+            progress++;
+            hitFlash = 10;
+            stimulus = -1;
+            nextStimulusTick = tick + 15 + random.nextInt(30);
+        }
+        else if (input.anyJustPressed(allKeys & ~chords[stimulus]))
+        {
+            missFlash = 10;
+        }
+    }
+
+    public int getProgress()
+    {
+        return progress;
+    }
+
+    public String getStatus()
+    {
+        if (chords.length == 1) return "Apasă " + QuestMechanics.chordLabel(chords[0]) + " cât mai repede!";
+        if (stimulus < 0) return missFlash > 0 ? "Prea devreme!" : "Așteaptă semnalul...";
+        return "Apasă: " + QuestMechanics.chordLabel(chords[stimulus]);
+    }
+
+    public long getVisualState()
+    {
+        return ((long)(stimulus + 1) * 100 + hitFlash) * 100 + missFlash;
+    }
+
+    public void paint(QuestOverlay.Canvas canvas, int x, int y, int w, int h)
+    {
+        int size = Math.min(w, h) - 10;
+        int cx = x + w / 2;
+        int cy = y + h / 2;
+
+        Color fill = hitFlash > 0 ? UIStyle.color(100, 255, 120, 220)
+                   : missFlash > 0 ? UIStyle.color(255, 90, 90, 220)
+                   : stimulus >= 0 ? UIStyle.color(255, 200, 90, 220)
+                   : UIStyle.color(60, 60, 80, 200);
+        canvas.setColor(fill);
+        canvas.fillOval(cx - size / 2, cy - size / 2, size, size);
+        canvas.setColor(UIStyle.color(255, 255, 255, 200));
+        canvas.drawOval(cx - size / 2, cy - size / 2, size, size);
+
+        if (stimulus >= 0)
+        {
+            String label = QuestMechanics.chordLabel(chords[stimulus]);
+            int fontSize = label.length() > 2 ? 16 : 32;
+            canvas.setFont(UIStyle.font("Arial", true, false, fontSize));
+            canvas.setColor(UIStyle.color(20, 20, 30));
+            canvas.drawCenteredString(label, cx, cy + fontSize / 3);
+        }
+    }
+}
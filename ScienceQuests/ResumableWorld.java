@@ -0,0 +1,18 @@
+/**
+ * ResumableWorld - A world WorldNavigator may keep after the player leaves it and show
+ * again later, actors and all, instead of building a new one.
+ */
+public interface ResumableWorld
+{
+    /**
+     * Called just before the kept world is shown again: put the player at the entrance
+     * they come back through and clear state that belongs to the last visit.
+     */
+    void resume();
+
+    /**
+     * Called when the player leaves and the world is kept: stop reacting to game events
+     * until resume(), so a world off screen does no work on the game's behalf.
+     */
+    void suspend();
+}
@@ -18,40 +18,27 @@ public class RhythmReleaseQuest extends BaseQuest
     private int combo = 0;
     private int failCooldown = 0;
     private int animTick = 0;
-    private boolean spaceDown = false;
+    
+    // Retained overlay and its dynamic widgets
+    private QuestOverlay scene;
+    private QuestOverlay.Text levelText;
+    private QuestOverlay.Widget timingBar;
+    private QuestOverlay.Text hitsText;
+    private QuestOverlay.Text scoreText;
+    private QuestOverlay.Text comboText;
+    
+    private static final Color LEVEL_COLOR = UIStyle.color(255, 150, 150);
+    private static final Color SCORE_COLOR = UIStyle.color(255, 200, 100);
+    private static final Color COMBO_COLOR = UIStyle.color(100, 255, 100);
+    
+    // Tabled sin(tick * rate) curves for pulses and glows
+    private static final UIStyle.Curve WAVE_15 = UIStyle.wave(0.15);
+    private static final UIStyle.Curve WAVE_20 = UIStyle.wave(0.2);
     
     public RhythmReleaseQuest(int mapX, int mapY)
     {
         super(mapX, mapY);
-        createImage();
-    }
-    
-    private void createImage()
-    {
-        GreenfootImage img = new GreenfootImage("exclamation-mark.png");
-        int maxSize = 32;
-        int imgW = img.getWidth();
-        int imgH = img.getHeight();
-        if (imgW >= imgH)
-        {
-            int scaledH = (int)Math.round(imgH * (maxSize / (double)imgW));
-            img.scale(maxSize, Math.max(1, scaledH));
-        }
-        else
-        {
-            int scaledW = (int)Math.round(imgW * (maxSize / (double)imgH));
-            img.scale(Math.max(1, scaledW), maxSize);
-        }
-        GreenfootImage marker = new GreenfootImage(48, 48);
-        marker.setColor(new Color(0, 0, 0, 0));
-        marker.fillRect(0, 0, 48, 48);
-        int drawX = (48 - img.getWidth()) / 2;
-        int drawY = Math.max(0, (32 - img.getHeight()) / 2);
-        marker.drawImage(img, drawX, drawY);
-        marker.setColor(new Color(255, 255, 255));
-        marker.setFont(new greenfoot.Font("Arial", true, false, 10));
-        marker.drawString("SPATIU", 4, 46);
-        setImage(marker);
+        setImage(getMarkerImage(true));
     }
     
     public void act()
@@ -71,12 +58,12 @@ public class RhythmReleaseQuest extends BaseQuest
         Actor player = getPlayer();
         if (player != null && !questActive)
         {
-            boolean startPressed = Greenfoot.isKeyDown("space");
+            boolean startPressed = input.justPressed(InputState.SPACE);
             if (canStartQuest(player, 100))
             {
                 if (!tutorialActive)
                 {
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = true;
                         showTutorial();
@@ -86,7 +73,7 @@ public class RhythmReleaseQuest extends BaseQuest
                 else
                 {
                     showTutorial();
-                    if (interactionCooldown == 0 && startPressed && !startKeyDown)
+                    if (interactionCooldown == 0 && startPressed)
                     {
                         tutorialActive = false;
                         beginQuest();
@@ -96,7 +83,6 @@ public class RhythmReleaseQuest extends BaseQuest
                         indicatorSpeed = 2;
                         successZoneWidth = 50;
                         animTick = 0;
-                        spaceDown = false;
                         interactionCooldown = 10;
                     }
                 }
@@ -106,7 +92,6 @@ public class RhythmReleaseQuest extends BaseQuest
                 tutorialActive = false;
                 clearOverlay();
             }
-            startKeyDown = startPressed;
         }
         
         if (interactionCooldown > 0) interactionCooldown--;
@@ -137,8 +122,8 @@ public class RhythmReleaseQuest extends BaseQuest
                     }
                 }
                 
-                boolean spacePressed = Greenfoot.isKeyDown("space");
-                if (spacePressed && !spaceDown)
+                boolean spacePressed = input.justPressed(InputState.SPACE);
+                if (spacePressed)
                 {
                     int distance = Math.abs(indicatorPos - (successZoneStart + successZoneWidth / 2));
                     
@@ -188,7 +173,6 @@ public class RhythmReleaseQuest extends BaseQuest
                         failCooldown = 40;
                     }
                 }
-                spaceDown = spacePressed;
             }
             
             updateDisplay();
@@ -199,112 +183,118 @@ public class RhythmReleaseQuest extends BaseQuest
     {
         World world = getWorld();
         if (world == null) return;
-        ensureOverlay();
-        if (overlay == null) return;
+        if (scene == null) buildScene();
+        
+        levelText.set("NIVEL: " + (hitCount + 1) + " | VITEZĂ: " + indicatorSpeed, LEVEL_COLOR);
+        
+        int colorBucket = failCooldown > 20 ? 2 : (failCooldown > 0 ? 1 : 0);
+        int glowIntensity = WAVE_15.at(animTick, 100, 80);
+        int indGlow = WAVE_20.at(animTick, 150, 100);
+        timingBar.update(indicatorPos, successZoneWidth * 10 + colorBucket, glowIntensity * 1000 + indGlow);
+        
+        hitsText.set("REUȘITE: " + hitCount + " / " + targetHits, Color.WHITE);
+        scoreText.set("Scor: " + totalScore, SCORE_COLOR);
+        comboText.set(combo > 1 ? "Combo x" + combo : "", COMBO_COLOR);
         
+        showScene(scene);
+    }
+    
+    /**
+     * Build the retained overlay: static panel chrome plus the widgets that change
+     */
+    private void buildScene()
+    {
         int panelW = 460;
         int panelH = 280;
-        GreenfootImage img = new GreenfootImage(panelW, panelH);
-
-        // Animated pulsing background
-        int pulse = 90 + (int)(70 * Math.sin(animTick * 0.12));
-        img.setColor(new Color(0, 0, 0, pulse));
-        img.fillRect(0, 0, panelW, panelH);
-
         int px = 0;
         int py = 0;
+        
+        scene = new QuestOverlay(panelW, panelH, img -> {
+            img.setColor(UIStyle.color(0, 0, 0, 90));
+            img.fillRect(0, 0, panelW, panelH);
 
-        // Glowing aura effect (red: 255, 100, 100)
-        img.setColor(new Color(255, 100, 100, 60));
-        img.fillRect(px - 8, py - 8, panelW + 16, panelH + 16);
+            // Glowing aura effect (red: 255, 100, 100)
+            img.setColor(UIStyle.color(255, 100, 100, 60));
+            img.fillRect(px - 8, py - 8, panelW + 16, panelH + 16);
 
-        // Panel background
-        img.setColor(new Color(20, 15, 15, 220));
-        img.fillRect(px, py, panelW, panelH);
+            // Panel background
+            img.setColor(UIStyle.color(20, 15, 15, 220));
+            img.fillRect(px, py, panelW, panelH);
 
-        // Double-line fancy borders with red glow
-        img.setColor(new Color(255, 100, 100, 220));
-        img.drawRect(px, py, panelW, panelH);
-        img.setColor(new Color(255, 150, 150, 120));
-        img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
+            // Double-line fancy borders with red glow
+            img.setColor(UIStyle.color(255, 100, 100, 220));
+            img.drawRect(px, py, panelW, panelH);
+            img.setColor(UIStyle.color(255, 150, 150, 120));
+            img.drawRect(px + 1, py + 1, panelW - 2, panelH - 2);
 
-        // Title
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 24));
-        img.drawString("ELIBERARE PE RITM", px + 50, py + 50);
+            // Title
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 24));
+            img.drawString("ELIBERARE PE RITM", px + 50, py + 50);
 
+            img.setColor(UIStyle.color(255, 150, 150));
+            img.setFont(UIStyle.font("Arial", true, false, 14));
+            img.drawString("INSTRUCȚIUNI: apasă SPATIU când indicatorul e în zona verde", px + 20, py + 75);
+        });
+        
         // Speed indicator - difficulty progression
-        img.setColor(new Color(255, 150, 150));
-        img.setFont(new greenfoot.Font("Arial", true, false, 14));
-        img.drawString("INSTRUCȚIUNI: apasă SPATIU când indicatorul e în zona verde", px + 20, py + 75);
-        img.drawString("NIVEL: " + (hitCount + 1) + " | VITEZĂ: " + indicatorSpeed, px + 140, py + 95);
-
-        // Bar background
-        img.setColor(new Color(40, 40, 40, 200));
-        img.fillRect(px + 50, py + 120, barWidth, 50);
+        levelText = scene.add(new QuestOverlay.Text(px + 140, py + 95, 220, UIStyle.font("Arial", true, false, 14)));
+        
+        timingBar = scene.add(px + 35, py + 100, barWidth + 60, 86, img -> {
+            // Bar background
+            img.setColor(UIStyle.color(40, 40, 40, 200));
+            img.fillRect(px + 50, py + 120, barWidth, 50);
 
-        // Zone labels
-        img.setColor(new Color(200, 200, 200));
-        img.setFont(new greenfoot.Font("Arial", true, false, 12));
-        img.drawString("RATAT", px + 45, py + 115);
-        img.drawString("PERFECT", px + 160, py + 115);
-        img.drawString("RATAT", px + 400, py + 115);
+            // Zone labels
+            img.setColor(UIStyle.color(200, 200, 200));
+            img.setFont(UIStyle.font("Arial", true, false, 12));
+            img.drawString("RATAT", px + 45, py + 115);
+            img.drawString("PERFECT", px + 160, py + 115);
+            img.drawString("RATAT", px + 400, py + 115);
 
-        // Red miss zone
-        img.setColor(new Color(200, 50, 50, 100));
-        img.fillRect(px + 50, py + 120, successZoneStart - 10, 50);
-        img.fillRect(px + 50 + successZoneStart + successZoneWidth + 10, py + 120, 
-                     barWidth - (successZoneStart + successZoneWidth + 10), 50);
+            // Red miss zone
+            img.setColor(UIStyle.color(200, 50, 50, 100));
+            img.fillRect(px + 50, py + 120, successZoneStart - 10, 50);
+            img.fillRect(px + 50 + successZoneStart + successZoneWidth + 10, py + 120, 
+                         barWidth - (successZoneStart + successZoneWidth + 10), 50);
 
-        // Green success zone (perfect area)
-        img.setColor(new Color(100, 200, 100, 180));
-        img.fillRect(px + 50 + successZoneStart, py + 120, successZoneWidth, 50);
+            // Green success zone (perfect area)
+            img.setColor(UIStyle.color(100, 200, 100, 180));
+            img.fillRect(px + 50 + successZoneStart, py + 120, successZoneWidth, 50);
 
-        // Yellow good zone (near edges)
-        int goodZoneWidth = 30;
-        img.setColor(new Color(255, 200, 100, 150));
-        img.fillRect(px + 50 + successZoneStart - goodZoneWidth, py + 120, goodZoneWidth, 50);
-        img.fillRect(px + 50 + successZoneStart + successZoneWidth, py + 120, goodZoneWidth, 50);
+            // Yellow good zone (near edges)
+            int goodZoneWidth = 30;
+            img.setColor(UIStyle.color(255, 200, 100, 150));
+            img.fillRect(px + 50 + successZoneStart - goodZoneWidth, py + 120, goodZoneWidth, 50);
+            img.fillRect(px + 50 + successZoneStart + successZoneWidth, py + 120, goodZoneWidth, 50);
 
-        // Target zone glow indicator
-        int glowIntensity = 100 + (int)(80 * Math.sin(animTick * 0.15));
-        img.setColor(new Color(255, 150, 150, glowIntensity));
-        img.fillRect(px + 50 + successZoneStart - 5, py + 115, successZoneWidth + 10, 60);
+            // Target zone glow indicator
+            int glowIntensity = WAVE_15.at(animTick, 100, 80);
+            img.setColor(UIStyle.color(255, 150, 150, glowIntensity));
+            img.fillRect(px + 50 + successZoneStart - 5, py + 115, successZoneWidth + 10, 60);
 
-        // Current indicator (moving)
-        Color indColor = failCooldown > 0 ? new Color(255, 100, 100) : new Color(255, 200, 50);
-        if (failCooldown > 20) indColor = new Color(255, 50, 50);
-        img.setColor(indColor);
-        img.fillRect(px + 50 + indicatorPos - 5, py + 110, 10, 70);
-        
-        // Indicator glow
-        int indGlow = 150 + (int)(100 * Math.sin(animTick * 0.2));
-        img.setColor(new Color(255, 150, 150, indGlow / 2));
-        img.fillRect(px + 50 + indicatorPos - 10, py + 105, 20, 80);
+            // Current indicator (moving)
+            Color indColor = failCooldown > 0 ? UIStyle.color(255, 100, 100) : UIStyle.color(255, 200, 50);
+            if (failCooldown > 20) indColor = UIStyle.color(255, 50, 50);
+            img.setColor(indColor);
+            img.fillRect(px + 50 + indicatorPos - 5, py + 110, 10, 70);
+            
+            // Indicator glow
+            int indGlow = WAVE_20.at(animTick, 150, 100);
+            img.setColor(UIStyle.color(255, 150, 150, indGlow / 2));
+            img.fillRect(px + 50 + indicatorPos - 10, py + 105, 20, 80);
+        });
 
         // Status and scoring
-        img.setColor(new Color(255, 255, 255));
-        img.setFont(new greenfoot.Font("Arial", true, false, 22));
-        img.drawString("REUȘITE: " + hitCount + " / " + targetHits, px + 130, py + 205);
-
-        img.setColor(new Color(255, 200, 100));
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
-        img.drawString("Scor: " + totalScore, px + 175, py + 235);
-
-        if (combo > 1)
-        {
-            img.setColor(new Color(100, 255, 100));
-            img.setFont(new greenfoot.Font("Arial", true, false, 18));
-            img.drawString("Combo x" + combo, px + 180, py + 260);
-        }
-
-        overlay.setImage(img);
+        hitsText = scene.add(new QuestOverlay.Text(px + 130, py + 205, 220, UIStyle.font("Arial", true, false, 22)));
+        scoreText = scene.add(new QuestOverlay.Text(px + 175, py + 235, 200, UIStyle.font("Arial", true, false, 20)));
+        comboText = scene.add(new QuestOverlay.Text(px + 180, py + 260, 150, UIStyle.font("Arial", true, false, 18)));
     }
     
     private void finishQuest(boolean success)
     {
         endQuest();
-        completed = true;
+        markCompleted();
         resultDisplayTicks = 120;
 
         World world = getWorld();
@@ -318,79 +308,71 @@ public class RhythmReleaseQuest extends BaseQuest
         
         if (success)
         {
-            img.setColor(new Color(200, 0, 50, 190));
+            img.setColor(UIStyle.color(200, 0, 50, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(255, 100, 100, 100));
+            img.setColor(UIStyle.color(255, 100, 100, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
             
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 38));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 38));
             img.drawString("SUCCES!", panelW / 2 - 100, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 20));
-            img.setColor(new Color(255, 200, 100));
+            img.setFont(UIStyle.font("Arial", true, false, 20));
+            img.setColor(UIStyle.color(255, 200, 100));
             img.drawString("Scor final: " + totalScore, panelW / 2 - 100, panelH / 2 + 15);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 16));
-            img.setColor(new Color(200, 200, 200));
+            img.setFont(UIStyle.font("Arial", true, false, 16));
+            img.setColor(UIStyle.color(200, 200, 200));
             img.drawString("Lovituri perfecte: " + hitCount + " | Combo: x" + combo, panelW / 2 - 150, panelH / 2 + 50);
         }
         else
         {
-            img.setColor(new Color(200, 0, 50, 190));
+            img.setColor(UIStyle.color(200, 0, 50, 190));
             img.fillRect(0, 0, panelW, panelH);
-            img.setColor(new Color(255, 100, 100, 100));
+            img.setColor(UIStyle.color(255, 100, 100, 100));
             img.fillRect(-8, -8, panelW + 16, panelH + 16);
             
-            img.setColor(new Color(255, 255, 255));
-            img.setFont(new greenfoot.Font("Arial", true, false, 38));
+            img.setColor(UIStyle.color(255, 255, 255));
+            img.setFont(UIStyle.font("Arial", true, false, 38));
             img.drawString("EȘUAT!", panelW / 2 - 90, panelH / 2 - 30);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 18));
-            img.setColor(new Color(255, 100, 100));
+            img.setFont(UIStyle.font("Arial", true, false, 18));
+            img.setColor(UIStyle.color(255, 100, 100));
             img.drawString("Încearcă din nou!", panelW / 2 - 90, panelH / 2 + 10);
             
-            img.setFont(new greenfoot.Font("Arial", true, false, 14));
-            img.setColor(new Color(200, 200, 200));
+            img.setFont(UIStyle.font("Arial", true, false, 14));
+            img.setColor(UIStyle.color(200, 200, 200));
             img.drawString("Finalizat: " + hitCount + " / " + targetHits, panelW / 2 - 95, panelH / 2 + 50);
             img.drawString("Scor: " + totalScore, panelW / 2 - 70, panelH / 2 + 70);
         }
         
         // Set transparent actor image
-        GreenfootImage transparent = new GreenfootImage(48, 48);
-        transparent.setColor(new Color(0, 0, 0, 0));
-        transparent.fillRect(0, 0, 48, 48);
-        setImage(transparent);
+        setImage(getHiddenMarkerImage());
         
         overlay.setImage(img);
     }
 
-    private void showTutorial()
+    protected GreenfootImage createTutorialImage()
     {
-        World world = getWorld();
-        if (world == null) return;
-        ensureOverlay();
-        if (overlay == null) return;
-
         int w = 460;
         int h = 190;
         GreenfootImage img = new GreenfootImage(w, h);
-        img.setColor(new Color(0, 0, 0, 200));
+        img.setColor(UIStyle.color(0, 0, 0, 200));
         img.fillRect(0, 0, w, h);
-        img.setColor(new Color(255, 120, 120, 200));
+        img.setColor(UIStyle.color(255, 120, 120, 200));
         img.drawRect(0, 0, w - 1, h - 1);
 
-        img.setFont(new greenfoot.Font("Arial", true, false, 20));
+        img.setFont(UIStyle.font("Arial", true, false, 20));
         img.setColor(Color.WHITE);
         img.drawString("TUTORIAL: ELIBERARE PE RITM", 60, 30);
-        img.setFont(new greenfoot.Font("Arial", false, false, 14));
-        img.setColor(new Color(220, 220, 220));
+        img.setFont(UIStyle.font("Arial", false, false, 14));
+        img.setColor(UIStyle.color(220, 220, 220));
         img.drawString("Apasă SPATIU când indicatorul intră în zona verde.", 40, 70);
         img.drawString("Scop: " + targetHits + " reușite.", 160, 95);
-        img.setColor(new Color(200, 255, 200));
+        img.setColor(UIStyle.color(200, 255, 200));
         img.drawString("Apasă SPATIU pentru a începe", 140, 145);
 
-        overlay.setImage(img);
+        return img;
     }
     
     public java.util.List<TiledMap.CollisionRect> getCollisionRects()
@@ -0,0 +1,209 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * SaveGame - Crash-safe persistence of GameState and PlayerData.
+ * Every change calls requestSave(), which only takes an immutable snapshot on the game
+ * thread. A single background writer picks up the newest snapshot a moment later, so a
+ * burst of changes (quiz answer + XP + level up) becomes one write, and encoding and
+ * disk I/O never happen during a frame.
+ *
+ * File layout: magic, format version, snapshot bytes, CRC32 of everything before it.
+ * The file is written to a temporary sibling, forced to disk and then atomically moved
+ * over the previous save, so a crash leaves either the old or the new save, never half
+ * of one. A save that fails its checks is ignored and the game starts fresh.
+ *
+ * Each GameSession has its own save file; the writer thread is shared.
+ */
+public final class SaveGame
+{
+    private static final int MAGIC = 0x53515356; // "SQSV"
+    private static final int VERSION = 1;
+    private static final long COALESCE_MILLIS = 500;
+
+    private static final Path DATA_DIRECTORY = Paths.get(System.getProperty("user.home"), ".sciencequests");
+
+    // Newest unwritten snapshot per save file
+    private static final Map<Path, GameState.Snapshot> pending = new ConcurrentHashMap<Path, GameState.Snapshot>();
+    private static ScheduledExecutorService writer;
+    private static final ThreadLocal<Boolean> restoring = new ThreadLocal<Boolean>();
+
+    private SaveGame()
+    {
+    }
+
+    /**
+     * A file in the directory the save lives in, for other per-player data.
+     */
+    public static Path dataFile(String name)
+    {
+        return DATA_DIRECTORY.resolve(name);
+    }
+
+    // The current session's save file
+    private static Path saveFile()
+    {
+        return dataFile(GameSession.current().fileName("progress", ".sav"));
+    }
+
+    /**
+     * Queue an autosave of the current session's progress. Call from its game thread.
+     */
+    public static void requestSave()
+    {
+        if (restoring.get() != null) return;
+
+        // Only the first change of a burst schedules a write; later ones just replace the snapshot
+        final Path file = saveFile();
+        if (pending.put(file, GameState.getInstance().snapshot()) == null)
+        {
+            writer().schedule(() -> writePending(file), COALESCE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Restore the saved progress, if there is a valid save. Returns whether one was loaded.
+     */
+    public static boolean load()
+    {
+        Path file = saveFile();
+        if (!Files.exists(file)) return false;
+
+        try
+        {
+            byte[] data = Files.readAllBytes(file);
+            if (data.length < 14)
+            {
+                throw new IOException("File too short");
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(data, 0, data.length - 8);
+            long storedCrc = ByteBuffer.wrap(data, data.length - 8, 8).getLong();
+            if (crc.getValue() != storedCrc)
+            {
+                throw new IOException("Checksum mismatch");
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 8));
+            if (in.readInt() != MAGIC)
+            {
+                throw new IOException("Not a save file");
+            }
+            int version = in.readUnsignedShort();
+            GameState.Snapshot snapshot = GameState.Snapshot.readFrom(in, version);
+
+            restoring.set(Boolean.TRUE);
+            try
+            {
+                GameState.getInstance().restore(snapshot);
+            }
+            finally
+            {
+                restoring.remove();
+            }
+            DebugLog.log("SaveGame: loaded " + file + " (version " + version + ")");
+            return true;
+        }
+        catch (IOException | RuntimeException e)
+        {
+            DebugLog.log("SaveGame: ignoring unreadable save " + file + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Write every pending snapshot now, on the calling thread.
+     */
+    public static void flush()
+    {
+        for (Path file : pending.keySet())
+        {
+            writePending(file);
+        }
+    }
+
+    private static synchronized ScheduledExecutorService writer()
+    {
+        if (writer == null)
+        {
+            writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "save-writer");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+            // The writer is a daemon; don't lose the last change when the window closes
+            Runtime.getRuntime().addShutdownHook(new Thread(SaveGame::flush, "save-flush"));
+        }
+        return writer;
+    }
+
+    // Serialized so the writer and a shutdown flush never share the temporary file
+    private static synchronized void writePending(Path file)
+    {
+        GameState.Snapshot snapshot = pending.remove(file);
+        if (snapshot == null) return;
+
+        try
+        {
+            write(snapshot, file);
+        }
+        catch (IOException e)
+        {
+            DebugLog.log("SaveGame: could not write " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static void write(GameState.Snapshot snapshot, Path file) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        snapshot.writeTo(out);
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        out.flush();
+
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        try
+        {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+import greenfoot.Actor;
+import greenfoot.World;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * SessionHost - Runs many GameSessions in one headless JVM (bots, classroom server).
+ * tickAll() plays one frame of every session on a work-stealing pool, the way Greenfoot
+ * runs one frame of its world: the world's act(), then every actor's act(). Each
+ * session is ticked by one pool thread at a time, with the session bound, so its
+ * GameState, dialogue and input resolve to that student. A failing session is logged
+ * and does not stop the others.
+ */
+public class SessionHost
+{
+    private final ExecutorService pool;
+    private final List<GameSession> sessions = new CopyOnWriteArrayList<GameSession>();
+
+    public SessionHost()
+    {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public SessionHost(int parallelism)
+    {
+        pool = Executors.newWorkStealingPool(parallelism);
+    }
+
+    /**
+     * Create a session and build its first world inside it, e.g. MainMapWorld::new.
+     */
+    public GameSession open(Supplier<? extends World> firstWorld)
+    {
+        final GameSession session = GameSession.create();
+        session.run(() -> session.setWorld(firstWorld.get()));
+        sessions.add(session);
+        return session;
+    }
+
+    public void close(GameSession session)
+    {
+        sessions.remove(session);
+        SaveGame.flush();
+    }
+
+    public List<GameSession> getSessions()
+    {
+        return Collections.unmodifiableList(sessions);
+    }
+
+    /**
+     * Play one frame of every session and wait until all are done.
+     */
+    public void tickAll() throws InterruptedException
+    {
+        List<Callable<Void>> frames = new ArrayList<Callable<Void>>(sessions.size());
+        for (final GameSession session : sessions)
+        {
+            frames.add(() -> {
+                session.run(() -> tick(session));
+                return null;
+            });
+        }
+        pool.invokeAll(frames);
+    }
+
+    public void shutdown()
+    {
+        pool.shutdown();
+        SaveGame.flush();
+    }
+
+    private static void tick(GameSession session)
+    {
+        World world = session.getWorld();
+        if (world == null) return;
+
+        try
+        {
+            world.act();
+            // Copy: actors add and remove objects while acting
+            for (Actor actor : new ArrayList<Actor>(world.getObjects(Actor.class)))
+            {
+                if (actor.getWorld() == world)
+                {
+                    actor.act();
+                }
+            }
+        }
+        catch (RuntimeException e)
+        {
+            DebugLog.log("SessionHost: session " + session.getId() + " failed a frame: " + e);
+        }
+    }
+}
@@ -7,10 +7,20 @@ public class SettingsButton extends Actor
 {
     public SettingsButton()
     {
-        // Load the 16x16 settings icon and scale it 3x
-        GreenfootImage icon = new GreenfootImage("settings.png");
-        icon.scale(48, 48);
-        setImage(icon);
+        // The 16x16 settings icon scaled 3x
+        setImage(AssetManager.getDerived("settings.png", "48x48", SettingsButton::scaleIcon));
+    }
+
+    private static GreenfootImage scaleIcon(GreenfootImage icon)
+    {
+        int factor = PixelScaler.integerFactor(icon.getWidth(), icon.getHeight(), 48, 48);
+        if (factor > 0)
+        {
+            return PixelScaler.upscale(icon, factor);
+        }
+        GreenfootImage scaled = new GreenfootImage(icon);
+        scaled.scale(48, 48);
+        return scaled;
     }
     
     public void act()
@@ -1,40 +1,46 @@
 import greenfoot.*;
+import java.io.IOException;
 import java.util.*;
 
 /**
  * SpriteAnimator - Handles sprite sheet animation with frame management
- * Parses JSON spritesheet data and manages animation frames
+ * Parses Aseprite JSON spritesheet data (frames and frameTags) and bakes every frame
+ * once at construction, so advancing the animation is just an index bump
  */
 public class SpriteAnimator
 {
-    private GreenfootImage spritesheet;
     private List<FrameData> frames;
-    private int currentFrameIndex;
+    private GreenfootImage[] bakedFrames;
+    private int[] frameTicks;
+    private Map<String, int[]> clips;
+    private int[] loop;
+    private int loopPosition;
     private int animationCounter;
     private boolean isAnimating;
     private int targetWidth;
     private int targetHeight;
-    private int rangeStart;
-    private int rangeEnd;
 
     public SpriteAnimator(String spritesheetPath, String jsonPath, int width, int height)
     {
         this.frames = new ArrayList<>();
-        this.currentFrameIndex = 0;
+        this.clips = new LinkedHashMap<>();
+        this.bakedFrames = new GreenfootImage[0];
+        this.frameTicks = new int[0];
+        this.loop = new int[0];
+        this.loopPosition = 0;
         this.animationCounter = 0;
         this.isAnimating = true;
         this.targetWidth = width;
         this.targetHeight = height;
-        this.rangeStart = 0;
-        this.rangeEnd = -1; // -1 means full range
-        
+
         try
         {
-            // Load spritesheet image
-            this.spritesheet = new GreenfootImage(spritesheetPath);
-            
             // Parse JSON and extract frame data
             parseJsonFrameData(jsonPath);
+
+            // Cut and scale every frame once
+            bakeFrames(AssetManager.get(spritesheetPath));
+            loop = buildLoop(0, frames.size() - 1, "forward");
         }
         catch (Exception e)
         {
@@ -44,102 +50,215 @@ public class SpriteAnimator
 
     /**
      * Parse the JSON spritesheet metadata file
+     * Supports both the hash and array "frames" layouts Aseprite exports
      */
     private void parseJsonFrameData(String jsonPath)
     {
-        try
+        try (JsonReader reader = JsonReader.open(jsonPath))
         {
-            java.nio.file.Path path = java.nio.file.Paths.get(jsonPath);
-            String content = new String(java.nio.file.Files.readAllBytes(path));
-            
-            // Extract frames data from JSON
-            int framesStart = content.indexOf("\"frames\"");
-            int framesEnd = content.lastIndexOf("}");
-            
-            if (framesStart == -1) return;
-            
-            // Parse each frame entry
-            String framesContent = content.substring(framesStart, framesEnd);
-            
-            // Extract frame objects by looking for the pattern
-            int index = 0;
-            while (true)
+            reader.beginObject();
+            while (reader.hasNext())
             {
-                int frameStart = framesContent.indexOf("\"frame\"", index);
-                if (frameStart == -1) break;
-                
-                int xStart = framesContent.indexOf("\"x\"", frameStart);
-                int yStart = framesContent.indexOf("\"y\"", frameStart);
-                int wStart = framesContent.indexOf("\"w\"", frameStart);
-                int hStart = framesContent.indexOf("\"h\"", frameStart);
-                
-                if (xStart == -1 || yStart == -1 || wStart == -1 || hStart == -1) break;
-                
-                int x = Integer.parseInt(extractNumber(framesContent, xStart));
-                int y = Integer.parseInt(extractNumber(framesContent, yStart));
-                int w = Integer.parseInt(extractNumber(framesContent, wStart));
-                int h = Integer.parseInt(extractNumber(framesContent, hStart));
-                
-                int durationStart = framesContent.indexOf("\"duration\"", hStart);
-                int duration = 200; // default
-                if (durationStart != -1)
+                String name = reader.nextName();
+                if ("frames".equals(name))
+                {
+                    parseFrames(reader);
+                }
+                else if ("meta".equals(name))
+                {
+                    parseMeta(reader);
+                }
+                else
                 {
-                    duration = Integer.parseInt(extractNumber(framesContent, durationStart));
+                    reader.skipValue();
                 }
-                
-                frames.add(new FrameData(x, y, w, h, duration));
-                
-                index = frameStart + 1;
             }
-            
-            DebugLog.log("Loaded " + frames.size() + " frames from spritesheet");
+            reader.endObject();
+
+            DebugLog.log("Loaded " + frames.size() + " frames and " + clips.size() + " clips from spritesheet");
         }
-        catch (Exception e)
+        catch (IOException e)
         {
             DebugLog.log("Error parsing JSON: " + e.getMessage());
         }
     }
 
+    private void parseFrames(JsonReader reader) throws IOException
+    {
+        if (reader.peek() == JsonReader.Token.BEGIN_ARRAY)
+        {
+            reader.beginArray();
+            while (reader.hasNext())
+            {
+                frames.add(parseFrame(reader));
+            }
+            reader.endArray();
+        }
+        else
+        {
+            reader.beginObject();
+            while (reader.hasNext())
+            {
+                reader.nextName(); // frame file name
+                frames.add(parseFrame(reader));
+            }
+            reader.endObject();
+        }
+    }
+
+    private FrameData parseFrame(JsonReader reader) throws IOException
+    {
+        int x = 0, y = 0, w = 0, h = 0;
+        int duration = 200; // default
+
+        reader.beginObject();
+        while (reader.hasNext())
+        {
+            String name = reader.nextName();
+            if ("frame".equals(name))
+            {
+                reader.beginObject();
+                while (reader.hasNext())
+                {
+                    String key = reader.nextName();
+                    if ("x".equals(key)) x = reader.nextInt();
+                    else if ("y".equals(key)) y = reader.nextInt();
+                    else if ("w".equals(key)) w = reader.nextInt();
+                    else if ("h".equals(key)) h = reader.nextInt();
+                    else reader.skipValue();
+                }
+                reader.endObject();
+            }
+            else if ("duration".equals(name))
+            {
+                duration = reader.nextInt();
+            }
+            else
+            {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new FrameData(x, y, w, h, duration);
+    }
+
     /**
-     * Extract a number from JSON string at given position
+     * Read "frameTags" from the meta block as named clips
      */
-    private String extractNumber(String content, int pos)
+    private void parseMeta(JsonReader reader) throws IOException
     {
-        int colonPos = content.indexOf(":", pos);
-        int numStart = colonPos + 1;
-        
-        // Skip whitespace
-        while (numStart < content.length() && Character.isWhitespace(content.charAt(numStart)))
+        reader.beginObject();
+        while (reader.hasNext())
         {
-            numStart++;
+            if (!"frameTags".equals(reader.nextName()))
+            {
+                reader.skipValue();
+                continue;
+            }
+
+            reader.beginArray();
+            while (reader.hasNext())
+            {
+                String tagName = null;
+                String direction = "forward";
+                int from = 0, to = 0;
+
+                reader.beginObject();
+                while (reader.hasNext())
+                {
+                    String key = reader.nextName();
+                    if ("name".equals(key)) tagName = reader.nextString();
+                    else if ("from".equals(key)) from = reader.nextInt();
+                    else if ("to".equals(key)) to = reader.nextInt();
+                    else if ("direction".equals(key)) direction = reader.nextString();
+                    else reader.skipValue();
+                }
+                reader.endObject();
+
+                if (tagName != null)
+                {
+                    clips.put(tagName, new int[]{from, to, directionCode(direction)});
+                }
+            }
+            reader.endArray();
         }
-        
-        int numEnd = numStart;
-        while (numEnd < content.length() && Character.isDigit(content.charAt(numEnd)))
+        reader.endObject();
+    }
+
+    private void bakeFrames(GreenfootImage spritesheet)
+    {
+        bakedFrames = new GreenfootImage[frames.size()];
+        frameTicks = new int[frames.size()];
+
+        for (int i = 0; i < frames.size(); i++)
         {
-            numEnd++;
+            FrameData frameData = frames.get(i);
+
+            // Extract the frame from the spritesheet
+            GreenfootImage frameImage = new GreenfootImage(frameData.width, frameData.height);
+            frameImage.drawImage(spritesheet, -frameData.x, -frameData.y);
+
+            // Scale to target size
+            frameImage.scale(targetWidth, targetHeight);
+
+            bakedFrames[i] = frameImage;
+            frameTicks[i] = Math.max(1, frameData.duration / 16); // ~60fps, so divide by ~16
         }
-        
-        return content.substring(numStart, numEnd);
+    }
+
+    private static int directionCode(String direction)
+    {
+        if ("reverse".equals(direction)) return 1;
+        if ("pingpong".equals(direction)) return 2;
+        return 0;
+    }
+
+    /**
+     * Build the sequence of frame indices one loop of the animation plays
+     */
+    private int[] buildLoop(int from, int to, String direction)
+    {
+        return buildLoop(from, to, directionCode(direction));
+    }
+
+    private int[] buildLoop(int from, int to, int direction)
+    {
+        if (to < from) return new int[0];
+        int count = to - from + 1;
+
+        if (direction == 2 && count > 2)
+        {
+            // There and back without repeating the end frames
+            int[] sequence = new int[count * 2 - 2];
+            for (int i = 0; i < count; i++) sequence[i] = from + i;
+            for (int i = 1; i < count - 1; i++) sequence[count - 1 + i] = to - i;
+            return sequence;
+        }
+
+        int[] sequence = new int[count];
+        for (int i = 0; i < count; i++)
+        {
+            sequence[i] = (direction == 1) ? to - i : from + i;
+        }
+        return sequence;
+    }
+
+    private void startLoop(int[] newLoop)
+    {
+        loop = newLoop;
+        loopPosition = 0;
+        animationCounter = 0;
     }
 
     /**
      * Get the current frame image
+     * The returned image is shared - draw it, don't modify it
      */
     public GreenfootImage getCurrentFrame()
     {
-        if (frames.isEmpty()) return null;
-        
-        FrameData frameData = frames.get(currentFrameIndex);
-        
-        // Extract the frame from the spritesheet
-        GreenfootImage frameImage = new GreenfootImage(frameData.width, frameData.height);
-        frameImage.drawImage(spritesheet, -frameData.x, -frameData.y);
-        
-        // Scale to target size
-        frameImage.scale(targetWidth, targetHeight);
-        
-        return frameImage;
+        if (loop.length == 0) return null;
+        return bakedFrames[loop[loopPosition]];
     }
 
     /**
@@ -147,29 +266,17 @@ public class SpriteAnimator
      */
     public void update()
     {
-        if (!isAnimating || frames.isEmpty()) return;
+        if (!isAnimating || loop.length == 0) return;
 
-        // Ensure currentFrameIndex is within active range
-        int start = (rangeEnd >= 0) ? rangeStart : 0;
-        int end = (rangeEnd >= 0) ? rangeEnd : frames.size() - 1;
-        if (currentFrameIndex < start || currentFrameIndex > end)
-        {
-            currentFrameIndex = start;
-        }
-
-        FrameData currentFrame = frames.get(currentFrameIndex);
         animationCounter += 1; // Increment by 1 per act cycle
 
-        if (animationCounter >= currentFrame.duration / 16) // ~60fps, so divide by ~16
+        if (animationCounter >= frameTicks[loop[loopPosition]])
         {
             animationCounter = 0;
-            if (currentFrameIndex >= end)
-            {
-                currentFrameIndex = start;
-            }
-            else
+            loopPosition++;
+            if (loopPosition >= loop.length)
             {
-                currentFrameIndex++;
+                loopPosition = 0;
             }
         }
     }
@@ -184,10 +291,31 @@ public class SpriteAnimator
         if (endFrame >= frames.size()) endFrame = frames.size() - 1;
         if (startFrame > endFrame) return;
 
-        this.rangeStart = startFrame;
-        this.rangeEnd = endFrame;
-        this.currentFrameIndex = startFrame;
-        this.animationCounter = 0;
+        startLoop(buildLoop(startFrame, endFrame, "forward"));
+    }
+
+    /**
+     * Loop a clip from the sheet's frameTags (e.g. "idle-s", "walk-ne")
+     * Returns false if the sheet has no clip with that name
+     */
+    public boolean playClip(String clipName)
+    {
+        int[] clip = clips.get(clipName);
+        if (clip == null) return false;
+
+        int from = Math.max(0, clip[0]);
+        int to = Math.min(frames.size() - 1, clip[1]);
+        startLoop(buildLoop(from, to, clip[2]));
+        isAnimating = true;
+        return true;
+    }
+
+    /**
+     * Names of the clips defined in the sheet, in file order
+     */
+    public Set<String> getClipNames()
+    {
+        return Collections.unmodifiableSet(clips.keySet());
     }
 
     /**
@@ -213,8 +341,17 @@ public class SpriteAnimator
     {
         if (frameIndex >= 0 && frameIndex < frames.size())
         {
-            currentFrameIndex = frameIndex;
-            animationCounter = 0;
+            for (int i = 0; i < loop.length; i++)
+            {
+                if (loop[i] == frameIndex)
+                {
+                    loopPosition = i;
+                    animationCounter = 0;
+                    return;
+                }
+            }
+            // Frame is outside the current loop - hold it on its own
+            startLoop(new int[]{frameIndex});
         }
     }
 
@@ -232,7 +369,7 @@ public class SpriteAnimator
     private static class FrameData
     {
         int x, y, width, height, duration;
-        
+
         FrameData(int x, int y, int w, int h, int duration)
         {
             this.x = x;
@@ -0,0 +1,91 @@
+import greenfoot.GreenfootImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SpriteCache - Process-wide store of baked spritesheet frames.
+ * Frames are sliced, scaled and cropped once per (sheet, frame size, scale, crop)
+ * and the same arrays are handed to every instance afterwards, so creating a new
+ * player on each world transition does not redo the image work.
+ * Returned frames are shared: callers must not draw on or scale them. Lookups are
+ * synchronized because WorldPreloader bakes the player's frames off the game thread.
+ */
+public final class SpriteCache
+{
+    private static final Map<String, GreenfootImage[]> frames = new HashMap<String, GreenfootImage[]>();
+
+    private SpriteCache()
+    {
+    }
+
+    /**
+     * Get the frames of a horizontal spritesheet, each scaled to displayWidth x displayHeight
+     * and cropped to a centered cropWidth x cropHeight box.
+     */
+    public static synchronized GreenfootImage[] getFrames(String sheetPath, int frameWidth, int frameHeight,
+                                                          int frameCount, int displayWidth, int displayHeight,
+                                                          int cropWidth, int cropHeight)
+    {
+        String key = sheetPath + "|" + frameWidth + "x" + frameHeight + "x" + frameCount
+            + "|" + displayWidth + "x" + displayHeight + "|" + cropWidth + "x" + cropHeight;
+
+        GreenfootImage[] cached = frames.get(key);
+        if (cached == null)
+        {
+            cached = bakeFrames(sheetPath, frameWidth, frameHeight, frameCount,
+                                displayWidth, displayHeight, cropWidth, cropHeight);
+            frames.put(key, cached);
+            DebugLog.log("SpriteCache: baked " + key);
+        }
+        return cached;
+    }
+
+    private static GreenfootImage[] bakeFrames(String sheetPath, int frameWidth, int frameHeight, int frameCount,
+                                               int displayWidth, int displayHeight, int cropWidth, int cropHeight)
+    {
+        GreenfootImage spritesheet = AssetManager.get(sheetPath);
+        GreenfootImage[] result = new GreenfootImage[frameCount];
+
+        // Pixel-art sheets scaled by a whole factor: slice, upscale and crop in one raster pass
+        int factor = PixelScaler.integerFactor(frameWidth, frameHeight, displayWidth, displayHeight);
+        if (factor > 0)
+        {
+            int[] sheetPixels = PixelScaler.readPixels(spritesheet);
+            int stride = spritesheet.getWidth();
+            for (int i = 0; i < frameCount; i++)
+            {
+                result[i] = PixelScaler.upscaleCrop(sheetPixels, stride, i * frameWidth, 0, frameWidth, frameHeight,
+                                                    factor, cropWidth, cropHeight);
+            }
+            return result;
+        }
+
+        int startX = (displayWidth - cropWidth) / 2;
+        int startY = (displayHeight - cropHeight) / 2;
+
+        for (int i = 0; i < frameCount; i++)
+        {
+            // Extract each frame
+            GreenfootImage frame = new GreenfootImage(frameWidth, frameHeight);
+            frame.drawImage(spritesheet, -i * frameWidth, 0);
+
+            // Scale to display size
+            frame.scale(displayWidth, displayHeight);
+
+            // Crop to a box centered on the character
+            GreenfootImage croppedFrame = new GreenfootImage(cropWidth, cropHeight);
+            croppedFrame.drawImage(frame, -startX, -startY);
+            result[i] = croppedFrame;
+        }
+
+        return result;
+    }
+
+    /**
+     * Drop every cached frame (e.g. after sprite assets change on disk).
+     */
+    public static synchronized void clear()
+    {
+        frames.clear();
+    }
+}
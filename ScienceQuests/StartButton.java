@@ -25,33 +25,12 @@ public class StartButton extends Actor
     {
         try
         {
-            // Load the actor image
-            GreenfootImage image = new GreenfootImage("Adobe Express - file.png");
-            
-            // Scale to reasonable button size while maintaining aspect ratio
-            int maxWidth = 180;
-            int maxHeight = 220;
-            double aspectRatio = (double) image.getWidth() / image.getHeight();
-            int scaledWidth, scaledHeight;
-            
-            if (aspectRatio > (double) maxWidth / maxHeight)
-            {
-                // Image is wider, fit to width
-                scaledWidth = maxWidth;
-                scaledHeight = (int) (maxWidth / aspectRatio);
-            }
-            else
-            {
-                // Image is taller, fit to height
-                scaledHeight = maxHeight;
-                scaledWidth = (int) (maxHeight * aspectRatio);
-            }
-            
-            image.scale(scaledWidth, scaledHeight);
+            // Shared button image, scaled to a reasonable size keeping its aspect ratio
+            GreenfootImage image = AssetManager.getDerived("Adobe Express - file.png", "button", StartButton::scaleToButton);
             
             // Store the image dimensions for hitbox calculation
-            this.imageWidth = scaledWidth;
-            this.imageHeight = scaledHeight;
+            this.imageWidth = image.getWidth();
+            this.imageHeight = image.getHeight();
             
             setImage(image);
         }
@@ -71,6 +50,31 @@ public class StartButton extends Actor
         }
     }
 
+    private static GreenfootImage scaleToButton(GreenfootImage source)
+    {
+        int maxWidth = 180;
+        int maxHeight = 220;
+        double aspectRatio = (double) source.getWidth() / source.getHeight();
+        int scaledWidth, scaledHeight;
+        
+        if (aspectRatio > (double) maxWidth / maxHeight)
+        {
+            // Image is wider, fit to width
+            scaledWidth = maxWidth;
+            scaledHeight = (int) (maxWidth / aspectRatio);
+        }
+        else
+        {
+            // Image is taller, fit to height
+            scaledHeight = maxHeight;
+            scaledWidth = (int) (maxHeight * aspectRatio);
+        }
+        
+        GreenfootImage image = new GreenfootImage(source);
+        image.scale(scaledWidth, scaledHeight);
+        return image;
+    }
+
     public void act()
     {
         // Store base Y position on first frame
@@ -8,15 +8,20 @@ public class StartWorld extends World
     private GenderButton femaleButton;
     private StartButton continueButton;
     private GreenfootSound backgroundMusic;
+    private Gender preloadedGender; // the character whose frames are being baked
+    private boolean enteringGame; // continue was pressed, waiting for the asset preload
 
     public StartWorld()
     {    
         super(600, 400, 1);  // width, height, cell size
         
-        // Load custom fonts once at startup (required for all dialogue)
-        FontManager.loadFonts();
-        
         setScaledBackground();
+
+        // Decode the game worlds' assets and fonts while the player is on the start screens
+        AssetManifest.startPreload();
+
+        // Pick up where the student left off, if a previous session was saved
+        SaveGame.load();
         
         showTitleScreen();
         prepare();
@@ -24,18 +29,53 @@ public class StartWorld extends World
 
     public void act()
     {
+        InputState.getInstance().poll();
+
+        if (enteringGame)
+        {
+            if (AssetManifest.isComplete())
+            {
+                WorldNavigator.goToMainMap();
+            }
+            return;
+        }
+
         // Check for Enter key press
-        if (Greenfoot.isKeyDown("enter"))
+        if (InputState.getInstance().justPressed(InputState.ENTER))
         {
             handleEnterKey();
         }
+
+        if (currentScreen == 2)
+        {
+            preloadForSelectedGender();
+        }
+    }
+
+    /**
+     * Start loading the main map and the character's frames as soon as one is picked,
+     * and the frames again if the pick changes, so pressing continue doesn't wait for them
+     */
+    private void preloadForSelectedGender()
+    {
+        Gender selected = null;
+        if (maleButton.isSelected())
+        {
+            selected = Gender.BOY;
+        }
+        else if (femaleButton.isSelected())
+        {
+            selected = Gender.GIRL;
+        }
+        if (selected == null || selected == preloadedGender) return;
+
+        preloadedGender = selected;
+        PlayerData.setPlayerGender(selected);
+        WorldNavigator.preloadMainMap();
     }
 
     private void handleEnterKey()
     {
-        // Add a small delay to prevent double triggering
-        Greenfoot.delay(5);
-        
         switch(currentScreen)
         {
             case 0: // Title screen
@@ -55,10 +95,8 @@ public class StartWorld extends World
      */
     private void setScaledBackground()
     {
-        GreenfootImage bg =
-            new GreenfootImage("pngtree-nobody-interface-of-pixel-game-platform-picture-image_1962988.jpg");
-        bg.scale(getWidth(), getHeight());
-        setBackground(bg);
+        setBackground(AssetManager.getScaled(
+            "pngtree-nobody-interface-of-pixel-game-platform-picture-image_1962988.jpg", getWidth(), getHeight()));
     }
 
     /**
@@ -77,8 +115,15 @@ public class StartWorld extends World
         removeAllObjects();
         currentScreen = 0;
 
-        TitleImage title = new TitleImage();
-        addObject(title, 300, 135);
+        // The title fills in with the preload progress, unless everything is already warm
+        if (AssetManifest.isComplete())
+        {
+            addObject(new TitleImage(), 300, 135);
+        }
+        else
+        {
+            addObject(new LoadingBar(), 300, 135);
+        }
 
         StartButton startButton = new StartButton();
         addObject(startButton, getWidth()/2, 250);
@@ -96,6 +141,7 @@ public class StartWorld extends World
         addObject(nameLabel, getWidth()/2, 130);
 
         nameField = new InputField(300, 40, 20);
+        nameField.setText(PlayerData.getPlayerName());
         addObject(nameField, getWidth()/2, 180);
 
         continueButton = new StartButton() 
@@ -160,8 +206,16 @@ public class StartWorld extends World
         {
             backgroundMusic.stop();
         }
-        
-        WorldNavigator.goToMainMap();
+
+        // Normally long done by now; otherwise show the title filling in and leave from act()
+        if (AssetManifest.isComplete())
+        {
+            WorldNavigator.goToMainMap();
+            return;
+        }
+        removeAllObjects();
+        addObject(new LoadingBar(), 300, 135);
+        enteringGame = true;
     }
 
     public void showNameScreen()
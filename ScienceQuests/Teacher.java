@@ -50,126 +50,20 @@ public class Teacher extends QuizNPCBase
         World world = getWorld();
         if (world == null) return;
         
-        // Get the dialogue manager
         DialogueManager manager = DialogueManager.getInstance();
-        
-        // Check if dialogue is already active
         if (manager.isDialogueActive())
         {
             return;
         }
         
+        // After the closing words the teacher has nothing more to ask
         GameState gameState = GameState.getInstance();
-        
-        // Create and show the dialogue
-        String playerName = PlayerData.getPlayerName();
-        String iconPath = getIconPath();
-        
-        int total = gameState.getMainMapNPCProgress();
-        int correct = gameState.getMainMapNPCCorrect();
-
-        if (total >= 5 && correct < 3)
-        {
-            String retryText = "Nu ai suficiente răspunsuri corecte.\n---\n" +
-                "Mai ai nevoie de " + (3 - correct) + " corecte.";
-            DialogueBox retry = new DialogueBox(retryText, iconPath, true);
-            retry.setTypewriterSpeed(2);
-
-            DialogueQuestion question = buildScienceQuestion();
-            DialogueBox questionBox = new DialogueBox(question, iconPath, true);
-            questionBox.setTypewriterSpeed(2);
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                GameState gs = GameState.getInstance();
-                gs.recordMainMapNPCQuizResult(isCorrect);
-                int t = gs.getMainMapNPCProgress();
-                int c = gs.getMainMapNPCCorrect();
-                DebugLog.log("MainMap NPC Quiz Result: " + c + "/" + t + " correct");
-                if (gs.areMainMapQuestsUnlocked())
-                {
-                    DebugLog.log("QUESTS UNLOCKED! Correct: " + c + "/5");
-                }
-            });
-
-            manager.queueDialogue(questionBox);
-            manager.showDialogue(retry, world, this);
-            return;
-        }
-
-        if (total >= 5)
+        if (gameState.getMainMapNPCProgress() >= 5 && gameState.areMainMapQuestsUnlocked())
         {
-            String completionText = gameState.areMainMapQuestsUnlocked()
-                ? "Bravo! Ai răspuns corect la " + correct + "/5 întrebări.\n---\nAcum rezolvă și mini-jocurile notate cu '!' (apasă SPACE în jurul lor)."
-                : "Ai terminat toate 5 întrebări! Continuă cu celelalte activități pe hartă.";
-
-            DialogueBox completion = new DialogueBox(completionText, iconPath, true);
-            completion.setTypewriterSpeed(2);
-            manager.showDialogue(completion, world, this);
             completionShown = true;
-            return;
-        }
-
-        // Show introduction only on first question
-        if (total == 0)
-        {
-            String dialogueText = "Salut " + playerName + "! Sunt profesorul din clasă.\n" +
-                "---\n" +
-                "Iată o întrebare de știință pentru tine:\n" +
-                "Quiz-ul 1 din 5 (0 corecte)\n" +
-                "---\n" +
-                "Răspunde corect la 3 din 5 întrebări pentru a debloca mini-quest-urile.";
-            
-            DialogueBox greeting = new DialogueBox(dialogueText, iconPath, true);
-            greeting.setTypewriterSpeed(2);
-            
-            // Queue the quiz question to show after greeting
-            DialogueQuestion question = buildScienceQuestion();
-            DialogueBox questionBox = new DialogueBox(question, iconPath, true);
-            questionBox.setTypewriterSpeed(2);
-            
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                GameState gs = GameState.getInstance();
-                gs.recordMainMapNPCQuizResult(isCorrect);
-                int t = gs.getMainMapNPCProgress();
-                int c = gs.getMainMapNPCCorrect();
-                DebugLog.log("MainMap NPC Quiz Result: " + c + "/" + t + " correct");
-                if (gs.areMainMapQuestsUnlocked())
-                {
-                    DebugLog.log("QUESTS UNLOCKED! Correct: " + c + "/5");
-                }
-            });
-            
-            manager.queueDialogue(questionBox);
-            manager.showDialogue(greeting, world, this);
-        }
-        else
-        {
-            // Show quiz question directly for subsequent questions
-            DialogueQuestion question = buildScienceQuestion();
-            DialogueBox questionBox = new DialogueBox(question, iconPath, true);
-            questionBox.setTypewriterSpeed(2);
-            
-            // Set callback to record attempt with correctness flag
-            questionBox.setOnAnswerAttemptCallback(isCorrect -> {
-                GameState gs = GameState.getInstance();
-                gs.recordMainMapNPCQuizResult(isCorrect);
-                int t = gs.getMainMapNPCProgress();
-                int c = gs.getMainMapNPCCorrect();
-                DebugLog.log("MainMap NPC Quiz Result: " + c + "/" + t + " correct");
-                if (gs.areMainMapQuestsUnlocked())
-                {
-                    DebugLog.log("QUESTS UNLOCKED! Correct: " + c + "/5");
-                }
-            });
-            
-            manager.showDialogue(questionBox, world, this);
         }
+        manager.startDialogue(DialogueGraphs.get("classroomTeacher"), world, this);
     }
-
-    private DialogueQuestion buildScienceQuestion()
-    {
-        return GameState.getInstance().getRandomQuestion("general", QuestionPools.getGeneralScienceQuestions());
-    }
-    
     
     /**
      * Get the dialogue text for this NPC (from NPC interface)
@@ -9,9 +9,7 @@ public class TeacherDisplay extends Actor
     {
         try
         {
-            GreenfootImage image = new GreenfootImage("images/man_teacher.png");
-            image.scale(110, 100); // full visible size
-            setImage(image);
+            setImage(AssetManager.getScaled("images/man_teacher.png", 110, 100)); // full visible size
         }
         catch (Exception e)
         {
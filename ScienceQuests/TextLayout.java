@@ -0,0 +1,371 @@
+import greenfoot.Color;
+import greenfoot.Font;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TextLayout - Dialogue text broken into lines and pages with real font metrics.
+ * The text is split into pages at "---", each page is word-wrapped to a pixel width
+ * using glyph advances, and pages longer than the line limit overflow onto new pages.
+ * The result is a list of styled runs per line, built once and shared: dialogues
+ * repeat (retries, revisits), so layouts are kept in a small LRU cache.
+ *
+ * Markup, parsed at layout time and never drawn:
+ *   [b]bold[/b]             the bold font
+ *   [c=#RRGGBB]color[/c]    a text color; tags nest
+ * Anything else in brackets is plain text. Tags don't carry over a "---" break.
+ */
+public class TextLayout
+{
+    private static final int CACHE_SIZE = 32;
+    private static final String PAGE_BREAK = "---";
+
+    private static final Map<Key, TextLayout> cache =
+        new LinkedHashMap<Key, TextLayout>(CACHE_SIZE, 0.75f, true)
+        {
+            protected boolean removeEldestEntry(Map.Entry<Key, TextLayout> eldest)
+            {
+                return size() > CACHE_SIZE;
+            }
+        };
+
+    /**
+     * Text of one style on one line, with its x offset from the line's left edge.
+     */
+    public static final class Run
+    {
+        public final String text;
+        public final Font font;
+        public final Color color; // null for the caller's default text color
+        public final int x;
+
+        Run(String text, Font font, Color color, int x)
+        {
+            this.text = text;
+            this.font = font;
+            this.color = color;
+            this.x = x;
+        }
+    }
+
+    public static final class Line
+    {
+        private final Run[] runs;
+        private final int length;
+
+        Line(Run[] runs, int length)
+        {
+            this.runs = runs;
+            this.length = length;
+        }
+
+        public int getRunCount()
+        {
+            return runs.length;
+        }
+
+        public Run getRun(int index)
+        {
+            return runs[index];
+        }
+
+        public int getLength()
+        {
+            return length;
+        }
+    }
+
+    public static final class Page
+    {
+        private final Line[] lines;
+        private final int length;
+
+        Page(Line[] lines)
+        {
+            this.lines = lines;
+            int total = Math.max(0, lines.length - 1);
+            for (Line line : lines)
+            {
+                total += line.length;
+            }
+            this.length = total;
+        }
+
+        public int getLineCount()
+        {
+            return lines.length;
+        }
+
+        public Line getLine(int index)
+        {
+            return lines[index];
+        }
+
+        /**
+         * Characters to reveal for the typewriter, counting each line break as one.
+         */
+        public int getLength()
+        {
+            return length;
+        }
+    }
+
+    private final Page[] pages;
+
+    private TextLayout(Page[] pages)
+    {
+        this.pages = pages;
+    }
+
+    /**
+     * Lay out markup in the given fonts, wrapping at width pixels and starting a new
+     * page after linesPerPage lines (0 for no limit). Cached by all arguments.
+     */
+    public static TextLayout of(String markup, Font font, Font boldFont, int width, int linesPerPage)
+    {
+        Key key = new Key(markup != null ? markup : "", font, boldFont, width, linesPerPage);
+        synchronized (cache)
+        {
+            TextLayout layout = cache.get(key);
+            if (layout == null)
+            {
+                layout = build(key);
+                cache.put(key, layout);
+            }
+            return layout;
+        }
+    }
+
+    public int getPageCount()
+    {
+        return pages.length;
+    }
+
+    public Page getPage(int index)
+    {
+        return pages[index];
+    }
+
+    private static TextLayout build(Key key)
+    {
+        List<Page> pages = new ArrayList<Page>();
+        for (String part : key.markup.split(PAGE_BREAK))
+        {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty())
+            {
+                paginate(new Styled(trimmed, key.font, key.boldFont).wrap(key.width), key.linesPerPage, pages);
+            }
+        }
+        if (pages.isEmpty())
+        {
+            pages.add(new Page(new Line[0]));
+        }
+        return new TextLayout(pages.toArray(new Page[0]));
+    }
+
+    private static void paginate(List<Line> lines, int linesPerPage, List<Page> pages)
+    {
+        int limit = linesPerPage > 0 ? linesPerPage : Integer.MAX_VALUE;
+        int start = 0;
+        while (start < lines.size())
+        {
+            int end = (int) Math.min((long) start + limit, lines.size());
+            pages.add(new Page(lines.subList(start, end).toArray(new Line[0])));
+            start = end;
+            // An overflow page doesn't open with a blank line
+            while (start < lines.size() && lines.get(start).length == 0)
+            {
+                start++;
+            }
+        }
+    }
+
+    /**
+     * One page of text with the markup stripped: a font and color per character.
+     */
+    private static final class Styled
+    {
+        private final StringBuilder text = new StringBuilder();
+        private final List<Font> fonts = new ArrayList<Font>();
+        private final List<Color> colors = new ArrayList<Color>();
+
+        Styled(String markup, Font font, Font boldFont)
+        {
+            Deque<Color> colorStack = new ArrayDeque<Color>();
+            int boldDepth = 0;
+
+            int i = 0;
+            while (i < markup.length())
+            {
+                char c = markup.charAt(i);
+                if (c == '[')
+                {
+                    int close = markup.indexOf(']', i);
+                    String tag = close > i ? markup.substring(i + 1, close) : "";
+                    if (tag.equals("b"))
+                    {
+                        boldDepth++;
+                        i = close + 1;
+                        continue;
+                    }
+                    if (tag.equals("/b"))
+                    {
+                        boldDepth = Math.max(0, boldDepth - 1);
+                        i = close + 1;
+                        continue;
+                    }
+                    if (tag.equals("/c"))
+                    {
+                        colorStack.poll();
+                        i = close + 1;
+                        continue;
+                    }
+                    Color color = tag.startsWith("c=") ? parseColor(tag.substring(2)) : null;
+                    if (color != null)
+                    {
+                        colorStack.push(color);
+                        i = close + 1;
+                        continue;
+                    }
+                }
+
+                text.append(c);
+                fonts.add(boldDepth > 0 && boldFont != null ? boldFont : font);
+                colors.add(colorStack.peek());
+                i++;
+            }
+        }
+
+        List<Line> wrap(int width)
+        {
+            List<Line> lines = new ArrayList<Line>();
+            int lineStart = 0;
+            int lineWidth = 0;
+            int lastSpace = -1;
+
+            for (int i = 0; i < text.length(); i++)
+            {
+                char c = text.charAt(i);
+                if (c == '\n')
+                {
+                    lines.add(line(lineStart, i));
+                    lineStart = i + 1;
+                    lineWidth = 0;
+                    lastSpace = -1;
+                    continue;
+                }
+
+                int advance = FontManager.advance(fonts.get(i), c);
+                if (c == ' ')
+                {
+                    lastSpace = i;
+                }
+                else if (lineWidth + advance > width && i > lineStart)
+                {
+                    if (lastSpace >= lineStart)
+                    {
+                        // Break at the last space; it becomes the line break
+                        lines.add(line(lineStart, lastSpace));
+                        lineStart = lastSpace + 1;
+                    }
+                    else
+                    {
+                        // One word wider than the line: split it
+                        lines.add(line(lineStart, i));
+                        lineStart = i;
+                    }
+                    lastSpace = -1;
+                    lineWidth = measure(lineStart, i);
+                }
+                lineWidth += advance;
+            }
+            lines.add(line(lineStart, text.length()));
+            return lines;
+        }
+
+        private int measure(int start, int end)
+        {
+            int width = 0;
+            for (int i = start; i < end; i++)
+            {
+                width += FontManager.advance(fonts.get(i), text.charAt(i));
+            }
+            return width;
+        }
+
+        private Line line(int start, int end)
+        {
+            while (end > start && text.charAt(end - 1) == ' ')
+            {
+                end--;
+            }
+
+            List<Run> runs = new ArrayList<Run>();
+            int x = 0;
+            int runStart = start;
+            for (int i = start + 1; i <= end; i++)
+            {
+                if (i == end || fonts.get(i) != fonts.get(runStart) || colors.get(i) != colors.get(runStart))
+                {
+                    runs.add(new Run(text.substring(runStart, i), fonts.get(runStart), colors.get(runStart), x));
+                    x += measure(runStart, i);
+                    runStart = i;
+                }
+            }
+            return new Line(runs.toArray(new Run[0]), end - start);
+        }
+    }
+
+    // "#RRGGBB" or "RRGGBB", null if it isn't one
+    private static Color parseColor(String value)
+    {
+        String hex = value.startsWith("#") ? value.substring(1) : value;
+        if (hex.length() != 6) return null;
+        try
+        {
+            int rgb = Integer.parseInt(hex, 16);
+            return new Color((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF);
+        }
+        catch (NumberFormatException e)
+        {
+            return null;
+        }
+    }
+
+    private static final class Key
+    {
+        final String markup;
+        final Font font;
+        final Font boldFont;
+        final int width;
+        final int linesPerPage;
+
+        Key(String markup, Font font, Font boldFont, int width, int linesPerPage)
+        {
+            this.markup = markup;
+            this.font = font;
+            this.boldFont = boldFont;
+            this.width = width;
+            this.linesPerPage = linesPerPage;
+        }
+
+        public boolean equals(Object other)
+        {
+            if (!(other instanceof Key)) return false;
+            Key key = (Key) other;
+            // Fonts by identity: FontManager hands out the same objects
+            return font == key.font && boldFont == key.boldFont && width == key.width
+                && linesPerPage == key.linesPerPage && markup.equals(key.markup);
+        }
+
+        public int hashCode()
+        {
+            return markup.hashCode() * 31 + width * 17 + linesPerPage;
+        }
+    }
+}
@@ -1,6 +1,4 @@
 import greenfoot.*;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,7 +38,7 @@ public class TiledMap
         String content;
         try
         {
-            content = new String(Files.readAllBytes(Paths.get(tmxPath)));
+            content = AssetManager.getText(tmxPath);
         }
         catch (Exception e)
         {
@@ -302,7 +300,7 @@ public class TiledMap
         {
             try
             {
-                tileset = new GreenfootImage(path);
+                tileset = AssetManager.get(path);
                 DebugLog.log("✓ Tileset loaded from: " + path);
                 break;
             }
@@ -379,7 +377,7 @@ public class TiledMap
             GreenfootImage tilesetImg = null;
             for (String path : paths) {
                 try {
-                    tilesetImg = new GreenfootImage(path);
+                    tilesetImg = AssetManager.get(path);
                     DebugLog.log("✓ Loaded tileset gid=" + gid + " from: " + path);
                     break;
                 } catch (Exception e) {
@@ -479,48 +477,32 @@ public class TiledMap
      */
     private GreenfootImage applyTileTransform(GreenfootImage original, boolean flipH, boolean flipV, boolean flipD)
     {
-        GreenfootImage transformed = new GreenfootImage(original);
+        int width = original.getWidth();
+        int height = original.getHeight();
+        int[] pixels = PixelScaler.readPixels(original);
         
         // Step 1: Apply diagonal flip (transpose) if set
         if (flipD)
         {
-            transformed = transposeTile(transformed);
+            pixels = RasterKernels.transpose(pixels, width, height);
+            int swap = width;
+            width = height;
+            height = swap;
         }
         
         // Step 2: Apply horizontal flip if set
         if (flipH)
         {
-            transformed.mirrorHorizontally();
+            RasterKernels.mirrorHorizontally(pixels, width, height);
         }
         
         // Step 3: Apply vertical flip if set
         if (flipV)
         {
-            transformed.mirrorVertically();
+            RasterKernels.mirrorVertically(pixels, width, height);
         }
         
-        return transformed;
-    }
-    
-    /**
-     * Transpose a tile (swap x and y coordinates) - this is the diagonal flip in Tiled
-     */
-    private GreenfootImage transposeTile(GreenfootImage original)
-    {
-        int size = original.getWidth(); // Assuming square tiles
-        GreenfootImage transposed = new GreenfootImage(size, size);
-        
-        // Transpose by swapping x and y
-        for (int y = 0; y < size; y++)
-        {
-            for (int x = 0; x < size; x++)
-            {
-                Color pixel = original.getColorAt(x, y);
-                transposed.setColorAt(y, x, pixel);
-            }
-        }
-        
-        return transposed;
+        return PixelScaler.toImage(pixels, width, height);
     }
     
     /**
@@ -528,21 +510,7 @@ public class TiledMap
      */
     private GreenfootImage applyOpacity(GreenfootImage original, float opacity)
     {
-        int size = original.getWidth();
-        GreenfootImage result = new GreenfootImage(size, size);
-        
-        for (int y = 0; y < size; y++)
-        {
-            for (int x = 0; x < size; x++)
-            {
-                Color pixel = original.getColorAt(x, y);
-                int alpha = (int)(pixel.getAlpha() * opacity);
-                Color newPixel = new Color(pixel.getRed(), pixel.getGreen(), pixel.getBlue(), alpha);
-                result.setColorAt(x, y, newPixel);
-            }
-        }
-        
-        return result;
+        return RasterKernels.withAlpha(original, opacity);
     }
 
     private int extractTilesetFirstGid(String xmlOrJson)
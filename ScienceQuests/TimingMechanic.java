@@ -0,0 +1,91 @@
+import greenfoot.*;
+
+/**
+ * TimingMechanic - A marker sweeps across a bar; press the expected key while it is
+ * inside the center zone. With several keys they are expected in turn.
+ */
+public class TimingMechanic implements QuestMechanic
+{
+    // Marker position runs 0..SWEEP and back, SWEEP_TICKS ticks each way
+    private static final int SWEEP = 1000;
+    private static final int SWEEP_TICKS = 50;
+    private static final int ZONE_START = 430;
+    private static final int ZONE_END = 570;
+
+    private int[] chords;
+    private int allKeys;
+    private int progress;
+    private int position;
+    private int hitFlash;
+    private int missFlash;
+
+    public void start(QuestDefinition definition)
+    {
+        chords = QuestMechanics.chordMasks(definition);
+        allKeys = 0;
+        for (int chord : chords) allKeys |= chord;
+        progress = 0;
+        position = 0;
+        hitFlash = 0;
+        missFlash = 0;
+    }
+
+    public void update(InputState input, int tick)
+    {
+        if (hitFlash > 0) hitFlash--;
+        if (missFlash > 0) missFlash--;
+
+        int phase = tick % (SWEEP_TICKS * 2);
+        position = (phase < SWEEP_TICKS ? phase : SWEEP_TICKS * 2 - phase) * SWEEP / SWEEP_TICKS;
+
+        if (!input.anyJustPressed(allKeys)) return;
+
+        int expected = chords[progress % chords.length];
+        boolean inZone = position >= ZONE_START && position <= ZONE_END;
+        if (inZone && input.anyJustPressed(expected) && input.allDown(expected))
+        {
+            progress++;
+            hitFlash = 12;
+        }
+        else
+        {
+            missFlash = 12;
+        }
+    }
+
+    public int getProgress()
+    {
+        return progress;
+    }
+
+    public String getStatus()
+    {
+        if (hitFlash > 0) return "Perfect!";
+        if (missFlash > 0) return "Ratat! Încearcă din nou";
+        return "Apasă " + QuestMechanics.chordLabel(chords[progress % chords.length]) + " în zona verde";
+    }
+
+    public long getVisualState()
+    {
+        return ((long)(position / 5) * 100 + hitFlash) * 100 + missFlash;
+    }
+
+    public void paint(QuestOverlay.Canvas canvas, int x, int y, int w, int h)
+    {
+        int barY = y + h / 2 - 12;
+        canvas.setColor(UIStyle.color(40, 40, 55, 220));
+        canvas.fillRect(x, barY, w, 24);
+
+        int zoneX = x + ZONE_START * w / SWEEP;
+        int zoneW = (ZONE_END - ZONE_START) * w / SWEEP;
+        canvas.setColor(hitFlash > 0 ? UIStyle.color(120, 255, 140, 220) : UIStyle.color(100, 220, 100, 160));
+        canvas.fillRect(zoneX, barY, zoneW, 24);
+
+        canvas.setColor(missFlash > 0 ? UIStyle.color(255, 100, 100, 220) : UIStyle.color(150, 150, 180, 200));
+        canvas.drawRect(x, barY, w - 1, 24);
+
+        int markerX = x + position * (w - 6) / SWEEP;
+        canvas.setColor(UIStyle.color(255, 230, 120));
+        canvas.fillRect(markerX, barY - 8, 6, 40);
+    }
+}
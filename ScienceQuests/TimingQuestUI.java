@@ -61,7 +61,7 @@ public class TimingQuestUI extends Actor
         }
         
         // Check if player presses space
-        if (Greenfoot.isKeyDown("space"))
+        if (InputState.getInstance().justPressed(InputState.SPACE))
         {
             checkTiming();
         }
@@ -91,51 +91,51 @@ public class TimingQuestUI extends Actor
         GreenfootImage image = new GreenfootImage(barWidth + 40, barHeight + 100);
         
         // Semi-transparent background
-        image.setColor(new Color(0, 0, 0, 180));
+        image.setColor(UIStyle.color(0, 0, 0, 180));
         image.fillRect(0, 0, image.getWidth(), image.getHeight());
         
         // Title text
         image.setColor(Color.WHITE);
-        image.setFont(new greenfoot.Font("Arial", true, false, 20));
+        image.setFont(UIStyle.font("Arial", true, false, 20));
         image.drawString("Press SPACE at the right time!", 20, 30);
         
         // Bar background
-        image.setColor(new Color(60, 60, 60));
+        image.setColor(UIStyle.color(60, 60, 60));
         image.fillRect(20, 50, barWidth, barHeight);
         
         // Success zone (green)
         if (!completed)
         {
-            image.setColor(new Color(0, 200, 0, 150));
+            image.setColor(UIStyle.color(0, 200, 0, 150));
             image.fillRect(20 + successZoneStart, 50, successZoneWidth, barHeight);
         }
         
         // Moving indicator
         if (completed)
         {
-            image.setColor(new Color(0, 255, 0)); // Bright green for success
+            image.setColor(UIStyle.color(0, 255, 0)); // Bright green for success
         }
         else if (failed && failCooldown > 0)
         {
-            image.setColor(new Color(255, 0, 0)); // Red for failure
+            image.setColor(UIStyle.color(255, 0, 0)); // Red for failure
         }
         else
         {
-            image.setColor(new Color(255, 255, 0)); // Yellow for normal
+            image.setColor(UIStyle.color(255, 255, 0)); // Yellow for normal
         }
         image.fillRect(20 + indicatorPos, 45, 10, barHeight + 10);
         
         // Status text
         if (completed)
         {
-            image.setColor(new Color(0, 255, 0));
-            image.setFont(new greenfoot.Font("Arial", true, false, 18));
+            image.setColor(UIStyle.color(0, 255, 0));
+            image.setFont(UIStyle.font("Arial", true, false, 18));
             image.drawString("SUCCESS! Block removed!", 80, 130);
         }
         else if (failed && failCooldown > 0)
         {
-            image.setColor(new Color(255, 100, 100));
-            image.setFont(new greenfoot.Font("Arial", true, false, 18));
+            image.setColor(UIStyle.color(255, 100, 100));
+            image.setFont(UIStyle.font("Arial", true, false, 18));
             image.drawString("Try again!", 150, 130);
         }
         
@@ -12,9 +12,7 @@ public class TitleImage extends Actor
     {
         try
         {
-            GreenfootImage fullImage = new GreenfootImage("fonts/696d62d95d863.png");
-            scaleToFit(fullImage);
-            setImage(fullImage);
+            setImage(AssetManager.getDerived("fonts/696d62d95d863.png", "title", TitleImage::scaleToFit));
         }
         catch (Exception e)
         {
@@ -31,8 +29,9 @@ public class TitleImage extends Actor
         // No animation needed
     }
 
-    private void scaleToFit(GreenfootImage img)
+    private static GreenfootImage scaleToFit(GreenfootImage source)
     {
+        GreenfootImage img = new GreenfootImage(source);
         int w = img.getWidth();
         int h = img.getHeight();
         double scale = 1.0;
@@ -47,6 +46,7 @@ public class TitleImage extends Actor
         int newW = (int) Math.round(w * scale);
         int newH = (int) Math.round(h * scale);
         img.scale(newW, newH);
+        return img;
     }
 }
 
@@ -0,0 +1,214 @@
+import greenfoot.Color;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * UIStyle - Interned fonts, colors and animation curves for the quest UI.
+ * Fonts are created once per (family, bold, italic, size) and colors once per ARGB
+ * value, each RGB owning a lazily filled 256-step alpha ramp. Pulses and glows read
+ * a precomputed sine table indexed by tick instead of calling Math.sin every frame.
+ * Everything handed out is shared and immutable.
+ */
+public final class UIStyle
+{
+    private static final int MAX_TABLED_FONT_SIZE = 128;
+
+    // family -> [style * MAX_TABLED_FONT_SIZE + size], style = bold | italic << 1
+    private static final Map<String, greenfoot.Font[]> fonts = new HashMap<String, greenfoot.Font[]>();
+    private static final Map<String, greenfoot.Font> largeFonts = new HashMap<String, greenfoot.Font>();
+
+    // Open-addressed RGB -> alpha ramp table; keys carry a marker bit so 0 means empty
+    private static int[] rampKeys = new int[256];
+    private static Color[][] ramps = new Color[256][];
+    private static int rampCount = 0;
+
+    private static final Map<Double, Curve> curves = new HashMap<Double, Curve>();
+
+    private UIStyle()
+    {
+    }
+
+    // ---------------------------------------------------------------
+    // Fonts
+    // ---------------------------------------------------------------
+
+    /**
+     * The shared font for (family, bold, italic, size); created on first request.
+     */
+    public static greenfoot.Font font(String family, boolean bold, boolean italic, int size)
+    {
+        int style = (bold ? 1 : 0) | (italic ? 2 : 0);
+        if (size < 0 || size >= MAX_TABLED_FONT_SIZE)
+        {
+            String key = family + "|" + style + "|" + size;
+            greenfoot.Font font = largeFonts.get(key);
+            if (font == null)
+            {
+                font = new greenfoot.Font(family, bold, italic, size);
+                largeFonts.put(key, font);
+            }
+            return font;
+        }
+
+        greenfoot.Font[] table = fonts.get(family);
+        if (table == null)
+        {
+            table = new greenfoot.Font[4 * MAX_TABLED_FONT_SIZE];
+            fonts.put(family, table);
+        }
+        int slot = style * MAX_TABLED_FONT_SIZE + size;
+        greenfoot.Font font = table[slot];
+        if (font == null)
+        {
+            font = new greenfoot.Font(family, bold, italic, size);
+            table[slot] = font;
+        }
+        return font;
+    }
+
+    // ---------------------------------------------------------------
+    // Colors
+    // ---------------------------------------------------------------
+
+    /**
+     * The shared opaque color (r, g, b).
+     */
+    public static Color color(int r, int g, int b)
+    {
+        return color(r, g, b, 255);
+    }
+
+    /**
+     * The shared color (r, g, b, alpha). Channels must be 0-255, as for new Color.
+     */
+    public static Color color(int r, int g, int b, int alpha)
+    {
+        if (((r | g | b | alpha) & ~0xFF) != 0)
+        {
+            throw new IllegalArgumentException("Color value out of range: " + r + ", " + g + ", " + b + ", " + alpha);
+        }
+        Color[] ramp = alphaRamp(r, g, b);
+        Color color = ramp[alpha];
+        if (color == null)
+        {
+            color = new Color(r, g, b, alpha);
+            ramp[alpha] = color;
+        }
+        return color;
+    }
+
+    /**
+     * The shared color with base's RGB and the given alpha.
+     */
+    public static Color withAlpha(Color base, int alpha)
+    {
+        return color(base.getRed(), base.getGreen(), base.getBlue(), alpha);
+    }
+
+    /**
+     * The 256-entry alpha ramp for an RGB value; entries are filled on first use.
+     * Callers should go through color() rather than index the ramp themselves.
+     */
+    private static Color[] alphaRamp(int r, int g, int b)
+    {
+        int key = 0x01000000 | (r << 16) | (g << 8) | b;
+        int mask = rampKeys.length - 1;
+        int index = mix(key) & mask;
+        while (rampKeys[index] != 0)
+        {
+            if (rampKeys[index] == key) return ramps[index];
+            index = (index + 1) & mask;
+        }
+
+        Color[] ramp = new Color[256];
+        rampKeys[index] = key;
+        ramps[index] = ramp;
+        if (++rampCount * 2 > rampKeys.length)
+        {
+            growRamps();
+        }
+        return ramp;
+    }
+
+    private static void growRamps()
+    {
+        int[] oldKeys = rampKeys;
+        Color[][] oldRamps = ramps;
+        rampKeys = new int[oldKeys.length * 2];
+        ramps = new Color[oldKeys.length * 2][];
+        int mask = rampKeys.length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldKeys[i] == 0) continue;
+            int index = mix(oldKeys[i]) & mask;
+            while (rampKeys[index] != 0)
+            {
+                index = (index + 1) & mask;
+            }
+            rampKeys[index] = oldKeys[i];
+            ramps[index] = oldRamps[i];
+        }
+    }
+
+    private static int mix(int key)
+    {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // ---------------------------------------------------------------
+    // Animation curves
+    // ---------------------------------------------------------------
+
+    /**
+     * The shared curve for sin(tick * rate), sampled once per tick over one period.
+     */
+    public static Curve wave(double rate)
+    {
+        Curve curve = curves.get(rate);
+        if (curve == null)
+        {
+            curve = new Curve(rate);
+            curves.put(rate, curve);
+        }
+        return curve;
+    }
+
+    /**
+     * A sine wave tabled per tick. The period is rounded to whole ticks, so the
+     * curve repeats exactly and never drifts.
+     */
+    public static final class Curve
+    {
+        private final double[] samples;
+
+        private Curve(double rate)
+        {
+            int period = Math.max(1, (int)Math.round(2 * Math.PI / Math.abs(rate)));
+            double step = 2 * Math.PI / period * Math.signum(rate);
+            samples = new double[period];
+            for (int i = 0; i < period; i++)
+            {
+                samples[i] = Math.sin(i * step);
+            }
+        }
+
+        /**
+         * The curve value (-1..1) at a tick.
+         */
+        public double at(int tick)
+        {
+            int index = tick % samples.length;
+            return samples[index < 0 ? index + samples.length : index];
+        }
+
+        /**
+         * base + (int)(amplitude * value), the usual pulse/glow formula.
+         */
+        public int at(int tick, int base, int amplitude)
+        {
+            return base + (int)(amplitude * at(tick));
+        }
+    }
+}
@@ -9,9 +9,7 @@ public class Wall extends Actor
     {
         try
         {
-            GreenfootImage image = new GreenfootImage("images/collision-wall.png");
-            image.scale(50, 50);
-            setImage(image);
+            setImage(AssetManager.getScaled("images/collision-wall.png", 50, 50));
         }
         catch (Exception e)
         {
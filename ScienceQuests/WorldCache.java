@@ -0,0 +1,112 @@
+import greenfoot.Actor;
+import greenfoot.GreenfootImage;
+import greenfoot.World;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WorldCache - The rooms a session has left recently, kept alive so walking back into
+ * one resumes it instead of building it again. One world per class, least recently
+ * left first out, within a byte budget estimated from the world's background and actor
+ * images (the bulk of a room's memory). The world on screen is never in the cache.
+ * Kept worlds are suspended; one that drops out loses its and its actors' event
+ * subscriptions, so once the cache lets go of it nothing else holds it.
+ */
+public class WorldCache
+{
+    private static final long BUDGET_BYTES = 48L * 1024 * 1024;
+
+    private static final class Kept
+    {
+        final World world;
+        final long bytes;
+
+        Kept(World world, long bytes)
+        {
+            this.world = world;
+            this.bytes = bytes;
+        }
+    }
+
+    private final Map<Class<?>, Kept> worlds = new LinkedHashMap<Class<?>, Kept>();
+    private long keptBytes = 0;
+
+    /**
+     * Keep a world the player is leaving. Replaces any kept world of its class.
+     */
+    public synchronized void put(World world)
+    {
+        Kept previous = worlds.remove(world.getClass());
+        if (previous != null)
+        {
+            keptBytes -= previous.bytes;
+            GameEvents.unsubscribeWorld(previous.world);
+        }
+
+        Kept kept = new Kept(world, estimateBytes(world));
+        worlds.put(world.getClass(), kept);
+        keptBytes += kept.bytes;
+        evict();
+    }
+
+    /**
+     * Remove and return the kept world of a class, or null.
+     */
+    public synchronized <T extends World> T take(Class<T> type)
+    {
+        Kept kept = worlds.remove(type);
+        if (kept == null) return null;
+        keptBytes -= kept.bytes;
+        return type.cast(kept.world);
+    }
+
+    public synchronized boolean contains(Class<? extends World> type)
+    {
+        return worlds.containsKey(type);
+    }
+
+    public synchronized void clear()
+    {
+        for (Kept kept : worlds.values())
+        {
+            GameEvents.unsubscribeWorld(kept.world);
+        }
+        worlds.clear();
+        keptBytes = 0;
+    }
+
+    private void evict()
+    {
+        Iterator<Kept> oldestFirst = worlds.values().iterator();
+        // The newest world stays even if it alone is over budget
+        while (keptBytes > BUDGET_BYTES && worlds.size() > 1)
+        {
+            Kept oldest = oldestFirst.next();
+            oldestFirst.remove();
+            keptBytes -= oldest.bytes;
+            GameEvents.unsubscribeWorld(oldest.world);
+            DebugLog.log("WorldCache: dropped " + oldest.world.getClass().getSimpleName());
+        }
+    }
+
+    private static long estimateBytes(World world)
+    {
+        long bytes = imageBytes(world.getBackground());
+        List<Actor> actors = world.getObjects(Actor.class);
+        if (actors != null)
+        {
+            for (Actor actor : actors)
+            {
+                bytes += imageBytes(actor.getImage());
+            }
+        }
+        return bytes;
+    }
+
+    private static long imageBytes(GreenfootImage image)
+    {
+        return image == null ? 0 : 4L * image.getWidth() * image.getHeight();
+    }
+}
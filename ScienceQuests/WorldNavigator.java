@@ -1,5 +1,5 @@
-import greenfoot.Greenfoot;
 import greenfoot.World;
+import java.util.function.Supplier;
 
 
 
@@ -12,7 +12,7 @@ public class WorldNavigator
 
     public static void goToMainMap()
     {
-        Greenfoot.setWorld(new MainMapWorld());
+        show(MainMapWorld.class, MainMapWorld::new);
     }
 
     public static boolean tryEnterLab(LabType lab)
@@ -28,26 +28,100 @@ public class WorldNavigator
             return false;
         }
 
-        World target = null;
+        return enter(lab);
+    }
+
+    /**
+     * Start loading the main map and the frames of the character the player picked.
+     * Called again when the player changes their choice; the map is only loaded once.
+     */
+    public static void preloadMainMap()
+    {
+        WorldPreloader preloader = GameSession.current().getWorldPreloader();
+        preloader.preloadPlayer(PlayerData.getPlayerGender());
+        preloader.preload(MainMapWorld.class, MainMapWorld.MAP_PATH);
+    }
+
+    /**
+     * Start loading a lab's map in the background if the player may enter it.
+     */
+    public static void preloadLab(LabType lab)
+    {
+        if (!GameState.getInstance().canEnterLab(lab))
+        {
+            return;
+        }
+
+        WorldPreloader preloader = GameSession.current().getWorldPreloader();
         if (lab == LabType.BIOLOGY)
         {
-            target = new LabBiologyWorld();
+            preloader.preload(LabBiologyWorld.class, LabBiologyWorld.openingMapPath());
         }
         else if (lab == LabType.PHYSICS)
         {
-            target = new LabFizicaWorld();
+            preloader.preload(LabFizicaWorld.class, LabFizicaWorld.openingMapPath());
         }
         else if (lab == LabType.CHEMISTRY)
         {
-            target = new LabWorld();
+            preloader.preload(LabWorld.class, LabWorld.MAP_PATH);
         }
+    }
 
-        if (target != null)
+    private static boolean enter(LabType lab)
+    {
+        if (lab == LabType.BIOLOGY)
+        {
+            show(LabBiologyWorld.class, LabBiologyWorld::new);
+            return true;
+        }
+        else if (lab == LabType.PHYSICS)
+        {
+            show(LabFizicaWorld.class, LabFizicaWorld::new);
+            return true;
+        }
+        else if (lab == LabType.CHEMISTRY)
         {
-            Greenfoot.setWorld(target);
+            show(LabWorld.class, LabWorld::new);
             return true;
         }
 
         return false;
     }
+
+    /**
+     * Switch to a world of the given class: the one kept from the last visit if there
+     * is one, else a new one, built here on the game thread around any map data that
+     * was preloaded. The world being left is suspended and kept for next time, or let go.
+     */
+    private static <T extends World> void show(Class<T> type, Supplier<T> build)
+    {
+        GameSession session = GameSession.current();
+        WorldCache cache = session.getWorldCache();
+
+        World leaving = session.getWorld();
+        if (leaving instanceof ResumableWorld && leaving.getClass() != type)
+        {
+            ((ResumableWorld) leaving).suspend();
+            cache.put(leaving);
+        }
+        else if (leaving != null)
+        {
+            GameEvents.unsubscribeWorld(leaving);
+        }
+
+        // A dialogue left open belongs to the world being left
+        DialogueManager.getInstance().reset();
+
+        World target = cache.take(type);
+        if (target != null)
+        {
+            DebugLog.log("WorldNavigator: resuming " + type.getSimpleName());
+            ((ResumableWorld) target).resume();
+        }
+        else
+        {
+            target = build.get();
+        }
+        session.setWorld(target);
+    }
 }
@@ -0,0 +1,166 @@
+import greenfoot.World;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * WorldPreloader - Gets the data of the world a session is likely to enter next ready
+ * on a background thread: its map is read and parsed, the tileset sliced and the
+ * layers drawn, and the player's frames are baked. Walking through a door then only
+ * has to construct the world around data that is already there.
+ *
+ * Worlds themselves are still constructed on the game thread, since a World registers
+ * with Greenfoot and the worlds read the session while they are built. The background
+ * work only goes through AssetManager, SpriteCache and the TiledMap it returns. Each
+ * parsed map is handed out once by takeMap(); one nobody takes stays until clear().
+ */
+public class WorldPreloader
+{
+    private static ExecutorService loader;
+
+    private final GameSession session;
+    private final Map<String, Load> maps = new HashMap<String, Load>();
+
+    WorldPreloader(GameSession session)
+    {
+        this.session = session;
+    }
+
+    /**
+     * Start parsing the map a world of the given class will open with, unless it is
+     * already parsed or being parsed, or that world is kept in the world cache or on
+     * screen.
+     */
+    public synchronized void preload(Class<? extends World> type, String mapPath)
+    {
+        if (maps.containsKey(mapPath) || session.getWorldCache().contains(type)) return;
+        World current = session.getWorld();
+        if (current != null && current.getClass() == type) return;
+
+        Load task = new Load(mapPath);
+        maps.put(mapPath, task);
+        loader().execute(task);
+    }
+
+    /**
+     * Start baking the frames of the character the player picked.
+     */
+    public void preloadPlayer(Gender gender)
+    {
+        if (gender == null) return;
+
+        loader().execute(() -> {
+            try
+            {
+                if (gender == Gender.BOY)
+                {
+                    Boy.preloadFrames();
+                }
+                else
+                {
+                    Girl.preloadFrames();
+                }
+            }
+            catch (Exception e)
+            {
+                // The player's constructor falls back on its own if the sheets are broken
+                DebugLog.log("WorldPreloader: baking " + gender + " frames failed: " + e);
+            }
+        });
+    }
+
+    /**
+     * The map at the given path, preloaded if it was (waiting for it if it is being
+     * parsed), else parsed now. A preload that hasn't started yet is no quicker than
+     * parsing here, so it is skipped.
+     */
+    public TiledMap takeMap(String mapPath)
+    {
+        Load task;
+        synchronized (this)
+        {
+            task = maps.remove(mapPath);
+        }
+
+        if (task != null && !task.claim())
+        {
+            try
+            {
+                return task.get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            catch (ExecutionException e)
+            {
+                DebugLog.log("WorldPreloader: parsing " + mapPath + " failed: " + e.getCause());
+            }
+        }
+        return new TiledMap(mapPath);
+    }
+
+    /**
+     * Drop every preloaded map; queued ones are skipped.
+     */
+    public synchronized void clear()
+    {
+        for (Load task : maps.values())
+        {
+            task.claim();
+        }
+        maps.clear();
+    }
+
+    private static synchronized ExecutorService loader()
+    {
+        if (loader == null)
+        {
+            loader = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "world-preload");
+                thread.setDaemon(true);
+                // Below the game thread, so loading never costs a frame
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        return loader;
+    }
+
+    /**
+     * A map parse that runs only if nobody claimed it first; taking or clearing a
+     * queued parse claims it so the worker skips it.
+     */
+    private static final class Load extends FutureTask<TiledMap>
+    {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        Load(String mapPath)
+        {
+            super(() -> {
+                long start = System.nanoTime();
+                TiledMap map = new TiledMap(mapPath);
+                DebugLog.log("WorldPreloader: parsed " + mapPath + " in "
+                             + (System.nanoTime() - start) / 1000000 + " ms");
+                return map;
+            });
+        }
+
+        public void run()
+        {
+            if (claim())
+            {
+                super.run();
+            }
+        }
+
+        boolean claim()
+        {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}